@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.itest.java;
+
+import com.jayway.restassured.itest.java.support.WithJetty;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.response.ResponseCallback;
+import com.jayway.restassured.response.ResponseFuture;
+import com.jayway.restassured.specification.RequestSpecification;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class AsyncITest extends WithJetty {
+
+    @Test
+    public void asyncRequestIsSentAndValidated() throws Exception {
+        final Future<Response> future = given().param("firstName", "John").param("lastName", "Doe").
+                expect().body("greeting", equalTo("Greetings John Doe")).when().async().get("/greet");
+
+        assertThat(future.get().statusCode(), equalTo(200));
+    }
+
+    @Test
+    public void asyncRequestsAreSentConcurrentlyUsingTheSameSpecification() throws Exception {
+        final RequestSpecification specification = given().header("Accept", "application/json");
+        final List<Future<Response>> futures = new ArrayList<Future<Response>>();
+
+        for (int i = 0; i < 10; i++) {
+            futures.add(specification.async().get("/{firstName}/{lastName}", "John" + i, "Doe"));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(futures.get(i).get().jsonPath().getString("fullName"), equalTo("John" + i + " Doe"));
+        }
+    }
+
+    @Test
+    public void futureFailsWhenTheResponseDoesntMatchTheExpectations() throws Exception {
+        final Future<Response> future = given().param("firstName", "John").param("lastName", "Doe").
+                expect().body("greeting", equalTo("Greetings Jane Doe")).when().async().get("/greet");
+
+        try {
+            future.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(AssertionError.class));
+            assertThat(e.getCause().getMessage(), containsString("Greetings Jane Doe"));
+        }
+    }
+
+    @Test
+    public void callbackIsInvokedWithTheValidatedResponse() throws Exception {
+        final RecordingCallback callback = new RecordingCallback();
+
+        given().param("firstName", "John").param("lastName", "Doe").
+                expect().body("greeting", equalTo("Greetings John Doe")).when().async().get("/greet").addCallback(callback);
+
+        assertThat(callback.await(), is(true));
+        assertThat(callback.response.get().path("greeting"), equalTo("Greetings John Doe"));
+        assertThat(callback.failure.get(), nullValue());
+    }
+
+    @Test
+    public void callbackIsInvokedWithTheAssertionErrorWhenTheResponseDoesntMatchTheExpectations() throws Exception {
+        final RecordingCallback callback = new RecordingCallback();
+
+        given().param("firstName", "John").param("lastName", "Doe").
+                expect().body("greeting", equalTo("Greetings Jane Doe")).when().async().get("/greet").addCallback(callback);
+
+        assertThat(callback.await(), is(true));
+        assertThat(callback.response.get(), nullValue());
+        assertThat(callback.failure.get(), instanceOf(AssertionError.class));
+        assertThat(callback.failure.get().getMessage(), containsString("Greetings Jane Doe"));
+    }
+
+    @Test
+    public void callbackThatIsAddedAfterTheRequestHasCompletedIsInvokedRightAway() throws Exception {
+        final RecordingCallback callback = new RecordingCallback();
+        final ResponseFuture future = given().param("firstName", "John").param("lastName", "Doe").when().async().get("/greet");
+        future.get();
+
+        future.addCallback(callback);
+
+        assertThat(callback.done.getCount(), equalTo(0L));
+        assertThat(callback.response.get().statusCode(), equalTo(200));
+    }
+
+    private static class RecordingCallback implements ResponseCallback {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final AtomicReference<Response> response = new AtomicReference<Response>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+        public void onResponse(Response response) {
+            this.response.set(response);
+            done.countDown();
+        }
+
+        public void onFailure(Throwable failure) {
+            this.failure.set(failure);
+            done.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return done.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
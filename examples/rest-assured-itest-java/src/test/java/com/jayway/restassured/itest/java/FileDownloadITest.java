@@ -17,15 +17,22 @@
 package com.jayway.restassured.itest.java;
 
 import com.jayway.restassured.itest.java.support.WithJetty;
+import com.jayway.restassured.response.Response;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.InputStream;
+import java.security.MessageDigest;
 
 import static com.jayway.restassured.RestAssured.expect;
+import static com.jayway.restassured.RestAssured.get;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 
 public class FileDownloadITest extends WithJetty {
 
@@ -42,4 +49,37 @@ public class FileDownloadITest extends WithJetty {
 
         assertThat(byteArrayOutputStream.size(), equalTo(expectedSize));
     }
+
+    @Test
+    public void canStreamLargeFilesToDiskWhileVerifyingSizeAndDigest() throws Exception {
+        final String url = "http://powermock.googlecode.com/files/powermock-easymock-junit-1.4.12.zip";
+        final byte[] expected = get(url).asByteArray();
+        final File file = File.createTempFile("download", ".zip");
+        try {
+            final Response response = expect().
+                    bodySize(equalTo((long) expected.length)).
+                    bodyDigest("SHA-1", equalTo(sha1(expected))).
+                    writeBodyTo(file).
+            when().
+                    get(url);
+
+            assertThat(FileUtils.readFileToByteArray(file), equalTo(expected));
+            try {
+                response.asString();
+                fail("Expected IllegalStateException");
+            } catch (IllegalStateException e) {
+                assertThat(e.getMessage(), containsString("has been streamed"));
+            }
+        } finally {
+            FileUtils.deleteQuietly(file);
+        }
+    }
+
+    private static String sha1(byte[] bytes) throws Exception {
+        final StringBuilder hex = new StringBuilder();
+        for (byte b : MessageDigest.getInstance("SHA-1").digest(bytes)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
 }
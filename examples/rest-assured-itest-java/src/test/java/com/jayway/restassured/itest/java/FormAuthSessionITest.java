@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.itest.java;
+
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.authentication.FormAuthConfig;
+import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.itest.java.support.WithJetty;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.jayway.restassured.RestAssured.get;
+import static com.jayway.restassured.RestAssured.given;
+import static com.jayway.restassured.RestAssured.post;
+import static com.jayway.restassured.config.RedirectConfig.redirectConfig;
+import static com.jayway.restassured.config.RestAssuredConfig.config;
+import static com.jayway.restassured.config.SessionConfig.sessionConfig;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class FormAuthSessionITest extends WithJetty {
+    private static final FormAuthConfig FORM_AUTH_CONFIG =
+            new FormAuthConfig("/expiringSession/j_spring_security_check", "j_username", "j_password").loginPage("/expiringSession/login");
+
+    @Before
+    public void resetSessions() throws Exception {
+        post("/expiringSession/reset");
+    }
+
+    @Test
+    public void logsInAgainAndResendsTheRequestWhenTheCachedSessionIsRejected() throws Exception {
+        loginAndExpireSession();
+
+        given().auth().form("John", "Doe", FORM_AUTH_CONFIG).expect().statusCode(200).body(equalTo("session 2")).when().get("/expiringSession/secured");
+
+        assertThat(logins(), equalTo(2));
+        assertThat(securedRequests(), equalTo(3));
+    }
+
+    @Test
+    public void logsInAgainAndResendsTheRequestWhenRedirectedToTheLoginPage() throws Exception {
+        loginAndExpireSession();
+
+        given().auth().form("John", "Doe", FORM_AUTH_CONFIG).queryParam("whenExpired", "redirectToLoginPage").redirects().follow(false).
+                expect().statusCode(200).body(equalTo("session 2")).when().get("/expiringSession/secured");
+
+        assertThat(logins(), equalTo(2));
+    }
+
+    @Test
+    public void redirectToAnotherPageIsNotMistakenForAnExpiredSession() throws Exception {
+        loginAndExpireSession();
+
+        given().auth().form("John", "Doe", FORM_AUTH_CONFIG).queryParam("whenExpired", "redirectToOtherPage").redirects().follow(false).
+                expect().statusCode(302).when().get("/expiringSession/secured");
+
+        assertThat(logins(), equalTo(1));
+    }
+
+    @Test
+    public void nonIdempotentRequestsLogInInsteadOfUsingTheCachedSession() throws Exception {
+        loginAndExpireSession();
+
+        given().auth().form("John", "Doe", FORM_AUTH_CONFIG).expect().statusCode(200).when().post("/expiringSession/secured");
+
+        assertThat(logins(), equalTo(2));
+        assertThat(securedRequests(), equalTo(2));
+    }
+
+    @Test
+    public void resetRemovesTheCachedSessions() throws Exception {
+        given().auth().form("John", "Doe", FORM_AUTH_CONFIG).expect().statusCode(200).when().get("/expiringSession/secured");
+        RestAssured.reset();
+
+        given().auth().form("John", "Doe", FORM_AUTH_CONFIG).expect().statusCode(200).when().get("/expiringSession/secured");
+
+        assertThat(logins(), equalTo(2));
+    }
+
+    @Test
+    public void sessionsAreCachedPerSessionConfig() throws Exception {
+        final RestAssuredConfig config = config().sessionConfig(sessionConfig());
+
+        given().config(config).auth().form("John", "Doe", FORM_AUTH_CONFIG).expect().statusCode(200).when().get("/expiringSession/secured");
+        given().config(config.redirect(redirectConfig().followRedirects(false))).auth().form("John", "Doe", FORM_AUTH_CONFIG).
+                expect().statusCode(200).when().get("/expiringSession/secured");
+        assertThat(logins(), equalTo(1));
+
+        given().config(config().sessionConfig(sessionConfig())).auth().form("John", "Doe", FORM_AUTH_CONFIG).
+                expect().statusCode(200).when().get("/expiringSession/secured");
+        assertThat(logins(), equalTo(2));
+
+        config.getSessionConfig().clearFormAuthSessions();
+        given().config(config).auth().form("John", "Doe", FORM_AUTH_CONFIG).expect().statusCode(200).when().get("/expiringSession/secured");
+        assertThat(logins(), equalTo(3));
+    }
+
+    private static void loginAndExpireSession() {
+        given().auth().form("John", "Doe", FORM_AUTH_CONFIG).expect().statusCode(200).body(equalTo("session 1")).when().get("/expiringSession/secured");
+        post("/expiringSession/expire");
+    }
+
+    private static int logins() {
+        return Integer.parseInt(get("/expiringSession/logins").asString());
+    }
+
+    private static int securedRequests() {
+        return Integer.parseInt(get("/expiringSession/requests").asString());
+    }
+}
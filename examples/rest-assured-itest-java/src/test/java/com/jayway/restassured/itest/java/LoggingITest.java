@@ -820,4 +820,36 @@ public class LoggingITest extends WithJetty {
 
         assertThat(writer.toString(), startsWith("Request method:\tGET\nRequest path:\thttp://www.beijingchina.net.cn/transportation/train/train-to-shanghai.html"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void doesntLogAnythingWhenValidationSucceedsUsingLogSpec() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final PrintStream captor = new PrintStream(new WriterOutputStream(writer), true);
+
+        given().config(config().logConfig(new LogConfig(captor, true))).log().ifValidationFails().
+        expect().log().ifValidationFails().body(equalTo("ERROR")).when().get("/409");
+
+        assertThat(writer.toString(), equalTo(""));
+    }
+
+    @Test
+    public void logsRequestAndResponseWhenValidationFailsUsingLogConfig() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final PrintStream captor = new PrintStream(new WriterOutputStream(writer), true);
+
+        try {
+            given().
+                    config(config().logConfig(new LogConfig(captor, true).enableLoggingOfRequestAndResponseIfValidationFails())).
+                    param("foo", "bar").
+            expect().
+                    statusCode(200).
+            when().
+                    get("/409");
+            fail("Should throw AssertionError");
+        } catch (AssertionError e) {
+            assertThat(writer.toString(), startsWith("Request method:\tGET\nRequest path:\thttp://localhost:8080/409\nRequest params:\tfoo=bar\n"));
+            assertThat(writer.toString(), containsString("HTTP/1.1 409 Conflict"));
+            assertThat(writer.toString(), endsWith("ERROR" + LINE_SEPARATOR));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.itest.java;
+
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.config.ConnectionPoolStatistics;
+import com.jayway.restassured.internal.support.ResponseStreamLeakDetector;
+import com.jayway.restassured.itest.java.support.WithJetty;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+
+import static com.jayway.restassured.RestAssured.given;
+import static com.jayway.restassured.config.ConnectionConfig.connectionConfig;
+import static com.jayway.restassured.config.RestAssuredConfig.config;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
+public class PooledResponseStreamITest extends WithJetty {
+    private static final int BODY_SIZE = 50 * 1024 * 1024;
+
+    @Before
+    public void useASingleConnection() throws Exception {
+        RestAssured.config = config().connectionConfig(connectionConfig().reuseConnections(1, 1));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        RestAssured.reset();
+    }
+
+    @Test(timeout = 60000)
+    public void largeBodyIsStreamedAndConnectionIsReturnedToThePoolWhenTheStreamIsReadToTheEnd() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            final InputStream stream = largeBody();
+            // The body hasn't been read into memory so the stream still holds on to the connection
+            assertThat(statistics().getLeased(), equalTo(1));
+
+            assertThat(readToTheEnd(stream), equalTo((long) BODY_SIZE));
+            assertThat(statistics().getLeased(), equalTo(0));
+        }
+
+        assertThat(statistics().getRequests(), equalTo(3L));
+        assertThat(statistics().getConnectionsCreated(), equalTo(1L));
+    }
+
+    @Test(timeout = 60000)
+    public void connectionIsReturnedToThePoolWhenTheStreamIsClosed() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            final InputStream stream = largeBody();
+            stream.read();
+            stream.close();
+
+            assertThat(statistics().getLeased(), equalTo(0));
+        }
+
+        assertThat(statistics().getRequests(), equalTo(3L));
+    }
+
+    @Test(timeout = 60000)
+    public void leakedStreamIsReportedAndItsConnectionIsReturnedToThePool() throws Exception {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        RestAssured.config = config().connectionConfig(connectionConfig().reuseConnections(1, 1).detectLeakedResponseStreams(new PrintStream(report, true)));
+
+        leakLargeBody();
+        assertThat(statistics().getLeased(), equalTo(1));
+
+        assertThat(awaitLeaks(), greaterThan(0));
+        assertThat(report.toString(), containsString("A response stream was garbage collected without having been closed"));
+        assertThat(report.toString(), containsString("leakLargeBody"));
+        assertThat(statistics().getLeased(), equalTo(0));
+        // The connection has been released so the pool can serve another request
+        assertThat(readToTheEnd(largeBody()), equalTo((long) BODY_SIZE));
+    }
+
+    private static void leakLargeBody() {
+        given().queryParam("size", BODY_SIZE).when().get("/largeBody");
+    }
+
+    private static int awaitLeaks() throws InterruptedException {
+        int leaks = 0;
+        for (int attempt = 0; attempt < 50 && leaks == 0; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+            leaks = ResponseStreamLeakDetector.reportLeaks();
+        }
+        return leaks;
+    }
+
+    private static InputStream largeBody() {
+        return given().queryParam("size", BODY_SIZE).when().get("/largeBody").asInputStream();
+    }
+
+    private static long readToTheEnd(InputStream stream) throws Exception {
+        final byte[] buffer = new byte[16384];
+        long size = 0;
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            size += read;
+        }
+        return size;
+    }
+
+    private static ConnectionPoolStatistics statistics() {
+        return RestAssured.config.getConnectionConfig().connectionPoolConfig().getStatistics();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.itest.java;
+
+import com.jayway.restassured.itest.java.support.WithJetty;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static com.jayway.restassured.RestAssured.expect;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ResponseTimeITest extends WithJetty {
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void matchingResponseTimeExpectationPasses() throws Exception {
+        expect().time(greaterThanOrEqualTo(0L)).and().time(lessThan(1L), MINUTES).and().body("hello", equalTo("Hello Scalatra")).when().get("/hello");
+    }
+
+    @Test
+    public void nonMatchingResponseTimeExpectationFailsWithTheActualResponseTime() throws Exception {
+        exception.expect(AssertionError.class);
+        exception.expectMessage("1 expectation failed.\nExpected response time a value less than <0L> milliseconds doesn't match actual response time <");
+
+        expect().time(lessThan(0L)).when().get("/hello");
+    }
+}
@@ -20,7 +20,9 @@ import com.jayway.restassured.RestAssured;
 import com.jayway.restassured.builder.RequestSpecBuilder;
 import com.jayway.restassured.builder.ResponseSpecBuilder;
 import com.jayway.restassured.itest.java.support.WithJetty;
+import com.jayway.restassured.response.Response;
 import com.jayway.restassured.specification.RequestSpecification;
+import com.jayway.restassured.specification.RequestTemplate;
 import com.jayway.restassured.specification.ResponseSpecification;
 import org.hamcrest.Matchers;
 import org.junit.Ignore;
@@ -30,10 +32,12 @@ import static com.jayway.restassured.RestAssured.*;
 import static com.jayway.restassured.config.RedirectConfig.redirectConfig;
 import static com.jayway.restassured.config.RestAssuredConfig.newConfig;
 import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItems;
+import static org.junit.Assert.assertThat;
 
 public class SpecificationBuilderITest extends WithJetty {
 
@@ -362,6 +366,41 @@ public class SpecificationBuilderITest extends WithJetty {
     }
 
 
+    @Test
+    public void compiledTemplateSendsTheSameHeadersAndCookiesAsTheBuiltSpecification() throws Exception {
+        final RequestSpecBuilder builder = new RequestSpecBuilder().addHeader("MyHeader", "Something").addHeader("MyOtherHeader", "Something else").
+                addCookie("cookie1", "value1").addCookie("cookie2", "value2");
+
+        final Response specificationResponse = given().spec(builder.build()).when().get("/multiHeaderReflect");
+        final Response templateResponse = given().spec(builder.compile()).when().get("/multiHeaderReflect");
+
+        for (String headerName : asList("MyHeader", "MyOtherHeader", "Cookie", "Accept")) {
+            assertThat(templateResponse.headers().getValues(headerName), equalTo(specificationResponse.headers().getValues(headerName)));
+        }
+        assertThat(templateResponse.header("Cookie"), equalTo("cookie1=value1; cookie2=value2"));
+    }
+
+    @Test
+    public void compiledTemplateSendsTheSameParamsAsTheBuiltSpecification() throws Exception {
+        final RequestSpecBuilder builder = new RequestSpecBuilder().addParam("firstName", "John").addParam("lastName", "Doe");
+
+        final String specificationBody = given().spec(builder.build()).when().get("/greetJSON").asString();
+        final String templateBody = given().spec(builder.compile()).when().get("/greetJSON").asString();
+
+        assertThat(templateBody, equalTo(specificationBody));
+        given().spec(builder.compile()).expect().body("greeting.firstName", equalTo("John")).body("greeting.lastName", equalTo("Doe")).when().get("/greetJSON");
+    }
+
+    @Test
+    public void headersAndCookiesOfTheRequestAreSentTogetherWithTheOnesOfTheCompiledTemplate() throws Exception {
+        final RequestTemplate template = new RequestSpecBuilder().addHeader("MyHeader", "Something").addCookie("cookie1", "value1").compile();
+
+        final Response response = given().spec(template).header("MyHeader", "Something else").cookie("cookie2", "value2").when().get("/multiHeaderReflect");
+
+        assertThat(response.headers().getValues("MyHeader"), hasItems("Something", "Something else"));
+        assertThat(response.header("Cookie"), allOf(containsString("cookie1=value1"), containsString("cookie2=value2")));
+    }
+
     @Test
     @Ignore("https://dev.java.net/ is down atm")
     public void supportsSpecifyingKeystore() throws Exception {
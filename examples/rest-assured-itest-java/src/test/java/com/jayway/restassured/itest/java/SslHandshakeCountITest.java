@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.itest.java;
+
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.itest.java.support.WithJetty;
+import org.junit.Test;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class SslHandshakeCountITest extends WithJetty {
+
+    @Test
+    public void handshakesAreCountedBeforeTheRequestReturns() throws Exception {
+        final long handshakes = RestAssured.sslHandshakeCount();
+        final long resumedHandshakes = RestAssured.resumedSslHandshakeCount();
+
+        given().keystore(KEYSTORE, KEYSTORE_PASSWORD).expect().body("hello", equalTo("Hello Scalatra")).when().get("https://localhost:" + SSL_PORT + "/hello");
+        assertThat(RestAssured.sslHandshakeCount(), equalTo(handshakes + 1));
+
+        // A new connection is used for each request but the TLS session of the first connection is resumed
+        given().keystore(KEYSTORE, KEYSTORE_PASSWORD).expect().body("hello", equalTo("Hello Scalatra")).when().get("https://localhost:" + SSL_PORT + "/hello");
+        assertThat(RestAssured.sslHandshakeCount(), equalTo(handshakes + 2));
+        assertThat(RestAssured.resumedSslHandshakeCount(), equalTo(resumedHandshakes + 1));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.itest.java;
+
+import com.jayway.restassured.itest.java.support.WithJetty;
+import com.jayway.restassured.response.Timings;
+import org.junit.Test;
+
+import static com.jayway.restassured.RestAssured.given;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class TimingsITest extends WithJetty {
+
+    @Test
+    public void timingsAreMeasuredForHttpRequests() throws Exception {
+        final Timings timings = given().expect().body("hello", equalTo("Hello Scalatra")).when().get("/hello").timings();
+
+        assertThat(timings.getConnectionTimeIn(NANOSECONDS), greaterThan(0L));
+        assertThat(timings.getTlsHandshakeTimeIn(NANOSECONDS), equalTo(0L));
+        assertThat(timings.getTimeToFirstByteIn(NANOSECONDS), greaterThan(0L));
+        assertThat(timings.getTotalTimeIn(NANOSECONDS), greaterThanOrEqualTo(timings.getConnectionTimeIn(NANOSECONDS) + timings.getTimeToFirstByteIn(NANOSECONDS)));
+    }
+
+    @Test
+    public void timingsIncludingTheTlsHandshakeAreMeasuredForHttpsRequests() throws Exception {
+        final Timings timings = given().keystore(KEYSTORE, KEYSTORE_PASSWORD).expect().body("hello", equalTo("Hello Scalatra")).
+                when().get("https://localhost:" + SSL_PORT + "/hello").timings();
+
+        assertThat(timings.getTlsHandshakeTimeIn(NANOSECONDS), greaterThan(0L));
+        assertThat(timings.getConnectionTimeIn(NANOSECONDS), greaterThanOrEqualTo(timings.getTlsHandshakeTimeIn(NANOSECONDS)));
+        assertThat(timings.getTimeToFirstByteIn(NANOSECONDS), greaterThan(0L));
+        assertThat(timings.getTotalTimeIn(NANOSECONDS), greaterThanOrEqualTo(timings.getConnectionTimeIn(NANOSECONDS) + timings.getTimeToFirstByteIn(NANOSECONDS)));
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.rules.ExpectedException;
 
 import static com.jayway.restassured.RestAssured.expect;
 import static com.jayway.restassured.RestAssured.with;
+import static com.jayway.restassured.matcher.RestAssuredMatchers.*;
 import static com.jayway.restassured.parsing.Parser.XML;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertThat;
@@ -92,6 +93,12 @@ public class XMLGetITest extends WithJetty {
         expect().body(hasXPath("/greeting/name/firstName", containsString("Jo"))).given().parameters("firstName", "John", "lastName", "Doe").get("/anotherGreetXML");
     }
 
+    @Test
+    public void newSyntaxWithCachedXPath() throws Exception {
+        expect().body(hasCachedXPath("/greeting/name/firstName[text()='John']")).and().body(hasCachedXPath("/greeting/name/lastName", containsString("Do"))).
+                given().parameters("firstName", "John", "lastName", "Doe").get("/anotherGreetXML");
+    }
+
     @Test
     public void xmlWithContentTypeTextXML() throws Exception {
         expect().body("xml", equalTo("something")).when().get("/textXML");
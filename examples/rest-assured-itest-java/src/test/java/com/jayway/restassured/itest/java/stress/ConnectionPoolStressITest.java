@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.itest.java.stress;
+
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.config.ConnectionPoolStatistics;
+import com.jayway.restassured.itest.java.support.WithJetty;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static com.jayway.restassured.RestAssured.given;
+import static com.jayway.restassured.config.ConnectionConfig.connectionConfig;
+import static com.jayway.restassured.config.RestAssuredConfig.config;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Verifies that connections are reused from the connection pool when many requests are sent, both sequentially and concurrently.
+ */
+public class ConnectionPoolStressITest extends WithJetty {
+    static final int wait = 120 * 1000;
+    static final int threads = 10;
+    int iterations = 1000;
+
+    @After
+    public void tearDown() throws Exception {
+        RestAssured.reset();
+    }
+
+    @Test(timeout=wait)
+    public void sequentialRequestsReuseASingleConnection() throws Exception {
+        RestAssured.config = config().connectionConfig(connectionConfig().reuseConnections());
+
+        for (int i = 0; i < iterations; i++) {
+            sendRequest();
+        }
+
+        final ConnectionPoolStatistics statistics = statistics();
+        assertThat(statistics.getRequests(), equalTo((long) iterations));
+        assertThat(statistics.getConnectionsCreated(), equalTo(1L));
+        assertThat(statistics.getReusedRequests(), equalTo(iterations - 1L));
+    }
+
+    @Test(timeout=wait)
+    public void concurrentRequestsOpenAtMostOneConnectionPerThread() throws Exception {
+        RestAssured.config = config().connectionConfig(connectionConfig().reuseConnections());
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Object>> futures = new ArrayList<Future<Object>>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(new Callable<Object>() {
+                    public Object call() throws Exception {
+                        for (int i = 0; i < iterations / threads; i++) {
+                            sendRequest();
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Object> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final ConnectionPoolStatistics statistics = statistics();
+        assertThat(statistics.getRequests(), equalTo((long) iterations));
+        assertThat(statistics.getConnectionsCreated(), lessThanOrEqualTo((long) threads));
+        assertThat(statistics.getReusedRequests(), equalTo(iterations - statistics.getConnectionsCreated()));
+    }
+
+    private static void sendRequest() {
+        given().expect().body("hello", equalTo("Hello Scalatra")).when().get("/hello");
+    }
+
+    private static ConnectionPoolStatistics statistics() {
+        return RestAssured.config.getConnectionConfig().connectionPoolConfig().getStatistics();
+    }
+}
@@ -18,6 +18,7 @@ package com.jayway.restassured.itest.java.stress;
 
 import com.jayway.restassured.RestAssured;
 import com.jayway.restassured.config.ConnectionConfig;
+import com.jayway.restassured.response.LoadResult;
 import org.apache.commons.io.IOUtils;
 import org.junit.After;
 import org.junit.Before;
@@ -32,8 +33,11 @@ import java.io.UnsupportedEncodingException;
 import static com.jayway.restassured.RestAssured.get;
 import static com.jayway.restassured.RestAssured.given;
 import static com.jayway.restassured.config.RestAssuredConfig.config;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
 
 public class StressITest {
     Component component;
@@ -78,6 +82,15 @@ public class StressITest {
         }
     }
 
+    @Test(timeout=wait)
+    public void stressWithRestAssuredLoad() throws UnsupportedEncodingException {
+        final LoadResult result = given().contentType("text/plain; charset=UTF-8").body( post.getBytes( "UTF-8" ) ).
+                expect().body( equalTo( expect ) ).
+                when().load().users(10).rate(50).duration(2, SECONDS).and().maxErrorRate(0).post(url);
+
+        assertThat(result.getRequests(), greaterThan(0L));
+    }
+
     @Test(timeout=wait)
     @Ignore("Not working since upgrade of HTTP Client, is it a bug?")
     public void stressWithRestAssuredGetManualClose() throws IOException, InterruptedException {
@@ -26,12 +26,16 @@ import org.mortbay.jetty.security.Constraint;
 import org.mortbay.jetty.security.ConstraintMapping;
 import org.mortbay.jetty.security.HashUserRealm;
 import org.mortbay.jetty.security.SecurityHandler;
+import org.mortbay.jetty.security.SslSocketConnector;
 import org.mortbay.jetty.webapp.WebAppContext;
 
 import java.io.File;
 
 @Ignore("To make Maven happy")
 public class WithJetty {
+    public static final int SSL_PORT = 8443;
+    public static final String KEYSTORE = "/jetty-keystore.jks";
+    public static final String KEYSTORE_PASSWORD = "test1234";
     public static final String itestPath;
 
     static {
@@ -49,6 +53,14 @@ public class WithJetty {
         connector.setPort(8080);
         server.addConnector(connector);
 
+        // The self-signed certificate of the keystore is issued to localhost. Use the keystore as trust store when making requests.
+        SslSocketConnector sslConnector = new SslSocketConnector();
+        sslConnector.setPort(SSL_PORT);
+        sslConnector.setKeystore(WithJetty.class.getResource(KEYSTORE).toString());
+        sslConnector.setPassword(KEYSTORE_PASSWORD);
+        sslConnector.setKeyPassword(KEYSTORE_PASSWORD);
+        server.addConnector(sslConnector);
+
         String canonicalPath = new File(".").getCanonicalPath();
         String scalatraPath = "/examples/scalatra-webapp";
 
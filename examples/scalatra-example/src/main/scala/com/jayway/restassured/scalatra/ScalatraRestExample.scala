@@ -28,6 +28,7 @@ import org.apache.commons.io.IOUtils
 import java.util.{Scanner, Date}
 import org.apache.commons.lang3.StringUtils
 import javax.servlet.http.Cookie
+import java.util.concurrent.atomic.AtomicInteger
 
 class ScalatraRestExample extends ScalatraServlet {
   // To allow for json extract
@@ -39,6 +40,11 @@ class ScalatraRestExample extends ScalatraServlet {
   val winners = List(Winner(23, List(2, 45, 34, 23, 3, 5)), Winner(54, List(52, 3, 12, 11, 18, 22)))
   val lotto = Lotto(5, List(2, 45, 34, 23, 7, 5, 3), winners, None)
 
+  // Form authentication with a session that can be expired, each login creates a new session
+  val expiringSessionLogins = new AtomicInteger
+  val expiringSessionRequests = new AtomicInteger
+  @volatile var validExpiringSessionId: String = null
+
   before() {
     contentType = "application/json"
   }
@@ -446,6 +452,54 @@ class ScalatraRestExample extends ScalatraServlet {
     }
   }
 
+  post("/expiringSession/reset") {
+    expiringSessionLogins.set(0)
+    expiringSessionRequests.set(0)
+    validExpiringSessionId = null
+  }
+
+  post("/expiringSession/j_spring_security_check") {
+    contentType = "text/plain"
+    validExpiringSessionId = String.valueOf(expiringSessionLogins.incrementAndGet())
+    response.setHeader("Set-Cookie", "expiringsessionid=" + validExpiringSessionId)
+  }
+
+  post("/expiringSession/expire") {
+    validExpiringSessionId = "expired"
+  }
+
+  get("/expiringSession/secured") {
+    expiringSessionSecured
+  }
+
+  post("/expiringSession/secured") {
+    expiringSessionSecured
+  }
+
+  get("/expiringSession/logins") {
+    contentType = "text/plain"
+    expiringSessionLogins.get.toString
+  }
+
+  get("/expiringSession/requests") {
+    contentType = "text/plain"
+    expiringSessionRequests.get.toString
+  }
+
+  def expiringSessionSecured : Any = {
+    contentType = "text/plain"
+    expiringSessionRequests.incrementAndGet()
+    val cookies: Array[Cookie] = request.getCookies
+    val sessionId = if (cookies == null) None else cookies.find(_.getName == "expiringsessionid").map(_.getValue)
+    if (sessionId == Some(validExpiringSessionId)) {
+      "session " + validExpiringSessionId
+    } else params.getOrElse("whenExpired", "reject") match {
+      case "redirectToLoginPage" => redirect("/expiringSession/login")
+      case "redirectToOtherPage" => redirect("/expiringSession/help")
+      case _ => response.setStatus(401)
+    }
+  }
+
   get("/jsonWithAtSign") {
     """{
         "body" : { "@id" : 10, "content": "some content"  }
@@ -820,6 +874,18 @@ class ScalatraRestExample extends ScalatraServlet {
     IOUtils.toByteArray(getClass.getResourceAsStream("/bom_example.xml"))
   }
 
+  get("/largeBody") {
+    contentType = "application/octet-stream"
+    val chunk = Array.fill[Byte](8192)('x'.toByte)
+    val out = response.getOutputStream
+    var remaining = params.getOrElse("size", "1048576").toInt
+    while (remaining > 0) {
+      val length = math.min(remaining, chunk.length)
+      out.write(chunk, 0, length)
+      remaining -= length
+    }
+  }
+
   get("/xmlWithHeaderAndFooter") {
     contentType = "application/xml"
     """733
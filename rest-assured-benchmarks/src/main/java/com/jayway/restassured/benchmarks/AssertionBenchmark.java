@@ -0,0 +1,97 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import com.jayway.restassured.assertion.JSONAssertion;
+import com.jayway.restassured.assertion.XMLAssertion;
+import groovy.json.JsonSlurper;
+import groovy.util.XmlSlurper;
+import groovy.util.slurpersupport.GPathResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures evaluating body expectation keys on an already parsed document, i.e. the work done for each
+ * <code>body(..)</code> expectation once the response body has been parsed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionBenchmark {
+
+    private Object json;
+    private GPathResult xml;
+
+    private JSONAssertion jsonProperty;
+    private JSONAssertion jsonSpread;
+    private JSONAssertion jsonClosure;
+    private XMLAssertion xmlAttribute;
+    private XMLAssertion xmlSize;
+
+    @Setup
+    public void setup() throws Exception {
+        json = new JsonSlurper().parseText(Payloads.largeJson(1000));
+        xml = new XmlSlurper().parseText(Payloads.jmeterResults());
+
+        jsonProperty = jsonAssertion("items[10].owner.name");
+        jsonSpread = jsonAssertion("items.id");
+        jsonClosure = jsonAssertion("items.findAll { it.price > 2 }.name");
+        xmlAttribute = xmlAssertion("testResults.httpSample[10].@rc");
+        xmlSize = xmlAssertion("testResults.httpSample.size()");
+    }
+
+    @Benchmark
+    public Object jsonProperty() {
+        return jsonProperty.getResult(json);
+    }
+
+    @Benchmark
+    public Object jsonSpread() {
+        return jsonSpread.getResult(json);
+    }
+
+    @Benchmark
+    public Object jsonClosure() {
+        return jsonClosure.getResult(json);
+    }
+
+    @Benchmark
+    public Object xmlAttribute() {
+        return xmlAttribute.getResult(xml);
+    }
+
+    @Benchmark
+    public Object xmlSize() {
+        return xmlSize.getResult(xml);
+    }
+
+    private static JSONAssertion jsonAssertion(String key) {
+        final JSONAssertion assertion = new JSONAssertion();
+        assertion.setKey(key);
+        return assertion;
+    }
+
+    private static XMLAssertion xmlAssertion(String key) {
+        final XMLAssertion assertion = new XMLAssertion();
+        assertion.setKey(key);
+        return assertion;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.internal.ContentParser;
+import com.jayway.restassured.internal.ResponseParserRegistrar;
+import com.jayway.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing a response body before the body expectations are evaluated. A new response is built for each
+ * invocation since a response caches its parsed body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentParserBenchmark {
+
+    private static final List<String> LEADING_KEYS = Arrays.asList("meta.total", "items[0].id");
+    private static final List<String> SPREAD_KEYS = Arrays.asList("items.id");
+
+    @Param({"10", "10000"})
+    public int items;
+
+    private final ContentParser contentParser = new ContentParser();
+    private final ResponseParserRegistrar responseParserRegistrar = new ResponseParserRegistrar();
+    private byte[] json;
+    private byte[] xml;
+
+    @Setup
+    public void setup() throws Exception {
+        json = Payloads.largeJson(items).getBytes("UTF-8");
+        xml = Payloads.jmeterResults().getBytes("UTF-8");
+    }
+
+    @Benchmark
+    public Object parseJson() {
+        return contentParser.parse(response(json, "application/json"), responseParserRegistrar);
+    }
+
+    @Benchmark
+    public Object parseJsonForLeadingKeys() {
+        return contentParser.parse(response(json, "application/json"), responseParserRegistrar, LEADING_KEYS);
+    }
+
+    @Benchmark
+    public Object parseJsonForSpreadKeys() {
+        return contentParser.parse(response(json, "application/json"), responseParserRegistrar, SPREAD_KEYS);
+    }
+
+    @Benchmark
+    public Object parseXml() {
+        return contentParser.parse(response(xml, "application/xml"), responseParserRegistrar);
+    }
+
+    private static Response response(byte[] body, String contentType) {
+        return new ResponseBuilder().setBody(body).setContentType(contentType).setStatusCode(200).setStatusLine("HTTP/1.1 200 OK").build();
+    }
+}
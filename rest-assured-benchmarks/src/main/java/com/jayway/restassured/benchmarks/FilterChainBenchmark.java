@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import com.jayway.restassured.RestAssuredClient;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+
+/**
+ * Measures invoking a chain of filters and validating the expectations of the returned response. The chain ends with a
+ * {@link StubResponseFilter} so no request is sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterChainBenchmark {
+
+    @Param({"0", "10"})
+    public int filters;
+
+    private RestAssuredClient client;
+
+    @Setup
+    public void setup() throws Exception {
+        final List<Filter> chain = new ArrayList<Filter>();
+        for (int i = 0; i < filters; i++) {
+            chain.add(new PassThroughFilter());
+        }
+        chain.add(new StubResponseFilter(Payloads.largeJson(100).getBytes("UTF-8"), "application/json"));
+        client = new RestAssuredClient().baseURI("http://localhost").port(8080).filters(chain);
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+    }
+
+    @Benchmark
+    public Response withoutExpectations() {
+        return client.get("/items");
+    }
+
+    @Benchmark
+    public Response withExpectations() {
+        return client.expect().statusCode(200).body("meta.total", equalTo(100)).body("items.id", hasItem(42)).when().get("/items");
+    }
+
+    private static class PassThroughFilter implements Filter {
+        public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+    }
+}
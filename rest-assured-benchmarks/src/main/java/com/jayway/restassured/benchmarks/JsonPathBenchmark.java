@@ -0,0 +1,71 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import com.jayway.restassured.path.json.JsonPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing a JSON document and evaluating paths with {@link JsonPath}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPathBenchmark {
+
+    @Param({"10", "10000"})
+    public int items;
+
+    private String json;
+    private JsonPath parsed;
+
+    @Setup
+    public void setup() {
+        json = Payloads.largeJson(items);
+        parsed = new JsonPath(json);
+    }
+
+    @Benchmark
+    public Object parseAndGetProperty() {
+        return new JsonPath(json).get("meta.total");
+    }
+
+    @Benchmark
+    public Object getProperty() {
+        return parsed.get("meta.total");
+    }
+
+    @Benchmark
+    public Object getIndexedProperty() {
+        return parsed.get("items[0].owner.name");
+    }
+
+    @Benchmark
+    public Object getSpreadProperty() {
+        return parsed.get("items.id");
+    }
+
+    @Benchmark
+    public Object getWithClosure() {
+        return parsed.get("items.findAll { it.price > 2 }.name");
+    }
+}
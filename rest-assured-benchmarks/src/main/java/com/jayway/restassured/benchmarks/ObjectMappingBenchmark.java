@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import com.jayway.restassured.config.ObjectMapperConfig;
+import com.jayway.restassured.internal.mapping.ObjectMapping;
+import com.jayway.restassured.mapper.ObjectMapperType;
+import com.jayway.restassured.response.ResponseBodyData;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.jayway.restassured.config.ObjectMapperConfig.objectMapperConfig;
+
+/**
+ * Measures serializing request bodies and deserializing response bodies using Jackson 2.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectMappingBenchmark {
+
+    private static final String CONTENT_TYPE = "application/json";
+    private static final String CHARSET = "UTF-8";
+
+    @Param({"10", "1000"})
+    public int items;
+
+    private final ObjectMapperConfig objectMapperConfig = objectMapperConfig();
+    private ResponseBodyData body;
+    private Page page;
+
+    @Setup
+    public void setup() throws Exception {
+        body = new BytesBody(Payloads.largeJson(items).getBytes(CHARSET));
+        page = deserialize();
+    }
+
+    @Benchmark
+    public Page deserialize() {
+        return ObjectMapping.deserialize(body, Page.class, CONTENT_TYPE, null, CHARSET, ObjectMapperType.JACKSON_2, objectMapperConfig);
+    }
+
+    @Benchmark
+    public Object serialize() {
+        return ObjectMapping.serialize(page, CONTENT_TYPE, CHARSET, ObjectMapperType.JACKSON_2, objectMapperConfig);
+    }
+
+    public static class Page {
+        public Meta meta;
+        public List<Item> items;
+    }
+
+    public static class Meta {
+        public int total;
+        public int page;
+    }
+
+    public static class Item {
+        public long id;
+        public String name;
+        public double price;
+        public List<String> tags;
+        public Owner owner;
+    }
+
+    public static class Owner {
+        public String name;
+        public boolean active;
+    }
+
+    private static class BytesBody implements ResponseBodyData {
+        private final byte[] bytes;
+
+        BytesBody(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        public String asString() {
+            try {
+                return new String(bytes, CHARSET);
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public byte[] asByteArray() {
+            return bytes;
+        }
+
+        public InputStream asInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+}
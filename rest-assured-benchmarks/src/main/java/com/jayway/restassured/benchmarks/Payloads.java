@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+
+/**
+ * Representative payloads used by the benchmarks.
+ */
+public class Payloads {
+
+    /**
+     * @return The JMeter result file used by the XmlPath tests (about 35 kb of XML with one element per sample).
+     */
+    public static String jmeterResults() {
+        final InputStream stream = Payloads.class.getResourceAsStream("/jmeter.jtl");
+        if (stream == null) {
+            throw new IllegalStateException("Couldn't find jmeter.jtl in classpath.");
+        }
+        try {
+            final Reader reader = new InputStreamReader(stream, "UTF-8");
+            final StringWriter writer = new StringWriter();
+            final char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                writer.write(buffer, 0, read);
+            }
+            return writer.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Couldn't read jmeter.jtl", e);
+        } finally {
+            try {
+                stream.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Generate a JSON document of the form
+     * <pre>
+     * { "meta" : { "total" : 2, "page" : 1 }, "items" : [ { "id" : 0, "name" : "item-0", "price" : 0.5, "tags" : [ "a", "b" ], "owner" : { "name" : "owner-0", "active" : true } }, ... ] }
+     * </pre>
+     *
+     * @param numberOfItems The number of elements in the <code>items</code> array.
+     * @return The JSON document
+     */
+    public static String largeJson(int numberOfItems) {
+        final StringBuilder builder = new StringBuilder(numberOfItems * 120);
+        builder.append("{\"meta\":{\"total\":").append(numberOfItems).append(",\"page\":1},\"items\":[");
+        for (int i = 0; i < numberOfItems; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\":").append(i)
+                    .append(",\"name\":\"item-").append(i).append('"')
+                    .append(",\"price\":").append(i / 2.0)
+                    .append(",\"tags\":[\"a\",\"b\",\"c\"]")
+                    .append(",\"owner\":{\"name\":\"owner-").append(i % 100).append("\",\"active\":").append(i % 2 == 0).append('}')
+                    .append('}');
+        }
+        return builder.append("]}").toString();
+    }
+
+    private Payloads() {
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import com.jayway.restassured.RestAssuredClient;
+import com.jayway.restassured.response.Response;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.jayway.restassured.config.ConnectionConfig.connectionConfig;
+import static com.jayway.restassured.config.RestAssuredConfig.config;
+
+/**
+ * Measures assembling a request from a request specification. <code>stubbed</code> stops at the end of the filter chain
+ * while <code>loopback</code> sends the request to an HTTP server running in the same JVM using pooled connections so
+ * that the cost of building the HTTP request and reading the response is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestAssemblyBenchmark {
+
+    private static final byte[] RESPONSE_BODY = "{\"id\":1}".getBytes();
+
+    private HttpServer server;
+    private RestAssuredClient stubbed;
+    private RestAssuredClient loopback;
+    private Map<String, Object> body;
+
+    @Setup
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 50);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                final InputStream requestBody = exchange.getRequestBody();
+                while (requestBody.read() != -1) {
+                    // Consume the request so that the connection can be reused
+                }
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+                exchange.getResponseBody().write(RESPONSE_BODY);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        stubbed = new RestAssuredClient().filters(new StubResponseFilter(RESPONSE_BODY, "application/json"));
+        loopback = new RestAssuredClient().port(server.getAddress().getPort())
+                .config(config().connectionConfig(connectionConfig().reuseConnections()));
+
+        body = new HashMap<String, Object>();
+        body.put("name", "John");
+        body.put("tags", new String[]{"a", "b"});
+    }
+
+    @TearDown
+    public void tearDown() {
+        stubbed.shutdown();
+        loopback.shutdown();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public Response stubbedGet() {
+        return get(stubbed);
+    }
+
+    @Benchmark
+    public Response stubbedPost() {
+        return post(stubbed);
+    }
+
+    @Benchmark
+    public Response loopbackGet() {
+        return get(loopback);
+    }
+
+    @Benchmark
+    public Response loopbackPost() {
+        return post(loopback);
+    }
+
+    private static Response get(RestAssuredClient client) {
+        return client.given().
+                param("firstName", "John").
+                param("lastName", "Doe").
+                header("X-Request-Id", "1234").
+                cookie("session", "abcd").
+        when().
+                get("/users/{id}/orders", 42);
+    }
+
+    private Response post(RestAssuredClient client) {
+        return client.given().
+                contentType("application/json").
+                header("X-Request-Id", "1234").
+                body(body).
+        when().
+                post("/users/{id}/orders", 42);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.builder.RequestSpecBuilder;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.RequestSpecification;
+import com.jayway.restassured.specification.RequestTemplate;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static com.jayway.restassured.RestAssured.given;
+import static com.jayway.restassured.config.ConnectionConfig.connectionConfig;
+import static com.jayway.restassured.config.RestAssuredConfig.config;
+
+/**
+ * Compares sending requests using a specification created by {@link RequestSpecBuilder#build()} with sending them using
+ * a template created by {@link RequestSpecBuilder#compile()} from the same builder. Run with <code>-prof gc</code> to compare
+ * the bytes allocated per request (<code>gc.alloc.rate.norm</code>). <code>stubbed</code> stops at the end of the filter
+ * chain while <code>loopback</code> sends the request to an HTTP server running in the same JVM using pooled connections.
+ * The <code>WithRequestHeader</code> benchmarks add a header to the request after the specification or template is applied.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Without TCP_NODELAY the loopback benchmarks would mostly measure the delayed ACKs of the server
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class RequestTemplateBenchmark {
+
+    private static final byte[] RESPONSE_BODY = "{\"id\":1}".getBytes();
+
+    private HttpServer server;
+    private RequestSpecification stubbedSpecification;
+    private RequestTemplate stubbedTemplate;
+    private RequestSpecification loopbackSpecification;
+    private RequestTemplate loopbackTemplate;
+
+    @Setup
+    public void setup() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 50);
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+                exchange.getResponseBody().write(RESPONSE_BODY);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        final RequestSpecBuilder stubbed = builder().addFilter(new StubResponseFilter(RESPONSE_BODY, "application/json"));
+        stubbedSpecification = stubbed.build();
+        stubbedTemplate = stubbed.compile();
+
+        final RequestSpecBuilder loopback = builder().setPort(server.getAddress().getPort())
+                .setConfig(config().connectionConfig(connectionConfig().reuseConnections()));
+        loopbackSpecification = loopback.build();
+        loopbackTemplate = loopback.compile();
+    }
+
+    @TearDown
+    public void tearDown() {
+        RestAssured.reset();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public Response stubbedSpecification() {
+        return given().spec(stubbedSpecification).get("/users/{id}/orders", 42);
+    }
+
+    @Benchmark
+    public Response stubbedTemplate() {
+        return given().spec(stubbedTemplate).get("/users/{id}/orders", 42);
+    }
+
+    @Benchmark
+    public Response loopbackSpecification() {
+        return given().spec(loopbackSpecification).get("/users/{id}/orders", 42);
+    }
+
+    @Benchmark
+    public Response loopbackTemplate() {
+        return given().spec(loopbackTemplate).get("/users/{id}/orders", 42);
+    }
+
+    @Benchmark
+    public Response loopbackSpecificationWithRequestHeader() {
+        return given().spec(loopbackSpecification).header("X-Request", "1").get("/users/{id}/orders", 42);
+    }
+
+    @Benchmark
+    public Response loopbackTemplateWithRequestHeader() {
+        return given().spec(loopbackTemplate).header("X-Request", "1").get("/users/{id}/orders", 42);
+    }
+
+    private static RequestSpecBuilder builder() {
+        return new RequestSpecBuilder().
+                addHeader("Accept", "application/json").
+                addHeader("X-Client", "benchmark").
+                addCookie("session", "abcd").
+                addParam("firstName", "John").
+                addParam("lastName", "Doe");
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * A filter that ends the filter chain by returning a response with the supplied body instead of sending the request.
+ * Used to measure the client side of a request without any network I/O.
+ */
+class StubResponseFilter implements Filter {
+    private final byte[] body;
+    private final String contentType;
+
+    StubResponseFilter(byte[] body, String contentType) {
+        this.body = body;
+        this.contentType = contentType;
+    }
+
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        // A new response for each request since a response caches its parsed body
+        return new ResponseBuilder().setBody(body).setContentType(contentType).setStatusCode(200).setStatusLine("HTTP/1.1 200 OK").build();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.benchmarks;
+
+import com.jayway.restassured.path.xml.XmlPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing an XML document and evaluating paths with {@link XmlPath} using a JMeter result file as payload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlPathBenchmark {
+
+    private String xml;
+    private XmlPath parsed;
+
+    @Setup
+    public void setup() {
+        xml = Payloads.jmeterResults();
+        parsed = new XmlPath(xml);
+    }
+
+    @Benchmark
+    public Object parseAndGetAttribute() {
+        return new XmlPath(xml).get("testResults.httpSample[0].@t");
+    }
+
+    @Benchmark
+    public Object getAttribute() {
+        return parsed.get("testResults.httpSample[0].@t");
+    }
+
+    @Benchmark
+    public Object getAllAttributes() {
+        return parsed.getList("testResults.httpSample.@rc");
+    }
+
+    @Benchmark
+    public Object getSize() {
+        return parsed.getInt("testResults.httpSample.size()");
+    }
+
+    @Benchmark
+    public Object getWithClosure() {
+        return parsed.getList("testResults.httpSample.@t.findAll { it.text().toInteger() < 60000 }", int.class);
+    }
+}
@@ -17,13 +17,16 @@
 package com.jayway.restassured.assertion
 
 import com.jayway.restassured.internal.ResponseParserRegistrar
+import com.jayway.restassured.internal.RestAssuredResponseImpl
+import com.jayway.restassured.internal.matcher.xml.DomParser
+import com.jayway.restassured.internal.matcher.xml.XmlDtdMatcher
+import com.jayway.restassured.internal.matcher.xml.XmlXPathMatcher
+import com.jayway.restassured.internal.matcher.xml.XmlXsdMatcher
 import com.jayway.restassured.response.Response
 import org.hamcrest.Matcher
 import org.hamcrest.xml.HasXPath
 import org.w3c.dom.Element
 
-import javax.xml.parsers.DocumentBuilderFactory
-
 import static org.apache.commons.lang3.StringUtils.*
 
 class BodyMatcher {
@@ -32,20 +35,36 @@ class BodyMatcher {
     def ResponseParserRegistrar rpr
 
     def validate(Response response, content) {
+        validate(response, content, null)
+    }
+
+    /**
+     * @param documentElement The parsed body shared by the XPath matchers of a response or <code>null</code> if the body
+     * should be parsed by this matcher.
+     */
+    def validate(Response response, content, Element documentElement) {
         def success = true
         def errorMessage = "";
 
         content = fallbackToResponseBodyIfContentHasAlreadyBeenRead(response, content)
         if(key == null) {
             if(isXPathMatcher()) {
-                Element node = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(response.asByteArray())).getDocumentElement();
+                Element node = documentElement ?: parseDocumentElement(response)
                 if (!matcher.matches(node)) {
                     success = false
-                    errorMessage = String.format("Expected: %s\n  Actual: %s\n", matcher.toString(), content)
+                    errorMessage = String.format("Expected: %s\n  Actual: %s\n", matcher.toString(), response.asString())
+                }
+            } else if (isXmlValidationMatcher() && response instanceof RestAssuredResponseImpl) {
+                // Validate the body while reading it instead of creating a string of the whole body first
+                def reader = new InputStreamReader(response.asInputStream(), response.findCharset())
+                try {
+                    matcher.matches(reader)
+                } finally {
+                    reader.close()
                 }
             } else if (!matcher.matches(response.asString())) {
                 success = false
-                errorMessage = "Response body doesn't match expectation.\nExpected: $matcher\n  Actual: $content\n"
+                errorMessage = "Response body doesn't match expectation.\nExpected: $matcher\n  Actual: ${response.asString()}\n"
             }
         } else {
             def assertion = StreamVerifier.newAssertion(response, key, rpr)
@@ -79,8 +98,16 @@ class BodyMatcher {
         return  content
     }
 
-    private boolean isXPathMatcher() {
-        matcher instanceof HasXPath
+    static Element parseDocumentElement(Response response) {
+        DomParser.parse(new ByteArrayInputStream(response.asByteArray())).getDocumentElement()
+    }
+
+    def boolean isXPathMatcher() {
+        matcher instanceof HasXPath || matcher instanceof XmlXPathMatcher
+    }
+
+    private boolean isXmlValidationMatcher() {
+        matcher instanceof XmlXsdMatcher || matcher instanceof XmlDtdMatcher
     }
 
     def boolean requiresTextParsing() {
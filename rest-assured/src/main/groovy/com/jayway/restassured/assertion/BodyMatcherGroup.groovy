@@ -17,6 +17,7 @@
 package com.jayway.restassured.assertion
 
 import com.jayway.restassured.response.Response
+import org.w3c.dom.Element
 
 class BodyMatcherGroup {
     private def bodyAssertions = []
@@ -37,7 +38,25 @@ class BodyMatcherGroup {
     }
 
     def List validate(Response response, content) {
-        bodyAssertions.collect { it.validate(response, content) }
+        // The body is parsed once and shared by all XPath matchers
+        Element documentElement = null
+        bodyAssertions.collect { bodyMatcher ->
+            if (bodyMatcher.key == null && bodyMatcher.isXPathMatcher() && documentElement == null) {
+                documentElement = BodyMatcher.parseDocumentElement(response)
+            }
+            bodyMatcher.validate(response, content, documentElement)
+        }
+    }
+
+    def List keys() {
+        bodyAssertions.collect { it.key }
+    }
+
+    /**
+     * @return The keys of the body expectations if they are all path expectations, otherwise <code>null</code>
+     */
+    def List pathKeys() {
+        bodyAssertions.any { it.requiresTextParsing() } ? null : keys()
     }
 
     public boolean containsMatchers() {
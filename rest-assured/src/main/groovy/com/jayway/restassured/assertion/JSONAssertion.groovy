@@ -16,9 +16,17 @@
 
 package com.jayway.restassured.assertion
 
+import com.jayway.restassured.internal.path.PathExpression
+import com.jayway.restassured.internal.support.LruCache
+
 import static com.jayway.restassured.assertion.AssertionSupport.*
 
 class JSONAssertion implements Assertion {
+  private static final String ROOT = 'restAssuredJsonRootObject'
+  private static final int MAX_CACHED_EXPRESSIONS = 500
+  // Compiled expressions keyed by the unescaped path. Compiling a path is far more expensive than evaluating it.
+  private static final LruCache<String, PathExpression> EXPRESSIONS = new LruCache<String, PathExpression>(MAX_CACHED_EXPRESSIONS)
+
   String key;
 
   def Object getResult(Object object) {
@@ -27,27 +35,40 @@ class JSONAssertion implements Assertion {
   }
 
   def getAsJsonObject(object) {
-    key = escapePath(key, minus(), attributeGetter(), integer());
     def result;
     if (key == "\$" || key == "") {
       result = object
     } else {
-      def root = 'restAssuredJsonRootObject'
       try {
-        def expr;
-        if (key =~ /^\[\d+\].*/) {
-          expr = "$root$key"
-        } else {
-          expr = "$root.$key"
-        }
-        result = Eval.me(root, object, expr)
+        result = compile(key).evaluate(object)
       } catch (Exception e) {
-        throw new IllegalArgumentException(e.getMessage().replace("startup failed:","Invalid JSON expression:").replace("$root.", generateWhitespace(root.length())));
+        throw new IllegalArgumentException(e.getMessage().replace("startup failed:","Invalid JSON expression:").replace("$ROOT.", generateWhitespace(ROOT.length())));
       }
     }
     return result
   }
 
+  private static PathExpression compile(String key) {
+    def expression = EXPRESSIONS.get(key)
+    if (expression == null) {
+      expression = PathExpression.compile(ROOT, toPath(key))
+      EXPRESSIONS.put(key, expression)
+    }
+    expression
+  }
+
+  /**
+   * @return The path that is evaluated on the JSON document for the supplied key or <code>null</code> if the key refers
+   * to the whole document.
+   */
+  static String toPath(String key) {
+    if (key == null || key == "\$" || key == "") {
+      return null
+    }
+    def escapedKey = escapePath(key, minus(), attributeGetter(), integer());
+    escapedKey =~ /^\[\d+\].*/ ? escapedKey : ".$escapedKey"
+  }
+
   def String description() {
     return "JSON path"
   }
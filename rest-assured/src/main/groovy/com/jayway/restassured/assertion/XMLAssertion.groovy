@@ -19,6 +19,8 @@ package com.jayway.restassured.assertion
 import com.jayway.restassured.internal.path.xml.NodeChildrenImpl
 import com.jayway.restassured.internal.path.xml.NodeImpl
 import com.jayway.restassured.path.xml.element.NodeChildren
+import com.jayway.restassured.internal.path.PathExpression
+import com.jayway.restassured.internal.support.LruCache
 import groovy.util.slurpersupport.*
 
 import static com.jayway.restassured.assertion.AssertionSupport.*
@@ -26,19 +28,50 @@ import static com.jayway.restassured.assertion.AssertionSupport.*
 class XMLAssertion implements Assertion {
   private static final String DOT = "."
   private static final String EXPLICIT_LIST_CONVERSION = 'list()'
-  String key;
+  private static final String ROOT_OBJECT = "restAssuredXmlRootObject"
+  private static final int MAX_CACHED_EXPRESSIONS = 500
+  // Compiled paths keyed by the unescaped path. Compiling a path is far more expensive than evaluating it.
+  private static final LruCache<String, CompiledXmlPath> EXPRESSIONS = new LruCache<String, CompiledXmlPath>(MAX_CACHED_EXPRESSIONS)
 
   /* Matches fragment such as children() or size(2) */
-  private def isInvocationFragment = ~/.*\(\d*\)|.*(\{|\}).*/
+  private static final def isInvocationFragment = ~/.*\(\d*\)|.*(\{|\}).*/
+
+  String key;
 
   private def fragments
 
   def Object getResult(Object object) {
-    key = key?.startsWith(DOT) ? key.substring(1) : key
+    def path = compile(key)
+    fragments = path.fragments
+
+    def result;
+    try {
+      result = path.expression.evaluate(object)
+    } catch (Exception e) {
+      def errorMessage = e.getMessage();
+      if(errorMessage.startsWith("No signature of method:")) {
+        errorMessage = "Path $path.key is invalid."
+      } else {
+        errorMessage = e.getMessage().replace("startup failed:", "Invalid path:").replace(ROOT_OBJECT, generateWhitespace(ROOT_OBJECT.length() - path.baseString.length()) + path.baseString)
+      }
+      throw new IllegalArgumentException(errorMessage);
+    }
+    def javaObject = convertToJavaObject(result)
+    return preventTreatingRootObjectAsAList(javaObject)
+  }
+
+  private CompiledXmlPath compile(String unescapedKey) {
+    def compiledPath = EXPRESSIONS.get(unescapedKey)
+    if (compiledPath != null) {
+      return compiledPath
+    }
+
+    def key = unescapedKey?.startsWith(DOT) ? unescapedKey.substring(1) : unescapedKey
     key = escapePath(key, minus(), attributeGetter(), doubleStar())
     def indexOfDot = key.indexOf(".")
     def baseString
     def evaluationString
+    def fragments = null
     def isRootOnly = indexOfDot < 0
     if (!isRootOnly) {
       fragments = key.split("\\.");
@@ -55,21 +88,15 @@ class XMLAssertion implements Assertion {
       baseString = key;
     }
 
-    def result;
-    def rootObject = "restAssuredXmlRootObject"
+    PathExpression expression
     try {
-      result = Eval.me(rootObject, object, "$rootObject$evaluationString")
+      expression = PathExpression.compile(ROOT_OBJECT, evaluationString.toString())
     } catch (Exception e) {
-      def errorMessage = e.getMessage();
-      if(errorMessage.startsWith("No signature of method:")) {
-        errorMessage = "Path $key is invalid."
-      } else {
-        errorMessage = e.getMessage().replace("startup failed:", "Invalid path:").replace(rootObject, generateWhitespace(rootObject.length() - baseString.length()) + baseString)
-      }
-      throw new IllegalArgumentException(errorMessage);
+      throw new IllegalArgumentException(e.getMessage().replace("startup failed:", "Invalid path:").replace(ROOT_OBJECT, generateWhitespace(ROOT_OBJECT.length() - baseString.length()) + baseString));
     }
-    def javaObject = convertToJavaObject(result)
-    return preventTreatingRootObjectAsAList(javaObject)
+    compiledPath = new CompiledXmlPath(key: key, baseString: baseString, fragments: fragments, expression: expression)
+    EXPRESSIONS.put(unescapedKey, compiledPath)
+    compiledPath
   }
 
   private def isDoubleStarFragment(String fragment) {
@@ -190,6 +217,13 @@ class XMLAssertion implements Assertion {
   }
 }
 
+class CompiledXmlPath {
+  String key
+  String baseString
+  String[] fragments
+  PathExpression expression
+}
+
 class XmlEntity {
   def children
   def attributes
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal
+
+import com.jayway.restassured.config.AsyncConfig
+import com.jayway.restassured.response.Response
+import com.jayway.restassured.response.ResponseFuture
+import com.jayway.restassured.specification.AsyncRequestSender
+
+import java.util.concurrent.Callable
+
+import static com.jayway.restassured.assertion.AssertParameter.notNull
+
+class AsyncRequestSenderImpl implements AsyncRequestSender {
+    private final RequestSpecificationImpl requestSpecification
+    private final AsyncConfig asyncConfig
+
+    AsyncRequestSenderImpl(RequestSpecificationImpl requestSpecification, AsyncConfig asyncConfig) {
+        notNull requestSpecification, "Request specification"
+        notNull asyncConfig, "Async config"
+        this.requestSpecification = requestSpecification
+        this.asyncConfig = asyncConfig
+    }
+
+    ResponseFuture get(String path, Object... pathParams) {
+        send("get", path, pathParams)
+    }
+
+    ResponseFuture get(String path, Map<String, ?> pathParams) {
+        send("get", path, pathParams)
+    }
+
+    ResponseFuture post(String path, Object... pathParams) {
+        send("post", path, pathParams)
+    }
+
+    ResponseFuture post(String path, Map<String, ?> pathParams) {
+        send("post", path, pathParams)
+    }
+
+    ResponseFuture put(String path, Object... pathParams) {
+        send("put", path, pathParams)
+    }
+
+    ResponseFuture put(String path, Map<String, ?> pathParams) {
+        send("put", path, pathParams)
+    }
+
+    ResponseFuture delete(String path, Object... pathParams) {
+        send("delete", path, pathParams)
+    }
+
+    ResponseFuture delete(String path, Map<String, ?> pathParams) {
+        send("delete", path, pathParams)
+    }
+
+    ResponseFuture head(String path, Object... pathParams) {
+        send("head", path, pathParams)
+    }
+
+    ResponseFuture head(String path, Map<String, ?> pathParams) {
+        send("head", path, pathParams)
+    }
+
+    ResponseFuture patch(String path, Object... pathParams) {
+        send("patch", path, pathParams)
+    }
+
+    ResponseFuture patch(String path, Map<String, ?> pathParams) {
+        send("patch", path, pathParams)
+    }
+
+    ResponseFuture options(String path, Object... pathParams) {
+        send("options", path, pathParams)
+    }
+
+    ResponseFuture options(String path, Map<String, ?> pathParams) {
+        send("options", path, pathParams)
+    }
+
+    private ResponseFuture send(String method, String path, pathParams) {
+        notNull path, "path"
+        notNull pathParams, "Path params"
+        // Copied in the calling thread so that changing the specification after the request has been submitted doesn't
+        // affect the request and so that each request is sent using its own specification
+        def testSpecification = requestSpecification.copySpecification(requestSpecification.config)
+        ResponseFutureImpl.submit(asyncConfig, new Callable<Response>() {
+            Response call() {
+                testSpecification."$method"(path, pathParams)
+            }
+        })
+    }
+}
@@ -18,6 +18,8 @@
 
 package com.jayway.restassured.internal
 
+import com.jayway.restassured.assertion.JSONAssertion
+import com.jayway.restassured.internal.path.JsonPathProjection
 import com.jayway.restassured.parsing.Parser
 import com.jayway.restassured.response.Response
 import groovy.json.JsonSlurper
@@ -27,6 +29,47 @@ import static com.jayway.restassured.parsing.Parser.*
 class ContentParser {
   def parse(Response response, ResponseParserRegistrar rpr) {
     Parser parser = rpr.getParser(response.contentType())
+    if(parser in [JSON, XML, HTML] && response instanceof RestAssuredResponseImpl) {
+      // Share the parsed document with path(), jsonPath() and xmlPath() of the same response
+      return response.parsedBody(parser)
+    }
+    parseBody(response, parser)
+  }
+
+  /**
+   * Parse the body in order to evaluate the supplied body expectation keys. If the keys of a JSON body that hasn't been parsed
+   * yet are all plain property paths only the parts of the body that they refer to are kept (see {@link JsonPathProjection}).
+   * The whole body is still read and validated. If the keys were evaluated while the body was received (see
+   * {@link com.jayway.restassured.config.ResponseConfig#evaluateJsonPathsWhileReceiving(long)}) that result is used instead.
+   */
+  def parse(Response response, ResponseParserRegistrar rpr, List keys) {
+    if(response instanceof RestAssuredResponseImpl) {
+      def projectedBody = response.projectedBody()
+      if(projectedBody != null) {
+        return projectedBody
+      }
+    }
+    Parser parser = rpr.getParser(response.contentType())
+    // A body that hasn't been read into memory can only be read once so it's always parsed in full
+    if(parser == JSON && response instanceof RestAssuredResponseImpl && isBuffered(response) && !response.hasParsedBody(JSON)) {
+      def projection = JsonPathProjection.create(keys.collect { JSONAssertion.toPath(it) })
+      if(projection != null) {
+        def reader = new InputStreamReader(new BufferedInputStream(response.asInputStream()))
+        try {
+          return projection.parse(reader)
+        } finally {
+          reader.close()
+        }
+      }
+    }
+    parse(response, rpr)
+  }
+
+  private boolean isBuffered(RestAssuredResponseImpl response) {
+    response.content instanceof String || response.content instanceof byte[]
+  }
+
+  def parseBody(Response response, Parser parser) {
     def content;
     def bodyAsInputStream = response.asInputStream()
     if(parser == null) {
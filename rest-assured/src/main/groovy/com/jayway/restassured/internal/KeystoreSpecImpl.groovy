@@ -17,19 +17,17 @@
 package com.jayway.restassured.internal
 
 import com.jayway.restassured.internal.http.HTTPBuilder
+import com.jayway.restassured.internal.http.SSLSocketFactoryCache
 import org.apache.commons.lang3.Validate
 import org.apache.http.conn.scheme.Scheme
 import org.apache.http.conn.ssl.SSLSocketFactory
 
-import java.security.KeyStore
-
 class KeystoreSpecImpl implements KeystoreSpec {
 
   def path
   def password
 
   def void apply(HTTPBuilder builder, int port) {
-    def keyStore = KeyStore.getInstance(KeyStore.defaultType)
     if (path == null)
       path = System.getProperty("user.home") + File.separatorChar + ".keystore"
 
@@ -43,12 +41,8 @@ class KeystoreSpecImpl implements KeystoreSpec {
     }
 
     Validate.notNull(resource, "Couldn't find java keystore file at '$path'.")
-    resource.withInputStream {
-      keyStore.load(it, password.toCharArray())
-    }
-
-    def factory = new SSLSocketFactory(keyStore)
-    factory.setHostnameVerifier(SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER)
+    def url = resource instanceof File ? resource.toURI().toURL() : resource
+    def factory = SSLSocketFactoryCache.trustStoreFactory(url, password, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER)
     builder.client.connectionManager.schemeRegistry.register(
             new Scheme("https", factory, port)
     )
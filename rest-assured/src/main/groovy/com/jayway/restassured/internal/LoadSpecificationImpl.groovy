@@ -0,0 +1,242 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal
+
+import com.jayway.restassured.config.ConnectionConfig.ConnectionPoolConfig
+import com.jayway.restassured.config.RestAssuredConfig
+import com.jayway.restassured.response.LoadResult
+import com.jayway.restassured.specification.LoadSpecification
+import com.jayway.restassured.specification.PathParamsSupplier
+
+import java.util.concurrent.Callable
+import java.util.concurrent.TimeUnit
+
+import static com.jayway.restassured.assertion.AssertParameter.notNull
+import static java.util.concurrent.TimeUnit.MILLISECONDS
+import static java.util.concurrent.TimeUnit.NANOSECONDS
+import static java.util.concurrent.TimeUnit.SECONDS
+
+class LoadSpecificationImpl implements LoadSpecification {
+    private final RequestSpecificationImpl requestSpecification
+    private int users = DEFAULT_USERS
+    private double rate = DEFAULT_RATE
+    private long durationInNanos = SECONDS.toNanos(DEFAULT_DURATION_IN_SECONDS)
+    private Double maxErrorRate
+    private Double minThroughput
+    private long maxMissedRequests = 0
+    private def maxLatencies = []
+
+    LoadSpecificationImpl(RequestSpecificationImpl requestSpecification) {
+        notNull requestSpecification, "Request specification"
+        this.requestSpecification = requestSpecification
+    }
+
+    LoadSpecification users(int users) {
+        if(users < 1) {
+            throw new IllegalArgumentException("Users must be greater than 0.")
+        }
+        this.users = users
+        this
+    }
+
+    LoadSpecification rate(double requestsPerSecond) {
+        if(requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate must be greater than 0.")
+        }
+        this.rate = requestsPerSecond
+        this
+    }
+
+    LoadSpecification duration(long duration, TimeUnit timeUnit) {
+        notNull timeUnit, "Time unit"
+        if(duration <= 0) {
+            throw new IllegalArgumentException("Duration must be greater than 0.")
+        }
+        this.durationInNanos = timeUnit.toNanos(duration)
+        this
+    }
+
+    LoadSpecification maxErrorRate(double errorRate) {
+        if(errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1.")
+        }
+        this.maxErrorRate = errorRate
+        this
+    }
+
+    LoadSpecification maxLatency(double percentile, long latency, TimeUnit timeUnit) {
+        notNull timeUnit, "Time unit"
+        if(percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.")
+        }
+        maxLatencies << [percentile: percentile, latency: latency, timeUnit: timeUnit]
+        this
+    }
+
+    LoadSpecification maxMissedRequests(long missedRequests) {
+        if(missedRequests < 0) {
+            throw new IllegalArgumentException("Missed requests cannot be negative.")
+        }
+        this.maxMissedRequests = missedRequests
+        this
+    }
+
+    LoadSpecification minThroughput(double requestsPerSecond) {
+        this.minThroughput = requestsPerSecond
+        this
+    }
+
+    LoadSpecification and() {
+        this
+    }
+
+    LoadSpecification when() {
+        this
+    }
+
+    LoadResult get(String path, Object... pathParams) {
+        run("get", path, fixed(pathParams))
+    }
+
+    LoadResult get(String path, PathParamsSupplier pathParams) {
+        run("get", path, pathParams)
+    }
+
+    LoadResult post(String path, Object... pathParams) {
+        run("post", path, fixed(pathParams))
+    }
+
+    LoadResult post(String path, PathParamsSupplier pathParams) {
+        run("post", path, pathParams)
+    }
+
+    LoadResult put(String path, Object... pathParams) {
+        run("put", path, fixed(pathParams))
+    }
+
+    LoadResult put(String path, PathParamsSupplier pathParams) {
+        run("put", path, pathParams)
+    }
+
+    LoadResult delete(String path, Object... pathParams) {
+        run("delete", path, fixed(pathParams))
+    }
+
+    LoadResult delete(String path, PathParamsSupplier pathParams) {
+        run("delete", path, pathParams)
+    }
+
+    LoadResult head(String path, Object... pathParams) {
+        run("head", path, fixed(pathParams))
+    }
+
+    LoadResult head(String path, PathParamsSupplier pathParams) {
+        run("head", path, pathParams)
+    }
+
+    LoadResult patch(String path, Object... pathParams) {
+        run("patch", path, fixed(pathParams))
+    }
+
+    LoadResult patch(String path, PathParamsSupplier pathParams) {
+        run("patch", path, pathParams)
+    }
+
+    LoadResult options(String path, Object... pathParams) {
+        run("options", path, fixed(pathParams))
+    }
+
+    LoadResult options(String path, PathParamsSupplier pathParams) {
+        run("options", path, pathParams)
+    }
+
+    private LoadResult run(String method, String path, PathParamsSupplier pathParamsSupplier) {
+        notNull path, "path"
+        notNull pathParamsSupplier, "Path params"
+        def config = requestSpecification.config ?: new RestAssuredConfig()
+        def connectionConfig = config.getConnectionConfig()
+        ConnectionPoolConfig connectionPool = null
+        if(!connectionConfig.shouldReuseConnections()) {
+            // Share one connection per user between the requests of the load test
+            connectionPool = new ConnectionPoolConfig(users, users)
+            config = config.connectionConfig(connectionConfig.reuseConnections(connectionPool))
+        }
+
+        def requests = new Iterator<Callable<?>>() {
+            boolean hasNext() {
+                true
+            }
+
+            Callable<?> next() {
+                def pathParams = pathParamsSupplier.next() ?: new Object[0]
+                def testSpecification = requestSpecification.copySpecification(config)
+                new Callable<Object>() {
+                    Object call() {
+                        testSpecification."$method"(path, pathParams)
+                    }
+                }
+            }
+
+            void remove() {
+                throw new UnsupportedOperationException()
+            }
+        }
+
+        def result
+        try {
+            result = new LoadRunner(users, rate, durationInNanos).run(requests)
+        } finally {
+            connectionPool?.shutdown()
+        }
+        verifyThresholds(result)
+        result
+    }
+
+    void verifyThresholds(LoadResult result) {
+        def errors = []
+        if(result.missedRequests > maxMissedRequests) {
+            errors << String.format("%d requests were missed since all users were busy, at most %d are allowed.", result.missedRequests, maxMissedRequests)
+        }
+        if(maxErrorRate != null && result.errorRate > maxErrorRate) {
+            errors << String.format("Error rate %.2f%% exceeds %.2f%%.", result.errorRate * 100, maxErrorRate * 100)
+        }
+        maxLatencies.each {
+            def actual = result.getLatencyAtPercentile(it.percentile, NANOSECONDS)
+            if(actual > it.timeUnit.toNanos(it.latency)) {
+                errors << String.format("Latency at percentile %s is %.1f ms which exceeds %d %s.", it.percentile,
+                        actual / MILLISECONDS.toNanos(1), it.latency, it.timeUnit.toString().toLowerCase())
+            }
+        }
+        if(minThroughput != null && result.throughput < minThroughput) {
+            errors << String.format("Throughput %.1f requests/s is less than %.1f requests/s.", result.throughput, minThroughput)
+        }
+        if(!errors.isEmpty()) {
+            def failures = result.failures.isEmpty() ? "" : "\nFirst failures:\n" + result.failures.join("\n")
+            def s = errors.size() > 1 ? "s" : ""
+            throw new AssertionError("${errors.size()} load test threshold$s exceeded.\n${errors.join("\n")}\n$result$failures".toString())
+        }
+    }
+
+    private static PathParamsSupplier fixed(Object... pathParams) {
+        notNull pathParams, "Path params"
+        new PathParamsSupplier() {
+            Object[] next() {
+                pathParams
+            }
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.jayway.restassured.internal
 
 import com.jayway.restassured.config.LogConfig
 import com.jayway.restassured.config.RestAssuredConfig
+import com.jayway.restassured.filter.log.AsyncLogWriter
 import com.jayway.restassured.specification.RequestSpecification
 
 /**
@@ -41,6 +42,10 @@ class LogSpecificationImpl {
         prettyPrintingEnabled
     }
 
+    def AsyncLogWriter getAsyncLogWriter(RequestSpecification requestSpecification) {
+        getLogConfig(requestSpecification)?.asyncLogWriter()
+    }
+
     private def LogConfig getLogConfig(RequestSpecification requestSpecification) {
         if(!requestSpecification) {
             throw new IllegalStateException("Cannot configure logging since request specification is not defined. You may be misusing the API.");
@@ -18,6 +18,7 @@ package com.jayway.restassured.internal
 
 import com.jayway.restassured.filter.log.LogDetail
 import com.jayway.restassured.filter.log.RequestLoggingFilter
+import com.jayway.restassured.filter.log.ValidationFailureLoggingFilter
 import com.jayway.restassured.specification.RequestLogSpecification
 import com.jayway.restassured.specification.RequestSpecification
 
@@ -64,12 +65,26 @@ class RequestLogSpecificationImpl extends LogSpecificationImpl implements Reques
     logWith(LogDetail.COOKIES)
   }
 
+  RequestSpecification ifValidationFails() {
+    ifValidationFails(LogDetail.ALL)
+  }
+
+  RequestSpecification ifValidationFails(LogDetail logDetail) {
+    requestSpecification.filter(new ValidationFailureLoggingFilter(logDetail, null, shouldPrettyPrint(requestSpecification), getPrintStream(requestSpecification)))
+    requestSpecification
+  }
+
   private def logWith(LogDetail logDetail) {
     logWith(logDetail, shouldPrettyPrint(requestSpecification))
   }
 
   private def logWith(LogDetail logDetail, boolean prettyPrintingEnabled) {
-    requestSpecification.filter(new RequestLoggingFilter(logDetail, getPrintStream(requestSpecification)))
+    def asyncLogWriter = getAsyncLogWriter(requestSpecification)
+    if(asyncLogWriter == null) {
+      requestSpecification.filter(new RequestLoggingFilter(logDetail, getPrintStream(requestSpecification)))
+    } else {
+      requestSpecification.filter(new RequestLoggingFilter(logDetail, prettyPrintingEnabled, asyncLogWriter))
+    }
     requestSpecification
   }
 }
@@ -17,9 +17,13 @@
 package com.jayway.restassured.internal
 
 import com.jayway.restassured.authentication.AuthenticationScheme
+import com.jayway.restassured.authentication.CertAuthScheme
 import com.jayway.restassured.authentication.FormAuthScheme
 import com.jayway.restassured.authentication.NoAuthScheme
 import com.jayway.restassured.filter.Filter
+import com.jayway.restassured.filter.FilterContext
+import com.jayway.restassured.filter.log.LogDetail
+import com.jayway.restassured.filter.log.ValidationFailureLoggingFilter
 import com.jayway.restassured.http.ContentType
 import com.jayway.restassured.internal.filter.FilterContextImpl
 import com.jayway.restassured.internal.filter.FormAuthFilter
@@ -35,14 +39,13 @@ import org.apache.http.HttpEntity
 import org.apache.http.HttpResponse
 import org.apache.http.client.methods.HttpPost
 import org.apache.http.client.methods.HttpRequestBase
+import org.apache.http.conn.ClientConnectionManager
 import org.apache.http.entity.HttpEntityWrapper
 import org.apache.http.entity.mime.MultipartEntity
 import org.apache.http.impl.conn.ProxySelectorRoutePlanner
 import org.apache.http.message.BasicHeader
 
 import java.util.Map.Entry
-import java.util.regex.Matcher
-import java.util.regex.Pattern
 
 import com.jayway.restassured.config.*
 import com.jayway.restassured.internal.http.*
@@ -86,6 +89,7 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
     private boolean urlEncodingEnabled
     private RestAssuredConfig restAssuredConfig;
     private List<MultiPart> multiParts = [];
+    private RequestTemplateImpl requestTemplate
 
     public RequestSpecificationImpl (String baseURI, int requestPort, String basePath, AuthenticationScheme defaultAuthScheme,
                                      List<Filter> filters, KeystoreSpec keyStoreSpec, defaultRequestContentType, RequestSpecification defaultSpec,
@@ -126,6 +130,41 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
         return responseSpecification;
     }
 
+    def AsyncRequestSender async() {
+        return new AsyncRequestSenderImpl(this, config == null ? AsyncConfig.asyncConfig() : config.getAsyncConfig())
+    }
+
+    /**
+     * Copy this specification and its response specification. The specifications are modified when a request is sent
+     * so each request that is sent in another thread needs its own copy.
+     */
+    TestSpecificationImpl copySpecification(RestAssuredConfig config) {
+        ResponseSpecificationImpl templateResponse = responseSpecification
+        new TestSpecificationImpl(copyRequestSpecification(config), templateResponse.copy())
+    }
+
+    /**
+     * Copy this specification without its response specification so that changing this specification afterwards doesn't
+     * affect the copy.
+     */
+    RequestSpecificationImpl copyRequestSpecification(RestAssuredConfig config) {
+        def request = new RequestSpecificationImpl(baseUri, port, basePath, defaultAuthScheme, [], keyStoreSpec, contentType,
+                this, urlEncodingEnabled, config)
+        request.restAssuredConfig = config
+        request
+    }
+
+    /**
+     * @see #copyRequestSpecification(RestAssuredConfig)
+     */
+    RequestSpecificationImpl copyRequestSpecification() {
+        copyRequestSpecification(restAssuredConfig)
+    }
+
+    def LoadSpecification load() {
+        return new LoadSpecificationImpl(this)
+    }
+
     def Response get(String path, Object...pathParams) {
         applyPathParamsAndSendRequest(GET, path, pathParams)
     }
@@ -635,6 +674,11 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
         return spec(requestSpecificationToMerge)
     }
 
+    RequestSpecification spec(RequestTemplate requestTemplateToMerge) {
+        SpecificationMerger.merge this, requestTemplateToMerge
+        return this
+    }
+
     RequestSpecification sessionId(String sessionIdValue) {
         def sessionIdName = config == null ? SessionConfig.DEFAULT_SESSION_ID_NAME : config.getSessionConfig().sessionIdName()
         sessionId(sessionIdName, sessionIdValue)
@@ -714,7 +758,7 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
         this
     }
 
-    def invokeFilterChain(path, method, assertionClosure) {
+    def invokeFilterChain(path, method, assertionClosure, pathTemplate = path) {
         if(authenticationScheme instanceof NoAuthScheme && !(defaultAuthScheme instanceof NoAuthScheme)) {
             // Use default auth scheme
             authenticationScheme = defaultAuthScheme
@@ -724,28 +768,52 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
             // Form auth scheme is handled a bit differently than other auth schemes since it's implemented by a filter.
             def formAuthScheme =  authenticationScheme as FormAuthScheme
             filters.removeAll { AuthFilter.class.isAssignableFrom(it.getClass())  }
-            filters << new FormAuthFilter(userName: formAuthScheme.userName,password: formAuthScheme.password, config: formAuthScheme.config)
+            filters << new FormAuthFilter(userName: formAuthScheme.userName,password: formAuthScheme.password, config: formAuthScheme.config,
+                    sessions: restAssuredConfig?.getSessionConfig()?.formAuthSessions())
         }
         filters << new RootFilter()
-        def ctx = new FilterContextImpl(assembleCompleteTargetPath(path), path, method, assertionClosure, filters);
+        def ctx = new FilterContextImpl(assembleCompleteTargetPath(path), path, pathTemplate, method, assertionClosure, filters);
         def response = ctx.next(this, responseSpecification)
-        responseSpecification.assertionClosure.validate(response)
+        try {
+            responseSpecification.assertionClosure.validate(response)
+        } catch (AssertionError e) {
+            logRequestAndResponseIfValidationFailed(ctx, response)
+            throw e
+        }
         return response;
     }
 
+    private def logRequestAndResponseIfValidationFailed(FilterContext ctx, Response response) {
+        def loggers = filters.findAll { it instanceof ValidationFailureLoggingFilter }
+        def logConfig = config?.getLogConfig()
+        if(loggers.isEmpty() && logConfig?.isLoggingOfRequestAndResponseIfValidationFailsEnabled()) {
+            loggers << new ValidationFailureLoggingFilter(LogDetail.ALL, LogDetail.ALL, logConfig.isPrettyPrintingEnabled(), logConfig.defaultStream())
+        }
+        loggers.each { ValidationFailureLoggingFilter logger -> logger.validationFailed(this, ctx, response) }
+    }
+
     private def Response sendRequest(path, method, assertionClosure) {
         path = extractRequestParamsIfNeeded(method, path);
         def isFullyQualifiedUri = isFullyQualified(path)
-        def targetUri = getTargetURI(path);
-        def targetPath = getTargetPath(path)
-        def http = new RestAssuredHttpBuilder(targetUri, assertionClosure, urlEncodingEnabled, config);
+        def targetUri
+        def targetPath
+        def templateTarget = isFullyQualifiedUri ? null : requestTemplate?.target
+        if(templateTarget != null && templateTarget.matches(baseUri, port, basePath)) {
+            targetUri = templateTarget.uri
+            targetPath = mergeAndRemoveDoubleSlash(templateTarget.pathPrefix, path)
+        } else {
+            targetUri = getTargetURI(path)
+            targetPath = getTargetPath(path)
+        }
+        def sharedConnectionManager = sharedConnectionManager()
+        def http = new RestAssuredHttpBuilder(targetUri, assertionClosure, urlEncodingEnabled, config, sharedConnectionManager);
         allowJreProxySettings(http)
         applyRestAssuredConfig(http)
         registerRestAssuredEncoders(http);
         setRequestHeadersToHttpBuilder(http)
 
         if(cookies.exist()) {
-            http.getHeaders() << [Cookie : cookies.collect { it.toString() }.join("; ")]
+            http.getHeaders() << [Cookie : createCookieHeader()]
         }
 
         // Allow returning a the response
@@ -755,12 +823,18 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
         restAssuredResponse.setConnectionManager(http.client.connectionManager)
         restAssuredResponse.setObjectMapperConfig(objectMappingConfig())
         restAssuredResponse.setConnectionConfig(connectionConfig())
+        restAssuredResponse.setResponseConfig(config == null ? ResponseConfig.responseConfig() : config.getResponseConfig())
         responseSpecification.restAssuredResponse = restAssuredResponse
+        http.timer = restAssuredResponse.timer
         def responseContentType =  assertionClosure.getResponseContentType()
 
         authenticationScheme.authenticate(http)
 
         keyStoreSpec.apply(http, isFullyQualifiedUri == true && port == DEFAULT_HTTP_TEST_PORT ? DEFAULT_HTTPS_PORT : port)
+        if(sharedConnectionManager == null) {
+            // The shared pool registers the timing socket factory when it's created
+            TlsHandshakeTimingSocketFactory.register(http.client.connectionManager.schemeRegistry)
+        }
 
         validateMultiPartForPostPutAndPatchOnly(method);
 
@@ -795,13 +869,34 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
         return restAssuredResponse
     }
 
+    /**
+     * @return The connection manager of the shared connection pool or <code>null</code> if the request should use a connection
+     * manager of its own. Keystores and client certificates are registered in the scheme registry of the connection manager
+     * so a request that defines them must never use the shared pool, otherwise they would be used by all other requests.
+     */
+    private ClientConnectionManager sharedConnectionManager() {
+        if(!(keyStoreSpec instanceof NoKeystoreSpecImpl) || authenticationScheme instanceof CertAuthScheme) {
+            return null
+        }
+        connectionConfig().connectionPoolConfig()?.getConnectionManager()
+    }
+
     def applyRestAssuredConfig(HTTPBuilder http) {
         if(restAssuredConfig != null) {
-            applyRedirectConfig(restAssuredConfig.getRedirectConfig())
-            applyHttpClientConfig(restAssuredConfig.getHttpClientConfig())
+            if(restAssuredConfig.is(requestTemplate?.config)) {
+                requestTemplate.httpClientParams.each { key, value ->
+                    putIfAbsent(httpClientParams, key, value)
+                }
+            } else {
+                addHttpClientParams(httpClientParams, restAssuredConfig)
+            }
             applyEncoderConfig(http, restAssuredConfig.getEncoderConfig())
             applySessionConfig(restAssuredConfig.getSessionConfig())
         }
+        def keepAliveStrategy = connectionConfig().connectionPoolConfig()?.getKeepAliveStrategy()
+        if(keepAliveStrategy != null) {
+            http.client.setKeepAliveStrategy(keepAliveStrategy)
+        }
         if (!httpClientParams.isEmpty()) {
             def p = http.client.getParams();
 
@@ -821,20 +916,27 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
         httpBuilder.encoders.setCharset(encoderConfig.defaultContentCharset())
     }
 
-    def applyHttpClientConfig(HttpClientConfig httpClientConfig) {
+    static void addHttpClientParams(Map httpClientParams, RestAssuredConfig restAssuredConfig) {
+        if(restAssuredConfig != null) {
+            applyRedirectConfig(httpClientParams, restAssuredConfig.getRedirectConfig())
+            applyHttpClientConfig(httpClientParams, restAssuredConfig.getHttpClientConfig())
+        }
+    }
+
+    private static def applyHttpClientConfig(Map httpClientParams, HttpClientConfig httpClientConfig) {
         ([:].plus(httpClientConfig.params())).each { key, value ->
             putIfAbsent(httpClientParams, key, value)
         }
     }
 
-    def applyRedirectConfig(RedirectConfig redirectConfig) {
+    private static def applyRedirectConfig(Map httpClientParams, RedirectConfig redirectConfig) {
         putIfAbsent(httpClientParams, ALLOW_CIRCULAR_REDIRECTS, redirectConfig.allowsCircularRedirects())
         putIfAbsent(httpClientParams, HANDLE_REDIRECTS, redirectConfig.followsRedirects())
         putIfAbsent(httpClientParams, MAX_REDIRECTS, redirectConfig.maxRedirects())
         putIfAbsent(httpClientParams, REJECT_RELATIVE_REDIRECT, redirectConfig.rejectRelativeRedirects())
     }
 
-    private def putIfAbsent(Map map, key, value) {
+    private static def putIfAbsent(Map map, key, value) {
         if(!map.containsKey(key)) {
             map.put(key, value)
         }
@@ -852,6 +954,19 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
 
     def setRequestHeadersToHttpBuilder(HTTPBuilder http) {
         def httpHeaders = http.getHeaders();
+        def templateHeaders = httpHeaders.isEmpty() && requestTemplate != null ? requestTemplate.headerPrefixLength(requestHeaders) : -1
+        if(templateHeaders < 0) {
+            addHeaders(httpHeaders, requestHeaders)
+        } else {
+            // Only the headers added after the template was applied are resolved
+            httpHeaders.putAll(requestTemplate.headerValues)
+            if(requestHeaders.size() > templateHeaders) {
+                addHeaders(httpHeaders, requestHeaders.list().subList(templateHeaders, requestHeaders.size()))
+            }
+        }
+    }
+
+    static void addHeaders(Map httpHeaders, Iterable<Header> requestHeaders) {
         requestHeaders.each { header ->
             def headerName = header.getName()
             def headerValue = header.getValue()
@@ -866,6 +981,46 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
         }
     }
 
+    static String toCookieHeader(Iterable<Cookie> cookies) {
+        cookies.collect { it.toString() }.join("; ")
+    }
+
+    private String createCookieHeader() {
+        def templateCookies = requestTemplate == null ? -1 : requestTemplate.cookiePrefixLength(cookies)
+        if(templateCookies < 0) {
+            return toCookieHeader(cookies)
+        } else if(cookies.size() == templateCookies) {
+            return requestTemplate.cookieHeader
+        }
+        // Only the cookies added after the template was applied are resolved
+        def addedCookies = toCookieHeader(cookies.list().subList(templateCookies, cookies.size()))
+        templateCookies == 0 ? addedCookies : requestTemplate.cookieHeader + "; " + addedCookies
+    }
+
+    /**
+     * Resolve the target URI and the path prefix from the base URI, port and base path of this specification.
+     *
+     * @return The target or <code>null</code> if the base URI and port don't make up a valid target. Requests resolve the
+     * target themselves in that case and fail if it's still invalid.
+     */
+    RequestTemplateImpl.RequestTarget resolveTarget() {
+        if(port <= 0) {
+            return null
+        }
+        try {
+            def baseUriPath = ""
+            if(!(baseUri == null || baseUri == "")) {
+                baseUriPath = new URI(baseUri).getPath()
+            }
+            return new RequestTemplateImpl.RequestTarget(baseUri, port, basePath, getTargetURI(""),
+                    mergeAndRemoveDoubleSlash(baseUriPath, basePath))
+        } catch(URISyntaxException e) {
+            return null
+        } catch(MalformedURLException e) {
+            return null
+        }
+    }
+
     private def createBodyContent(bodyContent) {
         return bodyContent instanceof Map ? createFormParamBody(bodyContent) : bodyContent
     }
@@ -1111,8 +1266,9 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
         notNull path, "path"
         notNull pathParams, "Path params"
 
+        def pathTemplate = path
         path = applyPathParamsIfNeeded(path, pathParams)
-        invokeFilterChain(path, method, responseSpecification.assertionClosure)
+        invokeFilterChain(path, method, responseSpecification.assertionClosure, pathTemplate)
     }
 
     private def String applyPathParamsIfNeeded(String path, Object... pathParams) {
@@ -1122,36 +1278,9 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
             return path
         } else if(unnamedPathParamSize > 0 && namedPathParamSize > 0) {
             throw new IllegalArgumentException("You cannot specify both named and unnamed path params at the same time")
-        } else {
-            def matchPattern = ~/.*\{\w+\}.*/
-            if (unnamedPathParamSize > 0) {
-                def replacePattern = ~/\{\w+\}/
-                int current = 0;
-                pathParams.each {
-                    if (!path.matches(matchPattern)) {
-                        throw new IllegalArgumentException("Illegal number of path parameters. Expected $current, was $unnamedPathParamSize.")
-                    }
-                    current++
-                    path = path.replaceFirst(replacePattern, Matcher.quoteReplacement(it.toString()))
-                }
-            } else {
-                this.pathParameters.each { key, value ->
-                    def literalizedKey = Matcher.quoteReplacement(key)
-                    def replacePattern = Pattern.compile("\\{$literalizedKey\\}")
-                    int current = 0;
-                    if(path.matches(".*\\{$literalizedKey\\}.*")) {
-                        path = path.replaceAll(replacePattern, value.toString())
-                        current++
-                    } else {
-                        throw new IllegalArgumentException("You specified too many path parameters ($namedPathParamSize).")
-                    }
-                }
-            }
-            if (path.matches(matchPattern)) {
-                throw new IllegalArgumentException("You specified too few path parameters to the request.")
-            }
         }
-        path
+        def template = PathTemplate.compile(path)
+        unnamedPathParamSize > 0 ? template.expand(pathParams) : template.expand(this.pathParameters)
     }
 
     private String createFormParamBody(Map<String, Object> formParams)  {
@@ -1296,17 +1425,20 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
 
     private class RestAssuredHttpBuilder extends HTTPBuilder {
         def assertionClosure
+        def RequestTimer timer
 
-        RestAssuredHttpBuilder(Object defaultURI, assertionClosure, boolean urlEncodingEnabled, RestAssuredConfig config) throws URISyntaxException {
-            super(defaultURI, urlEncodingEnabled, config?.getEncoderConfig())
+        RestAssuredHttpBuilder(Object defaultURI, assertionClosure, boolean urlEncodingEnabled, RestAssuredConfig config,
+                               ClientConnectionManager connectionManager) throws URISyntaxException {
+            super(defaultURI, urlEncodingEnabled, config?.getEncoderConfig(), connectionManager)
             this.assertionClosure = assertionClosure
         }
 
         /**
-         * A copy of HTTP builders doRequest method with two exceptions.
+         * A copy of HTTP builders doRequest method with three exceptions.
          * <ol>
          *  <li>The exception is that the entity's content is not closed if no body matchers are specified.</li>
          *  <li>If headers contain a list of elements the headers are added and not overridden</li>
+         *  <li>The phases of the request are measured by the request timer</li>
          *  </ol>
          */
         protected Object doRequest(HTTPBuilder.RequestConfigDelegate delegate) {
@@ -1346,6 +1478,12 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
                     }
                 }
             }
+            if (timer != null) {
+                // The socket factories only have access to the request parameters
+                delegate.getContext().setAttribute(RequestTimer.ATTRIBUTE_NAME, timer)
+                reqMethod.getParams().setParameter(RequestTimer.ATTRIBUTE_NAME, timer)
+                timer.requestStarted()
+            }
             final HttpResponseDecorator resp = new HttpResponseDecorator(
                     this.client.execute( reqMethod, delegate.getContext() ),
                     delegate.getContext(), null )
@@ -1380,12 +1518,15 @@ class RequestSpecificationImpl implements FilterableRequestSpecification {
                 return returnVal;
             }
             finally {
-                if(responseSpecification.hasBodyAssertionsDefined()) {
+                def connectionConfig = connectionConfig()
+                // A body that has been kept as a stream releases the connection when it's closed or read to the end
+                def bodyHandedOverAsStream = responseSpecification.restAssuredResponse?.isBodyHandedOverAsStream()
+                if(!bodyHandedOverAsStream && (responseSpecification.hasBodyAssertionsDefined() || connectionConfig.shouldReuseConnections())) {
+                    // Consuming the content releases the connection back to the pool if connections are reused
                     HttpEntity entity = resp.getEntity();
                     if(entity != null) entity.consumeContent()
                 }
                 // Close idle connections to the server
-                def connectionConfig = connectionConfig()
                 if(connectionConfig.shouldCloseIdleConnectionsAfterEachResponse()) {
                     def closeConnectionConfig = connectionConfig.closeIdleConnectionConfig()
                     client.getConnectionManager().closeIdleConnections( closeConnectionConfig.getIdleTime(),  closeConnectionConfig.getTimeUnit() );
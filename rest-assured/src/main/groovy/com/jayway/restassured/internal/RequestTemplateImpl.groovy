@@ -0,0 +1,185 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal
+
+import com.jayway.restassured.config.RestAssuredConfig
+import com.jayway.restassured.filter.Filter
+import com.jayway.restassured.response.Cookie
+import com.jayway.restassured.response.Cookies
+import com.jayway.restassured.response.Header
+import com.jayway.restassured.response.Headers
+import com.jayway.restassured.specification.RequestTemplate
+
+import static com.jayway.restassured.assertion.AssertParameter.notNull
+
+/**
+ * A compiled request specification. The specification is copied when the template is compiled and neither the copy nor
+ * anything else in the template is modified afterwards. The header values, the Cookie header, the HTTP client parameters
+ * and the target URI are resolved when the template is compiled. A request that adds headers or cookies to the ones of the
+ * template only resolves the added ones.
+ */
+class RequestTemplateImpl implements RequestTemplate {
+    private final RequestSpecificationImpl specification
+    private final List<Header> headerList
+    private final Map<String, Object> headerValues
+    private final List<Cookie> cookieList
+    private final String cookieHeader
+    private final Map<String, Object> httpClientParams
+    private final List<Filter> filters
+    private final RequestTarget target
+
+    RequestTemplateImpl(RequestSpecificationImpl spec) {
+        notNull spec, "Request specification"
+        specification = new RequestSpecificationImpl(spec.baseUri, spec.port, spec.basePath, spec.defaultAuthScheme, [],
+                spec.keyStoreSpec, spec.contentType, spec, spec.urlEncodingEnabled, spec.restAssuredConfig)
+        headerList = specification.requestHeaders.list()
+        def headers = new LinkedHashMap<String, Object>()
+        RequestSpecificationImpl.addHeaders(headers, specification.requestHeaders)
+        headerValues = Collections.unmodifiableMap(headers)
+        cookieList = specification.cookies.list()
+        cookieHeader = specification.cookies.exist() ? RequestSpecificationImpl.toCookieHeader(specification.cookies) : null
+        def params = new LinkedHashMap<String, Object>()
+        RequestSpecificationImpl.addHttpClientParams(params, specification.restAssuredConfig)
+        httpClientParams = Collections.unmodifiableMap(params)
+        filters = Collections.unmodifiableList(new ArrayList<Filter>(specification.filters))
+        target = specification.resolveTarget()
+    }
+
+    RequestSpecificationImpl getSpecification() {
+        specification
+    }
+
+    /**
+     * @return The header values to send to the server, multiple values of the same header are stored in a list.
+     */
+    Map<String, Object> getHeaderValues() {
+        headerValues
+    }
+
+    /**
+     * @return The value of the Cookie header or <code>null</code> if no cookies are defined.
+     */
+    String getCookieHeader() {
+        cookieHeader
+    }
+
+    /**
+     * @return The HTTP client parameters derived from the configuration of the template.
+     */
+    Map<String, Object> getHttpClientParams() {
+        httpClientParams
+    }
+
+    /**
+     * @return The target resolved from the base URI, port and base path of the template or <code>null</code> if they
+     * don't make up a valid target. The target is only valid for requests with the same base URI, port and base path.
+     */
+    RequestTarget getTarget() {
+        target
+    }
+
+    /**
+     * @return The number of headers of the template if the supplied headers start with the headers of the template,
+     * otherwise -1. The headers that follow were added to the request after the template was applied.
+     */
+    int headerPrefixLength(Headers headers) {
+        startsWith(headers.list(), headerList) ? headerList.size() : -1
+    }
+
+    /**
+     * @return The number of cookies of the template if the supplied cookies start with the cookies of the template,
+     * otherwise -1. The cookies that follow were added to the request after the template was applied.
+     */
+    int cookiePrefixLength(Cookies cookies) {
+        startsWith(cookies.list(), cookieList) ? cookieList.size() : -1
+    }
+
+    int getPort() {
+        specification.port
+    }
+
+    String getRequestContentType() {
+        specification.requestContentType
+    }
+
+    Map<String, ?> getRequestParams() {
+        specification.requestParams
+    }
+
+    Map<String, ?> getFormParams() {
+        specification.formParams
+    }
+
+    Map<String, ?> getPathParams() {
+        specification.pathParams
+    }
+
+    Map<String, ?> getQueryParams() {
+        specification.queryParams
+    }
+
+    Headers getHeaders() {
+        specification.headers
+    }
+
+    Cookies getCookies() {
+        specification.cookies
+    }
+
+    List<Filter> getDefinedFilters() {
+        filters
+    }
+
+    RestAssuredConfig getConfig() {
+        specification.config
+    }
+
+    private static boolean startsWith(List<?> list, List<?> prefix) {
+        if(list.size() < prefix.size()) {
+            return false
+        }
+        for(int i = 0; i < prefix.size(); i++) {
+            if(!list.get(i).is(prefix.get(i))) {
+                return false
+            }
+        }
+        true
+    }
+
+    /**
+     * The target URI and the path prefix resolved from the base URI, port and base path of a request.
+     */
+    static class RequestTarget {
+        final String baseUri
+        final int port
+        final String basePath
+        final String uri
+        final String pathPrefix
+
+        RequestTarget(String baseUri, int port, String basePath, String uri, String pathPrefix) {
+            this.baseUri = baseUri
+            this.port = port
+            this.basePath = basePath
+            this.uri = uri
+            this.pathPrefix = pathPrefix
+        }
+
+        boolean matches(String baseUri, int port, String basePath) {
+            this.port == port && this.baseUri == baseUri && this.basePath == basePath
+        }
+    }
+}
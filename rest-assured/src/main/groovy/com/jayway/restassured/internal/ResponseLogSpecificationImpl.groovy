@@ -17,9 +17,11 @@ package com.jayway.restassured.internal
 
 import com.jayway.restassured.filter.log.LogDetail
 import com.jayway.restassured.filter.log.ResponseLoggingFilter
+import com.jayway.restassured.filter.log.ValidationFailureLoggingFilter
 import com.jayway.restassured.specification.ResponseLogSpecification
 import com.jayway.restassured.specification.ResponseSpecification
 import org.hamcrest.Matcher
+import org.hamcrest.Matchers
 
 import static org.hamcrest.Matchers.equalTo
 import static org.hamcrest.Matchers.greaterThanOrEqualTo
@@ -64,23 +66,46 @@ class ResponseLogSpecificationImpl extends LogSpecificationImpl implements Respo
   }
 
   ResponseSpecification ifError() {
-    logWith(new ResponseLoggingFilter(getPrintStream(), greaterThanOrEqualTo(400)))
+    logWith(LogDetail.ALL, greaterThanOrEqualTo(400))
   }
 
   ResponseSpecification ifStatusCodeIsEqualTo(int statusCode) {
-    logWith(new ResponseLoggingFilter(getPrintStream(), equalTo(statusCode)))
+    logWith(LogDetail.ALL, equalTo(statusCode))
   }
 
   ResponseSpecification ifStatusCodeMatches(Matcher<Integer> matcher) {
-    logWith(new ResponseLoggingFilter(getPrintStream(), matcher))
+    logWith(LogDetail.ALL, matcher)
+  }
+
+  ResponseSpecification ifValidationFails() {
+    ifValidationFails(LogDetail.ALL)
+  }
+
+  ResponseSpecification ifValidationFails(LogDetail logDetail) {
+    responseSpecification.request().filter(new ValidationFailureLoggingFilter(null, logDetail, shouldPrettyPrint(), getPrintStream()))
+    responseSpecification
   }
 
   private def logWith(LogDetail logDetail) {
-    logWith(new ResponseLoggingFilter(logDetail, getPrintStream()))
+    logWith(logDetail, Matchers.any(Integer.class))
+  }
+
+  private def logWith(LogDetail logDetail, Matcher<Integer> matcher) {
+    def asyncLogWriter = getAsyncLogWriter()
+    if(asyncLogWriter == null) {
+      logWith(new ResponseLoggingFilter(logDetail, getPrintStream(), matcher))
+    } else {
+      logWith(new ResponseLoggingFilter(logDetail, shouldPrettyPrint(), asyncLogWriter, matcher))
+    }
   }
 
   private def logWith(LogDetail logDetail, boolean prettyPrintingEnabled) {
-    logWith(new ResponseLoggingFilter(logDetail, prettyPrintingEnabled, getPrintStream()))
+    def asyncLogWriter = getAsyncLogWriter()
+    if(asyncLogWriter == null) {
+      logWith(new ResponseLoggingFilter(logDetail, prettyPrintingEnabled, getPrintStream()))
+    } else {
+      logWith(new ResponseLoggingFilter(logDetail, prettyPrintingEnabled, asyncLogWriter))
+    }
   }
 
   private def logWith(ResponseLoggingFilter filter) {
@@ -92,6 +117,10 @@ class ResponseLogSpecificationImpl extends LogSpecificationImpl implements Respo
     super.getPrintStream(responseSpecification.request())
   }
 
+  private def getAsyncLogWriter() {
+    super.getAsyncLogWriter(responseSpecification.request())
+  }
+
   private def shouldPrettyPrint() {
     super.shouldPrettyPrint(responseSpecification.request())
   }
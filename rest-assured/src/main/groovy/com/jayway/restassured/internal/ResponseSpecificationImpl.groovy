@@ -20,7 +20,10 @@ import com.jayway.restassured.assertion.BodyMatcher
 import com.jayway.restassured.assertion.BodyMatcherGroup
 import com.jayway.restassured.assertion.CookieMatcher
 import com.jayway.restassured.assertion.HeaderMatcher
+import com.jayway.restassured.assertion.JSONAssertion
 import com.jayway.restassured.http.ContentType
+import com.jayway.restassured.internal.path.JsonPathProjection
+import com.jayway.restassured.internal.support.BodyStreamer
 import com.jayway.restassured.parsing.Parser
 import com.jayway.restassured.response.Response
 import org.apache.commons.lang3.StringUtils
@@ -28,6 +31,8 @@ import org.hamcrest.Matcher
 import org.hamcrest.Matchers
 import com.jayway.restassured.specification.*
 
+import java.util.concurrent.TimeUnit
+
 import static com.jayway.restassured.assertion.AssertParameter.notNull
 import static com.jayway.restassured.http.ContentType.ANY
 import static org.apache.commons.lang3.StringUtils.substringAfter
@@ -39,6 +44,11 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
     private static final String DOT = "."
     private Matcher<Integer> expectedStatusCode;
     private Matcher<String> expectedStatusLine;
+    private Matcher<Long> expectedBodySize;
+    private Map<String, Matcher<String>> expectedBodyDigests = new LinkedHashMap<String, Matcher<String>>()
+    private File bodyFile;
+    private Matcher<Long> expectedTime;
+    private TimeUnit expectedTimeUnit;
     private BodyMatcherGroup bodyMatchers = new BodyMatcherGroup()
     private HamcrestAssertionClosure assertionClosure = new HamcrestAssertionClosure();
     private def headerAssertions = []
@@ -58,6 +68,13 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
         }
     }
 
+    /**
+     * Copy this specification so that changing this specification afterwards doesn't affect the copy.
+     */
+    ResponseSpecificationImpl copy() {
+        new ResponseSpecificationImpl(bodyRootPath, contentType, this, new ResponseParserRegistrar(rpr))
+    }
+
     def ResponseSpecification content(Matcher matcher, Matcher...additionalMatchers) {
         notNull(matcher, "matcher")
         bodyMatchers << new BodyMatcher(key: null, matcher: matcher, rpr: rpr)
@@ -160,6 +177,37 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
         return statusLine(equalTo(expectedStatusLine))
     }
 
+    def ResponseSpecification bodySize(Matcher<? super Long> expectedSize) {
+        notNull expectedSize, "expectedSize"
+        this.expectedBodySize = expectedSize
+        return this
+    }
+
+    def ResponseSpecification bodyDigest(String algorithm, Matcher<? super String> expectedDigest) {
+        notNull algorithm, "algorithm"
+        notNull expectedDigest, "expectedDigest"
+        expectedBodyDigests.put(algorithm, expectedDigest)
+        return this
+    }
+
+    def ResponseSpecification time(Matcher<? super Long> expectedTime) {
+        return time(expectedTime, TimeUnit.MILLISECONDS)
+    }
+
+    def ResponseSpecification time(Matcher<? super Long> expectedTime, TimeUnit timeUnit) {
+        notNull expectedTime, "expectedTime"
+        notNull timeUnit, "timeUnit"
+        this.expectedTime = expectedTime
+        this.expectedTimeUnit = timeUnit
+        return this
+    }
+
+    def ResponseSpecification writeBodyTo(File file) {
+        notNull file, "file"
+        this.bodyFile = file
+        return this
+    }
+
     def ResponseSpecification body(Matcher matcher, Matcher...additionalMatchers) {
         return content(matcher, additionalMatchers);
     }
@@ -198,6 +246,14 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
         return this;
     }
 
+    def AsyncRequestSender async() {
+        return requestSpecification.async()
+    }
+
+    def LoadSpecification load() {
+        return requestSpecification.load()
+    }
+
     def ResponseSpecification response() {
         return this;
     }
@@ -314,10 +370,31 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
         return bodyMatchers.containsMatchers()
     }
 
+    def boolean hasStreamedBodyAssertionsDefined() {
+        return expectedBodySize != null || !expectedBodyDigests.isEmpty() || bodyFile != null
+    }
+
+    def BodyStreamer bodyStreamer() {
+        return new BodyStreamer(expectedBodyDigests.keySet(), bodyFile)
+    }
+
+    /**
+     * @return The JSON paths of the body expectations to evaluate while the body is received or <code>null</code> if this
+     * is disabled or the expectations cannot be evaluated in that way
+     */
+    def JsonPathProjection jsonPathProjection() {
+        def responseConfig = restAssuredResponse instanceof RestAssuredResponseImpl ? restAssuredResponse.responseConfig : null
+        def keys = bodyMatchers.pathKeys()
+        if(!responseConfig?.shouldEvaluateJsonPathsWhileReceiving() || !keys) {
+            return null
+        }
+        JsonPathProjection.create(keys.collect { JSONAssertion.toPath(it) })
+    }
+
     def boolean hasAssertionsDefined() {
-        return  hasBodyAssertionsDefined() || !headerAssertions.isEmpty() ||
+        return  hasBodyAssertionsDefined() || hasStreamedBodyAssertionsDefined() || !headerAssertions.isEmpty() ||
                 !cookieAssertions.isEmpty() || expectedStatusCode != null || expectedStatusLine != null ||
-                contentType != null
+                contentType != null || expectedTime != null
     }
 
     def ResponseSpecification defaultParser(Parser parser) {
@@ -364,21 +441,27 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
 
         def getClosure() {
             return { response, content ->
-                restAssuredResponse.parseResponse( response, content, hasBodyAssertionsDefined(), rpr)
+                restAssuredResponse.parseResponse( response, content, hasBodyAssertionsDefined(), rpr,
+                        hasStreamedBodyAssertionsDefined() ? bodyStreamer() : null, jsonPathProjection())
             }
         }
         def validate(Response response) {
             if(hasAssertionsDefined()) {
                 def validations = []
                 validations.addAll(validateStatusCodeAndStatusLine(response))
+                validations.addAll(validateTime(response))
                 validations.addAll(validateHeadersAndCookies(response))
                 validations.addAll(validateContentType(response))
+                if(hasStreamedBodyAssertionsDefined()) {
+                    validations.addAll(validateStreamedBody(response))
+                }
                 if(hasBodyAssertionsDefined()) {
                     def content
                     if(requiresTextParsing()) {
-                        content = response.asString()
+                        // Expectations on the whole body read the body themselves
+                        content = bodyMatchers.keys().every { it == null } ? null : response.asString()
                     } else {
-                        content = new ContentParser().parse(response, rpr)
+                        content = new ContentParser().parse(response, rpr, bodyMatchers.keys())
                     }
                     validations.addAll(bodyMatchers.validate(response, content))
                 }
@@ -428,6 +511,44 @@ class ResponseSpecificationImpl implements FilterableResponseSpecification {
             errors
         }
 
+        private def validateTime(Response response) {
+            def errors = []
+            if (expectedTime != null) {
+                def unit = expectedTimeUnit.toString().toLowerCase()
+                def actualTime = response.getTimings().getTotalTimeIn(expectedTimeUnit)
+                if (actualTime < 0) {
+                    // E.g. a response created by a filter
+                    def errorMessage = String.format("Expected response time %s %s but the response time wasn't measured since the response wasn't received from a server.\n", expectedTime.toString(), unit)
+                    errors << [success:false, errorMessage : errorMessage];
+                } else if (!expectedTime.matches(actualTime)) {
+                    def errorMessage = String.format("Expected response time %s %s doesn't match actual response time <%s> %s.\n", expectedTime.toString(), unit, actualTime, unit)
+                    errors << [success:false, errorMessage : errorMessage];
+                }
+            }
+            errors
+        }
+
+        private def validateStreamedBody(Response response) {
+            def streamedBody = response instanceof RestAssuredResponseImpl ? response.streamedBody : null
+            if(streamedBody == null) {
+                // E.g. a response created by a filter, its body has not been streamed yet
+                streamedBody = bodyStreamer().stream(response.asInputStream())
+            }
+            def errors = []
+            if (expectedBodySize != null && !expectedBodySize.matches(streamedBody.size)) {
+                def errorMessage = String.format("Expected body size %s doesn't match actual body size <%s>.\n", expectedBodySize.toString(), streamedBody.size)
+                errors << [success:false, errorMessage : errorMessage];
+            }
+            expectedBodyDigests.each { algorithm, expectedDigest ->
+                def actualDigest = streamedBody.getDigest(algorithm)
+                if (!expectedDigest.matches(actualDigest)) {
+                    def errorMessage = String.format("Expected %s digest %s doesn't match actual digest \"%s\".\n", algorithm, expectedDigest.toString(), actualDigest)
+                    errors << [success:false, errorMessage : errorMessage];
+                }
+            }
+            errors
+        }
+
         private def validateHeadersAndCookies(Response response) {
             def validations = []
             validations.addAll(headerAssertions.collect { matcher ->
@@ -19,13 +19,22 @@ package com.jayway.restassured.internal
 import com.jayway.restassured.assertion.CookieMatcher
 import com.jayway.restassured.config.ConnectionConfig
 import com.jayway.restassured.config.ObjectMapperConfig
+import com.jayway.restassured.config.ResponseConfig
+import com.jayway.restassured.exception.ParsePathException
 import com.jayway.restassured.internal.http.CharsetExtractor
+import com.jayway.restassured.internal.http.RequestTimer
 import com.jayway.restassured.internal.mapping.ObjectMapperDeserializationContextImpl
 import com.jayway.restassured.internal.mapping.ObjectMapping
+import com.jayway.restassured.internal.path.JsonPathProjection
+import com.jayway.restassured.internal.path.UnmodifiableJsonTree
+import com.jayway.restassured.internal.support.BoundedTeeInputStream
 import com.jayway.restassured.internal.support.CloseHTTPClientConnectionInputStreamWrapper
+import com.jayway.restassured.internal.support.BodyStreamer
 import com.jayway.restassured.internal.support.Prettifier
+import com.jayway.restassured.internal.support.StreamedBody
 import com.jayway.restassured.mapper.ObjectMapper
 import com.jayway.restassured.mapper.ObjectMapperType
+import com.jayway.restassured.parsing.Parser
 import com.jayway.restassured.path.json.JsonPath
 import com.jayway.restassured.path.xml.XmlPath
 import com.jayway.restassured.path.xml.XmlPath.CompatibilityMode
@@ -59,20 +68,121 @@ class RestAssuredResponseImpl implements Response {
 
     def ObjectMapperConfig objectMapperConfig
     def ConnectionConfig connectionConfig
+    def ResponseConfig responseConfig
+    def StreamedBody streamedBody
+    def RequestTimer timer = new RequestTimer()
+    private boolean bodyStreamed
+    private long receivedBodySize = -1
+    private def projectedDocument
+    private Exception projectionFailure
+
+    private final Map<Parser, Object> parsedBodies = new EnumMap<Parser, Object>(Parser.class)
 
     public void parseResponse(httpResponse, content, hasBodyAssertions, ResponseParserRegistrar responseParserRegistrar) {
+        parseResponse(httpResponse, content, hasBodyAssertions, responseParserRegistrar, null)
+    }
+
+    /**
+     * @param bodyStreamer Streams the body while the response is received (e.g. to verify its size or digest) or <code>null</code>
+     */
+    public void parseResponse(httpResponse, content, hasBodyAssertions, ResponseParserRegistrar responseParserRegistrar, BodyStreamer bodyStreamer) {
+        parseResponse(httpResponse, content, hasBodyAssertions, responseParserRegistrar, bodyStreamer, null)
+    }
+
+    /**
+     * @param bodyStreamer Streams the body while the response is received (e.g. to verify its size or digest) or <code>null</code>
+     * @param jsonPathProjection The JSON paths of the body expectations to evaluate while the body is received (see
+     *                           {@link ResponseConfig#evaluateJsonPathsWhileReceiving(long)}) or <code>null</code>
+     */
+    public void parseResponse(httpResponse, content, hasBodyAssertions, ResponseParserRegistrar responseParserRegistrar, BodyStreamer bodyStreamer,
+                              JsonPathProjection jsonPathProjection) {
         parseHeaders(httpResponse)
         parseContentType(httpResponse)
         parseCookies()
         parseStatus(httpResponse)
-        if(hasBodyAssertions) {
+        this.rpr = responseParserRegistrar
+        this.defaultContentType = responseParserRegistrar.defaultParser?.getContentType()
+        def shouldBufferContent = hasBodyAssertions || (bodyStreamer == null && isSmallPooledBody(httpResponse))
+        if(jsonPathProjection != null && bodyStreamer == null && content instanceof InputStream &&
+                responseParserRegistrar.getParser(contentType) == Parser.JSON) {
+            projectContent(content, jsonPathProjection)
+            timer.responseBodyRead()
+            shouldBufferContent = true
+        } else if(shouldBufferContent) {
             parseContent(content)
+            timer.responseBodyRead()
+            if(bodyStreamer != null) {
+                streamedBody = bodyStreamer.stream(asInputStream())
+            }
+        } else if(bodyStreamer != null) {
+            streamedBody = bodyStreamer.stream(content)
+            timer.responseBodyRead()
+            // The body has been consumed
+            this.content = null
+            bodyStreamed = true
+            shouldBufferContent = true
+        } else if(content instanceof InputStream) {
+            // The connection is released when the stream is closed or read to the end, the same stream is returned by
+            // asInputStream() so that it can be tracked by the leak detector
+            this.content = new CloseHTTPClientConnectionInputStreamWrapper(connectionConfig, connectionManager, content)
         } else {
             this.content = content
         }
-        hasExpectations = hasBodyAssertions
-        this.rpr = responseParserRegistrar
-        this.defaultContentType = responseParserRegistrar.defaultParser?.getContentType()
+        hasExpectations = shouldBufferContent
+    }
+
+    /**
+     * A pooled connection cannot be reused until its body has been read so small bodies are read right away. Other bodies
+     * are returned as a stream which releases the connection when it's closed or read to the end.
+     */
+    private boolean isSmallPooledBody(httpResponse) {
+        def connectionPoolConfig = connectionConfig?.connectionPoolConfig()
+        if(connectionPoolConfig == null) {
+            return false
+        }
+        def contentLength = httpResponse.entity?.contentLength
+        contentLength != null && contentLength >= 0 && contentLength <= connectionPoolConfig.maxBufferedBodySize
+    }
+
+    /**
+     * @return <code>true</code> if the body has been kept as a stream that releases the connection when it's closed or read
+     * to the end.
+     */
+    boolean isBodyHandedOverAsStream() {
+        content instanceof CloseHTTPClientConnectionInputStreamWrapper
+    }
+
+    /**
+     * Parse the parts of the body that the supplied JSON paths refer to while the body is received. A copy of the body is
+     * kept unless it's larger than the max buffered JSON body size of the {@link ResponseConfig}.
+     */
+    private void projectContent(InputStream content, JsonPathProjection jsonPathProjection) {
+        def body = new BoundedTeeInputStream(content, responseConfig.maxBufferedJsonBodySize())
+        try {
+            try {
+                projectedDocument = jsonPathProjection.parse(new InputStreamReader(new BufferedInputStream(body), findCharset()))
+            } catch(Exception e) {
+                // Reported when the expectations are evaluated, like when a buffered body cannot be parsed
+                projectionFailure = e
+                drain(body)
+            }
+        } finally {
+            body.close()
+        }
+        receivedBodySize = body.count
+        if(body.overflowed) {
+            this.content = null
+            bodyStreamed = true
+        } else {
+            this.content = body.bufferedBytes
+        }
+    }
+
+    private static void drain(InputStream stream) {
+        byte[] data = new byte[16384];
+        while (stream.read(data, 0, data.length) != -1) {
+            // The rest of the body is only copied
+        }
     }
 
     def parseStatus(httpResponse) {
@@ -148,7 +258,10 @@ class RestAssuredResponseImpl implements Response {
     }
 
     InputStream asInputStream() {
-        if(content == null || content instanceof InputStream) {
+        verifyBodyNotStreamed()
+        if(content instanceof CloseHTTPClientConnectionInputStreamWrapper) {
+            content
+        } else if(content == null || content instanceof InputStream) {
             new CloseHTTPClientConnectionInputStreamWrapper(connectionConfig, connectionManager, content)
         } else {
             content instanceof String ? new ByteArrayInputStream(content.getBytes(findCharset())) : new ByteArrayInputStream(content)
@@ -156,6 +269,7 @@ class RestAssuredResponseImpl implements Response {
     }
 
     byte[] asByteArray() {
+        verifyBodyNotStreamed()
         if(content == null) {
             return new byte[0];
         }
@@ -187,7 +301,7 @@ or you can specify an explicit ObjectMapper using as($cls, <ObjectMapper>);""")
         return mapper.deserialize(ctx) as T
     }
 
-    private String findCharset() {
+    String findCharset() {
         String charset = CharsetExtractor.getCharsetFromContentType(isBlank(contentType) ? defaultContentType : contentType)
 
         if ( charset == null || charset.trim().equals("") ) {
@@ -292,6 +406,38 @@ or you can specify an explicit ObjectMapper using as($cls, <ObjectMapper>);""")
         return statusCode
     }
 
+    Timings timings() {
+        return timer
+    }
+
+    Timings getTimings() {
+        return timer
+    }
+
+    /**
+     * @return <code>true</code> if the body has been consumed by a body streamer, or evaluated by JSON path expectations and not
+     * kept, while the response was received.
+     */
+    boolean isBodyStreamed() {
+        bodyStreamed
+    }
+
+    /**
+     * @return The size of the response body in bytes, or <code>-1</code> if it's unknown since the body hasn't been read
+     * and the response has no content-length header.
+     */
+    long bodySize() {
+        if(streamedBody != null) {
+            return streamedBody.size
+        } else if(bodyStreamed) {
+            return receivedBodySize
+        } else if(hasExpectations) {
+            return content instanceof byte[] ? content.length : asByteArray().length
+        }
+        def contentLength = headers.getValue("Content-Length")
+        return contentLength != null && contentLength.isLong() ? contentLength as long : -1
+    }
+
     String getStatusLine() {
         return statusLine()
     }
@@ -309,7 +455,13 @@ or you can specify an explicit ObjectMapper using as($cls, <ObjectMapper>);""")
     }
 
     JsonPath jsonPath() {
-        new JsonPath(asInputStream())
+        def json
+        try {
+            json = parsedBody(Parser.JSON)
+        } catch(Exception e) {
+            throw new ParsePathException("Failed to parse the Object document", e)
+        }
+        new JsonPath(json)
     }
 
     XmlPath xmlPath() {
@@ -418,11 +570,83 @@ You can specify a default parser using e.g.:\nRestAssured.defaultParser = Parser
         return contentTypeToChose
     }
 
-    private def newXmlPath(CompatibilityMode xml) {
-        new XmlPath(xml, asInputStream())
+    private def newXmlPath(CompatibilityMode mode) {
+        def xml
+        try {
+            xml = parsedBody(mode == CompatibilityMode.XML ? Parser.XML : Parser.HTML)
+        } catch(Exception e) {
+            throw new ParsePathException("Failed to parse the XML document", e)
+        }
+        new XmlPath(mode, xml)
+    }
+
+    /**
+     * Parse the body with the supplied parser. The parsed document is cached so that the body is parsed at most once per
+     * parser unless caching is disabled for bodies of this size by the {@link ResponseConfig}. A JSON document is shared
+     * by all body expectations and all calls to <code>path()</code> and <code>jsonPath()</code> so it's unmodifiable.
+     *
+     * @param parser The parser to use (JSON, XML or HTML)
+     * @return The parsed document
+     */
+    def parsedBody(Parser parser) {
+        synchronized (parsedBodies) {
+            def parsedBody = parsedBodies.get(parser)
+            if(parsedBody == null) {
+                parsedBody = new ContentParser().parseBody(this, parser)
+                if(parser == Parser.JSON) {
+                    parsedBody = UnmodifiableJsonTree.of(parsedBody)
+                }
+                if(shouldCacheParsedBody()) {
+                    parsedBodies.put(parser, parsedBody)
+                }
+            }
+            parsedBody
+        }
+    }
+
+    /**
+     * @return The parts of the body that the JSON path expectations refer to if they were evaluated while the body was
+     * received, otherwise <code>null</code>
+     * @throws Exception If the body could not be parsed
+     */
+    def projectedBody() {
+        if(projectionFailure != null) {
+            throw projectionFailure
+        }
+        projectedDocument
+    }
+
+    /**
+     * @return <code>true</code> if the body has already been parsed by the supplied parser and the parsed document is cached
+     */
+    boolean hasParsedBody(Parser parser) {
+        synchronized (parsedBodies) {
+            parsedBodies.containsKey(parser)
+        }
+    }
+
+    private void verifyBodyNotStreamed() {
+        if(bodyStreamed && streamedBody == null) {
+            throw new IllegalStateException("The response body has been evaluated while it was received and it was larger than " +
+                    "${responseConfig.maxBufferedJsonBodySize()} bytes so it's no longer available.")
+        } else if(bodyStreamed) {
+            def message = "The response body has been streamed while it was received (to verify its size or digest"
+            message += streamedBody?.file != null ? " and to write it to ${streamedBody.file})" : ")"
+            throw new IllegalStateException(message + " so it's no longer available.")
+        }
+    }
+
+    private boolean shouldCacheParsedBody() {
+        if(content == null || content instanceof InputStream) {
+            // The body is streamed and can only be read once
+            return true
+        }
+        def bodySize = content instanceof byte[] ? content.length : content.length()
+        (responseConfig ?: ResponseConfig.responseConfig()).shouldCacheParsedBody(bodySize)
     }
 
     private def asString(charset) {
+        verifyBodyNotStreamed()
         if(content == null) {
             return ""
         }
@@ -34,10 +34,14 @@ class SpecificationMerger {
      *     <li>Status code</li>
      *     <li>Status line</li>
      *     <li>Fallback parser</li>
+     *     <li>Body size (if defined)</li>
+     *     <li>Body file (if defined)</li>
+     *     <li>Response time (if defined)</li>
      * </ul>
      * The following settings are merged:
      * <ul>
      *     <li>Response body expectations</li>
+     *     <li>Body digests</li>
      *     <li>Cookies</li>
      *     <li>Headers</li>
      *     <li>Response parser settings</li>
@@ -56,6 +60,17 @@ class SpecificationMerger {
         thisOne.expectedStatusCode = with.expectedStatusCode
         thisOne.expectedStatusLine = with.expectedStatusLine
         thisOne.headerAssertions.addAll(with.headerAssertions)
+        if(with.expectedBodySize != null) {
+            thisOne.expectedBodySize = with.expectedBodySize
+        }
+        thisOne.expectedBodyDigests.putAll(with.expectedBodyDigests)
+        if(with.bodyFile != null) {
+            thisOne.bodyFile = with.bodyFile
+        }
+        if(with.expectedTime != null) {
+            thisOne.expectedTime = with.expectedTime
+            thisOne.expectedTimeUnit = with.expectedTimeUnit
+        }
     }
 
     /**
@@ -95,18 +110,80 @@ class SpecificationMerger {
         thisOne.authenticationScheme = with.authenticationScheme
         thisOne.keyStoreSpec = with.keyStoreSpec
         thisOne.contentType = with.contentType
-        thisOne.headers(with.requestHeaders)
+        // Headers and cookies are immutable so they can be shared if there's nothing to merge them with
+        if(thisOne.requestHeaders.exist()) {
+            thisOne.headers(with.requestHeaders)
+        } else {
+            thisOne.requestHeaders = with.requestHeaders
+        }
         mergeSessionId(thisOne, with)
-        thisOne.cookies(with.cookies)
+        if(thisOne.cookies.exist()) {
+            thisOne.cookies(with.cookies)
+        } else {
+            thisOne.cookies = with.cookies
+        }
         thisOne.requestBody = with.requestBody
         mergeFilters(thisOne, with)
         thisOne.urlEncodingEnabled = with.urlEncodingEnabled
         thisOne.restAssuredConfig = with.restAssuredConfig
     }
 
+    /**
+     * Merge this builder with settings from a compiled request template. The settings are merged in the same way as
+     * when merging with a request specification but the immutable parts of the template (headers, cookies, filters) are
+     * shared instead of copied when this specification doesn't define any, which is the case for <code>given().spec(template)</code>.
+     * Parameters and multi-parts are only copied if the template defines any.
+     */
+    def static void merge(RequestSpecificationImpl thisOne, RequestTemplateImpl with) {
+        notNull thisOne, "Specification to merge"
+        notNull with, "Template to merge with"
+
+        def spec = with.specification
+        thisOne.port = spec.port
+        putAllIfDefined(thisOne.requestParameters, spec.requestParameters)
+        putAllIfDefined(thisOne.queryParameters, spec.queryParameters)
+        putAllIfDefined(thisOne.formParameters, spec.formParameters)
+        putAllIfDefined(thisOne.pathParameters, spec.pathParameters)
+        if(!spec.multiParts.isEmpty()) {
+            thisOne.multiParts.addAll(spec.multiParts)
+        }
+        thisOne.authenticationScheme = spec.authenticationScheme
+        thisOne.keyStoreSpec = spec.keyStoreSpec
+        thisOne.contentType = spec.contentType
+        if(thisOne.requestHeaders.exist()) {
+            thisOne.headers(spec.requestHeaders)
+        } else {
+            thisOne.requestHeaders = spec.requestHeaders
+        }
+        mergeSessionId(thisOne, spec)
+        if(thisOne.cookies.exist()) {
+            thisOne.cookies(spec.cookies)
+        } else {
+            thisOne.cookies = spec.cookies
+        }
+        thisOne.requestBody = spec.requestBody
+        if(thisOne.filters.isEmpty()) {
+            thisOne.filters.addAll(with.definedFilters)
+        } else {
+            mergeFilters(thisOne, spec)
+        }
+        thisOne.urlEncodingEnabled = spec.urlEncodingEnabled
+        thisOne.restAssuredConfig = spec.restAssuredConfig
+        thisOne.requestTemplate = with
+    }
+
+    private static void putAllIfDefined(Map thisOne, Map with) {
+        if(!with.isEmpty()) {
+            thisOne.putAll(with)
+        }
+    }
+
     private static def mergeSessionId(RequestSpecificationImpl thisOne, RequestSpecificationImpl with) {
         def thisOneConfig = thisOne.config
         def thisOneCookies = thisOne.cookies
+        if(!thisOneCookies.exist()) {
+            return
+        }
 
         def oldSessionIdName = SessionConfig.DEFAULT_SESSION_ID_NAME
         if(thisOneConfig != null) {
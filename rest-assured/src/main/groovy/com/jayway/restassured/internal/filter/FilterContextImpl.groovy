@@ -26,28 +26,45 @@ import com.jayway.restassured.specification.RequestSender
 import org.codehaus.groovy.runtime.ReflectionMethodInvoker
 
 class FilterContextImpl implements FilterContext {
-    def private Iterator<Filter> filters
+    def private List<Filter> filters
+    def private int position
     def private completePath;
     def private path;
     def private Method method;
     def assertionClosure
     def properties = [:]
 
-    FilterContextImpl(String completePath, String path, Method method, assertionClosure, List<Filter> filterList) {
-        this.filters = filterList.iterator()
+    FilterContextImpl(String completePath, String path, String pathTemplate, Method method, assertionClosure, List<Filter> filterList) {
+        this.filters = filterList
         this.completePath = completePath
         this.path = path
+        this.properties.put(REQUEST_PATH_TEMPLATE, pathTemplate)
         this.method = method
         this.assertionClosure = assertionClosure
     }
 
     Response next(FilterableRequestSpecification request, FilterableResponseSpecification response) {
-        if(filters.hasNext()) {
-            def next = filters.next();
+        if(position < filters.size()) {
+            def next = filters.get(position++);
             return next.filter(request, response, this)
         }
     }
 
+    /**
+     * @return The index of the filter that is invoked by the next call to {@link #next(FilterableRequestSpecification, FilterableResponseSpecification)}.
+     */
+    int position() {
+        position
+    }
+
+    /**
+     * Continue the filter chain from the supplied position (see {@link #position()}), e.g. to resend a request after
+     * re-authenticating.
+     */
+    void rewind(int position) {
+        this.position = position
+    }
+
     String getRequestPath() {
         path
     }
@@ -18,26 +18,88 @@ package com.jayway.restassured.internal.filter
 
 import com.jayway.restassured.authentication.FormAuthConfig
 import com.jayway.restassured.filter.FilterContext
+import com.jayway.restassured.internal.RestAssuredResponseImpl
+import com.jayway.restassured.internal.filter.FormAuthSessionCache.Session
+import com.jayway.restassured.internal.http.Method
 import com.jayway.restassured.path.xml.XmlPath
+import com.jayway.restassured.response.Cookies
 import com.jayway.restassured.response.Response
 import com.jayway.restassured.specification.FilterableRequestSpecification
 import com.jayway.restassured.specification.FilterableResponseSpecification
 import com.jayway.restassured.spi.AuthFilter
 
+import java.security.MessageDigest
+import java.util.concurrent.Callable
+import java.util.regex.Pattern
+
 import static com.jayway.restassured.RestAssured.given
+import static com.jayway.restassured.internal.http.Method.*
 import static com.jayway.restassured.path.xml.XmlPath.CompatibilityMode.HTML
 import static java.lang.String.format
 
 class FormAuthFilter implements AuthFilter {
   private static final String FIND_INPUT_TAG = "html.depthFirst().grep { it.name() == 'input' && it.@type == '%s' }.collect { it.@name }"
   private static final String FIND_FORM_ACTION = "html.depthFirst().grep { it.name() == 'form' }.get(0).@action"
+  // Used by requests without a RestAssuredConfig, i.e. requests using the static defaults of RestAssured
+  private static final FormAuthSessionCache SESSIONS_WITHOUT_CONFIG = new FormAuthSessionCache()
+  // Requests using these methods are resent after logging in again, other requests (e.g. POST) must not be sent twice
+  private static final Set<Method> IDEMPOTENT_METHODS = EnumSet.of(GET, HEAD, OPTIONS, PUT, DELETE, TRACE)
 
   def userName
   def password
   def FormAuthConfig config
+  // The sessions of the session config of the request, shared by all requests to the same server using the same credentials
+  // and form auth configuration
+  def FormAuthSessionCache sessions
 
   @Override
   Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+    // The password is only kept as a digest so that it's not held in memory for as long as the session is cached
+    def sessionKey = [requestSpec.getBaseUri(), requestSpec.getPort(), userName, sha256(password), config]
+    def login = new Callable<Session>() {
+      Session call() {
+        return FormAuthFilter.this.login(requestSpec, ctx)
+      }
+    }
+    def cache = sessions ?: SESSIONS_WITHOUT_CONFIG
+    def session = cache.get(sessionKey, login)
+    def idempotent = IDEMPOTENT_METHODS.contains(ctx.getRequestMethod())
+    if(!session.isFromLogin() && !idempotent) {
+      // A request that cannot be resent if the cached session turns out to be invalid logs in first
+      cache.invalidate(sessionKey, session)
+      session = cache.get(sessionKey, login)
+    }
+    applySession(requestSpec, session)
+    if(session.isFromLogin() || !(ctx instanceof FilterContextImpl)) {
+      return ctx.next(requestSpec, responseSpec)
+    }
+
+    def resumeAt = ctx.position()
+    def response = ctx.next(requestSpec, responseSpec)
+    if(requiresLogin(response, session, config)) {
+      // The cached session is no longer valid so the next request logs in again
+      cache.invalidate(sessionKey, session)
+      if(!idempotent) {
+        return response
+      }
+      // Log in again and resend the request
+      discardBody(response)
+      session = cache.get(sessionKey, login)
+      applySession(requestSpec, session)
+      ctx.rewind(resumeAt)
+      response = ctx.next(requestSpec, responseSpec)
+    }
+    response
+  }
+
+  /**
+   * Remove all cached sessions of requests without a RestAssuredConfig.
+   */
+  static void clearSessionsWithoutConfig() {
+    SESSIONS_WITHOUT_CONFIG.clear()
+  }
+
+  private Session login(FilterableRequestSpecification requestSpec, FilterContext ctx) {
     final String formAction;
     final String userNameInputForm;
     final String passwordInputForm;
@@ -54,11 +116,69 @@ class FormAuthFilter implements AuthFilter {
       passwordInputForm = config.getPasswordInputTagName()
     }
     final Response loginResponse = given().port(requestSpec.getPort()).with().auth().none().and().with().params(userNameInputForm, userName, passwordInputForm, password).then().post(formAction)
-    // Don't send the detailed cookies because they contain too many detail (such as Path which is a reserved token)
-    requestSpec.cookies(loginResponse.getCookies());
-    return ctx.next(requestSpec, responseSpec);
+    new Session(formAction, loginResponse.getCookies(), firstExpiryDate(loginResponse.getDetailedCookies()))
+  }
+
+  /**
+   * Replaces cookies with the same name as the session cookies. The detailed cookies aren't sent because they contain
+   * too many details (such as Path which is a reserved token).
+   */
+  private static void applySession(FilterableRequestSpecification requestSpec, Session session) {
+    session.getCookies().each { name, value -> requestSpec.sessionId(name, value) }
   }
 
+  private static String sha256(password) {
+    password == null ? null : MessageDigest.getInstance("SHA-256").digest(password.toString().getBytes("UTF-8")).encodeBase64().toString()
+  }
+
+  private static Date firstExpiryDate(Cookies cookies) {
+    cookies.collect { it.getExpiryDate() }.findAll { it != null }.min()
+  }
+
+  /**
+   * A request made with an expired session is either rejected, redirected to the login page (or the form action) or, if
+   * the redirect is followed, answered with the login page itself.
+   */
+  private static boolean requiresLogin(Response response, Session session, FormAuthConfig config) {
+    def statusCode = response.statusCode()
+    if(statusCode == 401) {
+      return true
+    } else if(statusCode >= 300 && statusCode < 400) {
+      def location = response.header("Location")
+      return location != null && (isPath(location, session.getFormAction()) || isPath(location, config?.getLoginPage()))
+    }
+    // Only inspect bodies that have already been read into memory, a streamed body can only be read once
+    def isBuffered = response instanceof RestAssuredResponseImpl && response.hasExpectations
+    return isBuffered && response.contentType()?.toLowerCase()?.contains("html") && containsLoginForm(response.asString(), session.getFormAction())
+  }
+
+  private static boolean isPath(String location, String path) {
+    if(path == null) {
+      return false
+    }
+    def locationPath
+    try {
+      locationPath = new URI(location).getPath()
+    } catch(URISyntaxException e) {
+      return false
+    }
+    // The location may include the context path of the application
+    def expectedPath = path.startsWith("/") ? path : "/" + path
+    locationPath != null && (locationPath == expectedPath || locationPath.endsWith(expectedPath))
+  }
+
+  private static boolean containsLoginForm(String body, String formAction) {
+    def action = formAction.startsWith("/") ? formAction.substring(1) : formAction
+    Pattern.compile("<form[^>]+action\\s*=\\s*[\"']?[^\"'>]*" + Pattern.quote(action), Pattern.CASE_INSENSITIVE).matcher(body).find()
+  }
+
+  private static void discardBody(Response response) {
+    try {
+      response.asByteArray()
+    } catch(Exception ignored) {
+      // The response is discarded anyway
+    }
+  }
 
   def throwIfException(Closure closure) {
     try {
@@ -67,4 +187,4 @@ class FormAuthFilter implements AuthFilter {
       throw new IllegalArgumentException("Failed to parse login page. Check for errors on the login page or specify FormAuthConfig.", e)
     }
   }
-}
\ No newline at end of file
+}
@@ -30,10 +30,14 @@ class GsonMapper implements ObjectMapper {
 
 
     def Object deserialize(ObjectMapperDeserializationContext context) {
-        def object = context.getResponse().asString()
         def cls = context.getType()
 		def gson = factory.create(cls, context.getCharset())
-		return gson.fromJson(object, cls)
+		def reader = ResponseBodyReader.toReader(context)
+		try {
+			return gson.fromJson(reader, cls)
+		} finally {
+			reader.close()
+		}
 	}
 
 	def Object serialize(ObjectMapperSerializationContext context) {
@@ -47,11 +47,15 @@ class Jackson1Mapper implements ObjectMapper {
     }
 
     def Object deserialize(ObjectMapperDeserializationContext context) {
-        def object = context.getResponse().asString()
         def cls = context.getType()
         def mapper = createJacksonObjectMapper(cls, context.getCharset())
         JavaType javaType = TypeFactory.type(cls)
-        return mapper.readValue(object, javaType)
+        def reader = ResponseBodyReader.toReader(context)
+        try {
+            return mapper.readValue(reader, javaType)
+        } finally {
+            reader.close()
+        }
     }
 
     private JsonEncoding getEncoding(String charset) {
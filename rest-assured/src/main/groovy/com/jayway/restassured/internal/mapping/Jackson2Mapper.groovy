@@ -51,11 +51,15 @@ class Jackson2Mapper implements ObjectMapper {
     }
 
     def Object deserialize(ObjectMapperDeserializationContext context) {
-        def object = context.getResponse().asString()
         def cls = context.getType()
         def mapper = createJackson2ObjectMapper(cls, context.getCharset())
         JavaType javaType = mapper.constructType(cls)
-        return mapper.readValue(object, javaType)
+        def reader = ResponseBodyReader.toReader(context)
+        try {
+            return mapper.readValue(reader, javaType)
+        } finally {
+            reader.close()
+        }
     }
 
     private JsonEncoding getEncoding(String charset) {
@@ -25,6 +25,7 @@ import javax.xml.bind.JAXBElement
 import javax.xml.bind.Marshaller
 import javax.xml.bind.Unmarshaller
 import javax.xml.bind.annotation.XmlRootElement
+import javax.xml.transform.stream.StreamSource
 
 class JaxbMapper implements ObjectMapper {
 
@@ -49,16 +50,19 @@ class JaxbMapper implements ObjectMapper {
 
 	def Object deserialize(ObjectMapperDeserializationContext context) {
         def cls = context.getType();
-        def object = context.getResponse().asString();
 		JAXBContext jaxbContext = factory.create(cls, context.getCharset())
 
 		Unmarshaller unmarshaller = jaxbContext.createUnmarshaller()
-		def reader = new StringReader(object)
-		if (cls.isAnnotationPresent(XmlRootElement.class)) {
-			return unmarshaller.unmarshal(reader)
-		} else {
-			JAXBElement jaxbElement = unmarshaller.unmarshal(reader, cls)
-			return jaxbElement.getValue()
+		def reader = ResponseBodyReader.toReader(context)
+		try {
+			if (cls.isAnnotationPresent(XmlRootElement.class)) {
+				return unmarshaller.unmarshal(reader)
+			} else {
+				JAXBElement jaxbElement = unmarshaller.unmarshal(new StreamSource(reader), cls)
+				return jaxbElement.getValue()
+			}
+		} finally {
+			reader.close()
 		}
 	}
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.mapping
+
+import com.jayway.restassured.internal.RestAssuredResponseImpl
+import com.jayway.restassured.mapper.ObjectMapperDeserializationContext
+
+import java.nio.charset.Charset
+
+/**
+ * Creates a reader for the response body of a deserialization context so that object mappers can read the body as a stream
+ * instead of first converting it to a string. This avoids having both the bytes, the string and the parsed object in memory at
+ * the same time when deserializing large bodies.
+ */
+class ResponseBodyReader {
+
+    static Reader toReader(ObjectMapperDeserializationContext context) {
+        def response = context.getResponse()
+        if(response instanceof RestAssuredResponseImpl && response.content == null) {
+            // E.g. a response without a body, the input stream of the response cannot be read
+            return new StringReader("")
+        }
+        def charset = context.getCharset() ?: Charset.defaultCharset().name()
+        new InputStreamReader(response.asInputStream(), charset)
+    }
+}
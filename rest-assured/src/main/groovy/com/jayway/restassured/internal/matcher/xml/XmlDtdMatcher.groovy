@@ -19,27 +19,31 @@ package com.jayway.restassured.internal.matcher.xml
 import org.hamcrest.BaseMatcher
 import org.hamcrest.Description
 import org.hamcrest.Matcher
-import org.w3c.dom.Document
+import org.xml.sax.EntityResolver
 import org.xml.sax.ErrorHandler
 import org.xml.sax.InputSource
 import org.xml.sax.SAXParseException
 
-import javax.xml.parsers.DocumentBuilder
-import javax.xml.parsers.DocumentBuilderFactory
-import javax.xml.transform.OutputKeys
-import javax.xml.transform.Transformer
-import javax.xml.transform.TransformerFactory
-import javax.xml.transform.dom.DOMSource
-import javax.xml.transform.stream.StreamResult
+import javax.xml.parsers.SAXParser
+import javax.xml.parsers.SAXParserFactory
 
 import static com.jayway.restassured.assertion.AssertParameter.notNull
 
 class XmlDtdMatcher extends BaseMatcher<String> {
+  private static final String DTD_SYSTEM_ID = "urn:rest-assured:dtd"
+
   def dtd
 
+  // The DTD is read once since it may be supplied as a stream, parsers are not thread-safe but can be reused by the same thread
+  private volatile byte[] dtdBytes
+  private final SAXParserFactory parserFactory
+  private final ThreadLocal<SAXParser> parsers = new ThreadLocal<SAXParser>()
+
   private XmlDtdMatcher(dtd) {
     notNull(dtd, "dtd")
     this.dtd = dtd
+    parserFactory = SAXParserFactory.newInstance()
+    parserFactory.setValidating(true)
   }
 
   public static Matcher<String> matchesDtd(String dtd) {
@@ -53,80 +57,131 @@ class XmlDtdMatcher extends BaseMatcher<String> {
 
   public static Matcher<String> matchesDtd(File dtd) {
     notNull(dtd, "file")
-    return new XmlDtdMatcher(new FileInputStream(dtd))
+    return new XmlDtdMatcher(dtd)
   }
   public static Matcher<String> matchesDtd(URL url) {
     notNull(url, "url")
-    return new XmlDtdMatcher(url.toString())
+    return new XmlDtdMatcher(url)
   }
 
+  /**
+   * Validate the supplied XML document against the DTD regardless of the document type declaration of the document.
+   * The document can be supplied as a String, a Reader or an InputStream in which case it's validated while it's read.
+   */
   @Override
   boolean matches(Object item) {
-    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-    DocumentBuilder db = factory.newDocumentBuilder();
-
-    //parse file into DOM
-    Document doc = db.parse(toInputStream(item));
-    DOMSource source = new DOMSource(doc);
-
-    //now use a transformer to add the DTD element
-    TransformerFactory tf = TransformerFactory.newInstance();
-    Transformer transformer = tf.newTransformer();
-    File file = writeToTempFile(dtd);
+    def parser = parser()
     try {
-      transformer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, file.getPath());
-      StringWriter writer = new StringWriter();
-      StreamResult result = new StreamResult(writer);
-      transformer.transform(source, result);
-
-      factory.setValidating(true);
-      db = factory.newDocumentBuilder();
-      db.setErrorHandler(new ExceptionThrowingErrorHandler());
-      db.parse(new InputSource(new StringReader(writer.toString())));
-    } finally {
-      file.delete();
+      def xmlReader = parser.getXMLReader()
+      xmlReader.setEntityResolver(new DtdResolver(dtdBytes(), systemId()))
+      xmlReader.setErrorHandler(new ExceptionThrowingErrorHandler())
+      // Refer to the supplied DTD instead of the DTD declared by the document, if any
+      xmlReader.parse(new InputSource(DoctypeReplacingReader.replaceDoctype(toReader(item), DTD_SYSTEM_ID)))
+      parser.reset()
+    } catch(Exception e) {
+      // Don't reuse a parser that may be in an inconsistent state
+      parsers.remove()
+      throw e
     }
     return true
   }
 
-  private File writeToTempFile(dtd) {
-    InputStream inputStream = getInputStream(dtd);
+  @Override
+  void describeTo(Description description) {
+    description.appendText("the supplied DTD")
+  }
 
-    //write the inputStream to a FileOutputStream
-    def file = File.createTempFile("restassured", "temp");
-    file.deleteOnExit();
-    OutputStream out = new FileOutputStream(file);
+  private SAXParser parser() {
+    def parser = parsers.get()
+    if(parser == null) {
+      synchronized (parserFactory) {
+        parser = parserFactory.newSAXParser()
+      }
+      parsers.set(parser)
+    }
+    parser
+  }
 
-    int read=0;
-    byte[] bytes = new byte[1024];
+  private byte[] dtdBytes() {
+    if(dtdBytes == null) {
+      synchronized (this) {
+        if(dtdBytes == null) {
+          dtdBytes = readFully(getInputStream(dtd))
+        }
+      }
+    }
+    dtdBytes
+  }
 
-    while((read = inputStream.read(bytes))!= -1){
-      out.write(bytes, 0, read);
+  private String systemId() {
+    if(dtd instanceof URL) {
+      return dtd.toString()
+    } else if(dtd instanceof File) {
+      return dtd.toURI().toString()
     }
+    null
+  }
 
-    inputStream.close();
-    out.flush();
-    out.close();
-    return file
+  private static byte[] readFully(InputStream inputStream) {
+    def out = new ByteArrayOutputStream()
+    try {
+      int read
+      byte[] bytes = new byte[1024];
+      while((read = inputStream.read(bytes)) != -1) {
+        out.write(bytes, 0, read);
+      }
+    } finally {
+      inputStream.close();
+    }
+    out.toByteArray()
   }
 
   private InputStream getInputStream(dtd) {
     if(dtd instanceof URL) {
       URLConnection uc = dtd.openConnection();
       return uc.getInputStream();
+    } else if(dtd instanceof File) {
+      return new FileInputStream(dtd)
     }
     dtd
   }
 
-  @Override
-  void describeTo(Description description) {
-    description.appendText("the supplied DTD")
+  private static Reader toReader(item) {
+    if(item instanceof InputStream) {
+      return DoctypeReplacingReader.decode((InputStream) item)
+    } else if(item instanceof Reader) {
+      return (Reader) item
+    }
+    new StringReader(item)
   }
 
   private static ByteArrayInputStream toInputStream(String dtd) {
     return new ByteArrayInputStream(dtd.getBytes())
   }
 
+  private static class DtdResolver implements EntityResolver {
+    private final byte[] dtd
+    private final String systemId
+
+    DtdResolver(byte[] dtd, String systemId) {
+      this.dtd = dtd
+      this.systemId = systemId
+    }
+
+    @Override
+    InputSource resolveEntity(String publicId, String systemId) {
+      systemId == DTD_SYSTEM_ID ? dtd() : null
+    }
+
+    private InputSource dtd() {
+      def source = new InputSource(new ByteArrayInputStream(dtd))
+      if(systemId != null) {
+        source.setSystemId(systemId)
+      }
+      source
+    }
+  }
+
   private static class ExceptionThrowingErrorHandler implements ErrorHandler {
     @Override
     void warning(SAXParseException exception) {
@@ -143,4 +198,4 @@ class XmlDtdMatcher extends BaseMatcher<String> {
       throw exception;
     }
   }
-}
\ No newline at end of file
+}
@@ -22,7 +22,9 @@ import org.hamcrest.Matcher
 
 import javax.xml.XMLConstants
 import javax.xml.transform.stream.StreamSource
+import javax.xml.validation.Schema
 import javax.xml.validation.SchemaFactory
+import javax.xml.validation.Validator
 
 import static com.jayway.restassured.assertion.AssertParameter.notNull
 
@@ -30,6 +32,10 @@ class XmlXsdMatcher extends BaseMatcher<String> {
 
   def xsd;
 
+  // The schema is compiled once and is thread-safe, validators are not thread-safe but cheap to create from the schema
+  private volatile Schema schema
+  private final ThreadLocal<Validator> validators = new ThreadLocal<Validator>()
+
   private XmlXsdMatcher(Object xsd) {
     notNull(xsd, "xsd")
     this.xsd = xsd
@@ -60,16 +66,54 @@ class XmlXsdMatcher extends BaseMatcher<String> {
     return new XmlXsdMatcher(url)
   }
 
+  /**
+   * Validate the supplied XML document. The document can be supplied as a String, a Reader or an InputStream in which
+   * case it's validated while it's read.
+   */
   @Override
   boolean matches(Object item) {
-    def factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
-    def schema = factory.newSchema(xsd)
-    def validator = schema.newValidator()
-    return validator.validate(new StreamSource(new StringReader(item))) == null
+    def validator = validator()
+    try {
+      validator.validate(toSource(item))
+    } catch(Exception e) {
+      // Don't reuse a validator that may be in an inconsistent state
+      validators.remove()
+      throw e
+    }
+    return true
   }
 
   @Override
   void describeTo(Description description) {
     description.appendText("the supplied XSD")
   }
+
+  private Validator validator() {
+    def validator = validators.get()
+    if(validator == null) {
+      validator = schema().newValidator()
+      validators.set(validator)
+    }
+    validator
+  }
+
+  private Schema schema() {
+    if(schema == null) {
+      synchronized (this) {
+        if(schema == null) {
+          schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(xsd)
+        }
+      }
+    }
+    schema
+  }
+
+  private static StreamSource toSource(item) {
+    if(item instanceof InputStream) {
+      return new StreamSource((InputStream) item)
+    } else if(item instanceof Reader) {
+      return new StreamSource((Reader) item)
+    }
+    new StreamSource(new StringReader(item))
+  }
 }
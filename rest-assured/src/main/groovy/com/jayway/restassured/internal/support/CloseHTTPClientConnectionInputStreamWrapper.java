@@ -26,27 +26,33 @@ public class CloseHTTPClientConnectionInputStreamWrapper extends InputStream {
     private ConnectionConfig connectionConfig;
     private final ClientConnectionManager connectionManager;
     private final InputStream wrapped;
+    private final ResponseStreamLeakDetector.TrackedStream trackedStream;
 
     public CloseHTTPClientConnectionInputStreamWrapper(ConnectionConfig connectionConfig,
                                                        ClientConnectionManager connectionManager, InputStream wrapped) {
         this.connectionConfig = connectionConfig;
         this.connectionManager = connectionManager;
         this.wrapped = wrapped;
+        if(wrapped != null && connectionConfig != null && connectionConfig.shouldDetectLeakedResponseStreams()) {
+            trackedStream = ResponseStreamLeakDetector.track(this, wrapped, connectionConfig.leakDetectionStream());
+        } else {
+            trackedStream = null;
+        }
     }
 
     @Override
     public int read() throws IOException {
-        return wrapped.read();
+        return trackEndOfStream(wrapped.read());
     }
 
     @Override
     public int read(byte[] b) throws IOException {
-        return wrapped.read(b);
+        return trackEndOfStream(wrapped.read(b));
     }
 
     @Override
     public int read(byte[] b, int off, int len) throws IOException {
-        return wrapped.read(b, off, len);
+        return trackEndOfStream(wrapped.read(b, off, len));
     }
 
     @Override
@@ -65,6 +71,9 @@ public class CloseHTTPClientConnectionInputStreamWrapper extends InputStream {
             connectionManager.closeIdleConnections(connectionConfig.closeIdleConnectionConfig().getIdleTime(),
                     connectionConfig.closeIdleConnectionConfig().getTimeUnit());
         }
+        if(trackedStream != null) {
+            trackedStream.closed();
+        }
         wrapped.close();
     }
 
@@ -82,4 +91,12 @@ public class CloseHTTPClientConnectionInputStreamWrapper extends InputStream {
     public boolean markSupported() {
         return wrapped.markSupported();
     }
+
+    private int trackEndOfStream(int read) {
+        // The connection is released when the end of the stream is reached so the stream cannot leak after that
+        if(read < 0 && trackedStream != null) {
+            trackedStream.closed();
+        }
+        return read;
+    }
 }
@@ -40,16 +40,26 @@ class Prettifier {
     }
 
     def String getPrettifiedBodyIfPossible(Response response) {
-        def contentType = response.getContentType()
         def responseAsString = response.asString()
-        if(isBlank(contentType) || !response instanceof RestAssuredResponseImpl) {
+        def parser = findParser(response)
+        if(parser == null) {
             return responseAsString
         }
+        prettify(responseAsString, parser);
+    }
+
+    /**
+     * @return The parser to use when pretty-printing the body of the response or <code>null</code> if it can't be pretty-printed.
+     */
+    def Parser findParser(Response response) {
+        def contentType = response.getContentType()
+        if(isBlank(contentType) || !(response instanceof RestAssuredResponseImpl)) {
+            return null
+        }
 
         RestAssuredResponseImpl responseImpl = response as RestAssuredResponseImpl;
         def rpr = responseImpl.getRpr();
-        def parser = rpr.getParser(contentType)
-        prettify(responseAsString, parser);
+        rpr.getParser(contentType)
     }
 
     def String prettify(String body, Parser parser) {
@@ -16,10 +16,16 @@
 package com.jayway.restassured;
 
 import com.jayway.restassured.authentication.*;
+import com.jayway.restassured.config.ConnectionConfig;
 import com.jayway.restassured.config.RestAssuredConfig;
 import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.log.AsyncLogWriter;
 import com.jayway.restassured.http.ContentType;
 import com.jayway.restassured.internal.*;
+import com.jayway.restassured.internal.filter.FormAuthFilter;
+import com.jayway.restassured.internal.filter.MetricsSummaries;
+import com.jayway.restassured.internal.http.SSLSocketFactoryCache;
+import com.jayway.restassured.internal.support.ResponseStreamLeakDetector;
 import com.jayway.restassured.mapper.ObjectMapper;
 import com.jayway.restassured.parsing.Parser;
 import com.jayway.restassured.response.Response;
@@ -108,6 +114,8 @@ import static com.jayway.restassured.config.ObjectMapperConfig.objectMapperConfi
  * <pre>
  * expect().body(hasXPath("/greeting/firstName[text()='John']")).with().parameters("firstName", "John", "lastName", "Doe").post("/greetXML");
  * </pre>
+ * <code>hasXPath</code> is imported from Hamcrest. {@link com.jayway.restassured.matcher.RestAssuredMatchers#hasCachedXPath(String)}
+ * works the same way but compiles each XPath expression only once which is faster when the same expressions are used in many tests.
  * </li>
  * <li>
  * XML response bodies can also be verified against an XML Schema (XSD) or DTD. <br>XSD example:
@@ -185,6 +193,13 @@ import static com.jayway.restassured.config.ObjectMapperConfig.objectMapperConfi
  * </pre>
  * </li>
  * <li>
+ * Response time:
+ * <pre>
+ * expect().time(lessThan(200L)). ..
+ * expect().time(lessThan(2L), TimeUnit.SECONDS). ..
+ * </pre>
+ * </li>
+ * <li>
  * REST Assured also supports mapping a request body and response body to and from a Java object using Jackson, Gson or JAXB. Usage example:
  * <pre>
  * Greeting greeting = get("/greeting").as(Greeting.class);
@@ -302,6 +317,12 @@ import static com.jayway.restassured.config.ObjectMapperConfig.objectMapperConfi
  * </pre>
  * will log/print the response body to after each request.
  * </li>
+ * <li>To record the number of requests, error rate, bytes sent and received and latency percentiles of each endpoint use the {@link com.jayway.restassured.filter.metrics.MetricsFilter}:
+ * <pre>
+ * RestAssured.filters(new MetricsFilter(System.out));
+ * </pre>
+ * A summary is printed to the supplied stream when {@link #reset()} is called and when the JVM shuts down. Requests are grouped by method and path template, e.g. <code>GET /users/{id}</code>.
+ * </li>
  * <li>
  * You can also change the default base URI, base path, port, authentication scheme, root path and filters for all subsequent requests:
  * <pre>
@@ -559,6 +580,25 @@ public class RestAssured {
         return setKeyStore(null, password);
     }
 
+    /**
+     * Get the number of TLS handshakes performed by connections using a keystore (see {@link #keystore(String, String)})
+     * or a client certificate (see {@link #certificate(String, String)}). The keystore is loaded once and shared by all requests
+     * so that connections to the same server can resume a previous TLS session instead of performing a full handshake.
+     *
+     * @return The number of TLS handshakes, including resumed sessions.
+     * @see #resumedSslHandshakeCount()
+     */
+    public static long sslHandshakeCount() {
+        return SSLSocketFactoryCache.getHandshakeCount();
+    }
+
+    /**
+     * @return The number of TLS handshakes that resumed a previous session. See {@link #sslHandshakeCount()} for more details.
+     */
+    public static long resumedSslHandshakeCount() {
+        return SSLSocketFactoryCache.getResumedHandshakeCount();
+    }
+
     /**
      * The the default filters to apply to each request.
      *
@@ -940,6 +980,12 @@ public class RestAssured {
      * <p>
      * Note that the request will be much faster if you also supply a form auth configuration.
      * </p>
+     * <p>
+     * The cookies returned when logging in are reused by subsequent requests to the same server with the same credentials
+     * until they expire or the server asks for a new login. Requests that aren't idempotent (e.g. POST) always log in first.
+     * The cached sessions are removed by {@link #reset()} or by calling
+     * {@link com.jayway.restassured.config.SessionConfig#clearFormAuthSessions()} on the session config of the request.
+     * </p>
      *
      * @param userName The user name.
      * @param password The password.
@@ -1059,13 +1105,54 @@ public class RestAssured {
         RESPONSE_PARSER_REGISTRAR.unregisterParser(contentType);
     }
 
+    /**
+     * Create a {@link RestAssuredClient} holding a snapshot of the current static defaults (base URI, port, base path, authentication,
+     * config, filters, default specifications, keystore, parsers etc). Later changes to the static defaults don't affect the client.
+     * The client uses the same connection and async settings as {@link #config} but it owns its connection pool (if connections
+     * are reused), the threads executing its asynchronous requests and its form authentication sessions so that {@link #reset()}
+     * doesn't affect requests sent by the client. Call {@link RestAssuredClient#shutdown()} when the client is no longer needed.
+     *
+     * @return A new client
+     */
+    public static RestAssuredClient newClient() {
+        final ResponseParserRegistrar responseParserRegistrar = new ResponseParserRegistrar(RESPONSE_PARSER_REGISTRAR);
+        if(defaultParser != null) {
+            responseParserRegistrar.registerDefaultParser(defaultParser);
+        }
+        RestAssuredConfig configToUse = config();
+        if(!StringUtils.equals(sessionId, DEFAULT_SESSION_ID_VALUE)) {
+            configToUse = configToUse.sessionConfig(configToUse.getSessionConfig().sessionIdValue(sessionId));
+        }
+        final ConnectionConfig connectionConfig = configToUse.getConnectionConfig();
+        if(connectionConfig.shouldReuseConnections()) {
+            configToUse = configToUse.connectionConfig(connectionConfig.reuseConnections(connectionConfig.connectionPoolConfig().withOwnPool()));
+        }
+        configToUse = configToUse.asyncConfig(configToUse.getAsyncConfig().withOwnThreads())
+                .sessionConfig(configToUse.getSessionConfig().withOwnFormAuthSessions());
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, configToUse, rootPath,
+                requestSpecification, responseSpecification, requestContentType, responseContentType, keystoreSpec, filters,
+                responseParserRegistrar);
+    }
+
     /**
      * Resets the {@link #baseURI}, {@link #basePath}, {@link #port}, {@link #authentication} and {@link #rootPath}, {@link #requestContentType(com.jayway.restassured.http.ContentType)},
      * {@link #responseContentType(com.jayway.restassured.http.ContentType)}, {@link #filters(java.util.List)}, {@link #requestSpecification}, {@link #responseSpecification}. {@link #keystore(String, String)},
      * {@link #urlEncodingEnabled} , {@link #config} and {@link #sessionId} to their default values of {@value #DEFAULT_URI}, {@value #DEFAULT_PATH}, {@value #DEFAULT_PORT}, <code>no authentication</code>, "", <code>null</code>, <code>null</code>,
-     * "empty list", <code>null</code>, <code>null</code>, <code>none</code>, <code>true</code>, <code>null</code>, <code>null</code>
+     * "empty list", <code>null</code>, <code>null</code>, <code>none</code>, <code>true</code>, <code>null</code>, <code>null</code>.
+     * If the current {@link #config} reuses connections then the connection pool is shutdown as well. The threads executing
+     * asynchronous requests and the asynchronous log writer of the current {@link #config} are also shutdown and its cached form
+     * authentication sessions are removed. Clients created by {@link #newClient()} own these resources and are not affected.
+     * Cached keystores are left untouched.
+     * Response streams that have leaked are reported if leak detection is enabled (see
+     * {@link com.jayway.restassured.config.ConnectionConfig#detectLeakedResponseStreams()}).
      */
     public static void reset() {
+        if(config != null) {
+            shutdown(config);
+        }
+        FormAuthFilter.clearSessionsWithoutConfig();
+        MetricsSummaries.printOnReset();
+        ResponseStreamLeakDetector.reportLeaks();
         baseURI = DEFAULT_URI;
         port = DEFAULT_PORT;
         basePath = DEFAULT_PATH;
@@ -1084,6 +1171,22 @@ public class RestAssured {
         sessionId = DEFAULT_SESSION_ID_VALUE;
     }
 
+    private static void shutdown(RestAssuredConfig config) {
+        if(config.getConnectionConfig().shouldReuseConnections()) {
+            config.getConnectionConfig().connectionPoolConfig().shutdown();
+        }
+        config.getAsyncConfig().shutdown();
+        config.getSessionConfig().clearFormAuthSessions();
+        final AsyncLogWriter asyncLogWriter = config.getLogConfig().asyncLogWriter();
+        if(asyncLogWriter != null) {
+            try {
+                asyncLogWriter.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     private static TestSpecificationImpl createTestSpecification() {
         if(defaultParser != null) {
             RESPONSE_PARSER_REGISTRAR.registerDefaultParser(defaultParser);
@@ -0,0 +1,673 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured;
+
+import com.jayway.restassured.authentication.AuthenticationScheme;
+import com.jayway.restassured.config.ConnectionPoolStatistics;
+import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.http.ContentType;
+import com.jayway.restassured.internal.*;
+import com.jayway.restassured.parsing.Parser;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.RequestSender;
+import com.jayway.restassured.specification.RequestSpecification;
+import com.jayway.restassured.specification.ResponseSpecification;
+import org.apache.commons.lang3.Validate;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.jayway.restassured.config.AsyncConfig.asyncConfig;
+import static com.jayway.restassured.config.ConnectionConfig.connectionConfig;
+
+/**
+ * An instance-scoped alternative to the static defaults in {@link RestAssured}. A client holds its own immutable copy of the
+ * base URI, port, base path, authentication, configuration, filters, default specifications etc. so that tests running
+ * concurrently can use different settings without interfering with each other. E.g.
+ * <pre>
+ * RestAssuredClient client = new RestAssuredClient().baseURI("http://localhost").and().port(8081).and().basePath("/api");
+ *
+ * client.given().param("name", "John").expect().body("greeting", equalTo("Hello John")).when().get("/greet");
+ * </pre>
+ * <p>
+ * Each method that changes a setting returns a new client and leaves the original client untouched. The default request and
+ * response specifications are copied when they're given to the client so changing them afterwards doesn't affect the client.
+ * Sending a request never reads or changes the static defaults in {@link RestAssured} (such as {@link RestAssured#baseURI} or
+ * {@link RestAssured#config}) so a single client can safely be shared by any number of threads and clients with different
+ * settings can be used concurrently with each other and with the static API.
+ * </p>
+ * <p>
+ * Note that all clients still share some thread-safe static state with the rest of REST Assured: the caches of compiled
+ * JSON and XML path expressions and path templates, the object mappers created by the default (caching) object mapper
+ * factories and the response stream leak detector.
+ * </p>
+ * <p>
+ * A client created with {@link #RestAssuredClient()} reuses connections from its own connection pool (see
+ * {@link com.jayway.restassured.config.ConnectionConfig#reuseConnections()}) and executes asynchronous requests using threads of
+ * its own (see {@link com.jayway.restassured.config.AsyncConfig#withOwnThreads()}). The pool and the threads are shared with the
+ * clients derived from it and they should be shutdown by calling {@link #shutdown()} when the client is no longer needed. You can
+ * take a snapshot of the current static defaults by using {@link RestAssured#newClient()}, which creates a client that owns
+ * its resources as well.
+ * </p>
+ */
+public class RestAssuredClient {
+
+    private final String baseURI;
+    private final int port;
+    private final String basePath;
+    private final boolean urlEncodingEnabled;
+    private final AuthenticationScheme authentication;
+    private final RestAssuredConfig config;
+    private final String rootPath;
+    private final RequestSpecification requestSpecification;
+    private final ResponseSpecification responseSpecification;
+    private final Object requestContentType;
+    private final Object responseContentType;
+    private final KeystoreSpec keystoreSpec;
+    private final List<Filter> filters;
+    // Never modified after construction, each request gets its own copy
+    private final ResponseParserRegistrar responseParserRegistrar;
+
+    /**
+     * Create a new client with the same default values as {@link RestAssured#reset()} except that connections are reused
+     * from a connection pool owned by this client and that asynchronous requests are executed by threads owned by this client.
+     */
+    public RestAssuredClient() {
+        this(RestAssured.DEFAULT_URI, RestAssured.DEFAULT_PORT, RestAssured.DEFAULT_PATH, RestAssured.DEFAULT_URL_ENCODING_ENABLED,
+                RestAssured.DEFAULT_AUTH, new RestAssuredConfig().connectionConfig(connectionConfig().reuseConnections())
+                        .asyncConfig(asyncConfig().withOwnThreads()),
+                RestAssured.DEFAULT_BODY_ROOT_PATH, null, null, null, null, new NoKeystoreSpecImpl(), Collections.<Filter>emptyList(),
+                new ResponseParserRegistrar());
+    }
+
+    RestAssuredClient(String baseURI, int port, String basePath, boolean urlEncodingEnabled, AuthenticationScheme authentication,
+                      RestAssuredConfig config, String rootPath, RequestSpecification requestSpecification,
+                      ResponseSpecification responseSpecification, Object requestContentType, Object responseContentType,
+                      KeystoreSpec keystoreSpec, List<Filter> filters, ResponseParserRegistrar responseParserRegistrar) {
+        Validate.notNull(baseURI, "Base URI cannot be null");
+        Validate.notNull(basePath, "Base path cannot be null");
+        Validate.notNull(authentication, "Authentication cannot be null");
+        Validate.notNull(config, "Config cannot be null");
+        Validate.notNull(rootPath, "Root path cannot be null");
+        Validate.notNull(keystoreSpec, "Keystore cannot be null");
+        Validate.notNull(filters, "Filter list cannot be null");
+        this.baseURI = baseURI;
+        this.port = port;
+        this.basePath = basePath;
+        this.urlEncodingEnabled = urlEncodingEnabled;
+        this.authentication = authentication;
+        this.config = config;
+        this.rootPath = rootPath;
+        this.requestSpecification = copy(requestSpecification);
+        this.responseSpecification = copy(responseSpecification);
+        this.requestContentType = requestContentType;
+        this.responseContentType = responseContentType;
+        this.keystoreSpec = keystoreSpec;
+        this.filters = Collections.unmodifiableList(new ArrayList<Filter>(filters));
+        this.responseParserRegistrar = new ResponseParserRegistrar(responseParserRegistrar);
+    }
+
+    /**
+     * Start building the request part of the test specification.
+     *
+     * @return A request specification.
+     * @see RestAssured#given()
+     */
+    public RequestSpecification given() {
+        return createTestSpecification().getRequestSpecification();
+    }
+
+    /**
+     * Start building the request part of the test specification. The only difference between {@link #with()} and {@link #given()} is syntactical.
+     *
+     * @return A request specification.
+     * @see RestAssured#with()
+     */
+    public RequestSpecification with() {
+        return given();
+    }
+
+    /**
+     * Start building the response part of the test specification.
+     *
+     * @return A response specification.
+     * @see RestAssured#expect()
+     */
+    public ResponseSpecification expect() {
+        return createTestSpecification().getResponseSpecification();
+    }
+
+    /**
+     * Send a request defined by the supplied request and response specifications.
+     *
+     * @return A test specification.
+     * @see RestAssured#given(RequestSpecification, ResponseSpecification)
+     */
+    public RequestSender given(RequestSpecification requestSpecification, ResponseSpecification responseSpecification) {
+        return new TestSpecificationImpl(requestSpecification, responseSpecification);
+    }
+
+    /**
+     * Perform a GET request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the GET request.
+     */
+    public Response get(String path, Object... pathParams) {
+        return given().get(path, pathParams);
+    }
+
+    /**
+     * Perform a GET request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the GET request.
+     */
+    public Response get(String path, Map<String, ?> pathParams) {
+        return given().get(path, pathParams);
+    }
+
+    /**
+     * Perform a POST request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response post(String path, Object... pathParams) {
+        return given().post(path, pathParams);
+    }
+
+    /**
+     * Perform a POST request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response post(String path, Map<String, ?> pathParams) {
+        return given().post(path, pathParams);
+    }
+
+    /**
+     * Perform a PUT request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response put(String path, Object... pathParams) {
+        return given().put(path, pathParams);
+    }
+
+    /**
+     * Perform a PUT request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response put(String path, Map<String, ?> pathParams) {
+        return given().put(path, pathParams);
+    }
+
+    /**
+     * Perform a DELETE request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response delete(String path, Object... pathParams) {
+        return given().delete(path, pathParams);
+    }
+
+    /**
+     * Perform a DELETE request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response delete(String path, Map<String, ?> pathParams) {
+        return given().delete(path, pathParams);
+    }
+
+    /**
+     * Perform a HEAD request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response head(String path, Object... pathParams) {
+        return given().head(path, pathParams);
+    }
+
+    /**
+     * Perform a HEAD request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response head(String path, Map<String, ?> pathParams) {
+        return given().head(path, pathParams);
+    }
+
+    /**
+     * Perform a PATCH request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response patch(String path, Object... pathParams) {
+        return given().patch(path, pathParams);
+    }
+
+    /**
+     * Perform a PATCH request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response patch(String path, Map<String, ?> pathParams) {
+        return given().patch(path, pathParams);
+    }
+
+    /**
+     * Perform a OPTIONS request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response options(String path, Object... pathParams) {
+        return given().options(path, pathParams);
+    }
+
+    /**
+     * Perform a OPTIONS request to a <code>path</code>.
+     *
+     * @param path       The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return The response of the request.
+     */
+    public Response options(String path, Map<String, ?> pathParams) {
+        return given().options(path, pathParams);
+    }
+
+    /**
+     * @param baseURI The base URI, e.g. <tt>http://localhost</tt>
+     * @return A new client with the updated base URI
+     * @see RestAssured#baseURI
+     */
+    public RestAssuredClient baseURI(String baseURI) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    /**
+     * @param port The port
+     * @return A new client with the updated port
+     * @see RestAssured#port
+     */
+    public RestAssuredClient port(int port) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    /**
+     * @param basePath The base path that is prepended to all paths
+     * @return A new client with the updated base path
+     * @see RestAssured#basePath
+     */
+    public RestAssuredClient basePath(String basePath) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    /**
+     * @param urlEncodingEnabled Whether or not to URL encode the request URI and parameters
+     * @return A new client with the updated setting
+     * @see RestAssured#urlEncodingEnabled
+     */
+    public RestAssuredClient urlEncodingEnabled(boolean urlEncodingEnabled) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    /**
+     * @param authentication The authentication scheme to use for each request, e.g. <code>RestAssured.basic("user", "password")</code>
+     * @return A new client with the updated authentication scheme
+     * @see RestAssured#authentication
+     */
+    public RestAssuredClient authentication(AuthenticationScheme authentication) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    /**
+     * Use another configuration. Note that connections are only reused from a pool if the supplied configuration is set up to
+     * reuse connections.
+     *
+     * @param config The configuration
+     * @return A new client with the updated configuration
+     * @see RestAssured#config
+     */
+    public RestAssuredClient config(RestAssuredConfig config) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    /**
+     * @param rootPath The default root path of the response body
+     * @return A new client with the updated root path
+     * @see RestAssured#rootPath
+     */
+    public RestAssuredClient rootPath(String rootPath) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    /**
+     * @param requestSpecification A request specification that is merged into each request. The client uses a copy of it.
+     * @return A new client with the updated default request specification
+     * @see RestAssured#requestSpecification
+     */
+    public RestAssuredClient requestSpecification(RequestSpecification requestSpecification) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    /**
+     * @param responseSpecification A response specification that is merged into each request. The client uses a copy of it.
+     * @return A new client with the updated default response specification
+     * @see RestAssured#responseSpecification
+     */
+    public RestAssuredClient responseSpecification(ResponseSpecification responseSpecification) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    /**
+     * @param contentType The default content type of the request
+     * @return A new client with the updated request content type
+     * @see RestAssured#requestContentType(ContentType)
+     */
+    public RestAssuredClient requestContentType(ContentType contentType) {
+        Validate.notNull(contentType, "Content-Type cannot be null");
+        return requestContentTypeAsObject(contentType);
+    }
+
+    /**
+     * @param contentType The default content type of the request
+     * @return A new client with the updated request content type
+     * @see RestAssured#requestContentType(String)
+     */
+    public RestAssuredClient requestContentType(String contentType) {
+        Validate.notNull(contentType, "Content-Type cannot be null");
+        return requestContentTypeAsObject(contentType);
+    }
+
+    /**
+     * @param contentType The expected content type of the response
+     * @return A new client with the updated response content type
+     * @see RestAssured#responseContentType(ContentType)
+     */
+    public RestAssuredClient responseContentType(ContentType contentType) {
+        Validate.notNull(contentType, "Content-Type cannot be null");
+        return responseContentTypeAsObject(contentType);
+    }
+
+    /**
+     * @param contentType The expected content type of the response
+     * @return A new client with the updated response content type
+     * @see RestAssured#responseContentType(String)
+     */
+    public RestAssuredClient responseContentType(String contentType) {
+        Validate.notNull(contentType, "Content-Type cannot be null");
+        return responseContentTypeAsObject(contentType);
+    }
+
+    /**
+     * Use a keystore located in the classpath or on the file-system.
+     *
+     * @param pathToJks The path to the JKS. The classpath is searched first and then the file-system
+     * @param password  The store pass
+     * @return A new client with the updated keystore
+     * @see RestAssured#keystore(String, String)
+     */
+    public RestAssuredClient keystore(String pathToJks, String password) {
+        Validate.notEmpty(password, "Password cannot be empty");
+        return keystore((Object) pathToJks, password);
+    }
+
+    /**
+     * Use a keystore located on the file-system.
+     *
+     * @param pathToJks The path to JKS file on the file-system
+     * @param password  The password for the keystore
+     * @return A new client with the updated keystore
+     * @see RestAssured#keystore(File, String)
+     */
+    public RestAssuredClient keystore(File pathToJks, String password) {
+        Validate.notNull(pathToJks, "Path to JKS on the file system cannot be null");
+        return keystore((Object) pathToJks, password);
+    }
+
+    /**
+     * Add filters that are applied to each request.
+     *
+     * @param filters The filters to add
+     * @return A new client with the added filters
+     * @see RestAssured#filters(java.util.List)
+     */
+    public RestAssuredClient filters(List<Filter> filters) {
+        Validate.notNull(filters, "Filter list cannot be null");
+        final List<Filter> newFilters = new ArrayList<Filter>(this.filters);
+        newFilters.addAll(filters);
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, newFilters, responseParserRegistrar);
+    }
+
+    /**
+     * Add filters that are applied to each request.
+     *
+     * @param filter            The filter to add
+     * @param additionalFilters An optional array of additional filters to add
+     * @return A new client with the added filters
+     * @see RestAssured#filters(Filter, Filter...)
+     */
+    public RestAssuredClient filters(Filter filter, Filter... additionalFilters) {
+        Validate.notNull(filter, "Filter cannot be null");
+        final List<Filter> newFilters = new ArrayList<Filter>();
+        newFilters.add(filter);
+        if (additionalFilters != null) {
+            Collections.addAll(newFilters, additionalFilters);
+        }
+        return filters(newFilters);
+    }
+
+    /**
+     * @return The filters applied to each request
+     */
+    public List<Filter> filters() {
+        return filters;
+    }
+
+    /**
+     * Set the session id value that is sent with each request.
+     *
+     * @param sessionId The session id value
+     * @return A new client with the updated session configuration
+     * @see RestAssured#sessionId
+     */
+    public RestAssuredClient sessionId(String sessionId) {
+        return config(config.sessionConfig(config.getSessionConfig().sessionIdValue(sessionId)));
+    }
+
+    /**
+     * Use the supplied parser if the response content-type doesn't match any pre-registered or custom registered parsers.
+     *
+     * @param parser The default parser
+     * @return A new client with the updated default parser
+     * @see RestAssured#defaultParser
+     */
+    public RestAssuredClient defaultParser(Parser parser) {
+        final ResponseParserRegistrar registrar = new ResponseParserRegistrar(responseParserRegistrar);
+        registrar.registerDefaultParser(parser);
+        return responseParserRegistrar(registrar);
+    }
+
+    /**
+     * Parse responses with the supplied content-type using a predefined parser.
+     *
+     * @param contentType The content-type to register
+     * @param parser      The parser to use when verifying the response.
+     * @return A new client with the registered parser
+     * @see RestAssured#registerParser(String, Parser)
+     */
+    public RestAssuredClient registerParser(String contentType, Parser parser) {
+        final ResponseParserRegistrar registrar = new ResponseParserRegistrar(responseParserRegistrar);
+        registrar.registerParser(contentType, parser);
+        return responseParserRegistrar(registrar);
+    }
+
+    /**
+     * Unregister the parser associated with the provided content-type
+     *
+     * @param contentType The content-type associated with the parser to unregister.
+     * @return A new client without the parser
+     * @see RestAssured#unregisterParser(String)
+     */
+    public RestAssuredClient unregisterParser(String contentType) {
+        final ResponseParserRegistrar registrar = new ResponseParserRegistrar(responseParserRegistrar);
+        registrar.unregisterParser(contentType);
+        return responseParserRegistrar(registrar);
+    }
+
+    /**
+     * Syntactic sugar.
+     *
+     * @return The same client instance.
+     */
+    public RestAssuredClient and() {
+        return this;
+    }
+
+    /**
+     * @return The base URI
+     */
+    public String baseURI() {
+        return baseURI;
+    }
+
+    /**
+     * @return The port
+     */
+    public int port() {
+        return port;
+    }
+
+    /**
+     * @return The base path
+     */
+    public String basePath() {
+        return basePath;
+    }
+
+    /**
+     * @return The configuration used for each request
+     */
+    public RestAssuredConfig config() {
+        return config;
+    }
+
+    /**
+     * Get a snapshot of the statistics of the connection pool used by this client, e.g. the number of leased, available and
+     * pending connections per route and the time requests have waited for a connection.
+     *
+     * @return The statistics of the connection pool or <code>null</code> if this client doesn't reuse connections
+     * @see com.jayway.restassured.config.ConnectionConfig.ConnectionPoolConfig#getStatistics()
+     */
+    public ConnectionPoolStatistics connectionPoolStatistics() {
+        return config.getConnectionConfig().shouldReuseConnections() ? config.getConnectionConfig().connectionPoolConfig().getStatistics() : null;
+    }
+
+    /**
+     * Close the connection pool used by this client (if any) and shutdown the threads executing its asynchronous requests.
+     * Note that the pool and the threads are shared by all clients derived from this client and by all other users of the same
+     * {@link com.jayway.restassured.config.ConnectionConfig} and {@link com.jayway.restassured.config.AsyncConfig}. A new pool
+     * and new threads are created if a request is made after the client has been shutdown.
+     */
+    public void shutdown() {
+        if (config.getConnectionConfig().shouldReuseConnections()) {
+            config.getConnectionConfig().connectionPoolConfig().shutdown();
+        }
+        config.getAsyncConfig().shutdown();
+    }
+
+    private TestSpecificationImpl createTestSpecification() {
+        return new TestSpecificationImpl(
+                new RequestSpecificationImpl(baseURI, port, basePath, authentication, filters, keystoreSpec,
+                        requestContentType, requestSpecification, urlEncodingEnabled, config),
+                new ResponseSpecificationImpl(rootPath, responseContentType, responseSpecification,
+                        new ResponseParserRegistrar(responseParserRegistrar)));
+    }
+
+    private static RequestSpecification copy(RequestSpecification requestSpecification) {
+        return requestSpecification instanceof RequestSpecificationImpl ?
+                ((RequestSpecificationImpl) requestSpecification).copyRequestSpecification() : requestSpecification;
+    }
+
+    private static ResponseSpecification copy(ResponseSpecification responseSpecification) {
+        return responseSpecification instanceof ResponseSpecificationImpl ?
+                ((ResponseSpecificationImpl) responseSpecification).copy() : responseSpecification;
+    }
+
+    private RestAssuredClient requestContentTypeAsObject(Object requestContentType) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    private RestAssuredClient responseContentTypeAsObject(Object responseContentType) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+
+    private RestAssuredClient keystore(Object pathToJks, String password) {
+        final KeystoreSpecImpl spec = new KeystoreSpecImpl();
+        spec.setPath(pathToJks);
+        spec.setPassword(password);
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, spec, filters, responseParserRegistrar);
+    }
+
+    private RestAssuredClient responseParserRegistrar(ResponseParserRegistrar responseParserRegistrar) {
+        return new RestAssuredClient(baseURI, port, basePath, urlEncodingEnabled, authentication, config, rootPath, requestSpecification,
+                responseSpecification, requestContentType, responseContentType, keystoreSpec, filters, responseParserRegistrar);
+    }
+}
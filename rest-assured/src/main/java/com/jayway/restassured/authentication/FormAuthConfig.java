@@ -26,6 +26,7 @@ public class FormAuthConfig {
     private final String formAction;
     private final String userInputTagName;
     private final String passwordInputTagName;
+    private final String loginPage;
 
     /**
      * Create a form auth config with a pre-defined form action, username input tag, password input tag.
@@ -52,19 +53,37 @@ public class FormAuthConfig {
      * @param passwordInputTagName The name of the password input tag in the login form
      */
     public FormAuthConfig(String formAction, String userNameInputTagName, String passwordInputTagName) {
+        this(formAction, userNameInputTagName, passwordInputTagName, null);
+    }
+
+    private FormAuthConfig(String formAction, String userNameInputTagName, String passwordInputTagName, String loginPage) {
         notNull(formAction, "Form action");
         notNull(userNameInputTagName, "User input tag name");
         notNull(passwordInputTagName, "Password input tag name");
         this.formAction = formAction;
         this.userInputTagName = userNameInputTagName;
         this.passwordInputTagName = passwordInputTagName;
+        this.loginPage = loginPage;
+    }
+
+    /**
+     * Set the path of the login page, e.g. <code>/login.jsp</code>. A request that is redirected to the login page or to the
+     * form action is assumed to have been made with an expired session. REST Assured then logs in again and resends the
+     * request unless it's not idempotent (e.g. a POST).
+     *
+     * @param loginPage The path of the login page
+     * @return A new FormAuthConfig instance with the updated configuration
+     */
+    public FormAuthConfig loginPage(String loginPage) {
+        notNull(loginPage, "Login page");
+        return new FormAuthConfig(formAction, userInputTagName, passwordInputTagName, loginPage);
     }
 
     /**
      * @return A predefined form authentication config for default Spring Security configuration (tested in version 3.0.5).
      */
     public static FormAuthConfig springSecurity() {
-        return new FormAuthConfig("/j_spring_security_check", "j_username", "j_password");
+        return new FormAuthConfig("/j_spring_security_check", "j_username", "j_password", "/spring_security_login");
     }
 
     public String getFormAction() {
@@ -78,4 +97,35 @@ public class FormAuthConfig {
     public String getPasswordInputTagName() {
         return passwordInputTagName;
     }
+
+    /**
+     * @return The path of the login page or <code>null</code> if not configured.
+     */
+    public String getLoginPage() {
+        return loginPage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        FormAuthConfig that = (FormAuthConfig) o;
+
+        if (!formAction.equals(that.formAction)) return false;
+        if (!userInputTagName.equals(that.userInputTagName)) return false;
+        if (!passwordInputTagName.equals(that.passwordInputTagName)) return false;
+        if (loginPage != null ? !loginPage.equals(that.loginPage) : that.loginPage != null) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = formAction.hashCode();
+        result = 31 * result + userInputTagName.hashCode();
+        result = 31 * result + passwordInputTagName.hashCode();
+        result = 31 * result + (loginPage != null ? loginPage.hashCode() : 0);
+        return result;
+    }
 }
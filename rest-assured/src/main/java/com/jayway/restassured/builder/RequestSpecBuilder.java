@@ -21,12 +21,14 @@ import com.jayway.restassured.config.RestAssuredConfig;
 import com.jayway.restassured.filter.Filter;
 import com.jayway.restassured.http.ContentType;
 import com.jayway.restassured.internal.RequestSpecificationImpl;
+import com.jayway.restassured.internal.RequestTemplateImpl;
 import com.jayway.restassured.internal.SpecificationMerger;
 import com.jayway.restassured.mapper.ObjectMapper;
 import com.jayway.restassured.mapper.ObjectMapperType;
 import com.jayway.restassured.response.Cookie;
 import com.jayway.restassured.response.Cookies;
 import com.jayway.restassured.specification.RequestSpecification;
+import com.jayway.restassured.specification.RequestTemplate;
 
 import java.io.File;
 import java.io.InputStream;
@@ -1057,4 +1059,16 @@ public class RequestSpecBuilder {
     public RequestSpecification build() {
         return spec;
     }
+
+    /**
+     * Compile the request specification into an immutable request template. The template is a copy of the specification
+     * so changes made to this builder afterwards don't affect it. The header values, the Cookie header, the HTTP client
+     * parameters and the target URI are resolved once instead of for each request that uses the specification returned by
+     * {@link #build()}. Use it with {@link RequestSpecification#spec(RequestTemplate)}.
+     *
+     * @return The compiled request template
+     */
+    public RequestTemplate compile() {
+        return new RequestTemplateImpl((RequestSpecificationImpl) spec);
+    }
 }
@@ -50,6 +50,8 @@ public class ResponseBuilder {
             restAssuredResponse.setConnectionManager(raResponse.getConnectionManager());
             restAssuredResponse.setObjectMapperConfig(raResponse.getObjectMapperConfig());
             restAssuredResponse.setConnectionConfig(raResponse.getConnectionConfig());
+            restAssuredResponse.setResponseConfig(raResponse.getResponseConfig());
+            restAssuredResponse.setStreamedBody(raResponse.getStreamedBody());
             restAssuredResponse.setRpr(raResponse.getRpr());
         } else {
             restAssuredResponse.setContent(response.asInputStream());
@@ -70,6 +72,7 @@ public class ResponseBuilder {
     public ResponseBuilder setBody(String stringBody) {
         notNull(stringBody, "Response body");
         restAssuredResponse.setContent(stringBody);
+        restAssuredResponse.setStreamedBody(null);
         return this;
     }
 
@@ -82,6 +85,7 @@ public class ResponseBuilder {
     public ResponseBuilder setBody(InputStream inputStream) {
         notNull(inputStream, "Response body");
         restAssuredResponse.setContent(inputStream);
+        restAssuredResponse.setStreamedBody(null);
         return this;
     }
 
@@ -93,6 +97,7 @@ public class ResponseBuilder {
     public ResponseBuilder setBody(byte[] bytes) {
         notNull(bytes, "Response body");
         restAssuredResponse.setContent(bytes);
+        restAssuredResponse.setStreamedBody(null);
         return this;
     }
 
@@ -29,6 +29,7 @@ import org.hamcrest.Matcher;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static com.jayway.restassured.RestAssured.*;
 
@@ -169,6 +170,56 @@ public class ResponseSpecBuilder {
         return this;
     }
 
+    /**
+     * Expect that the size of the response body in bytes matches the given Hamcrest matcher.
+     *
+     * @param expectedSize The expected body size matcher.
+     * @return The builder
+     * @see ResponseSpecification#bodySize(Matcher)
+     */
+    public ResponseSpecBuilder expectBodySize(Matcher<? super Long> expectedSize) {
+        spec.bodySize(expectedSize);
+        return this;
+    }
+
+    /**
+     * Expect that the digest of the response body matches the given Hamcrest matcher.
+     *
+     * @param algorithm      The digest algorithm, e.g. <code>MD5</code> or <code>SHA-256</code>.
+     * @param expectedDigest The expected digest matcher. The digest is a lower-case hex string.
+     * @return The builder
+     * @see ResponseSpecification#bodyDigest(String, Matcher)
+     */
+    public ResponseSpecBuilder expectBodyDigest(String algorithm, Matcher<? super String> expectedDigest) {
+        spec.bodyDigest(algorithm, expectedDigest);
+        return this;
+    }
+
+    /**
+     * Expect that the response time in milliseconds matches the given Hamcrest matcher.
+     *
+     * @param expectedTime The expected response time matcher.
+     * @return The builder
+     * @see ResponseSpecification#time(Matcher)
+     */
+    public ResponseSpecBuilder expectTime(Matcher<? super Long> expectedTime) {
+        spec.time(expectedTime);
+        return this;
+    }
+
+    /**
+     * Expect that the response time in the given time unit matches the given Hamcrest matcher.
+     *
+     * @param expectedTime The expected response time matcher.
+     * @param timeUnit     The time unit of the response time that is matched.
+     * @return The builder
+     * @see ResponseSpecification#time(Matcher, TimeUnit)
+     */
+    public ResponseSpecBuilder expectTime(Matcher<? super Long> expectedTime, TimeUnit timeUnit) {
+        spec.time(expectedTime, timeUnit);
+        return this;
+    }
+
     /**
      * Expect that the response status line matches the given String.
      *
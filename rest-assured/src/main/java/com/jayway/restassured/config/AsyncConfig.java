@@ -0,0 +1,299 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.config;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configure how asynchronous requests (see {@link com.jayway.restassured.specification.RequestSpecification#async()}) are executed.
+ * Asynchronous requests are executed by a bounded pool of at most {@link #maxConcurrentRequests()} threads. At most
+ * {@link #maxPendingRequests()} requests can be executing or waiting to be executed at the same time. When this limit is reached
+ * the thread sending a new asynchronous request blocks until a previous request has completed.
+ * <p>
+ * Usage example:
+ * <pre>
+ * RestAssured.config = config().asyncConfig(asyncConfig().maxConcurrentRequests(50).and().maxPendingRequests(500));
+ * </pre>
+ * Each request is executed on its own HTTP connection unless connections are reused from a shared connection pool
+ * (see {@link ConnectionConfig#reuseConnections(int, int)}) so you most likely want to use both settings together.
+ * </p>
+ * <p>
+ * The threads are daemon threads that are created lazily. They're shared by all configurations with the same settings and are
+ * shutdown when calling {@link #shutdown()}, or {@link com.jayway.restassured.RestAssured#reset()} if this is the configuration
+ * of {@link com.jayway.restassured.RestAssured#config}. Requests that are submitted after the threads have been shutdown are
+ * executed by new threads. Use {@link #withOwnThreads()} to get a configuration whose threads aren't shared with any other
+ * configuration.
+ * </p>
+ */
+public class AsyncConfig {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 20;
+    public static final int DEFAULT_MAX_PENDING_REQUESTS = 1000;
+
+    // Shared by all configurations using the same settings so that a new or replaced configuration doesn't create new threads
+    private static final Map<String, RequestExecutor> REQUEST_EXECUTORS = new HashMap<String, RequestExecutor>();
+
+    private final int maxConcurrentRequests;
+    private final int maxPendingRequests;
+    // Looked up when the first request is submitted so that creating a configuration doesn't contend for the shared executors
+    private volatile RequestExecutor requestExecutor;
+
+    /**
+     * Create a new async configuration with at most {@value #DEFAULT_MAX_CONCURRENT_REQUESTS} concurrent requests and
+     * at most {@value #DEFAULT_MAX_PENDING_REQUESTS} pending requests.
+     */
+    public AsyncConfig() {
+        this(DEFAULT_MAX_CONCURRENT_REQUESTS, DEFAULT_MAX_PENDING_REQUESTS);
+    }
+
+    /**
+     * Create a new async configuration.
+     *
+     * @param maxConcurrentRequests The maximum number of requests that are executed concurrently.
+     * @param maxPendingRequests    The maximum number of requests that are either executing or waiting to be executed.
+     *                              Must be greater than or equal to <code>maxConcurrentRequests</code>.
+     */
+    public AsyncConfig(int maxConcurrentRequests, int maxPendingRequests) {
+        Validate.isTrue(maxConcurrentRequests > 0, "Max concurrent requests must be greater than 0.");
+        Validate.isTrue(maxPendingRequests >= maxConcurrentRequests, "Max pending requests must be greater than or equal to max concurrent requests.");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxPendingRequests = maxPendingRequests;
+    }
+
+    private AsyncConfig(int maxConcurrentRequests, int maxPendingRequests, RequestExecutor requestExecutor) {
+        this(maxConcurrentRequests, maxPendingRequests);
+        this.requestExecutor = requestExecutor;
+    }
+
+    /**
+     * Set the maximum number of requests that are executed concurrently.
+     *
+     * @param maxConcurrentRequests The maximum number of requests that are executed concurrently.
+     * @return A new AsyncConfig instance with the updated configuration
+     */
+    public AsyncConfig maxConcurrentRequests(int maxConcurrentRequests) {
+        return new AsyncConfig(maxConcurrentRequests, Math.max(maxConcurrentRequests, maxPendingRequests()));
+    }
+
+    /**
+     * Set the maximum number of requests that are either executing or waiting to be executed. When this limit is reached
+     * the thread sending an asynchronous request blocks until a previous request has completed.
+     *
+     * @param maxPendingRequests The maximum number of pending requests.
+     * @return A new AsyncConfig instance with the updated configuration
+     */
+    public AsyncConfig maxPendingRequests(int maxPendingRequests) {
+        return new AsyncConfig(maxConcurrentRequests(), maxPendingRequests);
+    }
+
+    /**
+     * Execute the requests using threads that aren't shared with any other configuration so that calling {@link #shutdown()}
+     * doesn't affect other configurations with the same settings.
+     *
+     * @return A new AsyncConfig instance with the same settings and threads of its own
+     */
+    public AsyncConfig withOwnThreads() {
+        return new AsyncConfig(maxConcurrentRequests, maxPendingRequests, new RequestExecutor(maxConcurrentRequests, maxPendingRequests));
+    }
+
+    /**
+     * @return The maximum number of requests that are executed concurrently.
+     */
+    public int maxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * @return The maximum number of requests that are either executing or waiting to be executed.
+     */
+    public int maxPendingRequests() {
+        return maxPendingRequests;
+    }
+
+    /**
+     * Submit a request for asynchronous execution. Blocks if {@link #maxPendingRequests()} requests are already pending.
+     *
+     * @param request The request to execute
+     * @return A future holding the result of the request
+     */
+    public <T> Future<T> submit(Callable<T> request) {
+        Validate.notNull(request, "Request cannot be null");
+        return requestExecutor().submit(request, null);
+    }
+
+    /**
+     * Submit a request for asynchronous execution and notify the supplied listener when it has completed, i.e. when the
+     * request has returned, has failed or has been cancelled. Blocks if {@link #maxPendingRequests()} requests are already pending.
+     *
+     * @param request  The request to execute
+     * @param listener The listener to notify when the request has completed. It's notified by the thread that executed the
+     *                 request, or by the thread that cancelled it, so it should return quickly and not throw any exceptions.
+     * @return A future holding the result of the request
+     */
+    public <T> Future<T> submit(Callable<T> request, CompletionListener<T> listener) {
+        Validate.notNull(request, "Request cannot be null");
+        Validate.notNull(listener, "Listener cannot be null");
+        return requestExecutor().submit(request, listener);
+    }
+
+    /**
+     * Shutdown the threads executing asynchronous requests. Requests that are already pending are still executed. New threads
+     * are created if more asynchronous requests are made using this configuration. Note that the threads are shared by all
+     * configurations with the same settings unless they were created by {@link #withOwnThreads()}.
+     */
+    public void shutdown() {
+        requestExecutor().shutdown();
+    }
+
+    /**
+     * Shutdown the threads executing asynchronous requests of all configurations that share their threads.
+     *
+     * @see #shutdown()
+     */
+    public static void shutdownAll() {
+        final List<RequestExecutor> requestExecutors;
+        synchronized (REQUEST_EXECUTORS) {
+            requestExecutors = new ArrayList<RequestExecutor>(REQUEST_EXECUTORS.values());
+        }
+        for (RequestExecutor requestExecutor : requestExecutors) {
+            requestExecutor.shutdown();
+        }
+    }
+
+    /**
+     * @return A static way to create a new AsyncConfig instance without calling "new" explicitly. Mainly for syntactic sugar.
+     */
+    public static AsyncConfig asyncConfig() {
+        return new AsyncConfig();
+    }
+
+    /**
+     * Syntactic sugar.
+     *
+     * @return The same async config instance.
+     */
+    public AsyncConfig and() {
+        return this;
+    }
+
+    private RequestExecutor requestExecutor() {
+        RequestExecutor current = requestExecutor;
+        if (current == null) {
+            final String key = maxConcurrentRequests + ":" + maxPendingRequests;
+            synchronized (REQUEST_EXECUTORS) {
+                current = REQUEST_EXECUTORS.get(key);
+                if (current == null) {
+                    current = new RequestExecutor(maxConcurrentRequests, maxPendingRequests);
+                    REQUEST_EXECUTORS.put(key, current);
+                }
+            }
+            requestExecutor = current;
+        }
+        return current;
+    }
+
+    private static class RequestExecutor {
+        private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+        private final int maxConcurrentRequests;
+        private final Semaphore pendingRequests;
+        private ExecutorService executor;
+
+        RequestExecutor(int maxConcurrentRequests, int maxPendingRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            this.pendingRequests = new Semaphore(maxPendingRequests);
+        }
+
+        <T> Future<T> submit(final Callable<T> request, final CompletionListener<T> listener) {
+            try {
+                pendingRequests.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a pending request to complete.", e);
+            }
+            // The permit is released when the future is done, i.e. also when it's cancelled before the request is executed
+            final FutureTask<T> task = new FutureTask<T>(request) {
+                @Override
+                protected void done() {
+                    pendingRequests.release();
+                    if (listener != null) {
+                        listener.completed(this);
+                    }
+                }
+            };
+            try {
+                execute(task);
+            } catch (RuntimeException e) {
+                pendingRequests.release();
+                throw e;
+            }
+            return task;
+        }
+
+        private void execute(Runnable task) {
+            while (true) {
+                final ExecutorService current = getExecutor();
+                try {
+                    current.execute(task);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // Shutdown after it was obtained, use a new executor unless it was rejected for another reason
+                    if (!current.isShutdown()) {
+                        throw e;
+                    }
+                }
+            }
+        }
+
+        synchronized void shutdown() {
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+        }
+
+        private synchronized ExecutorService getExecutor() {
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(maxConcurrentRequests, new ThreadFactory() {
+                    public Thread newThread(Runnable runnable) {
+                        final Thread thread = new Thread(runnable, "rest-assured-async-" + THREAD_NUMBER.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+            }
+            return executor;
+        }
+    }
+
+    /**
+     * Notified when a request that was submitted by {@link AsyncConfig#submit(Callable, CompletionListener)} has completed.
+     */
+    public interface CompletionListener<T> {
+        /**
+         * @param future The future of the completed request. It's done so {@link Future#get()} doesn't block.
+         */
+        void completed(Future<T> future);
+    }
+}
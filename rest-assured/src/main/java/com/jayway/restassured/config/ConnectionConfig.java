@@ -16,8 +16,20 @@
 
 package com.jayway.restassured.config;
 
+import com.jayway.restassured.filter.metrics.LatencyHistogram;
+import com.jayway.restassured.internal.http.ConnectionPoolMBeanImpl;
+import com.jayway.restassured.internal.http.IdleConnectionEvictor;
+import com.jayway.restassured.internal.http.IdleTimeKeepAliveStrategy;
+import com.jayway.restassured.internal.http.InstrumentedConnectionManager;
+import com.jayway.restassured.internal.http.TlsHandshakeTimingSocketFactory;
 import org.apache.commons.lang3.Validate;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
 
+import java.io.PrintStream;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
@@ -27,10 +39,29 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
  * after each response. You may want to do this if you make a lot of fast consecutive requests with small amount of data in the response.
  * How ever if you're downloading large amount of (chunked) data you must not close connections after each response. By default
  * connections are <i>not</i> closed after each response.
+ * <p>
+ * By default REST Assured creates a new HTTP Client with its own connection for each request. If you make a lot of requests
+ * you can configure REST Assured to reuse connections from a shared connection pool instead, e.g.
+ * <pre>
+ * RestAssured.config = config().connectionConfig(connectionConfig().reuseConnections(20, 100));
+ * </pre>
+ * The statistics of the pool are available from {@link ConnectionPoolConfig#getStatistics()} and the pool can be exposed as
+ * an MBean (see {@link ConnectionPoolConfig#exposeAsMBean(String)}).
+ * </p>
+ * <p>
+ * A response body that hasn't been read into memory, e.g. a large body of a pooled connection, holds on to its connection
+ * until the stream returned by {@link com.jayway.restassured.response.ResponseBody#asInputStream()} is closed or read to the
+ * end (or until the body is read by e.g. <code>asString()</code>). To find bodies that are never read you can enable leak detection:
+ * <pre>
+ * RestAssured.config = config().connectionConfig(connectionConfig().detectLeakedResponseStreams());
+ * </pre>
+ * </p>
  */
 public class ConnectionConfig {
 
     private final CloseIdleConnectionConfig closeIdleConnectionConfig;
+    private final ConnectionPoolConfig connectionPoolConfig;
+    private final PrintStream leakDetectionStream;
 
     /**
      * Create a new connection configuration that doesn't close the HTTP connections after each response.
@@ -46,7 +77,36 @@ public class ConnectionConfig {
      *                              If <code>null</code> (default) then connections are not close after each response.
      */
     public ConnectionConfig(CloseIdleConnectionConfig closeIdleConnectionConfig) {
+        this(closeIdleConnectionConfig, null);
+    }
+
+    /**
+     * Create a new Connection configuration with the supplied settings.
+     *
+     * @param closeIdleConnectionConfig Configures REST Assured to close idle connections after each response.
+     *                              If <code>null</code> (default) then connections are not close after each response.
+     * @param connectionPoolConfig  Configures REST Assured to reuse connections from a shared connection pool.
+     *                              If <code>null</code> (default) then a new connection is created for each request.
+     */
+    public ConnectionConfig(CloseIdleConnectionConfig closeIdleConnectionConfig, ConnectionPoolConfig connectionPoolConfig) {
+        this(closeIdleConnectionConfig, connectionPoolConfig, null);
+    }
+
+    /**
+     * Create a new Connection configuration with the supplied settings.
+     *
+     * @param closeIdleConnectionConfig Configures REST Assured to close idle connections after each response.
+     *                              If <code>null</code> (default) then connections are not close after each response.
+     * @param connectionPoolConfig  Configures REST Assured to reuse connections from a shared connection pool.
+     *                              If <code>null</code> (default) then a new connection is created for each request.
+     * @param leakDetectionStream   The stream to report response streams that are never closed to.
+     *                              If <code>null</code> (default) then leaked response streams are not detected.
+     */
+    public ConnectionConfig(CloseIdleConnectionConfig closeIdleConnectionConfig, ConnectionPoolConfig connectionPoolConfig,
+                            PrintStream leakDetectionStream) {
         this.closeIdleConnectionConfig = closeIdleConnectionConfig;
+        this.connectionPoolConfig = connectionPoolConfig;
+        this.leakDetectionStream = leakDetectionStream;
     }
 
 
@@ -56,7 +116,7 @@ public class ConnectionConfig {
      * chunked HTTP responses.
      */
     public ConnectionConfig closeIdleConnectionsAfterEachResponse() {
-        return new ConnectionConfig(new CloseIdleConnectionConfig(0, NANOSECONDS));
+        return new ConnectionConfig(new CloseIdleConnectionConfig(0, NANOSECONDS), connectionPoolConfig, leakDetectionStream);
     }
 
     /**
@@ -67,7 +127,7 @@ public class ConnectionConfig {
      * @return A new ConnectionConfig instance with the updated configuration
      */
     public ConnectionConfig closeIdleConnectionsAfterEachResponseAfter(long idleTime, TimeUnit timeUnit) {
-        return new ConnectionConfig(new CloseIdleConnectionConfig(idleTime, timeUnit));
+        return new ConnectionConfig(new CloseIdleConnectionConfig(idleTime, timeUnit), connectionPoolConfig, leakDetectionStream);
     }
 
     /**
@@ -77,7 +137,7 @@ public class ConnectionConfig {
      * @return A new ConnectionConfig instance with the updated configuration
      */
     public ConnectionConfig closeIdleConnectionsAfterEachResponseAfter(CloseIdleConnectionConfig closeIdleConnectionConfig) {
-        return new ConnectionConfig(closeIdleConnectionConfig);
+        return new ConnectionConfig(closeIdleConnectionConfig, connectionPoolConfig, leakDetectionStream);
     }
 
     /**
@@ -87,7 +147,119 @@ public class ConnectionConfig {
      * @return A new ConnectionConfig instance with the updated configuration
      */
     public ConnectionConfig dontCloseIdleConnectionsAfterEachResponse() {
-        return new ConnectionConfig(null);
+        return new ConnectionConfig(null, connectionPoolConfig, leakDetectionStream);
+    }
+
+    /**
+     * Reuse connections from a shared connection pool with at most {@value ConnectionPoolConfig#DEFAULT_MAX_CONNECTIONS_PER_ROUTE}
+     * connections per route and {@value ConnectionPoolConfig#DEFAULT_MAX_TOTAL_CONNECTIONS} connections in total.
+     *
+     * @return A new ConnectionConfig instance with the updated configuration
+     * @see #reuseConnections(int, int)
+     */
+    public ConnectionConfig reuseConnections() {
+        return reuseConnections(new ConnectionPoolConfig());
+    }
+
+    /**
+     * Reuse connections from a shared connection pool instead of creating a new connection for each request. This avoids
+     * the TCP (and TLS) handshake for each request and lets the server keep connections alive. The pool is shared by all
+     * requests (and threads) that use this configuration and it should be closed explicitly by calling
+     * {@link ConnectionPoolConfig#shutdown()} when it's no longer needed.
+     * <p>
+     * A connection cannot be returned to the pool until the response body has been consumed. Bodies that are no larger than
+     * {@value ConnectionPoolConfig#DEFAULT_MAX_BUFFERED_BODY_SIZE} bytes are therefore read into memory when the response is
+     * received (see {@link ConnectionPoolConfig#readBodiesIntoMemoryUpTo(long)}). Other bodies are returned as a stream by
+     * {@link com.jayway.restassured.response.ResponseBody#asInputStream()} and the connection is returned to the pool when
+     * the stream is closed or read to the end.
+     * </p>
+     * <p>
+     * Requests that define a keystore or use certificate authentication get connections of their own since their socket
+     * factory must not be used by other requests.
+     * </p>
+     *
+     * @param maxConnectionsPerRoute The maximum number of connections per route (e.g. per host and port)
+     * @param maxTotalConnections    The maximum number of connections in total
+     * @return A new ConnectionConfig instance with the updated configuration
+     */
+    public ConnectionConfig reuseConnections(int maxConnectionsPerRoute, int maxTotalConnections) {
+        return reuseConnections(new ConnectionPoolConfig(maxConnectionsPerRoute, maxTotalConnections));
+    }
+
+    /**
+     * Reuse connections from the supplied connection pool.
+     *
+     * @param connectionPoolConfig The connection pool configuration
+     * @return A new ConnectionConfig instance with the updated configuration
+     * @see #reuseConnections(int, int)
+     */
+    public ConnectionConfig reuseConnections(ConnectionPoolConfig connectionPoolConfig) {
+        Validate.notNull(connectionPoolConfig, "Connection pool config cannot be null");
+        return new ConnectionConfig(closeIdleConnectionConfig, connectionPoolConfig, leakDetectionStream);
+    }
+
+    /**
+     * Reuse connections from a shared connection pool and let a background thread close connections that have been idle for
+     * longer than the supplied idle time instead of closing them after each response, which adds to the response time and
+     * prevents connections from being kept alive. A connection is also closed when the keep-alive timeout that the server
+     * sent in the <code>Keep-Alive</code> response header expires. If connections are not reused already a pool with the
+     * default limits is used (see {@link #reuseConnections()}).
+     *
+     * @param idleTime The idle time of connections to be closed
+     * @param timeUnit The time unit to for <code>idleTime</code>
+     * @return A new ConnectionConfig instance with the updated configuration
+     * @see ConnectionPoolConfig#evictIdleConnectionsInBackground(long, java.util.concurrent.TimeUnit)
+     */
+    public ConnectionConfig evictIdleConnectionsInBackground(long idleTime, TimeUnit timeUnit) {
+        final ConnectionPoolConfig poolConfig = connectionPoolConfig == null ? new ConnectionPoolConfig() : connectionPoolConfig;
+        return new ConnectionConfig(null, poolConfig.evictIdleConnectionsInBackground(idleTime, timeUnit), leakDetectionStream);
+    }
+
+    /**
+     * Don't reuse connections, i.e. create a new connection for each request. This is the default configuration.
+     *
+     * @return A new ConnectionConfig instance with the updated configuration
+     */
+    public ConnectionConfig dontReuseConnections() {
+        return new ConnectionConfig(closeIdleConnectionConfig, null, leakDetectionStream);
+    }
+
+    /**
+     * Report response streams that are garbage collected without having been closed or read to the end to system err.
+     *
+     * @return A new ConnectionConfig instance with the updated configuration
+     * @see #detectLeakedResponseStreams(java.io.PrintStream)
+     */
+    public ConnectionConfig detectLeakedResponseStreams() {
+        return detectLeakedResponseStreams(System.err);
+    }
+
+    /**
+     * Report response body streams (see {@link com.jayway.restassured.response.ResponseBody#asInputStream()}) that are garbage
+     * collected without having been closed or read to the end. Such a stream holds on to its connection so that it cannot be
+     * closed or reused. This includes the bodies of pooled responses that were too large to be read into memory (see
+     * {@link ConnectionPoolConfig#readBodiesIntoMemoryUpTo(long)}) and that are never read. The report includes the stack trace of the code that got the stream and the connection is released
+     * when the leak is reported. Leaks are detected when a new response stream is created and when
+     * {@link com.jayway.restassured.RestAssured#reset()} is called.
+     * <p>
+     * Leak detection records a stack trace for each response stream so it should only be used while looking for leaks.
+     * </p>
+     *
+     * @param stream The stream to report leaked response streams to
+     * @return A new ConnectionConfig instance with the updated configuration
+     */
+    public ConnectionConfig detectLeakedResponseStreams(PrintStream stream) {
+        Validate.notNull(stream, "Stream cannot be null");
+        return new ConnectionConfig(closeIdleConnectionConfig, connectionPoolConfig, stream);
+    }
+
+    /**
+     * Don't detect leaked response streams. This is the default configuration.
+     *
+     * @return A new ConnectionConfig instance with the updated configuration
+     */
+    public ConnectionConfig dontDetectLeakedResponseStreams() {
+        return new ConnectionConfig(closeIdleConnectionConfig, connectionPoolConfig, null);
     }
 
     /**
@@ -97,8 +269,34 @@ public class ConnectionConfig {
         return closeIdleConnectionConfig;
     }
 
+    /**
+     * @return <code>true</code> if idle connections should be closed after each response. This is never the case if the
+     *         connection pool evicts idle connections in the background.
+     */
     public boolean shouldCloseIdleConnectionsAfterEachResponse() {
-        return closeIdleConnectionConfig() != null;
+        return closeIdleConnectionConfig() != null && !(shouldReuseConnections() && connectionPoolConfig().shouldEvictIdleConnectionsInBackground());
+    }
+
+    /**
+     * @return The connection pool configuration or <code>null</code> if connections are not reused
+     */
+    public ConnectionPoolConfig connectionPoolConfig() {
+        return connectionPoolConfig;
+    }
+
+    public boolean shouldReuseConnections() {
+        return connectionPoolConfig() != null;
+    }
+
+    /**
+     * @return The stream that leaked response streams are reported to or <code>null</code> if leaks are not detected
+     */
+    public PrintStream leakDetectionStream() {
+        return leakDetectionStream;
+    }
+
+    public boolean shouldDetectLeakedResponseStreams() {
+        return leakDetectionStream() != null;
     }
 
     /**
@@ -147,4 +345,242 @@ public class ConnectionConfig {
             return timeUnit;
         }
     }
+
+    /**
+     * Configures a connection pool that is shared between all requests using the same configuration. The pool is created
+     * lazily when the first request is made and it's safe to use from multiple threads. The pool records statistics, such
+     * as the time requests wait for a connection, which are available from {@link #getStatistics()} and optionally through
+     * JMX, see {@link #exposeAsMBean(String)}. Idle connections can be closed by a background thread, see
+     * {@link #evictIdleConnectionsInBackground(long, java.util.concurrent.TimeUnit)}.
+     */
+    public static class ConnectionPoolConfig {
+        public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+        public static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 200;
+        public static final long DEFAULT_MAX_BUFFERED_BODY_SIZE = 64 * 1024;
+
+        private final int maxConnectionsPerRoute;
+        private final int maxTotalConnections;
+        private final String mBeanName;
+        private final CloseIdleConnectionConfig evictIdleConnectionConfig;
+        private final ConnectionKeepAliveStrategy keepAliveStrategy;
+        private final long maxBufferedBodySize;
+        private volatile InstrumentedConnectionManager connectionManager;
+        private IdleConnectionEvictor idleConnectionEvictor;
+
+        /**
+         * Create a connection pool with at most {@value #DEFAULT_MAX_CONNECTIONS_PER_ROUTE} connections per route
+         * and {@value #DEFAULT_MAX_TOTAL_CONNECTIONS} connections in total.
+         */
+        public ConnectionPoolConfig() {
+            this(DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_MAX_TOTAL_CONNECTIONS);
+        }
+
+        /**
+         * Create a connection pool with the supplied limits.
+         *
+         * @param maxConnectionsPerRoute The maximum number of connections per route (e.g. per host and port)
+         * @param maxTotalConnections    The maximum number of connections in total
+         */
+        public ConnectionPoolConfig(int maxConnectionsPerRoute, int maxTotalConnections) {
+            this(maxConnectionsPerRoute, maxTotalConnections, null);
+        }
+
+        /**
+         * Create a connection pool with the supplied limits.
+         *
+         * @param maxConnectionsPerRoute The maximum number of connections per route (e.g. per host and port)
+         * @param maxTotalConnections    The maximum number of connections in total
+         * @param mBeanName              The name of the MBean that exposes the pool or <code>null</code> if the pool should not be exposed
+         */
+        public ConnectionPoolConfig(int maxConnectionsPerRoute, int maxTotalConnections, String mBeanName) {
+            this(maxConnectionsPerRoute, maxTotalConnections, mBeanName, null, DEFAULT_MAX_BUFFERED_BODY_SIZE);
+        }
+
+        private ConnectionPoolConfig(int maxConnectionsPerRoute, int maxTotalConnections, String mBeanName,
+                                     CloseIdleConnectionConfig evictIdleConnectionConfig, long maxBufferedBodySize) {
+            if(maxConnectionsPerRoute < 1) {
+                throw new IllegalArgumentException("Max connections per route must be greater than 0.");
+            }
+            if(maxTotalConnections < maxConnectionsPerRoute) {
+                throw new IllegalArgumentException("Max total connections cannot be less than max connections per route.");
+            }
+            if(maxBufferedBodySize < 0) {
+                throw new IllegalArgumentException("Max buffered body size cannot be negative.");
+            }
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            this.maxTotalConnections = maxTotalConnections;
+            this.mBeanName = mBeanName;
+            this.evictIdleConnectionConfig = evictIdleConnectionConfig;
+            this.keepAliveStrategy = evictIdleConnectionConfig == null ? null :
+                    new IdleTimeKeepAliveStrategy(evictIdleConnectionConfig.getIdleTime(), evictIdleConnectionConfig.getTimeUnit());
+            this.maxBufferedBodySize = maxBufferedBodySize;
+        }
+
+        /**
+         * Expose the statistics of the pool as an MBean named <code>com.jayway.restassured:type=ConnectionPool,name=&lt;name&gt;</code>
+         * in the platform MBean server (see {@link ConnectionPoolMBean}). The MBean is registered when the pool is created and
+         * unregistered when it's shutdown. An MBean with the same name that is already registered is replaced.
+         *
+         * @param name The name of the MBean
+         * @return A new ConnectionPoolConfig instance with the updated configuration
+         */
+        public ConnectionPoolConfig exposeAsMBean(String name) {
+            Validate.notEmpty(name, "MBean name cannot be empty");
+            return new ConnectionPoolConfig(maxConnectionsPerRoute, maxTotalConnections, name, evictIdleConnectionConfig, maxBufferedBodySize);
+        }
+
+        /**
+         * Start a daemon thread when the pool is created that closes connections that have been idle for longer than the
+         * supplied idle time. The thread also closes connections whose keep-alive timeout has expired. The keep-alive timeout
+         * is the timeout that the server sent in the <code>Keep-Alive: timeout=&lt;seconds&gt;</code> response header, but
+         * never longer than the idle time, and an expired connection is never reused even if it hasn't been closed yet.
+         * The thread is stopped when the pool is shutdown.
+         * <p>
+         * Idle connections are no longer closed after each response (see
+         * {@link ConnectionConfig#closeIdleConnectionsAfterEachResponse()}) when they are evicted in the background.
+         * </p>
+         *
+         * @param idleTime The idle time of connections to be closed
+         * @param timeUnit The time unit to for <code>idleTime</code>
+         * @return A new ConnectionPoolConfig instance with the updated configuration
+         */
+        public ConnectionPoolConfig evictIdleConnectionsInBackground(long idleTime, TimeUnit timeUnit) {
+            if(idleTime <= 0) {
+                throw new IllegalArgumentException("Idle time must be greater than 0.");
+            }
+            return new ConnectionPoolConfig(maxConnectionsPerRoute, maxTotalConnections, mBeanName, new CloseIdleConnectionConfig(idleTime, timeUnit),
+                    maxBufferedBodySize);
+        }
+
+        /**
+         * Create a configuration with the same settings that reuses connections from a pool of its own so that calling
+         * {@link #shutdown()} on either configuration doesn't affect the other. The new pool isn't exposed as an MBean since
+         * the name is already used by the pool of this configuration.
+         *
+         * @return A new ConnectionPoolConfig instance with the same settings and a pool of its own
+         */
+        public ConnectionPoolConfig withOwnPool() {
+            return new ConnectionPoolConfig(maxConnectionsPerRoute, maxTotalConnections, null, evictIdleConnectionConfig, maxBufferedBodySize);
+        }
+
+        /**
+         * Read response bodies that are no larger than the supplied size into memory when the response is received so that
+         * their connection is returned to the pool right away. Larger bodies, and bodies whose size isn't known in advance
+         * (i.e. chunked bodies), are returned as a stream that holds on to its connection until it's closed or read to the
+         * end. Bodies are always read into memory when body expectations are defined. The default size is
+         * {@value #DEFAULT_MAX_BUFFERED_BODY_SIZE} bytes.
+         *
+         * @param maxBodySizeInBytes The size in bytes of the largest body to read into memory
+         * @return A new ConnectionPoolConfig instance with the updated configuration
+         */
+        public ConnectionPoolConfig readBodiesIntoMemoryUpTo(long maxBodySizeInBytes) {
+            return new ConnectionPoolConfig(maxConnectionsPerRoute, maxTotalConnections, mBeanName, evictIdleConnectionConfig, maxBodySizeInBytes);
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public int getMaxTotalConnections() {
+            return maxTotalConnections;
+        }
+
+        /**
+         * @return The name of the MBean that exposes the pool or <code>null</code> if the pool isn't exposed
+         */
+        public String getMBeanName() {
+            return mBeanName;
+        }
+
+        /**
+         * @return The idle time of connections that are evicted in the background or <code>null</code> if idle connections are
+         *         not evicted in the background
+         */
+        public CloseIdleConnectionConfig getEvictIdleConnectionConfig() {
+            return evictIdleConnectionConfig;
+        }
+
+        public boolean shouldEvictIdleConnectionsInBackground() {
+            return evictIdleConnectionConfig != null;
+        }
+
+        /**
+         * @return The size in bytes of the largest response body that is read into memory when the response is received
+         */
+        public long getMaxBufferedBodySize() {
+            return maxBufferedBodySize;
+        }
+
+        /**
+         * @return The keep-alive strategy that should be used by clients of the pool or <code>null</code> if the default strategy should be used
+         */
+        public ConnectionKeepAliveStrategy getKeepAliveStrategy() {
+            return keepAliveStrategy;
+        }
+
+        /**
+         * Get a snapshot of the statistics of the pool and of each route in the pool, e.g. the number of leased, available and
+         * pending connections, the time requests have waited for a connection and how often connections have been reused.
+         *
+         * @return The statistics of the pool. All counters are zero if the pool hasn't been created yet.
+         */
+        public ConnectionPoolStatistics getStatistics() {
+            final InstrumentedConnectionManager current = connectionManager;
+            if(current == null) {
+                return new ConnectionPoolStatistics(null, 0, 0, 0, maxTotalConnections, 0, 0, 0, 0, 0, 0, new LatencyHistogram(),
+                        Collections.<ConnectionPoolStatistics>emptyList());
+            }
+            return current.getStatistics();
+        }
+
+        /**
+         * Get the shared connection manager. It's created the first time this method is called and after each call to {@link #shutdown()}.
+         *
+         * @return The shared connection manager
+         */
+        public ClientConnectionManager getConnectionManager() {
+            // Only lock when the pool needs to be created so that requests don't contend for this monitor
+            InstrumentedConnectionManager current = connectionManager;
+            if(current == null) {
+                synchronized (this) {
+                    current = connectionManager;
+                    if(current == null) {
+                        final SchemeRegistry schemeRegistry = SchemeRegistryFactory.createDefault();
+                        // The registry is shared by all requests using the pool so it's never modified afterwards
+                        TlsHandshakeTimingSocketFactory.register(schemeRegistry);
+                        current = new InstrumentedConnectionManager(schemeRegistry);
+                        current.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+                        current.setMaxTotal(maxTotalConnections);
+                        if(mBeanName != null) {
+                            ConnectionPoolMBeanImpl.register(mBeanName, current);
+                        }
+                        if(evictIdleConnectionConfig != null) {
+                            idleConnectionEvictor = new IdleConnectionEvictor(current, evictIdleConnectionConfig.getIdleTime(),
+                                    evictIdleConnectionConfig.getTimeUnit());
+                            idleConnectionEvictor.start();
+                        }
+                        connectionManager = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        /**
+         * Close all pooled connections. A new pool is created automatically if a request is made using this configuration after it has been shutdown.
+         */
+        public synchronized void shutdown() {
+            if(connectionManager != null) {
+                if(idleConnectionEvictor != null) {
+                    idleConnectionEvictor.shutdown();
+                    idleConnectionEvictor = null;
+                }
+                if(mBeanName != null) {
+                    ConnectionPoolMBeanImpl.unregister(mBeanName);
+                }
+                connectionManager.shutdown();
+                connectionManager = null;
+            }
+        }
+    }
 }
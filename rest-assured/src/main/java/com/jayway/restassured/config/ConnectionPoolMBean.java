@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.config;
+
+/**
+ * The JMX management interface of a connection pool that is exposed as an MBean, see
+ * {@link ConnectionConfig.ConnectionPoolConfig#exposeAsMBean(String)}. The attributes are the same as those of
+ * {@link ConnectionPoolStatistics}.
+ */
+public interface ConnectionPoolMBean {
+
+    int getLeasedConnections();
+
+    int getAvailableConnections();
+
+    int getPendingConnections();
+
+    int getMaxTotalConnections();
+
+    int getMaxConnectionsPerRoute();
+
+    int getOpenConnections();
+
+    long getConnectionsCreated();
+
+    long getRequests();
+
+    long getReusedRequests();
+
+    long getMaxConnectionAgeInMillis();
+
+    long getLeaseCount();
+
+    double getLeaseWaitTimeMedianInMillis();
+
+    double getLeaseWaitTime99thPercentileInMillis();
+
+    double getMaxLeaseWaitTimeInMillis();
+
+    /**
+     * @return A description of the statistics of each route.
+     */
+    String[] getRoutes();
+}
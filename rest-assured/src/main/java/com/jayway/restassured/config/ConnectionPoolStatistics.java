@@ -0,0 +1,210 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.config;
+
+import com.jayway.restassured.filter.metrics.LatencyHistogram;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of the statistics of a connection pool (see {@link ConnectionConfig.ConnectionPoolConfig#getStatistics()}) or
+ * of a single route in the pool. A route is typically a host and port such as <code>http://localhost:8080</code>. Example:
+ * <pre>
+ * ConnectionPoolStatistics statistics = RestAssured.config.getConnectionConfig().connectionPoolConfig().getStatistics();
+ * System.out.println(statistics);
+ * </pre>
+ * A connection is <i>leased</i> while it's used by a request and <i>available</i> when it's idle in the pool. A request is
+ * <i>pending</i> while it's waiting for a connection since the maximum number of connections has been reached.
+ * <p>
+ * The request and connection counters cover all connections created by the pool since it was created while the connection
+ * ages only cover the connections that are currently open.
+ * </p>
+ */
+public class ConnectionPoolStatistics {
+    private final String route;
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int maxConnections;
+    private final int openConnections;
+    private final long connectionsCreated;
+    private final long requests;
+    private final long reusedRequests;
+    private final long maxConnectionAgeInNanos;
+    private final long meanConnectionAgeInNanos;
+    private final LatencyHistogram leaseWaitTimes;
+    private final List<ConnectionPoolStatistics> routes;
+
+    /**
+     * @param route                    The route or <code>null</code> if the statistics cover the whole pool
+     * @param leased                   The number of leased connections
+     * @param available                The number of available connections
+     * @param pending                  The number of requests waiting for a connection
+     * @param maxConnections           The maximum number of connections
+     * @param openConnections          The number of open connections
+     * @param connectionsCreated       The number of connections that have been created
+     * @param requests                 The number of requests that have been sent
+     * @param reusedRequests           The number of requests that have been sent on a connection that had already been used
+     * @param maxConnectionAgeInNanos  The age of the oldest open connection in nanoseconds
+     * @param meanConnectionAgeInNanos The mean age of the open connections in nanoseconds
+     * @param leaseWaitTimes           The time each request has waited for a connection
+     * @param routes                   The statistics of each route if the statistics cover the whole pool
+     */
+    public ConnectionPoolStatistics(String route, int leased, int available, int pending, int maxConnections, int openConnections,
+                                    long connectionsCreated, long requests, long reusedRequests, long maxConnectionAgeInNanos,
+                                    long meanConnectionAgeInNanos, LatencyHistogram leaseWaitTimes, List<ConnectionPoolStatistics> routes) {
+        Validate.notNull(leaseWaitTimes, "Lease wait times cannot be null");
+        Validate.notNull(routes, "Routes cannot be null");
+        this.route = route;
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.maxConnections = maxConnections;
+        this.openConnections = openConnections;
+        this.connectionsCreated = connectionsCreated;
+        this.requests = requests;
+        this.reusedRequests = reusedRequests;
+        this.maxConnectionAgeInNanos = maxConnectionAgeInNanos;
+        this.meanConnectionAgeInNanos = meanConnectionAgeInNanos;
+        this.leaseWaitTimes = leaseWaitTimes;
+        this.routes = Collections.unmodifiableList(new ArrayList<ConnectionPoolStatistics>(routes));
+    }
+
+    /**
+     * @return The route, e.g. <code>http://localhost:8080</code>, or <code>null</code> if the statistics cover the whole pool.
+     */
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * @return The number of connections that are currently used by a request.
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return The number of idle connections in the pool.
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * @return The number of requests that are waiting for a connection.
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * @return The maximum number of connections.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * @return The number of open connections.
+     */
+    public int getOpenConnections() {
+        return openConnections;
+    }
+
+    /**
+     * @return The number of connections that have been created.
+     */
+    public long getConnectionsCreated() {
+        return connectionsCreated;
+    }
+
+    /**
+     * @return The number of requests that have been sent.
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return The number of requests that have been sent on a connection that had already been used by a previous request.
+     */
+    public long getReusedRequests() {
+        return reusedRequests;
+    }
+
+    /**
+     * @return The ratio of requests that have been sent on a reused connection to all requests.
+     */
+    public double getReuseRate() {
+        return requests == 0 ? 0 : (double) reusedRequests / requests;
+    }
+
+    /**
+     * @param timeUnit The time unit
+     * @return The age of the oldest open connection in the given time unit.
+     */
+    public long getMaxConnectionAge(TimeUnit timeUnit) {
+        return timeUnit.convert(maxConnectionAgeInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param timeUnit The time unit
+     * @return The mean age of the open connections in the given time unit.
+     */
+    public long getMeanConnectionAge(TimeUnit timeUnit) {
+        return timeUnit.convert(meanConnectionAgeInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The time each request has waited for a connection to be leased from the pool. This doesn't include the time
+     *         it takes to open a new connection.
+     */
+    public LatencyHistogram getLeaseWaitTimes() {
+        return leaseWaitTimes;
+    }
+
+    /**
+     * @return The statistics of each route, sorted by route, or an empty list if these are the statistics of a single route.
+     */
+    public List<ConnectionPoolStatistics> getRoutes() {
+        return routes;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(describe(route == null ? "Connection pool" : route, this));
+        for (ConnectionPoolStatistics routeStatistics : routes) {
+            builder.append(String.format("%n  ")).append(describe(routeStatistics.getRoute(), routeStatistics));
+        }
+        return builder.toString();
+    }
+
+    private static String describe(String name, ConnectionPoolStatistics statistics) {
+        final LatencyHistogram waits = statistics.getLeaseWaitTimes();
+        return String.format("%s: leased=%d, available=%d, pending=%d, max=%d, open=%d, created=%d, requests=%d, reused=%.1f%%, " +
+                "max age=%d ms, lease wait p50=%.1f ms p99=%.1f ms max=%.1f ms", name, statistics.getLeased(), statistics.getAvailable(),
+                statistics.getPending(), statistics.getMaxConnections(), statistics.getOpenConnections(), statistics.getConnectionsCreated(),
+                statistics.getRequests(), statistics.getReuseRate() * 100, statistics.getMaxConnectionAge(TimeUnit.MILLISECONDS),
+                waits.getValueAtPercentile(50, TimeUnit.MILLISECONDS), waits.getValueAtPercentile(99, TimeUnit.MILLISECONDS),
+                waits.getValueAtPercentile(100, TimeUnit.MILLISECONDS));
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.jayway.restassured.config;
 
+import com.jayway.restassured.filter.log.AsyncLogWriter;
 import org.apache.commons.lang3.Validate;
 
 import java.io.PrintStream;
@@ -30,6 +31,8 @@ public class LogConfig {
 
     private final PrintStream defaultPrintStream;
     private final boolean prettyPrintingEnabled;
+    private final AsyncLogWriter asyncLogWriter;
+    private final boolean logIfValidationFails;
 
     /**
      * Configure the default stream to use the System.out stream (default).
@@ -55,9 +58,27 @@ public class LogConfig {
      * @param prettyPrintingEnabled Enable or disable pretty printing when logging. Pretty printing is only possible when content-type is XML, JSON or HTML.
      */
     public LogConfig(PrintStream defaultPrintStream, boolean prettyPrintingEnabled) {
+        this(defaultPrintStream, prettyPrintingEnabled, null);
+    }
+
+    /**
+     * Configure pretty printing, the default stream and whether logs should be written asynchronously when using the log specification DSL.
+     *
+     * @param defaultPrintStream The default print stream to use for the {@link com.jayway.restassured.specification.LogSpecification}'s.
+     * @param prettyPrintingEnabled Enable or disable pretty printing when logging. Pretty printing is only possible when content-type is XML, JSON or HTML.
+     * @param asyncLogWriter The writer to log to asynchronously or <code>null</code> to log synchronously to the <code>defaultPrintStream</code>.
+     * @see #asyncLogWriter(com.jayway.restassured.filter.log.AsyncLogWriter)
+     */
+    public LogConfig(PrintStream defaultPrintStream, boolean prettyPrintingEnabled, AsyncLogWriter asyncLogWriter) {
+        this(defaultPrintStream, prettyPrintingEnabled, asyncLogWriter, false);
+    }
+
+    private LogConfig(PrintStream defaultPrintStream, boolean prettyPrintingEnabled, AsyncLogWriter asyncLogWriter, boolean logIfValidationFails) {
         Validate.notNull(defaultPrintStream, "Stream to write logs to cannot be null");
         this.defaultPrintStream = defaultPrintStream;
         this.prettyPrintingEnabled = prettyPrintingEnabled;
+        this.asyncLogWriter = asyncLogWriter;
+        this.logIfValidationFails = logIfValidationFails;
     }
 
     /**
@@ -73,7 +94,7 @@ public class LogConfig {
      * @return A new LogConfig instance
      */
     public LogConfig defaultStream(PrintStream printStream) {
-        return new LogConfig(printStream, true);
+        return new LogConfig(printStream, true, asyncLogWriter, logIfValidationFails);
     }
 
     /**
@@ -90,7 +111,51 @@ public class LogConfig {
      * @return A new LogConfig instance
      */
     public LogConfig enablePrettyPrinting(boolean shouldEnable) {
-        return new LogConfig(defaultPrintStream, shouldEnable);
+        return new LogConfig(defaultPrintStream, shouldEnable, asyncLogWriter, logIfValidationFails);
+    }
+
+    /**
+     * @return The writer used to log asynchronously or <code>null</code> if logging is synchronous.
+     */
+    public AsyncLogWriter asyncLogWriter() {
+        return asyncLogWriter;
+    }
+
+    /**
+     * @return <code>true</code> if the log specification DSL logs asynchronously.
+     */
+    public boolean isAsyncLoggingEnabled() {
+        return asyncLogWriter != null;
+    }
+
+    /**
+     * Log asynchronously using the supplied writer when using the log specification DSL, e.g. <code>given().log().all()</code>.
+     * The writer writes to its own stream so the {@link #defaultStream()} is not used.
+     *
+     * @param asyncLogWriter The writer
+     * @return A new LogConfig instance
+     */
+    public LogConfig asyncLogWriter(AsyncLogWriter asyncLogWriter) {
+        Validate.notNull(asyncLogWriter, "Async log writer cannot be null");
+        return new LogConfig(defaultPrintStream, prettyPrintingEnabled, asyncLogWriter, logIfValidationFails);
+    }
+
+    /**
+     * Log the request and response of all requests to the {@link #defaultStream()} if the validation of the response fails. Nothing
+     * is formatted unless the validation fails so this is considerably cheaper than logging all requests. Same as calling
+     * <code>given().log().ifValidationFails()</code> and <code>expect().log().ifValidationFails()</code> for each request.
+     *
+     * @return A new LogConfig instance
+     */
+    public LogConfig enableLoggingOfRequestAndResponseIfValidationFails() {
+        return new LogConfig(defaultPrintStream, prettyPrintingEnabled, asyncLogWriter, true);
+    }
+
+    /**
+     * @return <code>true</code> if the request and response of all requests should be logged if the validation of the response fails.
+     */
+    public boolean isLoggingOfRequestAndResponseIfValidationFailsEnabled() {
+        return logIfValidationFails;
     }
 
     /**
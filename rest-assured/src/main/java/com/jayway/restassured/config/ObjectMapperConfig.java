@@ -36,15 +36,16 @@ public class ObjectMapperConfig {
      * Default object mapper configuration that uses no explicit object mapper. An object mapper
      * will be found automatically in classpath if available. For more details see <a href="http://code.google.com/p/rest-assured/wiki/Usage#Object_Mapping">documentation</a>.
      *
-     * Also default object mapper factories will be used.
+     * Also default object mapper factories will be used. The default factories cache and reuse the created object mappers
+     * (and JAXB contexts) since they're expensive to create and thread-safe once configured.
      */
     public ObjectMapperConfig() {
         defaultObjectMapper = null;
         defaultObjectMapperType = null;
-        gsonObjectMapperFactory = new DefaultGsonObjectMapperFactory();
-        jackson1ObjectMapperFactory = new DefaultJackson1ObjectMapperFactory();
-        jackson2ObjectMapperFactory = new DefaultJackson2ObjectMapperFactory();
-        jaxbObjectMapperFactory = new DefaultJAXBObjectMapperFactory();
+        gsonObjectMapperFactory = new CachingGsonObjectMapperFactory();
+        jackson1ObjectMapperFactory = new CachingJackson1ObjectMapperFactory();
+        jackson2ObjectMapperFactory = new CachingJackson2ObjectMapperFactory();
+        jaxbObjectMapperFactory = new CachingJAXBObjectMapperFactory();
     }
 
     /**
@@ -53,8 +54,8 @@ public class ObjectMapperConfig {
      * @param defaultObjectMapperType The object mapper to use. If <code>null</code> then classpath scanning will be used.
      */
     public ObjectMapperConfig(ObjectMapperType defaultObjectMapperType) {
-        this(null, defaultObjectMapperType, new DefaultGsonObjectMapperFactory(), new DefaultJackson1ObjectMapperFactory(),
-                new DefaultJackson2ObjectMapperFactory(), new DefaultJAXBObjectMapperFactory());
+        this(null, defaultObjectMapperType, new CachingGsonObjectMapperFactory(), new CachingJackson1ObjectMapperFactory(),
+                new CachingJackson2ObjectMapperFactory(), new CachingJAXBObjectMapperFactory());
     }
 
     /**
@@ -63,8 +64,8 @@ public class ObjectMapperConfig {
      * @param defaultObjectMapper The object mapper to use. If <code>null</code> then classpath scanning will be used.
      */
     public ObjectMapperConfig(ObjectMapper defaultObjectMapper) {
-        this(defaultObjectMapper, null, new DefaultGsonObjectMapperFactory(), new DefaultJackson1ObjectMapperFactory(),
-                new DefaultJackson2ObjectMapperFactory(), new DefaultJAXBObjectMapperFactory());
+        this(defaultObjectMapper, null, new CachingGsonObjectMapperFactory(), new CachingJackson1ObjectMapperFactory(),
+                new CachingJackson2ObjectMapperFactory(), new CachingJAXBObjectMapperFactory());
     }
 
     private ObjectMapperConfig(ObjectMapper defaultObjectMapper, ObjectMapperType defaultObjectMapperType,
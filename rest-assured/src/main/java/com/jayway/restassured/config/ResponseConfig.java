@@ -0,0 +1,187 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.config;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Configure how REST Assured handles the response body. By default a response body is parsed at most once per parser
+ * (JSON, XML or HTML) and the parsed document is shared by the body expectations and by subsequent calls to
+ * {@link com.jayway.restassured.response.ResponseBody#path(String)}, {@link com.jayway.restassured.response.ResponseBody#jsonPath()}
+ * and {@link com.jayway.restassured.response.ResponseBody#xmlPath()} on the same response.
+ * <p>
+ * The parsed document is kept in memory for as long as the response is referenced and typically requires several times
+ * more memory than the body itself. If you're dealing with huge bodies you can limit the size of the bodies whose parsed
+ * document is cached, e.g.
+ * <pre>
+ * RestAssured.config = config().responseConfig(responseConfig().cacheParsedBodiesUpTo(10 * 1024 * 1024));
+ * </pre>
+ * Bodies that are not cached are parsed again each time they're used. Note that a body that has not been read into memory
+ * (i.e. a streamed body) can only be read once so its parsed document is always cached.
+ * </p>
+ * <p>
+ * Body expectations that only use plain JSON paths (e.g. <code>body("meta.total", equalTo(5))</code>) can also be evaluated
+ * while the body is received so that only the values the paths refer to are kept in memory, e.g.
+ * <pre>
+ * RestAssured.config = config().responseConfig(responseConfig().evaluateJsonPathsWhileReceiving(1024 * 1024));
+ * </pre>
+ * A copy of the body is kept in memory as long as it's no larger than the supplied size so that it can still be logged and
+ * returned by e.g. {@link com.jayway.restassured.response.ResponseBody#asString()}. A larger body is no longer available once
+ * the expectations have been evaluated.
+ * </p>
+ */
+public class ResponseConfig {
+
+    public static final long UNLIMITED = Long.MAX_VALUE;
+    public static final long DEFAULT_MAX_BUFFERED_JSON_BODY_SIZE = 1024 * 1024;
+    private static final long DONT_EVALUATE_WHILE_RECEIVING = -1;
+
+    private final long maxCachedBodySize;
+    private final long maxBufferedJsonBodySize;
+
+    /**
+     * Create a new response configuration that caches the parsed document of all bodies.
+     */
+    public ResponseConfig() {
+        this(UNLIMITED);
+    }
+
+    /**
+     * Create a new response configuration.
+     *
+     * @param maxCachedBodySize The size in bytes of the largest body whose parsed document is cached. <code>0</code> means that
+     *                          parsed documents are never cached.
+     */
+    public ResponseConfig(long maxCachedBodySize) {
+        this(maxCachedBodySize, DONT_EVALUATE_WHILE_RECEIVING);
+    }
+
+    private ResponseConfig(long maxCachedBodySize, long maxBufferedJsonBodySize) {
+        Validate.isTrue(maxCachedBodySize >= 0, "Max cached body size cannot be negative.");
+        this.maxCachedBodySize = maxCachedBodySize;
+        this.maxBufferedJsonBodySize = maxBufferedJsonBodySize;
+    }
+
+    /**
+     * Cache the parsed document of all response bodies. This is the default configuration.
+     *
+     * @return A new ResponseConfig instance with the updated configuration
+     */
+    public ResponseConfig cacheParsedBodies() {
+        return new ResponseConfig(UNLIMITED, maxBufferedJsonBodySize);
+    }
+
+    /**
+     * Only cache the parsed document of bodies that are at most <code>maxBodySizeInBytes</code> bytes large.
+     *
+     * @param maxBodySizeInBytes The size in bytes of the largest body whose parsed document is cached.
+     * @return A new ResponseConfig instance with the updated configuration
+     */
+    public ResponseConfig cacheParsedBodiesUpTo(long maxBodySizeInBytes) {
+        return new ResponseConfig(maxBodySizeInBytes, maxBufferedJsonBodySize);
+    }
+
+    /**
+     * Never cache the parsed document of a buffered body. The body is parsed again each time it's used.
+     *
+     * @return A new ResponseConfig instance with the updated configuration
+     */
+    public ResponseConfig dontCacheParsedBodies() {
+        return new ResponseConfig(0, maxBufferedJsonBodySize);
+    }
+
+    /**
+     * Evaluate body expectations that only use plain JSON paths while the body is received and keep a copy of bodies that
+     * are at most {@value #DEFAULT_MAX_BUFFERED_JSON_BODY_SIZE} bytes large.
+     *
+     * @return A new ResponseConfig instance with the updated configuration
+     * @see #evaluateJsonPathsWhileReceiving(long)
+     */
+    public ResponseConfig evaluateJsonPathsWhileReceiving() {
+        return evaluateJsonPathsWhileReceiving(DEFAULT_MAX_BUFFERED_JSON_BODY_SIZE);
+    }
+
+    /**
+     * Evaluate body expectations that only use plain JSON paths (e.g. <code>meta.total</code> or <code>items[0].id</code>)
+     * while the body is received instead of reading the body into memory first. Only the values that the paths refer to
+     * are kept when the body is parsed. This only applies when all body expectations of the response specification use
+     * such paths and the body isn't streamed to verify its size or digest.
+     *
+     * @param maxBufferedBodySizeInBytes The size in bytes of the largest body that is kept in memory as well. A larger body
+     *                                   is no longer available once the expectations have been evaluated.
+     * @return A new ResponseConfig instance with the updated configuration
+     */
+    public ResponseConfig evaluateJsonPathsWhileReceiving(long maxBufferedBodySizeInBytes) {
+        Validate.isTrue(maxBufferedBodySizeInBytes >= 0, "Max buffered body size cannot be negative.");
+        return new ResponseConfig(maxCachedBodySize, maxBufferedBodySizeInBytes);
+    }
+
+    /**
+     * Read bodies into memory before evaluating the body expectations. This is the default configuration.
+     *
+     * @return A new ResponseConfig instance with the updated configuration
+     */
+    public ResponseConfig dontEvaluateJsonPathsWhileReceiving() {
+        return new ResponseConfig(maxCachedBodySize, DONT_EVALUATE_WHILE_RECEIVING);
+    }
+
+    /**
+     * @return <code>true</code> if body expectations that only use plain JSON paths are evaluated while the body is received.
+     */
+    public boolean shouldEvaluateJsonPathsWhileReceiving() {
+        return maxBufferedJsonBodySize != DONT_EVALUATE_WHILE_RECEIVING;
+    }
+
+    /**
+     * @return The size in bytes of the largest body that is kept in memory when JSON paths are evaluated while the body is
+     *         received, or <code>-1</code> if they're not.
+     */
+    public long maxBufferedJsonBodySize() {
+        return maxBufferedJsonBodySize;
+    }
+
+    /**
+     * @return The size in bytes of the largest body whose parsed document is cached.
+     */
+    public long maxCachedBodySize() {
+        return maxCachedBodySize;
+    }
+
+    /**
+     * @param bodySizeInBytes The size of the body in bytes
+     * @return <code>true</code> if the parsed document of a body of the given size should be cached.
+     */
+    public boolean shouldCacheParsedBody(long bodySizeInBytes) {
+        return maxCachedBodySize > 0 && bodySizeInBytes <= maxCachedBodySize;
+    }
+
+    /**
+     * @return A static way to create a new ResponseConfig instance without calling "new" explicitly. Mainly for syntactic sugar.
+     */
+    public static ResponseConfig responseConfig() {
+        return new ResponseConfig();
+    }
+
+    /**
+     * Syntactic sugar.
+     *
+     * @return The same response config instance.
+     */
+    public ResponseConfig and() {
+        return this;
+    }
+}
@@ -37,18 +37,21 @@ public class RestAssuredConfig {
     private final SessionConfig sessionConfig;
     private final ObjectMapperConfig objectMapperConfig;
     private final ConnectionConfig connectionConfig;
+    private final ResponseConfig responseConfig;
+    private final AsyncConfig asyncConfig;
 
     /**
      * Create a new RestAssuredConfiguration with the default configurations.
      */
     public RestAssuredConfig() {
         this(new RedirectConfig(), new HttpClientConfig(), new LogConfig(), new EncoderConfig(), new DecoderConfig(), 
-                new SessionConfig(), new ObjectMapperConfig(), new ConnectionConfig());
+                new SessionConfig(), new ObjectMapperConfig(), new ConnectionConfig(), new ResponseConfig(), new AsyncConfig());
     }
 
     /**
      * Create a new RestAssuredConfiguration with the supplied {@link RedirectConfig}, {@link HttpClientConfig}, {@link LogConfig}, 
-     * {@link EncoderConfig}, {@link DecoderConfig}, {@link SessionConfig}, {@link ObjectMapperConfig} and {@link ConnectionConfig}.
+     * {@link EncoderConfig}, {@link DecoderConfig}, {@link SessionConfig}, {@link ObjectMapperConfig} and {@link ConnectionConfig}
+     * and a default {@link ResponseConfig} and {@link AsyncConfig}.
      */
     public RestAssuredConfig(RedirectConfig redirectConfig,
                              HttpClientConfig httpClientConfig,
@@ -58,6 +61,25 @@ public class RestAssuredConfig {
                              SessionConfig sessionConfig,
                              ObjectMapperConfig objectMapperConfig,
                              ConnectionConfig connectionConfig) {
+        this(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig, objectMapperConfig,
+                connectionConfig, new ResponseConfig(), new AsyncConfig());
+    }
+
+    /**
+     * Create a new RestAssuredConfiguration with the supplied {@link RedirectConfig}, {@link HttpClientConfig}, {@link LogConfig}, 
+     * {@link EncoderConfig}, {@link DecoderConfig}, {@link SessionConfig}, {@link ObjectMapperConfig}, {@link ConnectionConfig},
+     * {@link ResponseConfig} and {@link AsyncConfig}.
+     */
+    public RestAssuredConfig(RedirectConfig redirectConfig,
+                             HttpClientConfig httpClientConfig,
+                             LogConfig logConfig,
+                             EncoderConfig encoderConfig,
+                             DecoderConfig decoderConfig,
+                             SessionConfig sessionConfig,
+                             ObjectMapperConfig objectMapperConfig,
+                             ConnectionConfig connectionConfig,
+                             ResponseConfig responseConfig,
+                             AsyncConfig asyncConfig) {
         notNull(redirectConfig, "Redirect Config");
         notNull(httpClientConfig, "HTTP Client Config");
         notNull(logConfig, "Log config");
@@ -66,6 +88,8 @@ public class RestAssuredConfig {
         notNull(sessionConfig, "Session config");
         notNull(objectMapperConfig, "Object mapper config");
         notNull(connectionConfig, "Connection config");
+        notNull(responseConfig, "Response config");
+        notNull(asyncConfig, "Async config");
         this.httpClientConfig = httpClientConfig;
         this.redirectConfig = redirectConfig;
         this.logConfig = logConfig;
@@ -74,6 +98,8 @@ public class RestAssuredConfig {
         this.sessionConfig = sessionConfig;
         this.objectMapperConfig = objectMapperConfig;
         this.connectionConfig = connectionConfig;
+        this.responseConfig = responseConfig;
+        this.asyncConfig = asyncConfig;
     }
 
     /**
@@ -85,7 +111,7 @@ public class RestAssuredConfig {
     public RestAssuredConfig redirect(RedirectConfig redirectConfig) {
         notNull(redirectConfig, "Redirect config");
         return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
-                objectMapperConfig, connectionConfig);
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
     }
 
     /**
@@ -97,7 +123,7 @@ public class RestAssuredConfig {
     public RestAssuredConfig httpClient(HttpClientConfig httpClientConfig) {
         notNull(httpClientConfig, "HTTP Client Config");
         return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
-                objectMapperConfig, connectionConfig);
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
     }
 
     /**
@@ -109,7 +135,7 @@ public class RestAssuredConfig {
     public RestAssuredConfig logConfig(LogConfig logConfig) {
         notNull(logConfig, "Log config");
         return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
-                objectMapperConfig, connectionConfig);
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
     }
 
     /**
@@ -121,7 +147,7 @@ public class RestAssuredConfig {
     public RestAssuredConfig encoderConfig(EncoderConfig encoderConfig) {
         notNull(encoderConfig, "Encoder config");
         return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
-                objectMapperConfig, connectionConfig);
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
     }
 
     /**
@@ -133,7 +159,7 @@ public class RestAssuredConfig {
     public RestAssuredConfig decoderConfig(DecoderConfig decoderConfig) {
         notNull(decoderConfig, "Decoder config");
         return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
-                objectMapperConfig, connectionConfig);
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
     }
 
     /**
@@ -145,7 +171,7 @@ public class RestAssuredConfig {
     public RestAssuredConfig sessionConfig(SessionConfig sessionConfig) {
         notNull(sessionConfig, "Session config");
         return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
-                objectMapperConfig, connectionConfig);
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
     }
 
     /**
@@ -157,7 +183,7 @@ public class RestAssuredConfig {
     public RestAssuredConfig objectMapperConfig(ObjectMapperConfig objectMapperConfig) {
         notNull(objectMapperConfig, "Object mapper config");
         return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
-                objectMapperConfig, connectionConfig);
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
     }
 
     /**
@@ -169,7 +195,31 @@ public class RestAssuredConfig {
     public RestAssuredConfig connectionConfig(ConnectionConfig connectionConfig) {
         notNull(connectionConfig, "Connection config");
         return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
-                objectMapperConfig, connectionConfig);
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
+    }
+
+    /**
+     * Set the response config.
+     *
+     * @param responseConfig The {@link com.jayway.restassured.config.ResponseConfig} to set
+     * @return An updated RestAssuredConfiguration
+     */
+    public RestAssuredConfig responseConfig(ResponseConfig responseConfig) {
+        notNull(responseConfig, "Response config");
+        return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
+    }
+
+    /**
+     * Set the async config.
+     *
+     * @param asyncConfig The {@link com.jayway.restassured.config.AsyncConfig} to set
+     * @return An updated RestAssuredConfiguration
+     */
+    public RestAssuredConfig asyncConfig(AsyncConfig asyncConfig) {
+        notNull(asyncConfig, "Async config");
+        return new RestAssuredConfig(redirectConfig, httpClientConfig, logConfig, encoderConfig, decoderConfig, sessionConfig,
+                objectMapperConfig, connectionConfig, responseConfig, asyncConfig);
     }
 
     /**
@@ -246,6 +296,20 @@ public class RestAssuredConfig {
         return connectionConfig;
     }
 
+    /**
+     * @return The ResponseConfig
+     */
+    public ResponseConfig getResponseConfig() {
+        return responseConfig;
+    }
+
+    /**
+     * @return The AsyncConfig
+     */
+    public AsyncConfig getAsyncConfig() {
+        return asyncConfig;
+    }
+
     /**
      * @return A static way to create a new RestAssuredConfiguration instance without calling "new" explicitly. Mainly for syntactic sugar.
      */
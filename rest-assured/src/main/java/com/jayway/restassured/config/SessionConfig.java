@@ -16,18 +16,27 @@
 
 package com.jayway.restassured.config;
 
+import com.jayway.restassured.internal.filter.FormAuthSessionCache;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 
 /**
  * Configure session management for REST Assured. Here you can define a default session id value that'll be used for each request as well as
  * defining the default session id name (by default it's {@value SessionConfig#DEFAULT_SESSION_ID_NAME}).
+ * <p>
+ * The session config also holds the sessions of form authentication (see {@link com.jayway.restassured.RestAssured#form(String, String)}).
+ * The cookies returned when logging in are reused by subsequent requests using the same session config (or a copy of it) to
+ * the same server with the same credentials. At most {@value FormAuthSessionCache#DEFAULT_MAX_SESSIONS} sessions are cached
+ * and they can be removed by calling {@link #clearFormAuthSessions()}.
+ * </p>
  */
 public class SessionConfig {
 
     public static final String DEFAULT_SESSION_ID_NAME = "JSESSIONID";
     private final String sessionIdName;
     private final String sessionIdValue;
+    // Shared by all copies of this configuration
+    private final FormAuthSessionCache formAuthSessions;
 
     /**
      * Create a new session configuration  with session id name {@value #DEFAULT_SESSION_ID_NAME} and no session id value.
@@ -53,9 +62,14 @@ public class SessionConfig {
      *                         Default is <code>null</code>.  
      */
     public SessionConfig(String sessionIdName, String sessionIdValue) {
+        this(sessionIdName, sessionIdValue, new FormAuthSessionCache());
+    }
+
+    private SessionConfig(String sessionIdName, String sessionIdValue, FormAuthSessionCache formAuthSessions) {
         Validate.notEmpty(sessionIdName, "Session id name cannot be empty.");
         this.sessionIdName = sessionIdName;
         this.sessionIdValue = sessionIdValue;
+        this.formAuthSessions = formAuthSessions;
     }
 
     public boolean isSessionIdValueDefined() {
@@ -69,7 +83,7 @@ public class SessionConfig {
      * @return A new SessionConfig instance
      */
     public SessionConfig sessionIdValue(String defaultSessionId) {
-        return new SessionConfig(sessionIdName, defaultSessionId);
+        return new SessionConfig(sessionIdName, defaultSessionId, formAuthSessions);
     }
 
 
@@ -80,7 +94,32 @@ public class SessionConfig {
      * @return A new SessionConfig instance
      */
     public SessionConfig sessionIdName(String sessionIdName) {
-        return new SessionConfig(sessionIdName, sessionIdValue);
+        return new SessionConfig(sessionIdName, sessionIdValue, formAuthSessions);
+    }
+
+    /**
+     * Create a configuration with the same settings that caches form authentication sessions of its own so that
+     * {@link #clearFormAuthSessions()} doesn't affect the other configuration.
+     *
+     * @return A new SessionConfig instance with the same settings and no cached form authentication sessions
+     */
+    public SessionConfig withOwnFormAuthSessions() {
+        return new SessionConfig(sessionIdName, sessionIdValue, new FormAuthSessionCache());
+    }
+
+    /**
+     * Remove all cached form authentication sessions of this configuration, e.g. after the server has been restarted or the
+     * user has logged out. The next request using form authentication logs in again.
+     */
+    public void clearFormAuthSessions() {
+        formAuthSessions.clear();
+    }
+
+    /**
+     * @return The cached form authentication sessions of this configuration. Used internally by REST Assured.
+     */
+    public FormAuthSessionCache formAuthSessions() {
+        return formAuthSessions;
     }
 
     /**
@@ -27,6 +27,12 @@ import com.jayway.restassured.specification.RequestSender;
  */
 public interface FilterContext {
 
+    /**
+     * The name of the value (see {@link #getValue(String)}) that holds the request path before the path parameters were
+     * applied, e.g. <code>/users/{id}</code>.
+     */
+    String REQUEST_PATH_TEMPLATE = "requestPathTemplate";
+
     /**
      * Add a value that may be used be subsequent filters.
      *
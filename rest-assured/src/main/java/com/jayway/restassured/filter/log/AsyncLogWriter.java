@@ -0,0 +1,364 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.log;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes the messages of the logging filters to a print stream in a background thread. The thread making the request only
+ * captures what should be logged and hands it over to the background thread through a bounded queue. Formatting and
+ * pretty-printing the body as well as writing to the stream (e.g. contending for the <code>System.out</code> lock when running
+ * tests in parallel) is done in the background. Usage example:
+ * <pre>
+ * AsyncLogWriter writer = new AsyncLogWriter(System.out);
+ * RestAssured.filters(new RequestLoggingFilter(LogDetail.ALL, true, writer), new ResponseLoggingFilter(LogDetail.ALL, true, writer));
+ * </pre>
+ * or, to use it when logging using the log specification DSL (e.g. <code>given().log().all()</code>):
+ * <pre>
+ * RestAssured.config = config().logConfig(logConfig().asyncLogWriter(writer));
+ * </pre>
+ * <p>
+ * At most {@link #getCapacity()} messages are queued. What happens when the queue is full is decided by the {@link OverflowPolicy}.
+ * Bodies longer than {@link #getMaxBodyLength()} characters are truncated before they're queued so the memory used by the
+ * queue is bounded. Truncated bodies are not pretty-printed.
+ * </p>
+ * <p>
+ * The background thread is a daemon thread that is started when the first message is written. Messages that are still queued
+ * when the JVM shuts down are written by a shutdown hook. Call {@link #flush()} to wait until all queued messages have been
+ * written, e.g. at the end of a test, and {@link #close()} to also stop the thread. The writer of the log configuration of
+ * {@link com.jayway.restassured.RestAssured#config} is closed by {@link com.jayway.restassured.RestAssured#reset()} and
+ * {@link #closeRunningWriters()} closes all writers. A closed writer starts a new thread when it's used again. Since each
+ * writer has its own thread you should create one writer and share it between the logging filters rather than creating a
+ * new writer for each request.
+ * </p>
+ */
+public class AsyncLogWriter implements LogWriter {
+
+    /**
+     * What to do when a message is logged while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Block the thread making the request until there's room in the queue. No messages are lost.
+         */
+        BLOCK,
+        /**
+         * Drop the message. The number of dropped messages is written to the stream when there's room in the queue again.
+         */
+        DROP
+    }
+
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int DEFAULT_MAX_BODY_LENGTH = 64 * 1024;
+
+    private static final long SHUTDOWN_FLUSH_TIMEOUT_SECONDS = 5;
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    private static final Set<AsyncLogWriter> RUNNING_WRITERS = new HashSet<AsyncLogWriter>();
+    private static boolean shutdownHookRegistered = false;
+
+    private final PrintStream stream;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int maxBodyLength;
+    private final BlockingQueue<LogMessage> queue;
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final Object lock = new Object();
+    // Messages are queued while holding the read lock and the writer is closed while holding the write lock so that no message
+    // can be queued after the thread has been told to stop
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean started = false;
+    private Thread writerThread;
+
+    /**
+     * Write to the supplied stream blocking when {@value #DEFAULT_CAPACITY} messages are queued and truncating bodies
+     * longer than {@value #DEFAULT_MAX_BODY_LENGTH} characters.
+     *
+     * @param stream The stream to write to
+     */
+    public AsyncLogWriter(PrintStream stream) {
+        this(stream, DEFAULT_CAPACITY, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Write to the supplied stream truncating bodies longer than {@value #DEFAULT_MAX_BODY_LENGTH} characters.
+     *
+     * @param stream         The stream to write to
+     * @param capacity       The maximum number of queued messages
+     * @param overflowPolicy What to do when the queue is full
+     */
+    public AsyncLogWriter(PrintStream stream, int capacity, OverflowPolicy overflowPolicy) {
+        this(stream, capacity, overflowPolicy, DEFAULT_MAX_BODY_LENGTH);
+    }
+
+    /**
+     * Write to the supplied stream.
+     *
+     * @param stream         The stream to write to
+     * @param capacity       The maximum number of queued messages
+     * @param overflowPolicy What to do when the queue is full
+     * @param maxBodyLength  The maximum number of characters of a request or response body to log
+     */
+    public AsyncLogWriter(PrintStream stream, int capacity, OverflowPolicy overflowPolicy, int maxBodyLength) {
+        Validate.notNull(stream, "Print stream cannot be null");
+        Validate.notNull(overflowPolicy, "Overflow policy cannot be null");
+        Validate.isTrue(capacity > 0, "Capacity must be greater than 0.");
+        Validate.isTrue(maxBodyLength >= 0, "Max body length cannot be negative.");
+        this.stream = stream;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.maxBodyLength = maxBodyLength;
+        this.queue = new ArrayBlockingQueue<LogMessage>(capacity);
+    }
+
+    public void write(LogMessage message) {
+        final Lock readLock = closeLock.readLock();
+        readLock.lock();
+        try {
+            ensureWriterThreadIsRunning();
+            if (overflowPolicy == OverflowPolicy.BLOCK) {
+                try {
+                    queue.put(message);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedMessages.incrementAndGet();
+                }
+            } else if (!queue.offer(message)) {
+                droppedMessages.incrementAndGet();
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public String truncateBody(String body) {
+        if (body == null || body.length() <= maxBodyLength) {
+            return body;
+        }
+        return body.substring(0, maxBodyLength) + String.format("%n... (%d more characters)", body.length() - maxBodyLength);
+    }
+
+    /**
+     * Wait until all messages queued so far have been written.
+     *
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public void flush() throws InterruptedException {
+        flush(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Wait until all messages queued so far have been written or the timeout elapses.
+     *
+     * @param timeout  The maximum time to wait
+     * @param timeUnit The time unit of the timeout
+     * @return <code>true</code> if all messages were written, <code>false</code> if the timeout elapsed.
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean flush(long timeout, TimeUnit timeUnit) throws InterruptedException {
+        final FlushMarker marker = new FlushMarker();
+        final Lock readLock = closeLock.readLock();
+        readLock.lock();
+        try {
+            ensureWriterThreadIsRunning();
+            // The marker is queued even if the overflow policy is to drop messages
+            if (!queue.offer(marker, timeout, timeUnit)) {
+                return false;
+            }
+        } finally {
+            readLock.unlock();
+        }
+        return marker.written.await(timeout, timeUnit);
+    }
+
+    /**
+     * Write all messages queued so far and stop the background thread. Messages written while the writer is being closed are
+     * queued once the thread has stopped and the thread is started again, i.e. the writer can be used after it has been closed.
+     *
+     * @throws InterruptedException If interrupted while waiting for the queued messages to be written
+     */
+    public void close() throws InterruptedException {
+        final Lock writeLock = closeLock.writeLock();
+        writeLock.lockInterruptibly();
+        try {
+            if (!started) {
+                return;
+            }
+            // Queued after all messages so that they're written before the thread stops. The lock is held until the thread
+            // has stopped so that no message is queued after the marker and a new thread isn't started while the old one is
+            // still draining the queue.
+            queue.put(new CloseMarker());
+            writerThread.join();
+            writerThread = null;
+            started = false;
+            synchronized (RUNNING_WRITERS) {
+                RUNNING_WRITERS.remove(this);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Close all writers that have a running background thread.
+     *
+     * @see #close()
+     */
+    public static void closeRunningWriters() {
+        for (AsyncLogWriter writer : runningWriters()) {
+            try {
+                writer.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return The number of messages that have been dropped since the queue was full.
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    /**
+     * @return The maximum number of queued messages.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return What to do when the queue is full.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return The maximum number of characters of a request or response body to log.
+     */
+    public int getMaxBodyLength() {
+        return maxBodyLength;
+    }
+
+    private void ensureWriterThreadIsRunning() {
+        if (started) {
+            return;
+        }
+        synchronized (lock) {
+            if (started) {
+                return;
+            }
+            writerThread = new Thread(new Runnable() {
+                public void run() {
+                    writeQueuedMessages();
+                }
+            }, "rest-assured-log-writer-" + THREAD_NUMBER.incrementAndGet());
+            writerThread.setDaemon(true);
+            writerThread.start();
+            started = true;
+        }
+        synchronized (RUNNING_WRITERS) {
+            RUNNING_WRITERS.add(this);
+            if (!shutdownHookRegistered) {
+                Runtime.getRuntime().addShutdownHook(new Thread("rest-assured-log-writer-shutdown") {
+                    @Override
+                    public void run() {
+                        flushRunningWriters();
+                    }
+                });
+                shutdownHookRegistered = true;
+            }
+        }
+    }
+
+    private void writeQueuedMessages() {
+        long reportedDroppedMessages = 0;
+        while (true) {
+            final LogMessage message;
+            try {
+                message = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            final long dropped = droppedMessages.get();
+            if (dropped > reportedDroppedMessages) {
+                stream.printf("(%d log messages were dropped since the log queue was full)%n", dropped - reportedDroppedMessages);
+                reportedDroppedMessages = dropped;
+            }
+            if (message instanceof FlushMarker) {
+                stream.flush();
+                ((FlushMarker) message).written.countDown();
+                if (message instanceof CloseMarker) {
+                    return;
+                }
+                continue;
+            }
+            String renderedMessage;
+            try {
+                renderedMessage = message.render();
+            } catch (RuntimeException e) {
+                renderedMessage = "Failed to render log message: " + e;
+            }
+            stream.println(renderedMessage);
+        }
+    }
+
+    private static List<AsyncLogWriter> runningWriters() {
+        synchronized (RUNNING_WRITERS) {
+            return new ArrayList<AsyncLogWriter>(RUNNING_WRITERS);
+        }
+    }
+
+    private static void flushRunningWriters() {
+        for (AsyncLogWriter writer : runningWriters()) {
+            try {
+                writer.flush(SHUTDOWN_FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static class FlushMarker extends LogMessage {
+        private final CountDownLatch written = new CountDownLatch(1);
+
+        private FlushMarker() {
+            super(null, null, null);
+        }
+    }
+
+    private static class CloseMarker extends FlushMarker {
+    }
+}
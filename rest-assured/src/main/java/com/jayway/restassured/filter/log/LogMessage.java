@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.log;
+
+import com.jayway.restassured.internal.support.Prettifier;
+import com.jayway.restassured.parsing.Parser;
+
+/**
+ * A log message captured by a logging filter. Everything but the body is formatted when the message is captured. The body
+ * is only pretty-printed when the message is rendered so that an {@link AsyncLogWriter} can do it in the background.
+ */
+class LogMessage {
+    private final String head;
+    private final String body;
+    private final Parser parser;
+
+    /**
+     * @param head   The formatted part of the message preceding the body
+     * @param body   The body or <code>null</code> if no body should be logged
+     * @param parser The parser used to pretty-print the body or <code>null</code> if it shouldn't be pretty-printed
+     */
+    LogMessage(String head, String body, Parser parser) {
+        this.head = head;
+        this.body = body;
+        this.parser = parser;
+    }
+
+    String render() {
+        if (body == null) {
+            return head;
+        }
+        return head + (parser == null ? body : new Prettifier().prettify(body, parser));
+    }
+}
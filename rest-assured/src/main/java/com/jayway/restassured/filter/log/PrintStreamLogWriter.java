@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.log;
+
+import java.io.PrintStream;
+
+/**
+ * Renders and writes log messages directly to a print stream in the thread making the request.
+ */
+class PrintStreamLogWriter implements LogWriter {
+    private final PrintStream stream;
+
+    PrintStreamLogWriter(PrintStream stream) {
+        this.stream = stream;
+    }
+
+    public void write(LogMessage message) {
+        stream.println(message.render());
+    }
+
+    public String truncateBody(String body) {
+        return body;
+    }
+}
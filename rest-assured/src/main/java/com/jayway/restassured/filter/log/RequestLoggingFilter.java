@@ -19,7 +19,7 @@ package com.jayway.restassured.filter.log;
 import com.jayway.restassured.filter.Filter;
 import com.jayway.restassured.filter.FilterContext;
 import com.jayway.restassured.internal.NoParameterValue;
-import com.jayway.restassured.internal.support.Prettifier;
+import com.jayway.restassured.parsing.Parser;
 import com.jayway.restassured.response.*;
 import com.jayway.restassured.specification.FilterableRequestSpecification;
 import com.jayway.restassured.specification.FilterableResponseSpecification;
@@ -48,7 +48,7 @@ public class RequestLoggingFilter implements Filter {
     private static final String CONTENT_TYPE = "Content-Type";
 
     private final LogDetail logDetail;
-    private final PrintStream stream;
+    private final LogWriter writer;
     private final boolean shouldPrettyPrint;
 
     /**
@@ -95,17 +95,37 @@ public class RequestLoggingFilter implements Filter {
      * @param stream The stream to log to.
      */
     public RequestLoggingFilter(LogDetail logDetail, boolean shouldPrettyPrint, PrintStream stream) {
-        Validate.notNull(stream, "Print stream cannot be null");
+        this(logDetail, shouldPrettyPrint, new PrintStreamLogWriter(Validate.notNull(stream, "Print stream cannot be null")));
+    }
+
+    /**
+     * Instantiate a logger that logs asynchronously using the supplied writer. Pretty-printing of the body takes place in the
+     * background thread of the writer.
+     *
+     * @param logDetail The log detail
+     * @param shouldPrettyPrint <code>true</code> if pretty-printing of the body should occur.
+     * @param writer The asynchronous writer to log to.
+     */
+    public RequestLoggingFilter(LogDetail logDetail, boolean shouldPrettyPrint, AsyncLogWriter writer) {
+        this(logDetail, shouldPrettyPrint, (LogWriter) Validate.notNull(writer, "Log writer cannot be null"));
+    }
+
+    private RequestLoggingFilter(LogDetail logDetail, boolean shouldPrettyPrint, LogWriter writer) {
         Validate.notNull(logDetail, "Log details cannot be null");
         if(logDetail == STATUS) {
             throw new IllegalArgumentException(String.format("%s is not a valid %s for a request.", STATUS, LogDetail.class.getSimpleName()));
         }
-        this.stream = stream;
+        this.writer = writer;
         this.logDetail = logDetail;
         this.shouldPrettyPrint = shouldPrettyPrint;
     }
 
     public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        log(requestSpec, ctx);
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+    void log(FilterableRequestSpecification requestSpec, FilterContext ctx) {
         final StringBuilder builder = new StringBuilder();
         if(logDetail == ALL) {
             addSingle(builder, "Request method:", ctx.getRequestMethod().toString());
@@ -123,30 +143,29 @@ public class RequestLoggingFilter implements Filter {
         if(logDetail == ALL || logDetail == COOKIES) {
             addCookies(requestSpec, builder);
         }
+        final Object body = requestSpec.getBody();
+        final boolean shouldLogBody = (logDetail == ALL || logDetail == BODY) && body != null;
         if(logDetail == ALL || logDetail == BODY) {
-            addBody(requestSpec, builder);
+            builder.append("Body:");
+            if(shouldLogBody) {
+                builder.append(NEW_LINE);
+            } else {
+                appendTab(appendTwoTabs(builder)).append(NONE);
+            }
         }
         String logString = builder.toString();
-        if(logString.endsWith("\n")) {
+        if(logString.endsWith("\n") && !shouldLogBody) {
             logString = StringUtils.removeEnd(logString, "\n");
         }
-        stream.println(logString);
-        return ctx.next(requestSpec, responseSpec);
+        writer.write(shouldLogBody ? createLogMessage(logString, requestSpec, body) : new LogMessage(logString, null, null));
     }
 
-    private void addBody(FilterableRequestSpecification requestSpec, StringBuilder builder) {
-        builder.append("Body:");
-        if(requestSpec.getBody() != null) {
-            final String body;
-            if(shouldPrettyPrint) {
-                body = new Prettifier().getPrettifiedBodyIfPossible(requestSpec);
-            } else {
-                body = requestSpec.getBody();
-            }
-            builder.append(NEW_LINE).append(body);
-        } else {
-            appendTab(appendTwoTabs(builder)).append(NONE);
-        }
+    private LogMessage createLogMessage(String head, FilterableRequestSpecification requestSpec, Object body) {
+        final String bodyAsString = body.toString();
+        final String loggedBody = writer.truncateBody(bodyAsString);
+        // Only string bodies that haven't been truncated can be pretty-printed
+        final boolean canPrettyPrint = shouldPrettyPrint && body instanceof String && loggedBody == bodyAsString;
+        return new LogMessage(head, loggedBody, canPrettyPrint ? Parser.fromContentType(requestSpec.getRequestContentType()) : null);
     }
 
     private void addCookies(FilterableRequestSpecification requestSpec, StringBuilder builder) {
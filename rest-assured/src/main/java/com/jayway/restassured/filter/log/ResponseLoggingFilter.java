@@ -161,6 +161,29 @@ public class ResponseLoggingFilter extends StatusCodeBasedLoggingFilter {
         super(logDetail, prettyPrint, stream, matcher);
     }
 
+    /**
+     * Instantiate a logger that logs asynchronously using the supplied writer for all status codes.
+     *
+     * @param logDetail The log detail
+     * @param prettyPrint Enable or disable pretty printing of the body
+     * @param writer The asynchronous writer to log to.
+     */
+    public ResponseLoggingFilter(LogDetail logDetail, boolean prettyPrint, AsyncLogWriter writer) {
+        this(logDetail, prettyPrint, writer, Matchers.any(Integer.class));
+    }
+
+    /**
+     * Instantiate a logger that logs asynchronously using the supplied writer for status codes matching the supplied matcher.
+     *
+     * @param logDetail The log detail
+     * @param prettyPrint Enable or disable pretty printing of the body
+     * @param writer The asynchronous writer to log to.
+     * @param matcher The matcher that must be fulfilled if the response body is to be printed.
+     */
+    public ResponseLoggingFilter(LogDetail logDetail, boolean prettyPrint, AsyncLogWriter writer, Matcher<Integer> matcher) {
+        super(logDetail, prettyPrint, writer, matcher);
+    }
+
     /**
      * Create a new logging filter without using the "new" operator.
      * Will make the DSL look nicer.
@@ -21,6 +21,7 @@ import com.jayway.restassured.filter.Filter;
 import com.jayway.restassured.filter.FilterContext;
 import com.jayway.restassured.internal.RestAssuredResponseImpl;
 import com.jayway.restassured.internal.support.Prettifier;
+import com.jayway.restassured.parsing.Parser;
 import com.jayway.restassured.response.Cookies;
 import com.jayway.restassured.response.Headers;
 import com.jayway.restassured.response.Response;
@@ -36,8 +37,9 @@ import static com.jayway.restassured.filter.log.LogDetail.*;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 class StatusCodeBasedLoggingFilter implements Filter {
+    private static final String STREAMED_BODY = "<The body has been streamed and is no longer available>";
 
-    private final PrintStream stream;
+    private final LogWriter writer;
     private final Matcher<?> matcher;
     private final LogDetail logDetail;
     private final boolean shouldPrettyPrint;
@@ -79,15 +81,31 @@ class StatusCodeBasedLoggingFilter implements Filter {
      * @param matcher The matcher for the logging to take place
      */
     public StatusCodeBasedLoggingFilter(LogDetail logDetail, boolean prettyPrint, PrintStream stream, Matcher<? super Integer> matcher) {
+        this(logDetail, prettyPrint, new PrintStreamLogWriter(Validate.notNull(stream, "Print stream cannot be null")), matcher);
+    }
+
+    /**
+     * Instantiate a logger that logs asynchronously using the supplied writer. Pretty-printing of the body takes place in the
+     * background thread of the writer.
+     *
+     * @param logDetail The log detail
+     * @param prettyPrint Enabled pretty printing if possible
+     * @param writer The asynchronous writer to log to.
+     * @param matcher The matcher for the logging to take place
+     */
+    public StatusCodeBasedLoggingFilter(LogDetail logDetail, boolean prettyPrint, AsyncLogWriter writer, Matcher<? super Integer> matcher) {
+        this(logDetail, prettyPrint, (LogWriter) Validate.notNull(writer, "Log writer cannot be null"), matcher);
+    }
+
+    private StatusCodeBasedLoggingFilter(LogDetail logDetail, boolean prettyPrint, LogWriter writer, Matcher<? super Integer> matcher) {
         Validate.notNull(logDetail, "Log details cannot be null");
-        Validate.notNull(stream, "Print stream cannot be null");
         Validate.notNull(matcher, "Matcher cannot be null");
         if(logDetail == PARAMS) {
             throw new IllegalArgumentException(String.format("%s is not a valid %s for a response.", PARAMS, LogDetail.class.getSimpleName()));
         }
         this.shouldPrettyPrint = prettyPrint;
         this.logDetail = logDetail;
-        this.stream = stream;
+        this.writer = writer;
         this.matcher = matcher;
     }
 
@@ -102,7 +120,7 @@ class StatusCodeBasedLoggingFilter implements Filter {
         return response;
     }
 
-    private String log(Response response) {
+    String log(Response response) {
         final StringBuilder builder = new StringBuilder();
         String responseBody = null;
         if(logDetail == ALL || logDetail == STATUS) {
@@ -119,19 +137,23 @@ class StatusCodeBasedLoggingFilter implements Filter {
                 appendNewLineIfAll(logDetail, builder).append(cookies.toString());
             }
         }
-        if(logDetail == ALL || logDetail == BODY) {
-            if(shouldPrettyPrint) {
-                responseBody = new Prettifier().getPrettifiedBodyIfPossible(response);
-            } else {
-                responseBody = response.asString();
+        if((logDetail == ALL || logDetail == BODY) && isBodyStreamed(response)) {
+            if(logDetail == ALL) {
+                builder.append("\n\n");
             }
+            writer.write(new LogMessage(builder.toString(), STREAMED_BODY, null));
+        } else if(logDetail == ALL || logDetail == BODY) {
+            responseBody = response.asString();
             if(logDetail == ALL && !isBlank(responseBody)) {
                 builder.append("\n\n");
             }
-
-            builder.append(responseBody);
+            final String loggedBody = writer.truncateBody(responseBody);
+            // Bodies that have been truncated can't be pretty-printed
+            final Parser parser = shouldPrettyPrint && loggedBody == responseBody ? new Prettifier().findParser(response) : null;
+            writer.write(new LogMessage(builder.toString(), String.valueOf(loggedBody), parser));
+        } else {
+            writer.write(new LogMessage(builder.toString(), null, null));
         }
-        stream.println(builder.toString());
         return responseBody;
     }
 
@@ -142,6 +164,10 @@ class StatusCodeBasedLoggingFilter implements Filter {
         return builder;
     }
 
+    private static boolean isBodyStreamed(Response response) {
+        return response instanceof RestAssuredResponseImpl && ((RestAssuredResponseImpl) response).isBodyStreamed();
+    }
+
     /*
      * If body expectations are defined we need to return a new Response otherwise the stream
      * has been closed due to the logging.
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.log;
+
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import org.apache.commons.lang3.Validate;
+
+import java.io.PrintStream;
+
+import static com.jayway.restassured.filter.log.LogDetail.ALL;
+
+/**
+ * Logs the request and/or the response only if the validation of the response fails, e.g.
+ * <pre>
+ * given().filter(new ValidationFailureLoggingFilter()). ..
+ * </pre>
+ * or using the log specification DSL:
+ * <pre>
+ * given().log().ifValidationFails(). ..
+ * expect().log().ifValidationFails(). ..
+ * </pre>
+ * Nothing is formatted while the request is made. If the validation fails the request specification and the response are
+ * formatted and printed just before the {@link AssertionError} is thrown. Since the request specification is formatted after
+ * the request has been made, the request is logged as it looks after all filters have been applied.
+ */
+public class ValidationFailureLoggingFilter implements Filter {
+
+    private final RequestLoggingFilter requestLogger;
+    private final ResponseLoggingFilter responseLogger;
+
+    /**
+     * Log everything in the request and response to System.out if validation fails.
+     */
+    public ValidationFailureLoggingFilter() {
+        this(System.out);
+    }
+
+    /**
+     * Log everything in the request and response to the specified stream if validation fails.
+     *
+     * @param stream The stream to log to.
+     */
+    public ValidationFailureLoggingFilter(PrintStream stream) {
+        this(ALL, ALL, true, stream);
+    }
+
+    /**
+     * Instantiate a logger using a specific print stream and a specific log detail for the request and the response.
+     *
+     * @param requestLogDetail  The log detail of the request or <code>null</code> if the request shouldn't be logged.
+     * @param responseLogDetail The log detail of the response or <code>null</code> if the response shouldn't be logged.
+     * @param shouldPrettyPrint <code>true</code> if pretty-printing of the body should occur.
+     * @param stream            The stream to log to.
+     */
+    public ValidationFailureLoggingFilter(LogDetail requestLogDetail, LogDetail responseLogDetail, boolean shouldPrettyPrint, PrintStream stream) {
+        Validate.notNull(stream, "Print stream cannot be null");
+        Validate.isTrue(requestLogDetail != null || responseLogDetail != null, "Either the request or the response must be logged");
+        this.requestLogger = requestLogDetail == null ? null : new RequestLoggingFilter(requestLogDetail, shouldPrettyPrint, stream);
+        this.responseLogger = responseLogDetail == null ? null : new ResponseLoggingFilter(responseLogDetail, shouldPrettyPrint, stream);
+    }
+
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        // Logging takes place when REST Assured reports that the validation failed
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+    /**
+     * Log the request and response. Called by REST Assured when the validation of the response has failed.
+     *
+     * @param requestSpec The request specification
+     * @param ctx         The filter context of the request
+     * @param response    The response that failed validation
+     */
+    public void validationFailed(FilterableRequestSpecification requestSpec, FilterContext ctx, Response response) {
+        if (requestLogger != null) {
+            requestLogger.log(requestSpec, ctx);
+        }
+        if (responseLogger != null && response != null) {
+            responseLogger.log(response);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The aggregated metrics of all requests to an endpoint, i.e. a request method and path template such as
+ * <code>GET /users/{id}</code>. This class is thread-safe.
+ */
+public class EndpointMetrics {
+    private final String method;
+    private final String pathTemplate;
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    public EndpointMetrics(String method, String pathTemplate) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+    }
+
+    void record(RequestMetrics metrics) {
+        if (metrics.isError()) {
+            errorCount.incrementAndGet();
+        }
+        bytesSent.addAndGet(metrics.getBytesSent());
+        bytesReceived.addAndGet(metrics.getBytesReceived());
+        latencies.record(metrics.getLatency(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * @return The number of requests.
+     */
+    public long getCount() {
+        return latencies.getCount();
+    }
+
+    /**
+     * @return The number of requests that failed or whose response had a status code of 500 or greater.
+     */
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * @return The ratio of requests that were errors (see {@link #getErrorCount()}), between 0 and 1.
+     */
+    public double getErrorRate() {
+        final long count = getCount();
+        return count == 0 ? 0 : (double) errorCount.get() / count;
+    }
+
+    /**
+     * @return The total number of bytes sent.
+     */
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    /**
+     * @return The total size of the response bodies received in bytes.
+     */
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    /**
+     * @return The latency histogram of the requests.
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + pathTemplate;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.metrics;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread-safe histogram of latencies with microsecond resolution. Like an HDR histogram the values are counted in
+ * buckets whose width grows with the magnitude of the value so that any recorded value is reported with a relative error
+ * of less than 2% while the memory footprint stays constant (16 KB) regardless of the number of recorded values.
+ * Recording a value is lock-free and doesn't allocate any memory.
+ * <p>
+ * Latencies larger than {@value #MAX_TRACKABLE_MICROS} microseconds (about 19 hours) are recorded as
+ * {@value #MAX_TRACKABLE_MICROS} microseconds.
+ * </p>
+ */
+public class LatencyHistogram {
+    public static final long MAX_TRACKABLE_MICROS = (1L << 36) - 1;
+
+    // Values below 2^PRECISION_BITS are counted exactly, larger values keep their PRECISION_BITS most significant bits.
+    private static final int PRECISION_BITS = 7;
+    private static final int LINEAR_BUCKETS = 1 << PRECISION_BITS;
+    private static final int HALF_LINEAR_BUCKETS = LINEAR_BUCKETS / 2;
+    private static final int NUMBER_OF_BUCKETS = index(MAX_TRACKABLE_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(NUMBER_OF_BUCKETS);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param latency  The latency
+     * @param timeUnit The time unit of the latency
+     */
+    public void record(long latency, TimeUnit timeUnit) {
+        Validate.isTrue(latency >= 0, "Latency cannot be negative.");
+        final long micros = Math.min(timeUnit.toMicros(latency), MAX_TRACKABLE_MICROS);
+        counts.incrementAndGet(index(micros));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        long max;
+        while (micros > (max = maxMicros.get()) && !maxMicros.compareAndSet(max, micros)) {
+            // Retry until the max is updated or another thread has recorded a larger value
+        }
+    }
+
+    /**
+     * @return The number of recorded latencies.
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * @param timeUnit The time unit
+     * @return The largest recorded latency in the given time unit.
+     */
+    public long getMax(TimeUnit timeUnit) {
+        return timeUnit.convert(maxMicros.get(), TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * @param timeUnit The time unit
+     * @return The mean of the recorded latencies in the given time unit or <code>0</code> if no latency has been recorded.
+     */
+    public double getMean(TimeUnit timeUnit) {
+        final long count = totalCount.get();
+        return count == 0 ? 0 : toUnit(totalMicros.get(), timeUnit) / count;
+    }
+
+    /**
+     * Get the latency at the given percentile, e.g. <code>getValueAtPercentile(99, MILLISECONDS)</code> returns the latency
+     * that 99% of the recorded latencies are less than or equal to.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @param timeUnit   The time unit
+     * @return The latency at the percentile in the given time unit or <code>0</code> if no latency has been recorded.
+     */
+    public double getValueAtPercentile(double percentile, TimeUnit timeUnit) {
+        Validate.isTrue(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100.");
+        final long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int index = 0; index < NUMBER_OF_BUCKETS; index++) {
+            seen += counts.get(index);
+            if (seen >= rank) {
+                // Report the highest value of the bucket but never more than the largest recorded value
+                return toUnit(Math.min(highestValue(index), maxMicros.get()), timeUnit);
+            }
+        }
+        // Values recorded concurrently may not all be visible yet
+        return toUnit(maxMicros.get(), timeUnit);
+    }
+
+    /**
+     * @return A copy of this histogram that isn't affected by latencies recorded after the copy was made.
+     */
+    public LatencyHistogram copy() {
+        final LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Add all latencies recorded by another histogram to this histogram.
+     *
+     * @param other The other histogram
+     */
+    public void add(LatencyHistogram other) {
+        Validate.notNull(other, "Histogram cannot be null");
+        long count = 0;
+        for (int index = 0; index < NUMBER_OF_BUCKETS; index++) {
+            final long bucketCount = other.counts.get(index);
+            counts.addAndGet(index, bucketCount);
+            count += bucketCount;
+        }
+        // Use the sum of the buckets so that the count is consistent with the buckets even if values are recorded concurrently
+        totalCount.addAndGet(count);
+        totalMicros.addAndGet(other.totalMicros.get());
+        final long otherMax = other.maxMicros.get();
+        long max;
+        while (otherMax > (max = maxMicros.get()) && !maxMicros.compareAndSet(max, otherMax)) {
+            // Retry until the max is updated or another thread has recorded a larger value
+        }
+    }
+
+    /**
+     * Remove all recorded latencies.
+     */
+    public void reset() {
+        for (int index = 0; index < NUMBER_OF_BUCKETS; index++) {
+            counts.set(index, 0);
+        }
+        totalCount.set(0);
+        totalMicros.set(0);
+        maxMicros.set(0);
+    }
+
+    private static int index(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+        // Keep the PRECISION_BITS most significant bits, i.e. HALF_LINEAR_BUCKETS buckets per power of two
+        final int shift = 64 - Long.numberOfLeadingZeros(micros) - PRECISION_BITS;
+        return LINEAR_BUCKETS + (shift - 1) * HALF_LINEAR_BUCKETS + (int) (micros >>> shift) - HALF_LINEAR_BUCKETS;
+    }
+
+    private static long highestValue(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        final int shift = (index - LINEAR_BUCKETS) / HALF_LINEAR_BUCKETS + 1;
+        final long mostSignificantBits = (index - LINEAR_BUCKETS) % HALF_LINEAR_BUCKETS + HALF_LINEAR_BUCKETS;
+        return ((mostSignificantBits + 1) << shift) - 1;
+    }
+
+    private static double toUnit(long micros, TimeUnit timeUnit) {
+        return (double) TimeUnit.MICROSECONDS.toNanos(micros) / timeUnit.toNanos(1);
+    }
+}
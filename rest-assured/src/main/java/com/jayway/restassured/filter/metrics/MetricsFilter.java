@@ -0,0 +1,237 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.metrics;
+
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.internal.RestAssuredResponseImpl;
+import com.jayway.restassured.internal.filter.MetricsSummaries;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A filter that records metrics for each endpoint, i.e. for each request method and path template such as
+ * <code>GET /users/{id}</code>. For each endpoint the number of requests, the error rate, the bytes sent and received and a
+ * histogram of the latencies are recorded. Usage example:
+ * <pre>
+ * RestAssured.filters(new MetricsFilter());
+ * </pre>
+ * By default nothing is printed, the metrics are available from {@link #getEndpointMetrics()} and can be printed using
+ * {@link #printSummary(java.io.PrintStream)}. To print a summary when {@link com.jayway.restassured.RestAssured#reset()} is
+ * called and when the JVM shuts down supply the stream to print to:
+ * <pre>
+ * RestAssured.filters(new MetricsFilter(System.out));
+ * </pre>
+ * Each summary covers the requests made since the previous summary. If you call <code>RestAssured.reset()</code> after each
+ * test you probably want a single summary when the JVM shuts down instead:
+ * <pre>
+ * MetricsFilter metrics = new MetricsFilter(System.out, false);
+ * </pre>
+ * A filter that prints a summary is referenced until the JVM shuts down. Call {@link #close()} to print the final summary
+ * earlier and release the filter.
+ * The metrics of each request can also be passed to {@link MetricsRecorder}s, e.g. to bridge them to an external metrics registry.
+ * <p>
+ * The latency is the time spent sending the request and receiving the response (see {@link com.jayway.restassured.response.Timings#getTotalTime()})
+ * so it doesn't include the time spent in other filters, logging or validation. A request is an error if no response was
+ * received or if the status code of the response is 500 or greater.
+ * </p>
+ */
+public class MetricsFilter implements Filter {
+    private static final String QUERY_SEPARATOR = "?";
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<String, EndpointMetrics>();
+    private final List<MetricsRecorder> recorders;
+    private final PrintStream summaryStream;
+
+    /**
+     * Record metrics without printing a summary.
+     */
+    public MetricsFilter() {
+        this(null, false);
+    }
+
+    /**
+     * Record metrics and pass the metrics of each request to the supplied recorders. No summary is printed.
+     *
+     * @param recorders The recorders
+     */
+    public MetricsFilter(MetricsRecorder... recorders) {
+        this(null, false, recorders);
+    }
+
+    /**
+     * Record metrics and print a summary to the supplied stream when {@link com.jayway.restassured.RestAssured#reset()} is
+     * called and when the JVM shuts down.
+     *
+     * @param summaryStream The stream to print the summary to
+     */
+    public MetricsFilter(PrintStream summaryStream) {
+        this(summaryStream, true);
+    }
+
+    /**
+     * Record metrics, print a summary to the supplied stream and pass the metrics of each request to the supplied recorders.
+     *
+     * @param summaryStream       The stream to print the summary to when the JVM shuts down, or <code>null</code> if no summary should be printed.
+     * @param printSummaryOnReset <code>true</code> if a summary should also be printed when {@link com.jayway.restassured.RestAssured#reset()} is called.
+     * @param recorders           The recorders
+     */
+    public MetricsFilter(PrintStream summaryStream, boolean printSummaryOnReset, MetricsRecorder... recorders) {
+        this.recorders = Collections.unmodifiableList(new ArrayList<MetricsRecorder>(Arrays.asList(recorders)));
+        this.summaryStream = summaryStream;
+        if (summaryStream != null) {
+            MetricsSummaries.register(this, summaryStream, printSummaryOnReset);
+        }
+    }
+
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        final long start = System.nanoTime();
+        Response response = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            record(ctx, response, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return The metrics of each endpoint, sorted by request method and path template.
+     */
+    public List<EndpointMetrics> getEndpointMetrics() {
+        final List<EndpointMetrics> metrics = new ArrayList<EndpointMetrics>(endpoints.values());
+        Collections.sort(metrics, new Comparator<EndpointMetrics>() {
+            public int compare(EndpointMetrics first, EndpointMetrics second) {
+                final int comparison = first.getPathTemplate().compareTo(second.getPathTemplate());
+                return comparison == 0 ? first.getMethod().compareTo(second.getMethod()) : comparison;
+            }
+        });
+        return metrics;
+    }
+
+    /**
+     * Print the summary of the requests made since the previous summary and stop printing summaries when
+     * {@link com.jayway.restassured.RestAssured#reset()} is called and when the JVM shuts down. Does nothing if the filter
+     * doesn't print a summary or has already been closed. The filter keeps recording metrics.
+     */
+    public void close() {
+        final PrintStream stream = summaryStream;
+        if (stream != null && MetricsSummaries.unregister(this)) {
+            printSummary(stream);
+            reset();
+        }
+    }
+
+    /**
+     * Remove all recorded metrics.
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * Print a summary of the recorded metrics. Nothing is printed if no requests have been recorded.
+     *
+     * @param stream The stream to print the summary to
+     */
+    public void printSummary(PrintStream stream) {
+        final List<EndpointMetrics> metrics = getEndpointMetrics();
+        if (metrics.isEmpty()) {
+            return;
+        }
+        int endpointWidth = "Endpoint".length();
+        for (EndpointMetrics endpoint : metrics) {
+            endpointWidth = Math.max(endpointWidth, endpoint.toString().length());
+        }
+        final String headerFormat = "%-" + endpointWidth + "s %8s %7s %9s %9s %9s %9s %12s %12s%n";
+        final String rowFormat = "%-" + endpointWidth + "s %8d %6.1f%% %9.1f %9.1f %9.1f %9.1f %12d %12d%n";
+        final StringBuilder summary = new StringBuilder("REST Assured metrics:").append(String.format("%n"));
+        summary.append(String.format(headerFormat, "Endpoint", "Count", "Errors", "p50 (ms)", "p90 (ms)", "p99 (ms)", "max (ms)", "Bytes sent", "Bytes recv"));
+        for (EndpointMetrics endpoint : metrics) {
+            final LatencyHistogram latencies = endpoint.getLatencies();
+            summary.append(String.format(rowFormat, endpoint, endpoint.getCount(), endpoint.getErrorRate() * 100,
+                    latencies.getValueAtPercentile(50, TimeUnit.MILLISECONDS), latencies.getValueAtPercentile(90, TimeUnit.MILLISECONDS),
+                    latencies.getValueAtPercentile(99, TimeUnit.MILLISECONDS), latencies.getValueAtPercentile(100, TimeUnit.MILLISECONDS),
+                    endpoint.getBytesSent(), endpoint.getBytesReceived()));
+        }
+        stream.print(summary);
+        stream.flush();
+    }
+
+    private void record(FilterContext ctx, Response response, long elapsedNanos) {
+        final String method = ctx.getRequestMethod().toString();
+        final String pathTemplate = pathTemplate(ctx);
+        final RequestMetrics metrics;
+        if (response == null) {
+            metrics = new RequestMetrics(method, pathTemplate, -1, 0, 0, elapsedNanos);
+        } else {
+            final long transportNanos = response.getTimings().getTotalTimeIn(TimeUnit.NANOSECONDS);
+            metrics = new RequestMetrics(method, pathTemplate, response.getStatusCode(), bytesSent(response), bytesReceived(response),
+                    transportNanos < 0 ? elapsedNanos : transportNanos);
+        }
+
+        final String key = method + " " + pathTemplate;
+        EndpointMetrics endpoint = endpoints.get(key);
+        if (endpoint == null) {
+            final EndpointMetrics newEndpoint = new EndpointMetrics(method, pathTemplate);
+            endpoint = endpoints.putIfAbsent(key, newEndpoint);
+            if (endpoint == null) {
+                endpoint = newEndpoint;
+            }
+        }
+        endpoint.record(metrics);
+        for (MetricsRecorder recorder : recorders) {
+            recorder.record(metrics);
+        }
+    }
+
+    private static String pathTemplate(FilterContext ctx) {
+        final String template = ctx.getValue(FilterContext.REQUEST_PATH_TEMPLATE);
+        final String path = template == null ? ctx.getRequestPath() : template;
+        return StringUtils.contains(path, QUERY_SEPARATOR) ? StringUtils.substringBefore(path, QUERY_SEPARATOR) : path;
+    }
+
+    private static long bytesSent(Response response) {
+        if (response instanceof RestAssuredResponseImpl) {
+            return Math.max(0, ((RestAssuredResponseImpl) response).getTimer().getBytesSent());
+        }
+        return 0;
+    }
+
+    private static long bytesReceived(Response response) {
+        final long bodySize;
+        if (response instanceof RestAssuredResponseImpl) {
+            bodySize = ((RestAssuredResponseImpl) response).bodySize();
+        } else {
+            final String contentLength = response.getHeader("Content-Length");
+            bodySize = StringUtils.isNumeric(contentLength) && !StringUtils.isEmpty(contentLength) ? Long.parseLong(contentLength) : 0;
+        }
+        return Math.max(0, bodySize);
+    }
+}
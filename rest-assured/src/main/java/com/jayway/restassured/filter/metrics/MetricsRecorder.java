@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.metrics;
+
+/**
+ * Receives the metrics of each request recorded by a {@link MetricsFilter}. Implement this interface to bridge the metrics to
+ * an external metrics registry, e.g.
+ * <pre>
+ * public class DropwizardRecorder implements MetricsRecorder {
+ *     public void record(RequestMetrics metrics) {
+ *         registry.timer(metrics.getMethod() + " " + metrics.getPathTemplate()).update(metrics.getLatency(NANOSECONDS), NANOSECONDS);
+ *     }
+ * }
+ * </pre>
+ * Recorders are called by the thread sending the request so they must be thread-safe and should be fast.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Record the metrics of a request.
+     *
+     * @param metrics The metrics of the request
+     */
+    void record(RequestMetrics metrics);
+}
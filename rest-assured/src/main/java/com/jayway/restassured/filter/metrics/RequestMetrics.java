@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The metrics of a single request, see {@link MetricsRecorder}.
+ */
+public class RequestMetrics {
+    private final String method;
+    private final String pathTemplate;
+    private final int statusCode;
+    private final long bytesSent;
+    private final long bytesReceived;
+    private final long latencyInNanos;
+
+    public RequestMetrics(String method, String pathTemplate, int statusCode, long bytesSent, long bytesReceived,
+                          long latencyInNanos) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.statusCode = statusCode;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.latencyInNanos = latencyInNanos;
+    }
+
+    /**
+     * @return The request method, e.g. <code>GET</code>.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return The request path before path parameters were applied and without query parameters, e.g. <code>/users/{id}</code>.
+     */
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    /**
+     * @return The status code of the response or <code>-1</code> if no response was received.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return The number of bytes sent including the request line and headers, or <code>0</code> if unknown.
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    /**
+     * @return The size of the response body in bytes, or <code>0</code> if unknown.
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    /**
+     * @param timeUnit The time unit
+     * @return The time from sending the request until the response was received in the given time unit.
+     */
+    public long getLatency(TimeUnit timeUnit) {
+        return timeUnit.convert(latencyInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return <code>true</code> if no response was received or if the status code of the response is 500 or greater.
+     */
+    public boolean isError() {
+        return statusCode == -1 || statusCode >= 500;
+    }
+}
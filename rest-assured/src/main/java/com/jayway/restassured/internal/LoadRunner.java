@@ -0,0 +1,134 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal;
+
+import com.jayway.restassured.filter.metrics.LatencyHistogram;
+import com.jayway.restassured.response.LoadResult;
+import org.apache.commons.lang3.Validate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Starts requests at a constant rate using a fixed number of threads ("users"). The requests are created by the thread
+ * calling {@link #run(Iterator)} and executed by the users. A request that should be started while all users are busy is
+ * skipped rather than queued so that a slow server can't lower the rate at which requests are started. The latency of a
+ * request is measured from when it was scheduled to start so that a request that had to wait for a user includes the time
+ * it waited.
+ */
+public class LoadRunner {
+    private static final int MAX_RECORDED_FAILURES = 10;
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final int users;
+    private final long intervalInNanos;
+    private final long durationInNanos;
+
+    /**
+     * @param users             The maximum number of requests in progress at the same time
+     * @param requestsPerSecond The number of requests to start per second
+     * @param durationInNanos   For how long to start requests
+     */
+    public LoadRunner(int users, double requestsPerSecond, long durationInNanos) {
+        Validate.isTrue(users > 0, "Users must be greater than 0.");
+        Validate.isTrue(requestsPerSecond > 0, "Rate must be greater than 0.");
+        Validate.isTrue(durationInNanos > 0, "Duration must be greater than 0.");
+        this.users = users;
+        this.intervalInNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        this.durationInNanos = durationInNanos;
+    }
+
+    /**
+     * Run the load test and wait for all started requests to complete.
+     *
+     * @param requests Creates the requests. A request fails if it throws an exception or an error.
+     * @return The result of the load test
+     */
+    public LoadResult run(Iterator<? extends Callable<?>> requests) {
+        final ExecutorService executor = Executors.newFixedThreadPool(users, new ThreadFactory() {
+            public Thread newThread(Runnable runnable) {
+                final Thread thread = new Thread(runnable, "rest-assured-load-" + THREAD_NUMBER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        final Semaphore idleUsers = new Semaphore(users);
+        final LatencyHistogram latencies = new LatencyHistogram();
+        final AtomicLong completedRequests = new AtomicLong();
+        final AtomicLong failedRequests = new AtomicLong();
+        final List<String> failures = new CopyOnWriteArrayList<String>();
+        long missedRequests = 0;
+
+        final long start = System.nanoTime();
+        try {
+            for (long requestNumber = 0; requestNumber * intervalInNanos < durationInNanos && requests.hasNext(); requestNumber++) {
+                final long scheduledStart = start + requestNumber * intervalInNanos;
+                waitUntil(scheduledStart);
+                final Callable<?> request = requests.next();
+                if (!idleUsers.tryAcquire()) {
+                    missedRequests++;
+                    continue;
+                }
+                executor.execute(new Runnable() {
+                    public void run() {
+                        try {
+                            request.call();
+                        } catch (Throwable e) {
+                            failedRequests.incrementAndGet();
+                            if (failures.size() < MAX_RECORDED_FAILURES) {
+                                failures.add(e.toString());
+                            }
+                        } finally {
+                            latencies.record(System.nanoTime() - scheduledStart, TimeUnit.NANOSECONDS);
+                            completedRequests.incrementAndGet();
+                            idleUsers.release();
+                        }
+                    }
+                });
+            }
+            // Wait for the requests in progress
+            idleUsers.acquire(users);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the load test.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        final long duration = System.nanoTime() - start;
+        return new LoadResult(completedRequests.get(), failedRequests.get(), missedRequests, duration, latencies, failures);
+    }
+
+    private static void waitUntil(long nanoTime) throws InterruptedException {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.internal;
+
+import com.jayway.restassured.config.AsyncConfig;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.response.ResponseCallback;
+import com.jayway.restassured.response.ResponseFuture;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * A response future whose callbacks are invoked by the {@link java.util.concurrent.FutureTask#done()} method of the
+ * submitted request.
+ */
+public class ResponseFutureImpl implements ResponseFuture, AsyncConfig.CompletionListener<Response> {
+    private final List<ResponseCallback> callbacks = new ArrayList<ResponseCallback>();
+    private Future<Response> future;
+    // Guarded by callbacks
+    private Future<Response> completedFuture;
+
+    private ResponseFutureImpl() {
+    }
+
+    /**
+     * Submit a request for asynchronous execution.
+     *
+     * @param asyncConfig The configuration that executes the request
+     * @param request     The request
+     * @return The future response of the request
+     */
+    public static ResponseFuture submit(AsyncConfig asyncConfig, Callable<Response> request) {
+        final ResponseFutureImpl responseFuture = new ResponseFutureImpl();
+        responseFuture.future = asyncConfig.submit(request, responseFuture);
+        return responseFuture;
+    }
+
+    public ResponseFuture addCallback(ResponseCallback callback) {
+        Validate.notNull(callback, "Callback cannot be null");
+        final Future<Response> completed;
+        synchronized (callbacks) {
+            completed = completedFuture;
+            if (completed == null) {
+                callbacks.add(callback);
+            }
+        }
+        if (completed != null) {
+            invoke(callback, completed);
+        }
+        return this;
+    }
+
+    public void completed(Future<Response> future) {
+        final List<ResponseCallback> registeredCallbacks;
+        synchronized (callbacks) {
+            completedFuture = future;
+            registeredCallbacks = new ArrayList<ResponseCallback>(callbacks);
+            callbacks.clear();
+        }
+        for (ResponseCallback callback : registeredCallbacks) {
+            invoke(callback, future);
+        }
+    }
+
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return future.cancel(mayInterruptIfRunning);
+    }
+
+    public boolean isCancelled() {
+        return future.isCancelled();
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    public Response get() throws InterruptedException, ExecutionException {
+        return future.get();
+    }
+
+    public Response get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return future.get(timeout, unit);
+    }
+
+    private static void invoke(ResponseCallback callback, Future<Response> completed) {
+        final Response response;
+        try {
+            response = completed.get();
+        } catch (ExecutionException e) {
+            callback.onFailure(e.getCause());
+            return;
+        } catch (CancellationException e) {
+            callback.onFailure(e);
+            return;
+        } catch (InterruptedException e) {
+            // Cannot happen since the future is done
+            Thread.currentThread().interrupt();
+            callback.onFailure(e);
+            return;
+        }
+        callback.onResponse(response);
+    }
+}
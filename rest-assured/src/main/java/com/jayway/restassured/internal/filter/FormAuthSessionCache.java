@@ -0,0 +1,199 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.filter;
+
+import com.jayway.restassured.internal.support.LruCache;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Caches the cookies returned when logging in using form authentication so that subsequent requests to the same server
+ * with the same credentials don't have to log in again. Concurrent requests for a session that isn't cached yet trigger
+ * a single login that all of them wait for. When the cache is full the least recently used sessions are evicted.
+ */
+public class FormAuthSessionCache {
+    public static final int DEFAULT_MAX_SESSIONS = 100;
+
+    private final LruCache<Object, FutureTask<Session>> sessions;
+
+    public FormAuthSessionCache() {
+        this(DEFAULT_MAX_SESSIONS);
+    }
+
+    /**
+     * @param maxSessions The maximum number of cached sessions
+     */
+    public FormAuthSessionCache(int maxSessions) {
+        this.sessions = new LruCache<Object, FutureTask<Session>>(maxSessions);
+    }
+
+    /**
+     * Get the session for the supplied key, logging in if it's not cached or if the cached session has expired.
+     *
+     * @param key   The key of the session, e.g. host, port, credentials and form auth configuration.
+     * @param login Logs in and returns the new session. Invoked by at most one thread at a time per key.
+     * @return The session
+     */
+    public Session get(Object key, Callable<Session> login) {
+        while (true) {
+            FutureTask<Session> future = sessions.get(key);
+            boolean loggedIn = false;
+            if (future == null) {
+                final FutureTask<Session> newFuture = new FutureTask<Session>(login);
+                future = sessions.putIfAbsent(key, newFuture);
+                if (future == null) {
+                    future = newFuture;
+                    loggedIn = true;
+                    newFuture.run();
+                }
+            }
+
+            final Session session;
+            try {
+                session = getUninterruptibly(future);
+            } catch (ExecutionException e) {
+                sessions.remove(key, future);
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException("Failed to log in using form authentication.", cause);
+            }
+
+            if (loggedIn) {
+                if (!session.isReusable()) {
+                    sessions.remove(key, future);
+                }
+                return session.fromLogin();
+            } else if (session.isReusable()) {
+                return session;
+            }
+            // The session has expired or couldn't be reused in the first place so log in again
+            sessions.remove(key, future);
+        }
+    }
+
+    /**
+     * Remove the supplied session from the cache unless it has already been replaced by a new session.
+     *
+     * @param key     The key of the session
+     * @param session The cached session (i.e. not {@link Session#isFromLogin() from login}) that is no longer valid
+     */
+    public void invalidate(Object key, Session session) {
+        final FutureTask<Session> future = sessions.get(key);
+        if (future != null && future.isDone()) {
+            try {
+                if (getUninterruptibly(future) == session) {
+                    sessions.remove(key, future);
+                }
+            } catch (ExecutionException ignored) {
+                // Removed by the thread that logged in
+            }
+        }
+    }
+
+    /**
+     * Remove all sessions from the cache.
+     */
+    public void clear() {
+        sessions.clear();
+    }
+
+    /**
+     * @return The number of cached sessions, including logins that are in progress.
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    private static Session getUninterruptibly(Future<Session> future) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * The cookies of a logged in session.
+     */
+    public static class Session {
+        private final String formAction;
+        private final Map<String, String> cookies;
+        private final Date expiryDate;
+        private final boolean fromLogin;
+
+        /**
+         * @param formAction The form action used to log in.
+         * @param cookies    The cookies returned by the login request.
+         * @param expiryDate The date when the first of the cookies expires or <code>null</code> if they only expire when the
+         *                   session is invalidated by the server.
+         */
+        public Session(String formAction, Map<String, String> cookies, Date expiryDate) {
+            this(formAction, Collections.unmodifiableMap(new HashMap<String, String>(cookies)), expiryDate, false);
+        }
+
+        private Session(String formAction, Map<String, String> cookies, Date expiryDate, boolean fromLogin) {
+            this.formAction = formAction;
+            this.cookies = cookies;
+            this.expiryDate = expiryDate;
+            this.fromLogin = fromLogin;
+        }
+
+        public String getFormAction() {
+            return formAction;
+        }
+
+        public Map<String, String> getCookies() {
+            return cookies;
+        }
+
+        /**
+         * @return <code>true</code> if the session was created by logging in for the current request and <code>false</code>
+         *         if it was taken from the cache.
+         */
+        public boolean isFromLogin() {
+            return fromLogin;
+        }
+
+        boolean isReusable() {
+            return !cookies.isEmpty() && (expiryDate == null || expiryDate.getTime() > System.currentTimeMillis());
+        }
+
+        Session fromLogin() {
+            return new Session(formAction, cookies, expiryDate, true);
+        }
+    }
+}
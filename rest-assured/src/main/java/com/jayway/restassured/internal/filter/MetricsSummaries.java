@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.filter;
+
+import com.jayway.restassured.filter.metrics.MetricsFilter;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of the {@link MetricsFilter}s that print a summary and prints the summaries when
+ * {@link com.jayway.restassured.RestAssured#reset()} is called or when the JVM shuts down. Filters are referenced until
+ * they're unregistered (see {@link MetricsFilter#close()}) so that the summary at shutdown is printed even if the filter
+ * is no longer used by any request, e.g. after <code>RestAssured.reset()</code> has removed it from the default filters.
+ */
+public class MetricsSummaries {
+    // Summaries are printed in the order the filters were registered
+    private static final Map<MetricsFilter, SummaryOptions> FILTERS = new LinkedHashMap<MetricsFilter, SummaryOptions>();
+    private static boolean shutdownHookRegistered = false;
+
+    public static synchronized void register(MetricsFilter filter, PrintStream stream, boolean printOnReset) {
+        FILTERS.put(filter, new SummaryOptions(stream, printOnReset));
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread("rest-assured-metrics-summary") {
+                @Override
+                public void run() {
+                    printSummaries(false);
+                }
+            });
+            shutdownHookRegistered = true;
+        }
+    }
+
+    /**
+     * Stop printing the summary of the supplied filter.
+     *
+     * @param filter The filter
+     * @return <code>true</code> if the filter was registered
+     */
+    public static synchronized boolean unregister(MetricsFilter filter) {
+        return FILTERS.remove(filter) != null;
+    }
+
+    /**
+     * Print and reset the metrics of the filters that print a summary when REST Assured is reset.
+     */
+    public static void printOnReset() {
+        printSummaries(true);
+    }
+
+    private static void printSummaries(boolean reset) {
+        final List<Map.Entry<MetricsFilter, SummaryOptions>> filters;
+        synchronized (MetricsSummaries.class) {
+            filters = new ArrayList<Map.Entry<MetricsFilter, SummaryOptions>>(FILTERS.entrySet());
+        }
+        for (Map.Entry<MetricsFilter, SummaryOptions> entry : filters) {
+            final MetricsFilter filter = entry.getKey();
+            final SummaryOptions options = entry.getValue();
+            if (!reset || options.printOnReset) {
+                filter.printSummary(options.stream);
+                filter.reset();
+            }
+        }
+    }
+
+    private static class SummaryOptions {
+        private final PrintStream stream;
+        private final boolean printOnReset;
+
+        private SummaryOptions(PrintStream stream, boolean printOnReset) {
+            this.stream = stream;
+            this.printOnReset = printOnReset;
+        }
+    }
+}
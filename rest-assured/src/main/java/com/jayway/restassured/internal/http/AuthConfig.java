@@ -32,12 +32,10 @@ import org.apache.http.protocol.ExecutionContext;
 import org.apache.http.protocol.HttpContext;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.security.GeneralSecurityException;
-import java.security.KeyStore;
 
 /**
  * Encapsulates all configuration related to HTTP authentication methods.
@@ -88,15 +86,9 @@ public class AuthConfig {
 	public void certificate( String certURL, String password ) 
 			throws GeneralSecurityException, IOException {
 		
-		KeyStore keyStore = KeyStore.getInstance( KeyStore.getDefaultType() );
-        InputStream jksStream = new URL(certURL).openStream();
-        try {
-        	keyStore.load( jksStream, password.toCharArray() );
-        } finally { jksStream.close(); }
+		SSLSocketFactory ssl = SSLSocketFactoryCache.keyStoreFactory( new URL(certURL), password,
+				SSLSocketFactory.STRICT_HOSTNAME_VERIFIER );
 
-        SSLSocketFactory ssl = new SSLSocketFactory(keyStore, password);
-        ssl.setHostnameVerifier( SSLSocketFactory.STRICT_HOSTNAME_VERIFIER );
-        
         builder.getClient().getConnectionManager().getSchemeRegistry()
         	.register( new Scheme("https", ssl, 443) );
 	}
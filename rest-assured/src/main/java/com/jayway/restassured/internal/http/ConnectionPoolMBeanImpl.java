@@ -0,0 +1,153 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import com.jayway.restassured.config.ConnectionPoolMBean;
+import com.jayway.restassured.config.ConnectionPoolStatistics;
+import org.apache.commons.lang3.Validate;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes the statistics of an {@link InstrumentedConnectionManager} as an MBean named
+ * <code>com.jayway.restassured:type=ConnectionPool,name=&lt;name&gt;</code> in the platform MBean server.
+ */
+public class ConnectionPoolMBeanImpl implements ConnectionPoolMBean {
+    private static final String OBJECT_NAME_PREFIX = "com.jayway.restassured:type=ConnectionPool,name=";
+
+    private final InstrumentedConnectionManager connectionManager;
+
+    public ConnectionPoolMBeanImpl(InstrumentedConnectionManager connectionManager) {
+        Validate.notNull(connectionManager, "Connection manager cannot be null");
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * Register an MBean for the connection manager. An MBean that is already registered with the same name is replaced.
+     *
+     * @param name              The name of the MBean
+     * @param connectionManager The connection manager
+     */
+    public static void register(String name, InstrumentedConnectionManager connectionManager) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = objectName(name);
+            synchronized (ConnectionPoolMBeanImpl.class) {
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+                server.registerMBean(new StandardMBean(new ConnectionPoolMBeanImpl(connectionManager), ConnectionPoolMBean.class), objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Couldn't register connection pool MBean " + name + ".", e);
+        }
+    }
+
+    /**
+     * Unregister the MBean with the given name if it's registered.
+     *
+     * @param name The name of the MBean
+     */
+    public static void unregister(String name) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = objectName(name);
+            synchronized (ConnectionPoolMBeanImpl.class) {
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Couldn't unregister connection pool MBean " + name + ".", e);
+        }
+    }
+
+    public static ObjectName objectName(String name) throws JMException {
+        return new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+    }
+
+    public int getLeasedConnections() {
+        return connectionManager.getTotalStats().getLeased();
+    }
+
+    public int getAvailableConnections() {
+        return connectionManager.getTotalStats().getAvailable();
+    }
+
+    public int getPendingConnections() {
+        return connectionManager.getTotalStats().getPending();
+    }
+
+    public int getMaxTotalConnections() {
+        return connectionManager.getMaxTotal();
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return connectionManager.getDefaultMaxPerRoute();
+    }
+
+    public int getOpenConnections() {
+        return connectionManager.getStatistics().getOpenConnections();
+    }
+
+    public long getConnectionsCreated() {
+        return connectionManager.getStatistics().getConnectionsCreated();
+    }
+
+    public long getRequests() {
+        return connectionManager.getStatistics().getRequests();
+    }
+
+    public long getReusedRequests() {
+        return connectionManager.getStatistics().getReusedRequests();
+    }
+
+    public long getMaxConnectionAgeInMillis() {
+        return connectionManager.getStatistics().getMaxConnectionAge(TimeUnit.MILLISECONDS);
+    }
+
+    public long getLeaseCount() {
+        return connectionManager.getStatistics().getLeaseWaitTimes().getCount();
+    }
+
+    public double getLeaseWaitTimeMedianInMillis() {
+        return connectionManager.getStatistics().getLeaseWaitTimes().getValueAtPercentile(50, TimeUnit.MILLISECONDS);
+    }
+
+    public double getLeaseWaitTime99thPercentileInMillis() {
+        return connectionManager.getStatistics().getLeaseWaitTimes().getValueAtPercentile(99, TimeUnit.MILLISECONDS);
+    }
+
+    public double getMaxLeaseWaitTimeInMillis() {
+        return connectionManager.getStatistics().getLeaseWaitTimes().getValueAtPercentile(100, TimeUnit.MILLISECONDS);
+    }
+
+    public String[] getRoutes() {
+        final List<ConnectionPoolStatistics> routes = connectionManager.getStatistics().getRoutes();
+        final String[] descriptions = new String[routes.size()];
+        for (int index = 0; index < descriptions.length; index++) {
+            descriptions[index] = routes.get(index).toString();
+        }
+        return descriptions;
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.http.impl.client.DefaultHttpClient;
 import org.apache.http.params.BasicHttpParams;
 import org.apache.http.params.HttpParams;
 import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
 import org.codehaus.groovy.runtime.DefaultGroovyMethods;
 import org.codehaus.groovy.runtime.MethodClosure;
 
@@ -171,12 +172,25 @@ public abstract class HTTPBuilder {
     private boolean urlEncodingEnabled;
 
     public HTTPBuilder(boolean urlEncodingEnabled, EncoderConfig encoderConfig) {
+        this(urlEncodingEnabled, encoderConfig, null);
+    }
+
+    /**
+     * @param connectionManager The connection manager to use for the underlying HTTP Client or <code>null</code>
+     *  if the HTTP Client should create its own (single connection) connection manager.
+     */
+    public HTTPBuilder(boolean urlEncodingEnabled, EncoderConfig encoderConfig, ClientConnectionManager connectionManager) {
         super();
         HttpParams defaultParams = new BasicHttpParams();
         defaultParams.setParameter( CookieSpecPNames.DATE_PATTERNS,
                 Arrays.asList("EEE, dd-MMM-yyyy HH:mm:ss z",
                         "EEE, dd MMM yyyy HH:mm:ss z") );
-        this.client = new DefaultHttpClient(defaultParams);
+        this.client = new DefaultHttpClient(connectionManager, defaultParams) {
+            @Override
+            protected HttpRequestExecutor createRequestExecutor() {
+                return new TimingHttpRequestExecutor();
+            }
+        };
         this.setContentEncoding( ContentEncoding.Type.GZIP,
                 ContentEncoding.Type.DEFLATE );
         this.encoderConfig = encoderConfig == null ? new EncoderConfig() : encoderConfig;
@@ -192,29 +206,26 @@ public abstract class HTTPBuilder {
      * @throws URISyntaxException if the given argument does not represent a valid URI
      */
     public HTTPBuilder( Object defaultURI, boolean urlEncodingEnabled, EncoderConfig encoderConfig) {
-        this(urlEncodingEnabled, encoderConfig);
-        try {
-            this.defaultURI = new URIBuilder( URIBuilder.convertToURI(defaultURI), this.urlEncodingEnabled, this.encoderConfig);
-        } catch (URISyntaxException e) {
-            throw new IllegalArgumentException(e);
-        }
+        this(defaultURI, urlEncodingEnabled, encoderConfig, null);
     }
 
     /**
      * Give a default URI to be used for all request methods that don't
-     * explicitly take a URI parameter, and a default content-type to be used
-     * for request encoding and response parsing.
+     * explicitly take a URI parameter and a connection manager that is shared with other builders.
      * @param defaultURI either a {@link URL}, {@link URI} or object whose
      * 	<code>toString()</code> produces a valid URI string.  See
      * 	{@link URIBuilder#convertToURI(Object)}.
-     * @param defaultContentType content-type string.  See {@link ContentType}
-     *   for common types.
-     * @throws URISyntaxException if the uri argument does not represent a valid URI
+     * @param connectionManager the connection manager to use or <code>null</code> to let the
+     *  HTTP Client create its own.
+     * @throws URISyntaxException if the given argument does not represent a valid URI
      */
-    public HTTPBuilder( Object defaultURI, Object defaultContentType, boolean urlEncodingEnabled, EncoderConfig encoderConfig ) throws URISyntaxException {
-        this(urlEncodingEnabled, encoderConfig);
-        this.defaultURI = new URIBuilder( URIBuilder.convertToURI(defaultURI), urlEncodingEnabled, this.encoderConfig);
-        this.defaultContentType = defaultContentType;
+    public HTTPBuilder( Object defaultURI, boolean urlEncodingEnabled, EncoderConfig encoderConfig, ClientConnectionManager connectionManager) {
+        this(urlEncodingEnabled, encoderConfig, connectionManager);
+        try {
+            this.defaultURI = new URIBuilder( URIBuilder.convertToURI(defaultURI), this.urlEncodingEnabled, this.encoderConfig);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException(e);
+        }
     }
 
     /**
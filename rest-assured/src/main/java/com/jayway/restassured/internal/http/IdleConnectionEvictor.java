@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.http.conn.ClientConnectionManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A daemon thread that periodically closes the expired connections of a connection pool (see {@link IdleTimeKeepAliveStrategy})
+ * and the connections that have been idle for longer than the idle time. This keeps the housekeeping of the pool off the
+ * request threads. The pool is checked twice per idle time but no more often than every {@value #MIN_INTERVAL_IN_MILLIS} ms
+ * and at least every {@value #MAX_INTERVAL_IN_MILLIS} ms.
+ */
+public class IdleConnectionEvictor extends Thread {
+    static final long MIN_INTERVAL_IN_MILLIS = 100;
+    static final long MAX_INTERVAL_IN_MILLIS = 5000;
+
+    private final ClientConnectionManager connectionManager;
+    private final long idleTimeInMillis;
+    private final long intervalInMillis;
+    private volatile boolean shutdown;
+
+    public IdleConnectionEvictor(ClientConnectionManager connectionManager, long idleTime, TimeUnit timeUnit) {
+        super("rest-assured-connection-evictor");
+        Validate.notNull(connectionManager, "Connection manager cannot be null");
+        Validate.notNull(timeUnit, "Time unit cannot be null");
+        this.connectionManager = connectionManager;
+        this.idleTimeInMillis = timeUnit.toMillis(idleTime);
+        this.intervalInMillis = Math.min(Math.max(idleTimeInMillis / 2, MIN_INTERVAL_IN_MILLIS), MAX_INTERVAL_IN_MILLIS);
+        setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!shutdown) {
+                synchronized (this) {
+                    wait(intervalInMillis);
+                }
+                if (!shutdown) {
+                    connectionManager.closeExpiredConnections();
+                    connectionManager.closeIdleConnections(idleTimeInMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+        } catch (InterruptedException e) {
+            // Stop evicting connections
+        }
+    }
+
+    /**
+     * Stop evicting connections. The connection manager is not shutdown.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        notifyAll();
+    }
+
+    public long getIntervalInMillis() {
+        return intervalInMillis;
+    }
+}
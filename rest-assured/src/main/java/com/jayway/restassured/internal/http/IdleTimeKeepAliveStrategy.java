@@ -0,0 +1,45 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.protocol.HttpContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a connection alive for as long as the server allows in the <code>Keep-Alive: timeout=&lt;seconds&gt;</code> header of the
+ * response but never for longer than the idle time. A connection that has expired is never reused, even if it hasn't been
+ * closed by the {@link IdleConnectionEvictor} yet.
+ */
+public class IdleTimeKeepAliveStrategy implements ConnectionKeepAliveStrategy {
+    private static final ConnectionKeepAliveStrategy SERVER_KEEP_ALIVE_STRATEGY = new DefaultConnectionKeepAliveStrategy();
+
+    private final long idleTimeInMillis;
+
+    public IdleTimeKeepAliveStrategy(long idleTime, TimeUnit timeUnit) {
+        this.idleTimeInMillis = timeUnit.toMillis(idleTime);
+    }
+
+    public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+        final long serverKeepAliveInMillis = SERVER_KEEP_ALIVE_STRATEGY.getKeepAliveDuration(response, context);
+        // A negative duration means that the server didn't say how long it keeps the connection alive
+        return serverKeepAliveInMillis < 0 ? idleTimeInMillis : Math.min(serverKeepAliveInMillis, idleTimeInMillis);
+    }
+}
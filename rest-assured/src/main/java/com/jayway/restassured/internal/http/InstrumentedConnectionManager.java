@@ -0,0 +1,209 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import com.jayway.restassured.config.ConnectionPoolStatistics;
+import com.jayway.restassured.filter.metrics.LatencyHistogram;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pooling connection manager that records how long requests wait for a connection, how many connections are opened and
+ * how often they are reused, see {@link #getStatistics()}. Connections are grouped by route, except for the connection
+ * ages and counters which are grouped by the target host of the route.
+ */
+public class InstrumentedConnectionManager extends PoolingClientConnectionManager {
+    private final ConcurrentMap<HttpRoute, LatencyHistogram> leaseWaitTimes = new ConcurrentHashMap<HttpRoute, LatencyHistogram>();
+    private final ConcurrentMap<HttpHost, ConnectionCounters> counters = new ConcurrentHashMap<HttpHost, ConnectionCounters>();
+    private final ConcurrentMap<OperatedClientConnection, OpenedConnection> openConnections = new ConcurrentHashMap<OperatedClientConnection, OpenedConnection>();
+
+    public InstrumentedConnectionManager(SchemeRegistry schemeRegistry) {
+        super(schemeRegistry);
+    }
+
+    @Override
+    protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+        // Called by the super constructor so the operator must not use the fields of this instance until a connection is opened
+        return new DefaultClientConnectionOperator(schemeRegistry) {
+            @Override
+            public void openConnection(OperatedClientConnection connection, HttpHost target, InetAddress local, HttpContext context,
+                                       HttpParams params) throws IOException {
+                super.openConnection(connection, target, local, context, params);
+                connectionOpened(connection, target);
+            }
+        };
+    }
+
+    @Override
+    public ClientConnectionRequest requestConnection(final HttpRoute route, Object state) {
+        final long start = System.nanoTime();
+        final ClientConnectionRequest request = super.requestConnection(route, state);
+        return new ClientConnectionRequest() {
+            public ManagedClientConnection getConnection(long timeout, TimeUnit timeUnit) throws InterruptedException, ConnectionPoolTimeoutException {
+                final ManagedClientConnection connection;
+                try {
+                    connection = request.getConnection(timeout, timeUnit);
+                } finally {
+                    leaseWaitTimes(route).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                connectionLeased(route, connection);
+                return connection;
+            }
+
+            public void abortRequest() {
+                request.abortRequest();
+            }
+        };
+    }
+
+    /**
+     * @return A snapshot of the statistics of the pool and of each route that has been used.
+     */
+    public ConnectionPoolStatistics getStatistics() {
+        final long now = System.nanoTime();
+        final List<ConnectionPoolStatistics> routes = new ArrayList<ConnectionPoolStatistics>();
+        final LatencyHistogram totalLeaseWaitTimes = new LatencyHistogram();
+        for (Map.Entry<HttpRoute, LatencyHistogram> entry : leaseWaitTimes.entrySet()) {
+            final HttpRoute route = entry.getKey();
+            final LatencyHistogram routeLeaseWaitTimes = entry.getValue().copy();
+            totalLeaseWaitTimes.add(routeLeaseWaitTimes);
+            routes.add(statistics(route.getTargetHost().toURI(), getStats(route), route.getTargetHost(), now, routeLeaseWaitTimes,
+                    Collections.<ConnectionPoolStatistics>emptyList()));
+        }
+        Collections.sort(routes, new Comparator<ConnectionPoolStatistics>() {
+            public int compare(ConnectionPoolStatistics first, ConnectionPoolStatistics second) {
+                return first.getRoute().compareTo(second.getRoute());
+            }
+        });
+        return statistics(null, getTotalStats(), null, now, totalLeaseWaitTimes, routes);
+    }
+
+    private ConnectionPoolStatistics statistics(String name, PoolStats poolStats, HttpHost targetHost, long now,
+                                                LatencyHistogram leaseWaitTimes, List<ConnectionPoolStatistics> routes) {
+        long connectionsCreated = 0;
+        long requests = 0;
+        long reusedRequests = 0;
+        for (Map.Entry<HttpHost, ConnectionCounters> entry : counters.entrySet()) {
+            if (targetHost == null || targetHost.equals(entry.getKey())) {
+                connectionsCreated += entry.getValue().connectionsCreated.get();
+                requests += entry.getValue().requests.get();
+                reusedRequests += entry.getValue().reusedRequests.get();
+            }
+        }
+        int open = 0;
+        long maxAge = 0;
+        long totalAge = 0;
+        removeClosedConnections();
+        for (OpenedConnection connection : openConnections.values()) {
+            if (targetHost == null || targetHost.equals(connection.targetHost)) {
+                final long age = Math.max(0, now - connection.openedAt);
+                open++;
+                maxAge = Math.max(maxAge, age);
+                totalAge += age;
+            }
+        }
+        return new ConnectionPoolStatistics(name, poolStats.getLeased(), poolStats.getAvailable(), poolStats.getPending(), poolStats.getMax(),
+                open, connectionsCreated, requests, reusedRequests, maxAge, open == 0 ? 0 : totalAge / open, leaseWaitTimes, routes);
+    }
+
+    private void connectionOpened(OperatedClientConnection connection, HttpHost targetHost) {
+        removeClosedConnections();
+        openConnections.put(connection, new OpenedConnection(targetHost, System.nanoTime()));
+        counters(targetHost).connectionsCreated.incrementAndGet();
+    }
+
+    private void connectionLeased(HttpRoute route, ManagedClientConnection connection) {
+        final ConnectionCounters hostCounters = counters(route.getTargetHost());
+        hostCounters.requests.incrementAndGet();
+        // A new connection isn't opened until after it has been leased
+        if (connection.isOpen()) {
+            hostCounters.reusedRequests.incrementAndGet();
+        }
+    }
+
+    private void removeClosedConnections() {
+        // The pool creates and closes the connections itself so closed connections are found by polling
+        for (OperatedClientConnection connection : openConnections.keySet()) {
+            if (!connection.isOpen()) {
+                openConnections.remove(connection);
+            }
+        }
+    }
+
+    private LatencyHistogram leaseWaitTimes(HttpRoute route) {
+        LatencyHistogram histogram = leaseWaitTimes.get(route);
+        if (histogram == null) {
+            final LatencyHistogram newHistogram = new LatencyHistogram();
+            histogram = leaseWaitTimes.putIfAbsent(route, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        return histogram;
+    }
+
+    private ConnectionCounters counters(HttpHost targetHost) {
+        ConnectionCounters hostCounters = counters.get(targetHost);
+        if (hostCounters == null) {
+            final ConnectionCounters newCounters = new ConnectionCounters();
+            hostCounters = counters.putIfAbsent(targetHost, newCounters);
+            if (hostCounters == null) {
+                hostCounters = newCounters;
+            }
+        }
+        return hostCounters;
+    }
+
+    private static class ConnectionCounters {
+        private final AtomicLong connectionsCreated = new AtomicLong();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong reusedRequests = new AtomicLong();
+    }
+
+    private static class OpenedConnection {
+        private final HttpHost targetHost;
+        private final long openedAt;
+
+        private OpenedConnection(HttpHost targetHost, long openedAt) {
+            this.targetHost = targetHost;
+            this.openedAt = openedAt;
+        }
+    }
+}
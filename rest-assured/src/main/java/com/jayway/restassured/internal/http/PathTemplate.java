@@ -0,0 +1,196 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import com.jayway.restassured.internal.support.LruCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A request path such as <code>/users/{userId}/orders/{orderId}</code> that has been parsed once and can be expanded
+ * with different path parameter values many times. Instances are immutable and thread-safe.
+ * <p>
+ * A placeholder is a name in curly braces. Placeholders whose name consists of word characters only are replaced by
+ * unnamed path parameters in order while named path parameters can replace any placeholder with the same name.
+ * The values are inserted as is, the path is encoded when the request URI is built.
+ * </p>
+ */
+public class PathTemplate {
+    private static final int MAX_CACHED_TEMPLATES = 500;
+    // Templates keyed by path. The same path is typically expanded with many different values.
+    private static final LruCache<String, PathTemplate> TEMPLATES = new LruCache<String, PathTemplate>(MAX_CACHED_TEMPLATES);
+
+    private final String path;
+    // The literal parts of the path, there's one more literal than there are placeholders
+    private final String[] literals;
+    private final String[] names;
+    private final boolean[] wordPlaceholders;
+    private final int numberOfWordPlaceholders;
+
+    private PathTemplate(String path, List<String> literals, List<String> names) {
+        this.path = path;
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.names = names.toArray(new String[names.size()]);
+        this.wordPlaceholders = new boolean[this.names.length];
+        int words = 0;
+        for (int i = 0; i < this.names.length; i++) {
+            wordPlaceholders[i] = isWord(this.names[i]);
+            if (wordPlaceholders[i]) {
+                words++;
+            }
+        }
+        this.numberOfWordPlaceholders = words;
+    }
+
+    /**
+     * Get the parsed template of a path. The template is cached so parsing the same path again is cheap.
+     *
+     * @param path The path, e.g. <code>/users/{userId}/orders/{orderId}</code>
+     * @return The template
+     */
+    public static PathTemplate compile(String path) {
+        PathTemplate template = TEMPLATES.get(path);
+        if (template == null) {
+            template = parse(path);
+            TEMPLATES.put(path, template);
+        }
+        return template;
+    }
+
+    /**
+     * Replace the placeholders with unnamed path parameters in the order they're defined.
+     *
+     * @param values The path parameter values
+     * @return The expanded path
+     * @throws IllegalArgumentException If the number of values doesn't match the number of placeholders.
+     */
+    public String expand(Object... values) {
+        if (values.length > numberOfWordPlaceholders) {
+            throw new IllegalArgumentException("Illegal number of path parameters. Expected " + numberOfWordPlaceholders + ", was " + values.length + ".");
+        } else if (values.length < numberOfWordPlaceholders) {
+            throw tooFewPathParameters();
+        }
+        final StringBuilder expanded = new StringBuilder(path.length() + 16 * values.length);
+        int value = 0;
+        for (int i = 0; i < names.length; i++) {
+            expanded.append(literals[i]);
+            if (wordPlaceholders[i]) {
+                expanded.append(values[value++].toString());
+            } else {
+                appendPlaceholder(expanded, names[i]);
+            }
+        }
+        return expanded.append(literals[names.length]).toString();
+    }
+
+    /**
+     * Replace the placeholders with named path parameters. All placeholders with the same name are replaced.
+     *
+     * @param values The path parameter values by name
+     * @return The expanded path
+     * @throws IllegalArgumentException If a value doesn't have a placeholder or if a placeholder doesn't have a value.
+     */
+    public String expand(Map<String, ?> values) {
+        for (String name : values.keySet()) {
+            if (!hasPlaceholder(name)) {
+                throw new IllegalArgumentException("You specified too many path parameters (" + values.size() + ").");
+            }
+        }
+        final StringBuilder expanded = new StringBuilder(path.length() + 16 * values.size());
+        for (int i = 0; i < names.length; i++) {
+            expanded.append(literals[i]);
+            final Object value = values.get(names[i]);
+            if (value != null) {
+                expanded.append(value.toString());
+            } else if (wordPlaceholders[i]) {
+                throw tooFewPathParameters();
+            } else {
+                appendPlaceholder(expanded, names[i]);
+            }
+        }
+        return expanded.append(literals[names.length]).toString();
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private boolean hasPlaceholder(String name) {
+        for (String placeholder : names) {
+            if (placeholder.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PathTemplate parse(String path) {
+        final List<String> literals = new ArrayList<String>();
+        final List<String> names = new ArrayList<String>();
+        int literalStart = 0;
+        int index = path.indexOf('{');
+        while (index != -1) {
+            final int end = indexOfPlaceholderEnd(path, index + 1);
+            if (path.charAt(end) == '}' && end > index + 1) {
+                literals.add(path.substring(literalStart, index));
+                names.add(path.substring(index + 1, end));
+                literalStart = end + 1;
+                index = path.indexOf('{', literalStart);
+            } else {
+                // Not a placeholder, e.g. "{}" or the first brace of "{{id}}"
+                index = path.indexOf('{', index + 1);
+            }
+        }
+        literals.add(path.substring(literalStart));
+        return new PathTemplate(path, literals, names);
+    }
+
+    private static int indexOfPlaceholderEnd(String path, int from) {
+        for (int i = from; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            if (c == '}' || c == '{') {
+                return i;
+            }
+        }
+        return path.length() - 1;
+    }
+
+    private static boolean isWord(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendPlaceholder(StringBuilder builder, String name) {
+        builder.append('{').append(name).append('}');
+    }
+
+    private static IllegalArgumentException tooFewPathParameters() {
+        return new IllegalArgumentException("You specified too few path parameters to the request.");
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import com.jayway.restassured.response.Timings;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the phases of a request and counts the bytes sent. The timer is stored in the {@link HttpContext} of the request where it's picked up by the
+ * {@link TimingHttpRequestExecutor}. It's also stored in the request parameters since the socket factories, which measure
+ * the TLS handshake, only have access to the parameters.
+ * <p>
+ * Each phase ends when the next one begins so the phases always add up to the total time.
+ * </p>
+ */
+public class RequestTimer implements Timings {
+    public static final String ATTRIBUTE_NAME = "rest-assured.request-timer";
+
+    private static final long NOT_MEASURED = -1;
+
+    private boolean started;
+    private long lastMark;
+    private long connectionTime = NOT_MEASURED;
+    private long tlsHandshakeTime = NOT_MEASURED;
+    private long requestWriteTime = NOT_MEASURED;
+    private long timeToFirstByte = NOT_MEASURED;
+    private long downloadTime = NOT_MEASURED;
+    private long bytesSent = NOT_MEASURED;
+
+    public static RequestTimer from(HttpContext context) {
+        return context == null ? null : (RequestTimer) context.getAttribute(ATTRIBUTE_NAME);
+    }
+
+    public static RequestTimer from(HttpParams params) {
+        return params == null ? null : (RequestTimer) params.getParameter(ATTRIBUTE_NAME);
+    }
+
+    public void requestStarted() {
+        started = true;
+        lastMark = System.nanoTime();
+        connectionTime = 0;
+        tlsHandshakeTime = 0;
+        requestWriteTime = 0;
+        timeToFirstByte = 0;
+        downloadTime = NOT_MEASURED;
+        bytesSent = 0;
+    }
+
+    /**
+     * Called when a connection has been leased or connected and the request is about to be written.
+     */
+    public void requestWriteStarted() {
+        connectionTime += nanosSinceLastMark();
+    }
+
+    /**
+     * @param bytesWritten The number of bytes written, including the request line and headers.
+     */
+    public void requestWritten(long bytesWritten) {
+        requestWriteTime += nanosSinceLastMark();
+        bytesSent += bytesWritten;
+    }
+
+    public void responseHeadersReceived() {
+        timeToFirstByte += nanosSinceLastMark();
+    }
+
+    public void responseBodyRead() {
+        if (started) {
+            downloadTime = nanosSinceLastMark();
+        }
+    }
+
+    public void tlsHandshakeCompleted(long handshakeTimeInNanos) {
+        if (started) {
+            tlsHandshakeTime += handshakeTimeInNanos;
+        }
+    }
+
+    public long getTotalTime() {
+        return getTotalTimeIn(TimeUnit.MILLISECONDS);
+    }
+
+    public long getTotalTimeIn(TimeUnit timeUnit) {
+        if (!started) {
+            return NOT_MEASURED;
+        }
+        final long total = connectionTime + requestWriteTime + timeToFirstByte + (downloadTime == NOT_MEASURED ? 0 : downloadTime);
+        return convert(total, timeUnit);
+    }
+
+    public long getConnectionTime() {
+        return getConnectionTimeIn(TimeUnit.MILLISECONDS);
+    }
+
+    public long getConnectionTimeIn(TimeUnit timeUnit) {
+        return convert(connectionTime, timeUnit);
+    }
+
+    public long getTlsHandshakeTime() {
+        return getTlsHandshakeTimeIn(TimeUnit.MILLISECONDS);
+    }
+
+    public long getTlsHandshakeTimeIn(TimeUnit timeUnit) {
+        return convert(tlsHandshakeTime, timeUnit);
+    }
+
+    public long getRequestWriteTime() {
+        return getRequestWriteTimeIn(TimeUnit.MILLISECONDS);
+    }
+
+    public long getRequestWriteTimeIn(TimeUnit timeUnit) {
+        return convert(requestWriteTime, timeUnit);
+    }
+
+    public long getTimeToFirstByte() {
+        return getTimeToFirstByteIn(TimeUnit.MILLISECONDS);
+    }
+
+    public long getTimeToFirstByteIn(TimeUnit timeUnit) {
+        return convert(timeToFirstByte, timeUnit);
+    }
+
+    public long getDownloadTime() {
+        return getDownloadTimeIn(TimeUnit.MILLISECONDS);
+    }
+
+    public long getDownloadTimeIn(TimeUnit timeUnit) {
+        return convert(downloadTime, timeUnit);
+    }
+
+    /**
+     * @return The number of bytes sent, including request lines and headers, or <code>-1</code> if not measured.
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("total=%dms, connection=%dms (TLS handshake=%dms), request write=%dms, time to first byte=%dms, download=%dms",
+                getTotalTime(), getConnectionTime(), getTlsHandshakeTime(), getRequestWriteTime(), getTimeToFirstByte(), getDownloadTime());
+    }
+
+    private long nanosSinceLastMark() {
+        final long now = System.nanoTime();
+        final long elapsed = now - lastMark;
+        lastMark = now;
+        return elapsed;
+    }
+
+    private static long convert(long nanos, TimeUnit timeUnit) {
+        return nanos == NOT_MEASURED ? NOT_MEASURED : timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import com.jayway.restassured.internal.support.LruCache;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.conn.ssl.X509HostnameVerifier;
+import org.apache.http.params.HttpParams;
+
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the SSL socket factories created from java keystores. Loading a keystore and initializing an SSL context is
+ * expensive and, more importantly, TLS sessions can only be resumed by sockets created from the same SSL context.
+ * Without the cache each request would load the keystore again and perform a full TLS handshake.
+ * <p>
+ * A factory is cached per keystore, password, hostname verifier and kind (trust store or key store). If the keystore file
+ * has been modified since it was loaded it's loaded again and the cached factory is replaced.
+ * </p>
+ * <p>
+ * The factories created by this class count the TLS handshakes of their sockets (see {@link #getHandshakeCount()} and
+ * {@link #getResumedHandshakeCount()}). A handshake is counted before the connection is used so the counts are up to date
+ * once a request has completed.
+ * </p>
+ */
+public class SSLSocketFactoryCache {
+    private static final ConcurrentMap<List<Object>, CachedFactory> FACTORIES = new ConcurrentHashMap<List<Object>, CachedFactory>();
+    private static final AtomicLong HANDSHAKES = new AtomicLong();
+    private static final AtomicLong RESUMED_HANDSHAKES = new AtomicLong();
+
+    /**
+     * Get a socket factory that trusts the certificates in the supplied keystore.
+     *
+     * @param keystore         The URL of the java keystore
+     * @param password         The password of the keystore
+     * @param hostnameVerifier The hostname verifier to use
+     * @return The socket factory
+     */
+    public static SSLSocketFactory trustStoreFactory(URL keystore, String password, X509HostnameVerifier hostnameVerifier) throws GeneralSecurityException, IOException {
+        return getFactory(keystore, password, hostnameVerifier, true);
+    }
+
+    /**
+     * Get a socket factory that authenticates using the client certificate in the supplied keystore.
+     *
+     * @param keystore         The URL of the java keystore
+     * @param password         The password of the keystore and the key
+     * @param hostnameVerifier The hostname verifier to use
+     * @return The socket factory
+     */
+    public static SSLSocketFactory keyStoreFactory(URL keystore, String password, X509HostnameVerifier hostnameVerifier) throws GeneralSecurityException, IOException {
+        return getFactory(keystore, password, hostnameVerifier, false);
+    }
+
+    /**
+     * @return The number of TLS handshakes performed by sockets created by the cached factories, including resumed sessions.
+     */
+    public static long getHandshakeCount() {
+        return HANDSHAKES.get();
+    }
+
+    /**
+     * @return The number of TLS handshakes that resumed a previous session instead of performing a full handshake.
+     */
+    public static long getResumedHandshakeCount() {
+        return RESUMED_HANDSHAKES.get();
+    }
+
+    /**
+     * Remove all cached factories and reset the handshake counts.
+     */
+    public static void clear() {
+        FACTORIES.clear();
+        HANDSHAKES.set(0);
+        RESUMED_HANDSHAKES.set(0);
+    }
+
+    private static SSLSocketFactory getFactory(URL keystore, String password, X509HostnameVerifier hostnameVerifier, boolean trustStore)
+            throws GeneralSecurityException, IOException {
+        // The password is only kept as a digest so that it's not held in memory for as long as the factory is cached
+        final List<Object> key = Arrays.<Object>asList(keystore.toExternalForm(), digest(password), hostnameVerifier, trustStore);
+        final long lastModified = lastModified(keystore);
+        final CachedFactory cached = FACTORIES.get(key);
+        if (cached != null && cached.lastModified == lastModified) {
+            return cached.factory;
+        }
+        // Not cached yet or the keystore file has been modified since it was loaded
+        final KeyStore keyStore = load(keystore, password);
+        final SSLSocketFactory factory = trustStore ? new HandshakeCountingSSLSocketFactory(null, null, keyStore, hostnameVerifier)
+                : new HandshakeCountingSSLSocketFactory(keyStore, password, null, hostnameVerifier);
+        final CachedFactory loaded = new CachedFactory(lastModified, factory);
+        if (cached == null) {
+            final CachedFactory existing = FACTORIES.putIfAbsent(key, loaded);
+            if (existing != null && existing.lastModified == lastModified) {
+                return existing.factory;
+            }
+        } else {
+            // The factory of the previous version of the keystore is no longer needed
+            FACTORIES.replace(key, cached, loaded);
+        }
+        return factory;
+    }
+
+    /**
+     * @return The number of cached factories.
+     */
+    static int size() {
+        return FACTORIES.size();
+    }
+
+    private static KeyStore load(URL keystore, String password) throws GeneralSecurityException, IOException {
+        final KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        final InputStream stream = keystore.openStream();
+        try {
+            keyStore.load(stream, password.toCharArray());
+        } finally {
+            stream.close();
+        }
+        return keyStore;
+    }
+
+    private static String digest(String password) throws GeneralSecurityException, IOException {
+        final byte[] digest = MessageDigest.getInstance("SHA-256").digest(password.getBytes("UTF-8"));
+        return new BigInteger(1, digest).toString(16);
+    }
+
+    private static long lastModified(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return 0;
+        }
+        try {
+            return new File(url.toURI()).lastModified();
+        } catch (URISyntaxException e) {
+            return 0;
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+
+    private static class CachedFactory {
+        private final long lastModified;
+        private final SSLSocketFactory factory;
+
+        CachedFactory(long lastModified, SSLSocketFactory factory) {
+            this.lastModified = lastModified;
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * Counts the handshake of each socket once it has been completed, i.e. before the socket is returned to the connection
+     * manager. A handshake is resumed if its session ID has been seen before, TLS sessions can only be resumed by sockets
+     * created by the same factory.
+     */
+    private static class HandshakeCountingSSLSocketFactory extends SSLSocketFactory {
+        private static final int MAX_SEEN_SESSIONS = 1000;
+
+        // Sockets whose handshake hasn't been counted yet
+        private final Map<SSLSocket, Boolean> uncountedSockets = Collections.synchronizedMap(new WeakHashMap<SSLSocket, Boolean>());
+        private final LruCache<ByteBuffer, Boolean> seenSessionIds = new LruCache<ByteBuffer, Boolean>(MAX_SEEN_SESSIONS);
+
+        HandshakeCountingSSLSocketFactory(KeyStore keyStore, String keyStorePassword, KeyStore trustStore, X509HostnameVerifier hostnameVerifier)
+                throws GeneralSecurityException {
+            super(TLS, keyStore, keyStorePassword, trustStore, null, hostnameVerifier);
+        }
+
+        @Override
+        protected void prepareSocket(SSLSocket socket) throws IOException {
+            uncountedSockets.put(socket, Boolean.TRUE);
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress, HttpParams params)
+                throws IOException, UnknownHostException, ConnectTimeoutException {
+            return countHandshake(super.connectSocket(socket, remoteAddress, localAddress, params));
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params) throws IOException, UnknownHostException {
+            return countHandshake(super.createLayeredSocket(socket, target, port, params));
+        }
+
+        private Socket countHandshake(Socket socket) {
+            // A socket that is layered by connectSocket(..) has already been counted by createLayeredSocket(..)
+            if (!(socket instanceof SSLSocket) || uncountedSockets.remove(socket) == null) {
+                return socket;
+            }
+            // Completes the handshake unless the host name verifier already did
+            final SSLSession session = ((SSLSocket) socket).getSession();
+            if (!session.isValid()) {
+                // The handshake failed
+                return socket;
+            }
+            HANDSHAKES.incrementAndGet();
+            final byte[] sessionId = session.getId();
+            if (sessionId != null && sessionId.length > 0 && seenSessionIds.putIfAbsent(ByteBuffer.wrap(sessionId), Boolean.TRUE) != null) {
+                RESUMED_HANDSHAKES.incrementAndGet();
+            }
+            return socket;
+        }
+    }
+}
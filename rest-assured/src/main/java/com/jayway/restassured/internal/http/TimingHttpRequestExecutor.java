@@ -0,0 +1,60 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpConnectionMetrics;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.IOException;
+
+/**
+ * A request executor that records when the request is written, how many bytes were written and when the response headers
+ * are received in the {@link RequestTimer} of the request context (if any).
+ */
+public class TimingHttpRequestExecutor extends HttpRequestExecutor {
+
+    @Override
+    protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context) throws IOException, HttpException {
+        final RequestTimer timer = RequestTimer.from(context);
+        if (timer == null) {
+            return super.doSendRequest(request, conn, context);
+        }
+        timer.requestWriteStarted();
+        final HttpConnectionMetrics metrics = conn.getMetrics();
+        final long sentBytesBefore = metrics.getSentBytesCount();
+        try {
+            return super.doSendRequest(request, conn, context);
+        } finally {
+            timer.requestWritten(metrics.getSentBytesCount() - sentBytesBefore);
+        }
+    }
+
+    @Override
+    protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context) throws HttpException, IOException {
+        final HttpResponse response = super.doReceiveResponse(request, conn, context);
+        final RequestTimer timer = RequestTimer.from(context);
+        if (timer != null) {
+            timer.responseHeadersReceived();
+        }
+        return response;
+    }
+}
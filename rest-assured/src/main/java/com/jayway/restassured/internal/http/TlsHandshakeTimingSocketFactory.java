@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.HttpInetSocketAddress;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeLayeredSocketFactory;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.params.HttpParams;
+
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Wraps the socket factory of a secure scheme and reports the time spent on TLS handshakes to the {@link RequestTimer} of
+ * the request (if any). The TCP connection is established first and the TLS layer is added afterwards using
+ * {@link SchemeLayeredSocketFactory#createLayeredSocket(Socket, String, int, HttpParams)}, which is what
+ * {@link org.apache.http.conn.ssl.SSLSocketFactory#connectSocket(Socket, InetSocketAddress, InetSocketAddress, HttpParams)}
+ * does as well when given a plain socket.
+ */
+public class TlsHandshakeTimingSocketFactory implements SchemeLayeredSocketFactory {
+    private static final String HTTPS = "https";
+
+    private final SchemeLayeredSocketFactory delegate;
+
+    TlsHandshakeTimingSocketFactory(SchemeLayeredSocketFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wrap the socket factory of the https scheme in the registry unless it's already wrapped or not a layered socket factory.
+     *
+     * @param schemeRegistry The scheme registry
+     */
+    public static void register(SchemeRegistry schemeRegistry) {
+        final Scheme https = schemeRegistry.get(HTTPS);
+        if (https == null) {
+            return;
+        }
+        final SchemeSocketFactory socketFactory = https.getSchemeSocketFactory();
+        if (socketFactory instanceof SchemeLayeredSocketFactory && !(socketFactory instanceof TlsHandshakeTimingSocketFactory)) {
+            schemeRegistry.register(new Scheme(HTTPS, https.getDefaultPort(), new TlsHandshakeTimingSocketFactory((SchemeLayeredSocketFactory) socketFactory)));
+        }
+    }
+
+    public Socket createSocket(HttpParams params) throws IOException {
+        return PlainSocketFactory.getSocketFactory().createSocket(params);
+    }
+
+    public Socket connectSocket(Socket socket, InetSocketAddress remoteAddress, InetSocketAddress localAddress, HttpParams params)
+            throws IOException, ConnectTimeoutException {
+        final Socket plainSocket = PlainSocketFactory.getSocketFactory().connectSocket(socket, remoteAddress, localAddress, params);
+        final String hostName = remoteAddress instanceof HttpInetSocketAddress ?
+                ((HttpInetSocketAddress) remoteAddress).getHttpHost().getHostName() : remoteAddress.getHostName();
+        return createLayeredSocket(plainSocket, hostName, remoteAddress.getPort(), params);
+    }
+
+    public Socket createLayeredSocket(Socket socket, String target, int port, HttpParams params) throws IOException {
+        final long start = System.nanoTime();
+        final Socket layeredSocket = delegate.createLayeredSocket(socket, target, port, params);
+        if (layeredSocket instanceof SSLSocket) {
+            // Completes the handshake unless the host name verifier already did
+            ((SSLSocket) layeredSocket).getSession();
+        }
+        final RequestTimer timer = RequestTimer.from(params);
+        if (timer != null) {
+            timer.tlsHandshakeCompleted(System.nanoTime() - start);
+        }
+        return layeredSocket;
+    }
+
+    public boolean isSecure(Socket socket) throws IllegalArgumentException {
+        return delegate.isSecure(socket);
+    }
+}
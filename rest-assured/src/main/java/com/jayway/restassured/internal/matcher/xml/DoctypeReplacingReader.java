@@ -0,0 +1,240 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.matcher.xml;
+
+import java.io.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A reader of an XML document whose document type declaration is replaced by a declaration referring to the supplied
+ * system id. This allows a validating parser to validate a document against another DTD while the document is read.
+ * Only the external id of the declaration is replaced, the internal subset (e.g. entity declarations) is kept.
+ * Only the prolog of the document is read ahead, the rest of the document is passed through as is.
+ */
+class DoctypeReplacingReader extends Reader {
+    private static final Pattern ENCODING = Pattern.compile("^<\\?xml[^>]*encoding\\s*=\\s*[\"']([A-Za-z0-9._:-]+)[\"']");
+    private static final int MAX_DECLARATION_LENGTH = 1024;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader prolog;
+    private final Reader document;
+    private boolean prologRead;
+
+    private DoctypeReplacingReader(String prolog, Reader document) {
+        this.prolog = new StringReader(prolog);
+        this.document = document;
+    }
+
+    /**
+     * @param document The XML document
+     * @param systemId The system id of the DTD that the document is validated against
+     * @return A reader of the document with the replaced document type declaration
+     */
+    static Reader replaceDoctype(Reader document, String systemId) throws IOException {
+        final Reader reader = document instanceof BufferedReader ? document : new BufferedReader(document);
+        return new DoctypeReplacingReader(readProlog(reader, systemId), reader);
+    }
+
+    /**
+     * Decode an XML document supplied as bytes using the encoding of the byte order mark or XML declaration.
+     *
+     * @param document The XML document
+     * @return A reader of the document
+     */
+    static Reader decode(InputStream document) throws IOException {
+        final BufferedInputStream stream = new BufferedInputStream(document);
+        stream.mark(MAX_DECLARATION_LENGTH);
+        final byte[] head = new byte[MAX_DECLARATION_LENGTH];
+        int length = 0;
+        int read;
+        while (length < head.length && (read = stream.read(head, length, head.length - length)) != -1) {
+            length += read;
+        }
+        stream.reset();
+
+        String encoding = "UTF-8";
+        if (length >= 2 && ((head[0] == (byte) 0xFE && head[1] == (byte) 0xFF) || (head[0] == (byte) 0xFF && head[1] == (byte) 0xFE))) {
+            encoding = "UTF-16";
+        } else {
+            final Matcher matcher = ENCODING.matcher(new String(head, 0, length, "ISO-8859-1"));
+            if (matcher.find()) {
+                encoding = matcher.group(1);
+            }
+        }
+        return new InputStreamReader(stream, encoding);
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (!prologRead) {
+            final int read = prolog.read(buffer, offset, length);
+            if (read != -1) {
+                return read;
+            }
+            prologRead = true;
+        }
+        return document.read(buffer, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        document.close();
+    }
+
+    /**
+     * Read the document up to and including the name of the root element, dropping the document type declaration and
+     * inserting a new one with the same internal subset before the root element. If the prolog is malformed it's returned
+     * as is and the parser reports the error.
+     */
+    private static String readProlog(Reader reader, String systemId) throws IOException {
+        final StringBuilder prolog = new StringBuilder();
+        String internalSubset = "";
+        int c = reader.read();
+        if (c == BYTE_ORDER_MARK) {
+            c = reader.read();
+        }
+        while (c != -1) {
+            if (Character.isWhitespace(c)) {
+                prolog.append((char) c);
+                c = reader.read();
+                continue;
+            }
+            prolog.append((char) c);
+            if (c != '<') {
+                break;
+            }
+            c = reader.read();
+            if (c == '?') {
+                prolog.append('?');
+                if (!readUntil(reader, prolog, "?>")) {
+                    break;
+                }
+            } else if (c == '!') {
+                final String markup = read(reader, 7);
+                if (markup.equals("--")) {
+                    prolog.append("!--");
+                    if (!readUntil(reader, prolog, "-->")) {
+                        break;
+                    }
+                } else if (markup.equals("DOCTYPE")) {
+                    prolog.setLength(prolog.length() - 1);
+                    internalSubset = readInternalSubset(reader);
+                    if (internalSubset == null) {
+                        break;
+                    }
+                } else {
+                    prolog.append('!').append(markup);
+                    break;
+                }
+            } else if (c != -1) {
+                final StringBuilder name = new StringBuilder();
+                while (c != -1 && !Character.isWhitespace(c) && c != '/' && c != '>') {
+                    name.append((char) c);
+                    c = reader.read();
+                }
+                prolog.setLength(prolog.length() - 1);
+                prolog.append("<!DOCTYPE ").append(name).append(" SYSTEM \"").append(systemId).append('"').append(internalSubset).append('>');
+                prolog.append('<').append(name);
+                if (c != -1) {
+                    prolog.append((char) c);
+                }
+                break;
+            }
+            c = reader.read();
+        }
+        return prolog.toString();
+    }
+
+    private static boolean readUntil(Reader reader, StringBuilder out, String end) throws IOException {
+        int c;
+        while ((c = reader.read()) != -1) {
+            out.append((char) c);
+            if (c == end.charAt(end.length() - 1) && endsWith(out, end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read the next <code>length</code> characters, or just two characters if they start a comment.
+     */
+    private static String read(Reader reader, int length) throws IOException {
+        final StringBuilder out = new StringBuilder(length);
+        int c;
+        while (out.length() < length && (c = reader.read()) != -1) {
+            out.append((char) c);
+            if (out.length() == 2 && out.charAt(0) == '-' && out.charAt(1) == '-') {
+                break;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Read the rest of the document type declaration.
+     *
+     * @return The internal subset including the square brackets and preceded by a space, an empty string if the declaration
+     *         has no internal subset or <code>null</code> if the end of the document was reached.
+     */
+    private static String readInternalSubset(Reader reader) throws IOException {
+        char quote = 0;
+        int c;
+        // Skip the name and the external id
+        while ((c = reader.read()) != -1) {
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = (char) c;
+            } else if (c == '>') {
+                return "";
+            } else if (c == '[') {
+                break;
+            }
+        }
+        final StringBuilder internalSubset = new StringBuilder(" [");
+        while (c != -1 && (c = reader.read()) != -1) {
+            internalSubset.append((char) c);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = (char) c;
+            } else if (c == '-' && endsWith(internalSubset, "<!--")) {
+                // Quotes and brackets in comments and processing instructions don't count
+                if (!readUntil(reader, internalSubset, "-->")) {
+                    return null;
+                }
+            } else if (c == '?' && endsWith(internalSubset, "<?")) {
+                if (!readUntil(reader, internalSubset, "?>")) {
+                    return null;
+                }
+            } else if (c == ']') {
+                return readUntil(reader, new StringBuilder(), ">") ? internalSubset.toString() : null;
+            }
+        }
+        return null;
+    }
+
+    private static boolean endsWith(StringBuilder builder, String suffix) {
+        return builder.length() >= suffix.length() && builder.substring(builder.length() - suffix.length()).equals(suffix);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.matcher.xml;
+
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Parses XML documents into DOM trees reusing one {@link DocumentBuilder} per thread. Looking up a {@link DocumentBuilderFactory}
+ * and creating a new builder for each document is considerably more expensive than the parse itself for small documents.
+ */
+public class DomParser {
+    private static final DocumentBuilderFactory FACTORY = DocumentBuilderFactory.newInstance();
+
+    private static final ThreadLocal<DocumentBuilder> BUILDERS = new ThreadLocal<DocumentBuilder>() {
+        @Override
+        protected DocumentBuilder initialValue() {
+            try {
+                // The factory is not guaranteed to be thread-safe
+                synchronized (FACTORY) {
+                    return FACTORY.newDocumentBuilder();
+                }
+            } catch (ParserConfigurationException e) {
+                throw new IllegalStateException("Couldn't create an XML document builder.", e);
+            }
+        }
+    };
+
+    /**
+     * Parse an XML document.
+     *
+     * @param document The XML document
+     * @return The DOM tree of the document
+     */
+    public static Document parse(InputStream document) throws IOException, SAXException {
+        final DocumentBuilder builder = BUILDERS.get();
+        try {
+            return builder.parse(document);
+        } finally {
+            builder.reset();
+        }
+    }
+}
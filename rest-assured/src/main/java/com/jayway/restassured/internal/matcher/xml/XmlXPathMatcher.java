@@ -0,0 +1,158 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.matcher.xml;
+
+import com.jayway.restassured.internal.support.LruCache;
+import org.apache.commons.lang3.Validate;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Matches a DOM node if an XPath expression evaluates to a node, or to a value that matches a value matcher. Behaves like
+ * {@link org.hamcrest.xml.HasXPath} but an XPath expression is compiled at most once per thread and the compiled expression
+ * is shared by all matchers using the same expression. Compiled expressions are cached per thread since an {@link XPathExpression}
+ * is not thread-safe.
+ */
+public class XmlXPathMatcher extends TypeSafeDiagnosingMatcher<Node> {
+    private static final int MAX_CACHED_EXPRESSIONS_PER_THREAD = 256;
+
+    private static final ThreadLocal<CompiledExpressions> EXPRESSIONS = new ThreadLocal<CompiledExpressions>() {
+        @Override
+        protected CompiledExpressions initialValue() {
+            return new CompiledExpressions();
+        }
+    };
+
+    private final String xPath;
+    private final NamespaceContext namespaceContext;
+    private final Matcher<? super String> valueMatcher;
+    private final QName evaluationMode;
+
+    private XmlXPathMatcher(String xPath, NamespaceContext namespaceContext, Matcher<? super String> valueMatcher) {
+        Validate.notNull(xPath, "XPath cannot be null");
+        this.xPath = xPath;
+        this.namespaceContext = namespaceContext;
+        this.valueMatcher = valueMatcher;
+        this.evaluationMode = valueMatcher == null ? XPathConstants.NODE : XPathConstants.STRING;
+        // Fail fast if the expression is invalid
+        compiledExpression();
+    }
+
+    @Override
+    protected boolean matchesSafely(Node item, Description mismatchDescription) {
+        final Object result;
+        try {
+            result = compiledExpression().evaluate(item, evaluationMode);
+        } catch (XPathExpressionException e) {
+            mismatchDescription.appendText(e.getMessage());
+            return false;
+        }
+        if (result == null) {
+            mismatchDescription.appendText("xpath returned no results.");
+            return false;
+        } else if (valueMatcher == null) {
+            return true;
+        }
+        final boolean matches = valueMatcher.matches(result);
+        if (!matches) {
+            mismatchDescription.appendText("xpath result ");
+            valueMatcher.describeMismatch(result, mismatchDescription);
+        }
+        return matches;
+    }
+
+    public void describeTo(Description description) {
+        description.appendText("an XML document with XPath ").appendText(xPath);
+        if (valueMatcher != null) {
+            description.appendText(" ").appendDescriptionOf(valueMatcher);
+        }
+    }
+
+    private XPathExpression compiledExpression() {
+        try {
+            return EXPRESSIONS.get().get(xPath, namespaceContext);
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid XPath : " + xPath, e);
+        }
+    }
+
+    public static Matcher<Node> hasXPath(String xPath) {
+        return new XmlXPathMatcher(xPath, null, null);
+    }
+
+    public static Matcher<Node> hasXPath(String xPath, Matcher<? super String> valueMatcher) {
+        return new XmlXPathMatcher(xPath, null, valueMatcher);
+    }
+
+    public static Matcher<Node> hasXPath(String xPath, NamespaceContext namespaceContext) {
+        return new XmlXPathMatcher(xPath, namespaceContext, null);
+    }
+
+    public static Matcher<Node> hasXPath(String xPath, NamespaceContext namespaceContext, Matcher<? super String> valueMatcher) {
+        return new XmlXPathMatcher(xPath, namespaceContext, valueMatcher);
+    }
+
+    private static class CompiledExpressions {
+        private final LruCache<List<Object>, XPathExpression> expressions = new LruCache<List<Object>, XPathExpression>(MAX_CACHED_EXPRESSIONS_PER_THREAD);
+        private final XPath xPath = XPathFactory.newInstance().newXPath();
+
+        XPathExpression get(String expression, NamespaceContext namespaceContext) throws XPathExpressionException {
+            // Namespace contexts seldom implement equals so they're compared by identity
+            final List<Object> key = Arrays.<Object>asList(expression, namespaceContext == null ? null : new IdentityKey(namespaceContext));
+            XPathExpression compiled = expressions.get(key);
+            if (compiled == null) {
+                xPath.reset();
+                if (namespaceContext != null) {
+                    xPath.setNamespaceContext(namespaceContext);
+                }
+                compiled = xPath.compile(expression);
+                expressions.put(key, compiled);
+            }
+            return compiled;
+        }
+    }
+
+    private static class IdentityKey {
+        private final Object object;
+
+        IdentityKey(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path;
+
+import groovy.lang.Binding;
+import groovy.lang.GroovyShell;
+import groovy.lang.Script;
+import org.codehaus.groovy.runtime.InvokerHelper;
+
+/**
+ * An expression that is compiled to a Groovy script class once. Each evaluation creates a new (cheap) script
+ * instance with its own binding so no new classes are generated and evaluation is thread-safe.
+ */
+class GroovyPathExpression extends PathExpression {
+    private final String rootName;
+    private final Class<? extends Script> scriptClass;
+
+    GroovyPathExpression(String rootName, String expression) {
+        this.rootName = rootName;
+        this.scriptClass = new GroovyShell().parse(expression).getClass();
+    }
+
+    public Object evaluate(Object root) {
+        final Binding binding = new Binding();
+        binding.setVariable(rootName, root);
+        return InvokerHelper.createScript(scriptClass, binding).run();
+    }
+}
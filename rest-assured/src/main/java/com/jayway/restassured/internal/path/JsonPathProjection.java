@@ -0,0 +1,325 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path;
+
+import com.jayway.restassured.internal.path.PropertyPathExpression.Navigation;
+import com.jayway.restassured.internal.path.PropertyPathExpression.Step;
+import groovy.json.JsonException;
+import groovy.json.JsonLexer;
+import groovy.json.JsonToken;
+import groovy.json.JsonTokenType;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+import static groovy.json.JsonTokenType.*;
+
+/**
+ * Parses a JSON document but keeps only the parts that are needed to evaluate a set of plain property paths (see
+ * {@link PropertyPathExpression}). Object members and array elements that none of the paths refer to are validated and
+ * skipped without being materialized, e.g. for the paths <code>.meta.total</code> and <code>.items[0].id</code> only
+ * <code>meta.total</code> and the id of the first item are kept while the other items are replaced by <code>null</code>.
+ * <p>
+ * The result has the same structure (maps, lists and values) as the document created by {@link groovy.json.JsonSlurper} so the
+ * paths evaluate to the same values on it and a malformed document is rejected in the same way. Values that a path navigates
+ * into with a method call (e.g. <code>size()</code>) and the values that the paths end at are materialized in full. If an
+ * object contains the same member more than once the last occurrence is used, as in the JsonSlurper.
+ * </p>
+ */
+public class JsonPathProjection {
+    private final Node root;
+
+    private JsonPathProjection(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Create a projection for the supplied paths.
+     *
+     * @param paths The paths in the form accepted by {@link PathExpression#compile(String, String)}, e.g. <code>.store.book[0].author</code>
+     * @return The projection or <code>null</code> if the whole document is needed to evaluate the paths, e.g. because one
+     *         of them contains a closure.
+     */
+    public static JsonPathProjection create(Collection<String> paths) {
+        final Node root = new Node();
+        for (String path : paths) {
+            final PropertyPathExpression expression = path == null ? null : PropertyPathExpression.parse(path);
+            if (expression == null) {
+                return null;
+            }
+            Node node = root;
+            for (Step step : expression.getSteps()) {
+                if (node.full || step.isMethodCall() || step.getNavigation() == Navigation.SPREAD) {
+                    break;
+                } else if (step.isIndex()) {
+                    node = step.getIndex() >= 0 ? node.index(step.getIndex()) : node.anyIndex();
+                } else {
+                    node = node.property(step.getName());
+                }
+            }
+            node.full = true;
+        }
+        return root.full ? null : new JsonPathProjection(root);
+    }
+
+    /**
+     * Parse the document, keeping only the parts that are needed to evaluate the paths. The whole document is read and
+     * validated in the same way as by the {@link groovy.json.JsonSlurper} and the reader is read to the end.
+     *
+     * @param reader The JSON document
+     * @return The projected document
+     */
+    public Object parse(Reader reader) {
+        final JsonLexer lexer = new JsonLexer(reader);
+        final Object document = new Parser(lexer).parseDocument(root);
+        final char[] buffer = new char[1024];
+        try {
+            // Like the JsonSlurper the content after the document isn't parsed
+            while (lexer.getReader().read(buffer) != -1) {
+                continue;
+            }
+        } catch (IOException e) {
+            throw new JsonException("Failed to read the JSON payload.", e);
+        }
+        return document;
+    }
+
+    private static class Parser {
+        private final JsonLexer lexer;
+
+        Parser(JsonLexer lexer) {
+            this.lexer = lexer;
+        }
+
+        Object parseDocument(Node root) {
+            final JsonToken token = lexer.nextToken();
+            if (token == null || (token.getType() != OPEN_CURLY && token.getType() != OPEN_BRACKET)) {
+                throw new JsonException("A JSON payload should start with " + OPEN_CURLY.getLabel() + " or " + OPEN_BRACKET.getLabel()
+                        + ".\nInstead, '" + (token == null ? "" : token.getText()) + "' was found.");
+            }
+            return parseValue(token, root);
+        }
+
+        private Object parseValue(JsonToken token, Node node) {
+            if (node.full) {
+                return materialize(token);
+            } else if (token.getType() == OPEN_CURLY) {
+                return parseObject(node);
+            } else if (token.getType() == OPEN_BRACKET) {
+                return parseArray(node);
+            }
+            return scalar(token);
+        }
+
+        private Map<String, Object> parseObject(Node node) {
+            final Map<String, Object> object = new HashMap<String, Object>();
+            JsonToken token = next("object");
+            while (token.getType() != CLOSE_CURLY) {
+                final String key = key(token);
+                expect(COLON);
+                final JsonToken valueToken = next("object");
+                final Node child = node.properties.get(key);
+                if (child == null) {
+                    skip(valueToken);
+                } else {
+                    // The last occurrence of a member wins, as in the JsonSlurper
+                    object.put(key, parseValue(valueToken, child));
+                }
+                token = separator(CLOSE_CURLY, "object");
+            }
+            return object;
+        }
+
+        private List<Object> parseArray(Node node) {
+            final List<Object> array = new ArrayList<Object>();
+            // Node used for the elements that are not referenced by index
+            final Node elementNode = Node.merge(node.propertiesOnly(), node.anyIndex);
+            JsonToken token = next("array");
+            while (token.getType() != CLOSE_BRACKET) {
+                final Node indexNode = node.indices.get(array.size());
+                final Node child = indexNode == null ? elementNode : Node.merge(elementNode, indexNode);
+                if (child.isEmpty()) {
+                    // Keeps the size of the array the same as in the JsonSlurper document
+                    skip(token);
+                    array.add(null);
+                } else {
+                    array.add(parseValue(token, child));
+                }
+                token = separator(CLOSE_BRACKET, "array");
+            }
+            return array;
+        }
+
+        private Object materialize(JsonToken token) {
+            if (token.getType() == OPEN_CURLY) {
+                final Map<String, Object> object = new HashMap<String, Object>();
+                JsonToken next = next("object");
+                while (next.getType() != CLOSE_CURLY) {
+                    final String key = key(next);
+                    expect(COLON);
+                    object.put(key, materialize(next("object")));
+                    next = separator(CLOSE_CURLY, "object");
+                }
+                return object;
+            } else if (token.getType() == OPEN_BRACKET) {
+                final List<Object> array = new ArrayList<Object>();
+                JsonToken next = next("array");
+                while (next.getType() != CLOSE_BRACKET) {
+                    array.add(materialize(next));
+                    next = separator(CLOSE_BRACKET, "array");
+                }
+                return array;
+            }
+            return scalar(token);
+        }
+
+        /**
+         * Validates the value like {@link #materialize(JsonToken)} without keeping it.
+         */
+        private void skip(JsonToken token) {
+            if (token.getType() == OPEN_CURLY) {
+                JsonToken next = next("object");
+                while (next.getType() != CLOSE_CURLY) {
+                    key(next);
+                    expect(COLON);
+                    skip(next("object"));
+                    next = separator(CLOSE_CURLY, "object");
+                }
+            } else if (token.getType() == OPEN_BRACKET) {
+                JsonToken next = next("array");
+                while (next.getType() != CLOSE_BRACKET) {
+                    skip(next);
+                    next = separator(CLOSE_BRACKET, "array");
+                }
+            } else {
+                scalar(token);
+            }
+        }
+
+        private Object scalar(JsonToken token) {
+            final JsonTokenType type = token.getType();
+            if (type != STRING && type != NUMBER && type != TRUE && type != FALSE && type != NULL) {
+                throw unexpected(token, "a value");
+            }
+            return token.getValue();
+        }
+
+        private String key(JsonToken token) {
+            if (token.getType() != STRING) {
+                throw unexpected(token, "a string key");
+            }
+            return (String) token.getValue();
+        }
+
+        private void expect(JsonTokenType type) {
+            final JsonToken token = next("object");
+            if (token.getType() != type) {
+                throw unexpected(token, type.getLabel());
+            }
+        }
+
+        private JsonToken separator(JsonTokenType close, String container) {
+            final JsonToken token = next(container);
+            if (token.getType() == close) {
+                return token;
+            } else if (token.getType() != COMMA) {
+                throw unexpected(token, COMMA.getLabel() + " or " + close.getLabel());
+            }
+            return next(container);
+        }
+
+        private JsonToken next(String container) {
+            final JsonToken token = lexer.nextToken();
+            if (token == null) {
+                throw new JsonException("Expected a value on line: " + lexer.getReader().getLine() + ", column: "
+                        + lexer.getReader().getColumn() + ".\nBut got an unterminated " + container + ".");
+            }
+            return token;
+        }
+
+        private JsonException unexpected(JsonToken token, String expected) {
+            return new JsonException("Expected " + expected + " on line: " + token.getStartLine() + ", column: "
+                    + token.getStartColumn() + ".\nBut got '" + token.getText() + "' instead.");
+        }
+    }
+
+    private static class Node {
+        private boolean full;
+        private final Map<String, Node> properties = new HashMap<String, Node>();
+        private final SortedMap<Integer, Node> indices = new TreeMap<Integer, Node>();
+        private Node anyIndex;
+
+        Node property(String name) {
+            Node node = properties.get(name);
+            if (node == null) {
+                node = new Node();
+                properties.put(name, node);
+            }
+            return node;
+        }
+
+        Node index(int index) {
+            Node node = indices.get(index);
+            if (node == null) {
+                node = new Node();
+                indices.put(index, node);
+            }
+            return node;
+        }
+
+        Node anyIndex() {
+            if (anyIndex == null) {
+                anyIndex = new Node();
+            }
+            return anyIndex;
+        }
+
+        Node propertiesOnly() {
+            final Node node = new Node();
+            node.full = full;
+            node.properties.putAll(properties);
+            return node;
+        }
+
+        boolean isEmpty() {
+            return !full && properties.isEmpty() && indices.isEmpty() && anyIndex == null;
+        }
+
+        static Node merge(Node first, Node second) {
+            if (second == null || second.isEmpty()) {
+                return first;
+            } else if (first == null || first.isEmpty()) {
+                return second;
+            }
+            final Node merged = new Node();
+            merged.full = first.full || second.full;
+            if (!merged.full) {
+                for (Node node : Arrays.asList(first, second)) {
+                    for (Map.Entry<String, Node> entry : node.properties.entrySet()) {
+                        merged.properties.put(entry.getKey(), merge(merged.properties.get(entry.getKey()), entry.getValue()));
+                    }
+                    for (Map.Entry<Integer, Node> entry : node.indices.entrySet()) {
+                        merged.indices.put(entry.getKey(), merge(merged.indices.get(entry.getKey()), entry.getValue()));
+                    }
+                    merged.anyIndex = merge(merged.anyIndex, node.anyIndex);
+                }
+            }
+            return merged;
+        }
+    }
+}
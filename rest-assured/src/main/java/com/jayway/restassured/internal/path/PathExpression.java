@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path;
+
+/**
+ * A GPath expression that has been parsed once and can be evaluated many times against different root objects.
+ * Instances are immutable and thread-safe.
+ */
+public abstract class PathExpression {
+
+    /**
+     * Compile a GPath expression such as <code>.store.book[0].author</code> or <code>.store.book.findAll { it.price < 10 }</code>.
+     * Plain property paths (property access, indices, spread and method calls without arguments) are interpreted directly
+     * while other expressions are compiled to a Groovy script class once.
+     *
+     * @param rootName The name of the root object as used in the expression when it's compiled to a Groovy script.
+     * @param path     The path to evaluate on the root object, e.g. <code>.store.book</code> or <code>[0].name</code>.
+     * @return The compiled expression
+     * @throws org.codehaus.groovy.control.CompilationFailedException If the expression is not valid Groovy.
+     */
+    public static PathExpression compile(String rootName, String path) {
+        final PathExpression propertyPath = PropertyPathExpression.parse(path);
+        if (propertyPath != null) {
+            return propertyPath;
+        }
+        return new GroovyPathExpression(rootName, rootName + path);
+    }
+
+    /**
+     * Evaluate the expression.
+     *
+     * @param root The root object
+     * @return The result of the expression
+     */
+    public abstract Object evaluate(Object root);
+}
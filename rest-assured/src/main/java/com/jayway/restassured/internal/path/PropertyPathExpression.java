@@ -0,0 +1,217 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path;
+
+import org.codehaus.groovy.runtime.ScriptBytecodeAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A path expression consisting only of property access (<code>.name</code>, <code>.'quoted-name'</code>),
+ * safe navigation (<code>?.name</code>), spread (<code>*.name</code>), integer indices (<code>[2]</code>, <code>[-1]</code>)
+ * and method calls without arguments (<code>.size()</code>). Such a path is evaluated step by step using the same
+ * Groovy runtime calls as the compiled script would, which avoids both compilation and class generation.
+ */
+class PropertyPathExpression extends PathExpression {
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final Step[] steps;
+
+    private PropertyPathExpression(List<Step> steps) {
+        this.steps = steps.toArray(new Step[steps.size()]);
+    }
+
+    /**
+     * Parse a path.
+     *
+     * @param path The path, e.g. <code>.store.book[0].author</code>
+     * @return The expression or <code>null</code> if the path contains anything other than plain property access.
+     */
+    static PropertyPathExpression parse(String path) {
+        final List<Step> steps = new ArrayList<Step>();
+        final int length = path.length();
+        int i = 0;
+        while (i < length) {
+            final char c = path.charAt(i);
+            if (c == '[') {
+                final int end = path.indexOf(']', i);
+                if (end == -1) {
+                    return null;
+                }
+                final Integer index = parseIndex(path.substring(i + 1, end));
+                if (index == null) {
+                    return null;
+                }
+                steps.add(new Step(Navigation.NORMAL, "getAt", new Object[]{index}, true));
+                i = end + 1;
+                continue;
+            }
+
+            final Navigation navigation;
+            if (c == '.') {
+                navigation = Navigation.NORMAL;
+                i++;
+            } else if (path.startsWith("?.", i)) {
+                navigation = Navigation.SAFE;
+                i += 2;
+            } else if (path.startsWith("*.", i)) {
+                navigation = Navigation.SPREAD;
+                i += 2;
+            } else {
+                return null;
+            }
+
+            if (i >= length) {
+                return null;
+            }
+            final String name;
+            final char first = path.charAt(i);
+            if (first == '\'' || first == '"') {
+                final int end = path.indexOf(first, i + 1);
+                if (end == -1) {
+                    return null;
+                }
+                name = path.substring(i + 1, end);
+                if (name.indexOf('$') != -1 || name.indexOf('\\') != -1) {
+                    return null;
+                }
+                i = end + 1;
+            } else {
+                int end = i;
+                if (!isIdentifierStart(first)) {
+                    return null;
+                }
+                while (end < length && isIdentifierPart(path.charAt(end))) {
+                    end++;
+                }
+                name = path.substring(i, end);
+                i = end;
+            }
+
+            if (path.startsWith("()", i)) {
+                steps.add(new Step(navigation, name, NO_ARGS, true));
+                i += 2;
+            } else {
+                steps.add(new Step(navigation, name, null, false));
+            }
+        }
+        return new PropertyPathExpression(steps);
+    }
+
+    Step[] getSteps() {
+        return steps;
+    }
+
+    public Object evaluate(Object root) {
+        Object current = root;
+        try {
+            for (Step step : steps) {
+                current = step.apply(current);
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+        return current;
+    }
+
+    private static Integer parseIndex(String index) {
+        final int start = index.startsWith("-") ? 1 : 0;
+        // Leading zeros denote octal literals in Groovy so leave those to the compiler
+        if (index.length() == start || index.length() - start > 9 || (index.charAt(start) == '0' && index.length() - start > 1)) {
+            return null;
+        }
+        for (int i = start; i < index.length(); i++) {
+            if (!Character.isDigit(index.charAt(i))) {
+                return null;
+            }
+        }
+        return Integer.valueOf(index);
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return c != '$' && Character.isJavaIdentifierStart(c);
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return c != '$' && Character.isJavaIdentifierPart(c) && !Character.isIdentifierIgnorable(c);
+    }
+
+    static enum Navigation {
+        NORMAL, SAFE, SPREAD
+    }
+
+    static class Step {
+        private final Navigation navigation;
+        private final String name;
+        private final Object[] arguments;
+        private final boolean methodCall;
+
+        Step(Navigation navigation, String name, Object[] arguments, boolean methodCall) {
+            this.navigation = navigation;
+            this.name = name;
+            this.arguments = arguments;
+            this.methodCall = methodCall;
+        }
+
+        boolean isIndex() {
+            return methodCall && arguments.length == 1 && arguments[0] instanceof Integer;
+        }
+
+        int getIndex() {
+            return (Integer) arguments[0];
+        }
+
+        boolean isMethodCall() {
+            return methodCall && !isIndex();
+        }
+
+        Navigation getNavigation() {
+            return navigation;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Object apply(Object object) throws Throwable {
+            if (methodCall) {
+                switch (navigation) {
+                    case SAFE:
+                        return ScriptBytecodeAdapter.invokeMethodNSafe(PropertyPathExpression.class, object, name, arguments);
+                    case SPREAD:
+                        return ScriptBytecodeAdapter.invokeMethodNSpreadSafe(PropertyPathExpression.class, object, name, arguments);
+                    default:
+                        return ScriptBytecodeAdapter.invokeMethodN(PropertyPathExpression.class, object, name, arguments);
+                }
+            } else {
+                switch (navigation) {
+                    case SAFE:
+                        return ScriptBytecodeAdapter.getPropertySafe(PropertyPathExpression.class, object, name);
+                    case SPREAD:
+                        return ScriptBytecodeAdapter.getPropertySpreadSafe(PropertyPathExpression.class, object, name);
+                    default:
+                        return ScriptBytecodeAdapter.getProperty(PropertyPathExpression.class, object, name);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.internal.path;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+/**
+ * Makes a parsed JSON document (the maps, lists and values created by {@link groovy.json.JsonSlurper}) unmodifiable so that
+ * it can be shared by everyone that evaluates paths on it. The nested maps and lists are replaced by unmodifiable views of
+ * themselves in place so the document isn't copied.
+ */
+public class UnmodifiableJsonTree {
+
+    private UnmodifiableJsonTree() {
+    }
+
+    /**
+     * @param document A newly parsed document that no one else refers to yet
+     * @return An unmodifiable view of the document, or the document itself if it's a single value
+     */
+    @SuppressWarnings("unchecked")
+    public static Object of(Object document) {
+        if (document instanceof Map) {
+            final Map<Object, Object> map = (Map<Object, Object>) document;
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                if (isContainer(entry.getValue())) {
+                    entry.setValue(of(entry.getValue()));
+                }
+            }
+            return Collections.unmodifiableMap(map);
+        } else if (document instanceof List) {
+            final List<Object> list = (List<Object>) document;
+            for (ListIterator<Object> iterator = list.listIterator(); iterator.hasNext(); ) {
+                final Object value = iterator.next();
+                if (isContainer(value)) {
+                    iterator.set(of(value));
+                }
+            }
+            return Collections.unmodifiableList(list);
+        }
+        return document;
+    }
+
+    private static boolean isContainer(Object value) {
+        return value instanceof Map || value instanceof List;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Reads a response body exactly once without keeping it in memory. The size and the requested digests of the body are
+ * computed while it's being read and the body is optionally written straight to a file.
+ */
+public class BodyStreamer {
+    private static final int BUFFER_SIZE = 16384;
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Set<String> digestAlgorithms;
+    private final File file;
+
+    /**
+     * @param digestAlgorithms The digest algorithms to compute, e.g. <code>MD5</code> or <code>SHA-256</code>
+     * @param file             The file to write the body to or <code>null</code> to discard the body
+     */
+    public BodyStreamer(Collection<String> digestAlgorithms, File file) {
+        this.digestAlgorithms = new LinkedHashSet<String>(digestAlgorithms);
+        this.file = file;
+    }
+
+    /**
+     * Read the supplied stream to the end and close it.
+     *
+     * @param stream The body or <code>null</code> if the response has no body
+     * @return The size and digests of the body
+     */
+    public StreamedBody stream(InputStream stream) throws IOException {
+        final Map<String, MessageDigest> digests = createDigests();
+        final CountingInputStream counter = new CountingInputStream(stream == null ? new ByteArrayInputStream(new byte[0]) : stream);
+        InputStream in = counter;
+        for (MessageDigest digest : digests.values()) {
+            in = new DigestInputStream(in, digest);
+        }
+        try {
+            if (file == null) {
+                final byte[] buffer = new byte[BUFFER_SIZE];
+                while (in.read(buffer) != -1) {
+                    // Only the size and digests are of interest
+                }
+            } else {
+                transferToFile(in);
+            }
+        } finally {
+            in.close();
+        }
+
+        final Map<String, String> hexDigests = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, MessageDigest> entry : digests.entrySet()) {
+            hexDigests.put(entry.getKey(), toHex(entry.getValue().digest()));
+        }
+        return new StreamedBody(counter.count, hexDigests, file);
+    }
+
+    private void transferToFile(InputStream in) throws IOException {
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            final FileChannel channel = out.getChannel();
+            final ReadableByteChannel source = Channels.newChannel(in);
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                position += transferred;
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private Map<String, MessageDigest> createDigests() {
+        final Map<String, MessageDigest> digests = new LinkedHashMap<String, MessageDigest>();
+        for (String algorithm : digestAlgorithms) {
+            try {
+                digests.put(algorithm, MessageDigest.getInstance(algorithm));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalArgumentException("Digest algorithm " + algorithm + " is not supported.", e);
+            }
+        }
+        return digests;
+    }
+
+    private static String toHex(byte[] bytes) {
+        final char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xf];
+        }
+        return new String(chars);
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int read = super.read();
+            if (read != -1) {
+                count++;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.internal.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Keeps a copy of the bytes that are read from a stream until more than a given number of bytes have been read. The copy
+ * is discarded as soon as the limit is exceeded so the memory used is bounded no matter how large the stream is.
+ */
+public class BoundedTeeInputStream extends FilterInputStream {
+    private static final int SKIP_BUFFER_SIZE = 4096;
+
+    private final long maxBufferedSize;
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private long count;
+
+    /**
+     * @param in              The stream to read from
+     * @param maxBufferedSize The largest number of bytes to keep a copy of
+     */
+    public BoundedTeeInputStream(InputStream in, long maxBufferedSize) {
+        super(in);
+        this.maxBufferedSize = maxBufferedSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int read = super.read();
+        if (read != -1) {
+            count++;
+            if (shouldBuffer()) {
+                buffer.write(read);
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int read = super.read(b, off, len);
+        if (read > 0) {
+            count += read;
+            if (shouldBuffer()) {
+                buffer.write(b, off, read);
+            }
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes must be copied as well
+        final byte[] skipped = new byte[(int) Math.min(n, SKIP_BUFFER_SIZE)];
+        final int read = skipped.length == 0 ? 0 : read(skipped, 0, skipped.length);
+        return read == -1 ? 0 : read;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+        // Not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("Mark/reset is not supported");
+    }
+
+    /**
+     * @return <code>true</code> if more bytes than the limit have been read and the copy has been discarded
+     */
+    public boolean isOverflowed() {
+        return buffer == null;
+    }
+
+    /**
+     * @return The bytes read so far or <code>null</code> if the limit has been exceeded
+     */
+    public byte[] getBufferedBytes() {
+        return buffer == null ? null : buffer.toByteArray();
+    }
+
+    /**
+     * @return The number of bytes read so far
+     */
+    public long getCount() {
+        return count;
+    }
+
+    private boolean shouldBuffer() {
+        if (buffer != null && count > maxBufferedSize) {
+            buffer = null;
+        }
+        return buffer != null;
+    }
+}
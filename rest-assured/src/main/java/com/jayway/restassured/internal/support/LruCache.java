@@ -0,0 +1,173 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe cache with a fixed maximum size. When the cache is full the least recently used entries are evicted.
+ * <p>
+ * Reading from the cache doesn't take a lock. Instead of maintaining an exact access order each entry remembers when
+ * it was last used, in terms of the number of entries that have been added to the cache. When the cache grows beyond its
+ * maximum size the least recently used tenth of the entries are evicted at once by the thread that added the entry while
+ * the other threads continue to read from and add to the cache. The cache may therefore briefly hold more than
+ * {@link #getMaxSize()} entries and entries used between the same two additions are considered equally recent.
+ * </p>
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class LruCache<K, V> {
+    private final int maxSize;
+    private final ConcurrentMap<K, Entry<V>> entries;
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public LruCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be greater than 0.");
+        }
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<K, Entry<V>>(Math.min(maxSize, 16));
+    }
+
+    /**
+     * @param key The key
+     * @return The cached value or <code>null</code> if no value is cached for the key.
+     */
+    public V get(K key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.used(clock.get());
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, new Entry<V>(value, clock.incrementAndGet()));
+        evictIfFull();
+    }
+
+    /**
+     * Add the value unless a value is already cached for the key.
+     *
+     * @param key   The key
+     * @param value The value to add
+     * @return The value that is already cached for the key or <code>null</code> if the supplied value was added.
+     */
+    public V putIfAbsent(K key, V value) {
+        final Entry<V> existing = entries.putIfAbsent(key, new Entry<V>(value, clock.incrementAndGet()));
+        if (existing == null) {
+            evictIfFull();
+            return null;
+        }
+        existing.used(clock.get());
+        return existing.value;
+    }
+
+    /**
+     * Remove the entry for the key if it's still mapped to the supplied value.
+     *
+     * @param key   The key
+     * @param value The value expected to be cached for the key
+     * @return <code>true</code> if the entry was removed.
+     */
+    public boolean remove(K key, V value) {
+        final Entry<V> entry = entries.get(key);
+        return entry != null && entry.value == value && entries.remove(key, entry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private void evictIfFull() {
+        if (entries.size() > maxSize && evictionLock.tryLock()) {
+            try {
+                evictLeastRecentlyUsed();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final int retainedSize = maxSize - maxSize / 10;
+        // The times are copied since they may change while sorting
+        final List<EvictionCandidate<K, V>> candidates = new ArrayList<EvictionCandidate<K, V>>(entries.size());
+        for (Map.Entry<K, Entry<V>> entry : entries.entrySet()) {
+            candidates.add(new EvictionCandidate<K, V>(entry.getKey(), entry.getValue()));
+        }
+        if (candidates.size() <= retainedSize) {
+            return;
+        }
+        Collections.sort(candidates);
+        for (EvictionCandidate<K, V> candidate : candidates.subList(0, candidates.size() - retainedSize)) {
+            // Not removed if the entry has been replaced in the meantime
+            entries.remove(candidate.key, candidate.entry);
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private volatile long lastUsed;
+
+        Entry(V value, long lastUsed) {
+            this.value = value;
+            this.lastUsed = lastUsed;
+        }
+
+        void used(long now) {
+            // Only written when changed so that frequently read entries don't keep invalidating the CPU caches of other readers
+            if (lastUsed != now) {
+                lastUsed = now;
+            }
+        }
+    }
+
+    private static class EvictionCandidate<K, V> implements Comparable<EvictionCandidate<K, V>> {
+        private final K key;
+        private final Entry<V> entry;
+        private final long lastUsed;
+
+        EvictionCandidate(K key, Entry<V> entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastUsed = entry.lastUsed;
+        }
+
+        public int compareTo(EvictionCandidate<K, V> other) {
+            return lastUsed < other.lastUsed ? -1 : lastUsed == other.lastUsed ? 0 : 1;
+        }
+    }
+}
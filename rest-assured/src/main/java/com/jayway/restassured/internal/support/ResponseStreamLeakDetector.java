@@ -0,0 +1,119 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.http.conn.ConnectionReleaseTrigger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Detects response streams that are garbage collected without having been closed or read to the end. Such a stream holds
+ * on to its connection which is never released and, if connections are reused, may eventually exhaust the connection pool.
+ * <p>
+ * A stack trace is recorded when a stream is tracked and it's reported when the stream is found to have leaked. The
+ * connection of the leaked stream is released at the same time. Leaks are looked for each time a new stream is tracked and
+ * when {@link #reportLeaks()} is called.
+ * </p>
+ */
+public class ResponseStreamLeakDetector {
+    private static final ReferenceQueue<Object> GARBAGE_COLLECTED_STREAMS = new ReferenceQueue<Object>();
+    // The references must be strongly reachable themselves until they have been enqueued
+    private static final ConcurrentMap<TrackedStream, Boolean> TRACKED_STREAMS = new ConcurrentHashMap<TrackedStream, Boolean>();
+
+    /**
+     * Track a response stream.
+     *
+     * @param stream           The stream returned to the user
+     * @param connectionStream The stream that is read from the connection, it's closed if <code>stream</code> leaks
+     * @param reportStream     The stream to report a leak to
+     * @return The tracked stream whose {@link TrackedStream#closed()} method must be called when the stream is closed
+     */
+    public static TrackedStream track(Object stream, InputStream connectionStream, PrintStream reportStream) {
+        Validate.notNull(connectionStream, "Connection stream cannot be null");
+        Validate.notNull(reportStream, "Report stream cannot be null");
+        reportLeaks();
+        final TrackedStream trackedStream = new TrackedStream(stream, connectionStream, reportStream);
+        TRACKED_STREAMS.put(trackedStream, Boolean.TRUE);
+        return trackedStream;
+    }
+
+    /**
+     * Report and release the streams that have been garbage collected without having been closed.
+     *
+     * @return The number of leaked streams that were reported.
+     */
+    public static int reportLeaks() {
+        int leaks = 0;
+        Reference<?> reference;
+        while ((reference = GARBAGE_COLLECTED_STREAMS.poll()) != null) {
+            final TrackedStream trackedStream = (TrackedStream) reference;
+            if (TRACKED_STREAMS.remove(trackedStream) != null) {
+                trackedStream.leaked();
+                leaks++;
+            }
+        }
+        return leaks;
+    }
+
+    public static class TrackedStream extends PhantomReference<Object> {
+        private final InputStream connectionStream;
+        private final PrintStream reportStream;
+        private final Throwable openedAt;
+
+        private TrackedStream(Object stream, InputStream connectionStream, PrintStream reportStream) {
+            super(stream, GARBAGE_COLLECTED_STREAMS);
+            this.connectionStream = connectionStream;
+            this.reportStream = reportStream;
+            this.openedAt = new Throwable("The response stream was created at");
+        }
+
+        /**
+         * Stop tracking the stream since it has been closed (or read to the end).
+         */
+        public void closed() {
+            TRACKED_STREAMS.remove(this);
+            clear();
+        }
+
+        private void leaked() {
+            synchronized (reportStream) {
+                reportStream.println("A response stream was garbage collected without having been closed. Read the body or call close() " +
+                        "on the stream returned by asInputStream() to release its connection.");
+                openedAt.printStackTrace(reportStream);
+                reportStream.flush();
+            }
+            try {
+                if (connectionStream instanceof ConnectionReleaseTrigger) {
+                    // Closing the stream would read the rest of the body which may never end
+                    ((ConnectionReleaseTrigger) connectionStream).abortConnection();
+                } else {
+                    connectionStream.close();
+                }
+            } catch (IOException e) {
+                // The leak has been reported and there is nothing more to do
+            }
+        }
+    }
+}
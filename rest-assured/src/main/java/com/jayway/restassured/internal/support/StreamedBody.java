@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The size and digests of a response body that has been read by a {@link BodyStreamer}.
+ */
+public class StreamedBody {
+    private final long size;
+    private final Map<String, String> digests;
+    private final File file;
+
+    StreamedBody(long size, Map<String, String> digests, File file) {
+        this.size = size;
+        this.digests = Collections.unmodifiableMap(digests);
+        this.file = file;
+    }
+
+    /**
+     * @return The size of the body in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @param algorithm The digest algorithm
+     * @return The digest of the body as a lower-case hex string or <code>null</code> if it wasn't computed
+     */
+    public String getDigest(String algorithm) {
+        return digests.get(algorithm);
+    }
+
+    /**
+     * @return The file the body was written to or <code>null</code>
+     */
+    public File getFile() {
+        return file;
+    }
+}
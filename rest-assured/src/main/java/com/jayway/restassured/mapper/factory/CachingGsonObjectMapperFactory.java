@@ -0,0 +1,33 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.restassured.mapper.factory;
+
+import com.google.gson.Gson;
+
+/**
+ * Creates a single Gson instance that is shared by all serializations and de-serializations. Gson instances are thread-safe.
+ * This is the default Gson object mapper factory.
+ */
+public class CachingGsonObjectMapperFactory implements GsonObjectMapperFactory {
+    public Gson create(Class cls, String charset) {
+        return GsonHolder.INSTANCE;
+    }
+
+    // Lazily creates the Gson instance so that Gson is only loaded when it's actually used
+    private static class GsonHolder {
+        private static final Gson INSTANCE = new Gson();
+    }
+}
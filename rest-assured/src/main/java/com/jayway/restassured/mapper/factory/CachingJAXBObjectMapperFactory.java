@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.restassured.mapper.factory;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Creates one JAXBContext per class and reuses it for all subsequent serializations and de-serializations of that class.
+ * Creating a JAXBContext is expensive while a JAXBContext is thread-safe (the marshallers and unmarshallers created from
+ * it are not and are created for each serialization and de-serialization). The charset doesn't affect the JAXBContext so
+ * the same context is used for all charsets. This is the default JAXB object mapper factory.
+ * <p>
+ * The cache doesn't keep classes, or their class loaders, from being unloaded. Classes are weakly referenced and since a
+ * context refers to its class the contexts are softly referenced so that they're released when memory is low.
+ * </p>
+ */
+public class CachingJAXBObjectMapperFactory implements JAXBObjectMapperFactory {
+    private static final Map<Class, SoftReference<JAXBContext>> CONTEXTS =
+            Collections.synchronizedMap(new WeakHashMap<Class, SoftReference<JAXBContext>>());
+
+    public JAXBContext create(Class cls, String charset) {
+        final SoftReference<JAXBContext> cachedContext = CONTEXTS.get(cls);
+        JAXBContext context = cachedContext == null ? null : cachedContext.get();
+        if (context == null) {
+            try {
+                context = JAXBContext.newInstance(cls);
+            } catch (JAXBException e) {
+                throw new RuntimeException(e);
+            }
+            // Threads that create a context for the same class at the same time each use their own, the last one is cached
+            CONTEXTS.put(cls, new SoftReference<JAXBContext>(context));
+        }
+        return context;
+    }
+}
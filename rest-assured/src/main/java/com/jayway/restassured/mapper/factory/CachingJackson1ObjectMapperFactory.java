@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.jayway.restassured.mapper.factory;
+
+import org.codehaus.jackson.map.ObjectMapper;
+
+/**
+ * Creates a single Jackson 1.0 ObjectMapper that is shared by all serializations and de-serializations. Creating an
+ * ObjectMapper is expensive while a configured ObjectMapper is thread-safe and designed to be reused. This is the default
+ * Jackson 1.0 object mapper factory.
+ * <p>
+ * Since the ObjectMapper is shared it must not be reconfigured. Implement your own {@link Jackson1ObjectMapperFactory}
+ * if you need a custom configuration.
+ * </p>
+ */
+public class CachingJackson1ObjectMapperFactory implements Jackson1ObjectMapperFactory {
+    public ObjectMapper create(Class cls, String charset) {
+        return ObjectMapperHolder.INSTANCE;
+    }
+
+    // Lazily creates the ObjectMapper so that Jackson is only loaded when it's actually used
+    private static class ObjectMapperHolder {
+        private static final ObjectMapper INSTANCE = new ObjectMapper();
+    }
+}
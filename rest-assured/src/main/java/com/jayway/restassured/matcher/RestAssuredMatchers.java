@@ -17,8 +17,12 @@
 package com.jayway.restassured.matcher;
 
 import com.jayway.restassured.internal.matcher.xml.XmlDtdMatcher;
+import com.jayway.restassured.internal.matcher.xml.XmlXPathMatcher;
 import com.jayway.restassured.internal.matcher.xml.XmlXsdMatcher;
 import org.hamcrest.Matcher;
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.NamespaceContext;
 
 import java.io.File;
 import java.io.InputStream;
@@ -109,4 +113,55 @@ public class RestAssuredMatchers {
     public static Matcher<String> matchesDtd(URL url) {
         return XmlDtdMatcher.matchesDtd(url);
     }
-}
\ No newline at end of file
+
+    /**
+     * Evaluates to true if the XPath expression evaluates to a node. Works like the Hamcrest <code>hasXPath</code> matcher
+     * but the expression is compiled only once (per thread) and then reused by all matchers with the same expression.
+     * It's not named <code>hasXPath</code> so that it doesn't clash with the Hamcrest matcher when both
+     * <code>org.hamcrest.Matchers.*</code> and <code>RestAssuredMatchers.*</code> are statically imported.
+     *
+     * @param xPath The XPath expression
+     * @return The XPath matcher
+     */
+    public static Matcher<Node> hasCachedXPath(String xPath) {
+        return XmlXPathMatcher.hasXPath(xPath);
+    }
+
+    /**
+     * Evaluates to true if the XPath expression evaluates to a value that matches the value matcher. Works like the Hamcrest
+     * <code>hasXPath</code> matcher but the expression is compiled only once (per thread) and then reused by all matchers
+     * with the same expression.
+     *
+     * @param xPath        The XPath expression
+     * @param valueMatcher The matcher that the value of the expression must match
+     * @return The XPath matcher
+     */
+    public static Matcher<Node> hasCachedXPath(String xPath, Matcher<? super String> valueMatcher) {
+        return XmlXPathMatcher.hasXPath(xPath, valueMatcher);
+    }
+
+    /**
+     * Evaluates to true if the XPath expression evaluates to a node.
+     *
+     * @param xPath            The XPath expression
+     * @param namespaceContext The namespace context used to resolve prefixes in the expression
+     * @return The XPath matcher
+     * @see #hasCachedXPath(String)
+     */
+    public static Matcher<Node> hasCachedXPath(String xPath, NamespaceContext namespaceContext) {
+        return XmlXPathMatcher.hasXPath(xPath, namespaceContext);
+    }
+
+    /**
+     * Evaluates to true if the XPath expression evaluates to a value that matches the value matcher.
+     *
+     * @param xPath            The XPath expression
+     * @param namespaceContext The namespace context used to resolve prefixes in the expression
+     * @param valueMatcher     The matcher that the value of the expression must match
+     * @return The XPath matcher
+     * @see #hasCachedXPath(String, Matcher)
+     */
+    public static Matcher<Node> hasCachedXPath(String xPath, NamespaceContext namespaceContext, Matcher<? super String> valueMatcher) {
+        return XmlXPathMatcher.hasXPath(xPath, namespaceContext, valueMatcher);
+    }
+}
@@ -150,6 +150,28 @@ public class JsonPath {
         json = parseReader(reader);
     }
 
+    /**
+     * Instantiate a new JsonPath instance from a JSON object that has already been parsed, e.g. by a {@link groovy.json.JsonSlurper}.
+     * The object is not copied.
+     *
+     * @param json The parsed JSON object
+     */
+    public JsonPath(Map<String, ?> json) {
+        Validate.notNull(json, "JSON object cannot be null");
+        this.json = json;
+    }
+
+    /**
+     * Instantiate a new JsonPath instance from a JSON array that has already been parsed, e.g. by a {@link groovy.json.JsonSlurper}.
+     * The list is not copied.
+     *
+     * @param json The parsed JSON array
+     */
+    public JsonPath(List<?> json) {
+        Validate.notNull(json, "JSON array cannot be null");
+        this.json = json;
+    }
+
     private JsonPath(JsonPath jsonPath, ObjectMapperFactory<?> objectMapperFactory) {
         Validate.notNull(objectMapperFactory, "Object mapper factory cannot be null");
         this.objectMapperFactory = objectMapperFactory;
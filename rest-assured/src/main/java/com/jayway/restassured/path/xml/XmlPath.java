@@ -171,6 +171,19 @@ public class XmlPath {
     }
 
 
+    /**
+     * Instantiate a new XmlPath instance from a document that has already been parsed by a {@link XmlSlurper}.
+     *
+     * @param mode The compatibility mode that was used when parsing the document
+     * @param document The parsed document
+     */
+    public XmlPath(CompatibilityMode mode, GPathResult document) {
+        Validate.notNull(mode, "Compatibility mode cannot be null");
+        Validate.notNull(document, "Document cannot be null");
+        this.mode = mode;
+        input = document;
+    }
+
     /**
      * Instantiate a new XmlPath instance.
      *
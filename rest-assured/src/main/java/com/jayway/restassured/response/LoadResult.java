@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.response;
+
+import com.jayway.restassured.filter.metrics.LatencyHistogram;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of a load test, see {@link com.jayway.restassured.specification.LoadSpecification}.
+ */
+public class LoadResult {
+    private final long requests;
+    private final long failedRequests;
+    private final long missedRequests;
+    private final long durationInNanos;
+    private final LatencyHistogram latencies;
+    private final List<String> failures;
+
+    /**
+     * @param requests        The number of completed requests
+     * @param failedRequests  The number of completed requests that failed
+     * @param missedRequests  The number of requests that weren't sent since all users were busy
+     * @param durationInNanos The duration of the load test in nanoseconds
+     * @param latencies       The latencies of the completed requests
+     * @param failures        Descriptions of some of the failures
+     */
+    public LoadResult(long requests, long failedRequests, long missedRequests, long durationInNanos, LatencyHistogram latencies, List<String> failures) {
+        Validate.notNull(latencies, "Latencies cannot be null");
+        Validate.notNull(failures, "Failures cannot be null");
+        this.requests = requests;
+        this.failedRequests = failedRequests;
+        this.missedRequests = missedRequests;
+        this.durationInNanos = durationInNanos;
+        this.latencies = latencies;
+        this.failures = Collections.unmodifiableList(new ArrayList<String>(failures));
+    }
+
+    /**
+     * @return The number of requests that were completed, successfully or not.
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return The number of requests that failed, i.e. that couldn't be sent or whose response didn't fulfill the response specification.
+     */
+    public long getFailedRequests() {
+        return failedRequests;
+    }
+
+    /**
+     * @return The number of requests that were never sent since all users were busy when they should have been started.
+     */
+    public long getMissedRequests() {
+        return missedRequests;
+    }
+
+    /**
+     * @return The ratio of failed requests to completed requests.
+     */
+    public double getErrorRate() {
+        return requests == 0 ? 0 : (double) failedRequests / requests;
+    }
+
+    /**
+     * @return The number of completed requests per second.
+     */
+    public double getThroughput() {
+        return durationInNanos == 0 ? 0 : requests / ((double) durationInNanos / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * @param timeUnit The time unit
+     * @return The duration of the load test in the given time unit.
+     */
+    public long getDuration(TimeUnit timeUnit) {
+        return timeUnit.convert(durationInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The latencies of the completed requests, measured from when the request was scheduled to start until the response was validated.
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100.
+     * @param timeUnit   The time unit
+     * @return The latency at the percentile in the given time unit.
+     */
+    public double getLatencyAtPercentile(double percentile, TimeUnit timeUnit) {
+        return latencies.getValueAtPercentile(percentile, timeUnit);
+    }
+
+    /**
+     * @return Descriptions of the first failures.
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests in %.1f s (%.1f requests/s), %d failed (%.2f%%), %d missed, latency p50=%.1f ms p90=%.1f ms p99=%.1f ms max=%.1f ms",
+                requests, (double) durationInNanos / TimeUnit.SECONDS.toNanos(1), getThroughput(), failedRequests, getErrorRate() * 100,
+                missedRequests, getLatencyAtPercentile(50, TimeUnit.MILLISECONDS), getLatencyAtPercentile(90, TimeUnit.MILLISECONDS),
+                getLatencyAtPercentile(99, TimeUnit.MILLISECONDS), getLatencyAtPercentile(100, TimeUnit.MILLISECONDS));
+    }
+}
@@ -216,4 +216,18 @@ public interface Response extends ResponseBody {
      * @return The status code of the response.
      */
     int getStatusCode();
+
+    /**
+     * Get the timings of the request, i.e. how long the different phases of the request took.
+     *
+     * @return The timings of the request.
+     */
+    Timings timings();
+
+    /**
+     * Get the timings of the request, i.e. how long the different phases of the request took.
+     *
+     * @return The timings of the request.
+     */
+    Timings getTimings();
 }
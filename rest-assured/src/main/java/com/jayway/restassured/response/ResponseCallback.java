@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.response;
+
+/**
+ * Receives the outcome of an asynchronous request (see {@link ResponseFuture#addCallback(ResponseCallback)}). E.g.
+ * <pre>
+ * given().param("name", "John").expect().body("greeting", equalTo("Hello John")).when().async().get("/greet").addCallback(new ResponseCallback() {
+ *     public void onResponse(Response response) {
+ *         ...
+ *     }
+ *
+ *     public void onFailure(Throwable failure) {
+ *         ...
+ *     }
+ * });
+ * </pre>
+ * The callback is invoked by the thread that executed the request so it should return quickly.
+ */
+public interface ResponseCallback {
+
+    /**
+     * Called when the response has been received and validated against the response specification.
+     *
+     * @param response The response
+     */
+    void onResponse(Response response);
+
+    /**
+     * Called when the request couldn't be sent, when the response doesn't match the response specification or when the
+     * request was cancelled.
+     *
+     * @param failure The {@link AssertionError} if the response doesn't match the response specification, a
+     *                {@link java.util.concurrent.CancellationException} if the request was cancelled or the exception
+     *                thrown when sending the request.
+     */
+    void onFailure(Throwable failure);
+}
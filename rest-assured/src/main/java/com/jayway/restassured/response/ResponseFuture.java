@@ -0,0 +1,38 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.response;
+
+import java.util.concurrent.Future;
+
+/**
+ * The future response of an asynchronous request (see {@link com.jayway.restassured.specification.AsyncRequestSender}).
+ * Besides waiting for the response using {@link #get()} you can register callbacks that are invoked when the request has
+ * completed.
+ */
+public interface ResponseFuture extends Future<Response> {
+
+    /**
+     * Register a callback that is invoked when the request has completed. Callbacks are invoked in the order they were
+     * registered by the thread that executed the request, or by the thread that cancelled it. If the request has already
+     * completed the callback is invoked right away by the calling thread.
+     *
+     * @param callback The callback
+     * @return The same response future instance.
+     */
+    ResponseFuture addCallback(ResponseCallback callback);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.response;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long the different phases of a request took, measured by the client. Usage example:
+ * <pre>
+ * Timings timings = get("/lotto").timings();
+ * long serverTime = timings.getTimeToFirstByte();
+ * </pre>
+ * All times are in milliseconds unless a time unit is given. A time is <code>-1</code> if the phase wasn't measured, for example
+ * if the response was created by a filter instead of being received from a server. If a request is redirected or
+ * retried the time of each phase is the sum of all attempts.
+ */
+public interface Timings {
+
+    /**
+     * @return The total time from when the request was sent until the response body was read, or until the response headers
+     *         were received if the body wasn't read by REST Assured (i.e. when it's streamed to you).
+     */
+    long getTotalTime();
+
+    /**
+     * @param timeUnit The time unit
+     * @return The total time in the given time unit.
+     * @see #getTotalTime()
+     */
+    long getTotalTimeIn(TimeUnit timeUnit);
+
+    /**
+     * @return The time it took to lease a connection from the connection pool or to connect to the server, including the
+     *         TLS handshake.
+     */
+    long getConnectionTime();
+
+    /**
+     * @param timeUnit The time unit
+     * @return The connection time in the given time unit.
+     * @see #getConnectionTime()
+     */
+    long getConnectionTimeIn(TimeUnit timeUnit);
+
+    /**
+     * @return The time spent performing TLS handshakes when connecting to the server. This is part of the connection time
+     *         and is <code>0</code> if no handshake took place, e.g. for plain HTTP or if a pooled connection was reused.
+     */
+    long getTlsHandshakeTime();
+
+    /**
+     * @param timeUnit The time unit
+     * @return The TLS handshake time in the given time unit.
+     * @see #getTlsHandshakeTime()
+     */
+    long getTlsHandshakeTimeIn(TimeUnit timeUnit);
+
+    /**
+     * @return The time it took to write the request line, headers and body to the connection.
+     */
+    long getRequestWriteTime();
+
+    /**
+     * @param timeUnit The time unit
+     * @return The request write time in the given time unit.
+     * @see #getRequestWriteTime()
+     */
+    long getRequestWriteTimeIn(TimeUnit timeUnit);
+
+    /**
+     * @return The time from when the request was written until the status line and headers of the response were received.
+     *         This is the time spent by the server and the network.
+     */
+    long getTimeToFirstByte();
+
+    /**
+     * @param timeUnit The time unit
+     * @return The time to first byte in the given time unit.
+     * @see #getTimeToFirstByte()
+     */
+    long getTimeToFirstByteIn(TimeUnit timeUnit);
+
+    /**
+     * @return The time it took to download the response body after the headers were received, or <code>-1</code> if the body
+     *         wasn't read by REST Assured (i.e. when it's streamed to you).
+     */
+    long getDownloadTime();
+
+    /**
+     * @param timeUnit The time unit
+     * @return The download time in the given time unit.
+     * @see #getDownloadTime()
+     */
+    long getDownloadTimeIn(TimeUnit timeUnit);
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.specification;
+
+import com.jayway.restassured.response.ResponseFuture;
+
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * Sends requests asynchronously. Each method returns a {@link ResponseFuture} without waiting for the response. The future completes
+ * when the response has been received and validated against the response specification. If the validation fails then {@link Future#get()}
+ * throws an {@link java.util.concurrent.ExecutionException} whose cause is the {@link AssertionError}. E.g.
+ * <pre>
+ * Future&lt;Response&gt; response = given().param("name", "John").expect().body("greeting", equalTo("Hello John")).when().async().get("/greet");
+ * ...
+ * String greeting = response.get().path("greeting");
+ * </pre>
+ * Instead of waiting for the response you can register a callback that is invoked when the request has completed, e.g.
+ * <pre>
+ * given().param("name", "John").expect().statusCode(200).when().async().get("/greet").addCallback(new ResponseCallback() {
+ *     public void onResponse(Response response) { .. }
+ *     public void onFailure(Throwable failure) { .. }
+ * });
+ * </pre>
+ * The request and response specifications must not be modified after the request has been sent.
+ * How many requests are executed concurrently, and how many may be pending before sending a request blocks, is configured by
+ * the {@link com.jayway.restassured.config.AsyncConfig}.
+ */
+public interface AsyncRequestSender {
+    /**
+     * Perform an asynchronous GET request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters. E.g. if path is "/book/{hotelId}/{roomNumber}" you can do <code>get("/book/{hotelName}/{roomNumber}", "Hotels R Us", 22);</code>.
+     * @return A future holding the response of the request.
+     * @see RequestSender#get(String, Object...)
+     */
+    ResponseFuture get(String path, Object... pathParams);
+
+    /**
+     * Perform an asynchronous GET request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return A future holding the response of the request.
+     * @see RequestSender#get(String, java.util.Map)
+     */
+    ResponseFuture get(String path, Map<String, ?> pathParams);
+
+    /**
+     * Perform an asynchronous POST request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters. E.g. if path is "/book/{hotelId}/{roomNumber}" you can do <code>post("/book/{hotelName}/{roomNumber}", "Hotels R Us", 22);</code>.
+     * @return A future holding the response of the request.
+     * @see RequestSender#post(String, Object...)
+     */
+    ResponseFuture post(String path, Object... pathParams);
+
+    /**
+     * Perform an asynchronous POST request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return A future holding the response of the request.
+     * @see RequestSender#post(String, java.util.Map)
+     */
+    ResponseFuture post(String path, Map<String, ?> pathParams);
+
+    /**
+     * Perform an asynchronous PUT request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters. E.g. if path is "/book/{hotelId}/{roomNumber}" you can do <code>put("/book/{hotelName}/{roomNumber}", "Hotels R Us", 22);</code>.
+     * @return A future holding the response of the request.
+     * @see RequestSender#put(String, Object...)
+     */
+    ResponseFuture put(String path, Object... pathParams);
+
+    /**
+     * Perform an asynchronous PUT request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return A future holding the response of the request.
+     * @see RequestSender#put(String, java.util.Map)
+     */
+    ResponseFuture put(String path, Map<String, ?> pathParams);
+
+    /**
+     * Perform an asynchronous DELETE request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters. E.g. if path is "/book/{hotelId}/{roomNumber}" you can do <code>delete("/book/{hotelName}/{roomNumber}", "Hotels R Us", 22);</code>.
+     * @return A future holding the response of the request.
+     * @see RequestSender#delete(String, Object...)
+     */
+    ResponseFuture delete(String path, Object... pathParams);
+
+    /**
+     * Perform an asynchronous DELETE request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return A future holding the response of the request.
+     * @see RequestSender#delete(String, java.util.Map)
+     */
+    ResponseFuture delete(String path, Map<String, ?> pathParams);
+
+    /**
+     * Perform an asynchronous HEAD request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters. E.g. if path is "/book/{hotelId}/{roomNumber}" you can do <code>head("/book/{hotelName}/{roomNumber}", "Hotels R Us", 22);</code>.
+     * @return A future holding the response of the request.
+     * @see RequestSender#head(String, Object...)
+     */
+    ResponseFuture head(String path, Object... pathParams);
+
+    /**
+     * Perform an asynchronous HEAD request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return A future holding the response of the request.
+     * @see RequestSender#head(String, java.util.Map)
+     */
+    ResponseFuture head(String path, Map<String, ?> pathParams);
+
+    /**
+     * Perform an asynchronous PATCH request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters. E.g. if path is "/book/{hotelId}/{roomNumber}" you can do <code>patch("/book/{hotelName}/{roomNumber}", "Hotels R Us", 22);</code>.
+     * @return A future holding the response of the request.
+     * @see RequestSender#patch(String, Object...)
+     */
+    ResponseFuture patch(String path, Object... pathParams);
+
+    /**
+     * Perform an asynchronous PATCH request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return A future holding the response of the request.
+     * @see RequestSender#patch(String, java.util.Map)
+     */
+    ResponseFuture patch(String path, Map<String, ?> pathParams);
+
+    /**
+     * Perform an asynchronous OPTIONS request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters. E.g. if path is "/book/{hotelId}/{roomNumber}" you can do <code>options("/book/{hotelName}/{roomNumber}", "Hotels R Us", 22);</code>.
+     * @return A future holding the response of the request.
+     * @see RequestSender#options(String, Object...)
+     */
+    ResponseFuture options(String path, Object... pathParams);
+
+    /**
+     * Perform an asynchronous OPTIONS request to a <code>path</code>.
+     *
+     * @param path The path to send the request to.
+     * @param pathParams The path parameters.
+     * @return A future holding the response of the request.
+     * @see RequestSender#options(String, java.util.Map)
+     */
+    ResponseFuture options(String path, Map<String, ?> pathParams);
+}
@@ -43,7 +43,8 @@ public interface AuthenticationSpecification {
     /**
      * Use form authentication. Rest Assured will try to parse the response
      * login page and determine and try find the action, username and password input
-     * field automatically.
+     * field automatically. The cookies returned when logging in are reused by subsequent requests to the same
+     * server with the same credentials until they expire or the server asks for a new login.
      *
      * @param userName The user name.
      * @param password The password.
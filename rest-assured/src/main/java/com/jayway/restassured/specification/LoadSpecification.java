@@ -0,0 +1,268 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.specification;
+
+import com.jayway.restassured.response.LoadResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends requests defined by a request and response specification at a constant rate for a period of time and reports the
+ * throughput, error rate and latency percentiles. E.g.
+ * <pre>
+ * given().spec(requestSpec).expect().spec(responseSpec).load().
+ *         users(200).rate(2000).duration(5, MINUTES).and().
+ *         maxErrorRate(0.01).maxLatency(99, 500, MILLISECONDS).
+ * when().
+ *         get("/orders/{id}", idSupplier);
+ * </pre>
+ * Requests are started at a constant rate regardless of how fast the server responds (an open workload model). At most
+ * {@link #users(int)} requests are in progress at the same time. If all users are busy when a request should be started
+ * the request is not sent and it's counted as a missed request. Since this means that the server couldn't keep up with the
+ * rate the load test fails if any request was missed, unless more missed requests are allowed using {@link #maxMissedRequests(long)}.
+ * A request fails if it can't be sent or if the response doesn't fulfill the response specification. The latency of a request
+ * is measured from when it was scheduled to start until the response has been validated.
+ * <p>
+ * Each request is sent using a copy of the specification so the filters of the specification must be thread-safe. Unless
+ * the specification is configured to reuse connections (see {@link com.jayway.restassured.config.ConnectionConfig#reuseConnections()})
+ * the requests share a connection pool with one connection per user that is closed when the load test is completed.
+ * </p>
+ * <p>
+ * When the load test has completed the thresholds are checked and an {@link AssertionError} describing the thresholds that
+ * were exceeded is thrown if any of them was.
+ * </p>
+ */
+public interface LoadSpecification {
+    int DEFAULT_USERS = 20;
+    double DEFAULT_RATE = 10;
+    long DEFAULT_DURATION_IN_SECONDS = 10;
+
+    /**
+     * Set the maximum number of requests that are in progress at the same time. Defaults to {@value #DEFAULT_USERS}.
+     *
+     * @param users The maximum number of concurrent requests
+     * @return The load specification
+     */
+    LoadSpecification users(int users);
+
+    /**
+     * Set the number of requests to start per second. Defaults to {@value #DEFAULT_RATE}.
+     *
+     * @param requestsPerSecond The number of requests per second
+     * @return The load specification
+     */
+    LoadSpecification rate(double requestsPerSecond);
+
+    /**
+     * Set for how long requests are started. Defaults to {@value #DEFAULT_DURATION_IN_SECONDS} seconds.
+     *
+     * @param duration The duration
+     * @param timeUnit The time unit of the duration
+     * @return The load specification
+     */
+    LoadSpecification duration(long duration, TimeUnit timeUnit);
+
+    /**
+     * Fail the load test if the ratio of failed requests exceeds the supplied error rate.
+     *
+     * @param errorRate The maximum error rate, between 0 and 1.
+     * @return The load specification
+     */
+    LoadSpecification maxErrorRate(double errorRate);
+
+    /**
+     * Fail the load test if the latency at the supplied percentile exceeds the supplied latency, e.g.
+     * <code>maxLatency(99, 500, MILLISECONDS)</code>.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @param latency    The maximum latency
+     * @param timeUnit   The time unit of the latency
+     * @return The load specification
+     */
+    LoadSpecification maxLatency(double percentile, long latency, TimeUnit timeUnit);
+
+    /**
+     * Fail the load test if more requests than the supplied number were missed, i.e. not sent since all users were busy when
+     * they should have been started. Defaults to 0.
+     *
+     * @param missedRequests The maximum number of missed requests
+     * @return The load specification
+     */
+    LoadSpecification maxMissedRequests(long missedRequests);
+
+    /**
+     * Fail the load test if fewer requests per second than the supplied throughput were completed.
+     *
+     * @param requestsPerSecond The minimum number of completed requests per second
+     * @return The load specification
+     */
+    LoadSpecification minThroughput(double requestsPerSecond);
+
+    /**
+     * Syntactic sugar.
+     *
+     * @return The same load specification
+     */
+    LoadSpecification and();
+
+    /**
+     * Syntactic sugar.
+     *
+     * @return The same load specification
+     */
+    LoadSpecification when();
+
+    /**
+     * Run a load test sending GET requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams The path parameters of every request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult get(String path, Object... pathParams);
+
+    /**
+     * Run a load test sending GET requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams Supplies the path parameters of each request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult get(String path, PathParamsSupplier pathParams);
+
+    /**
+     * Run a load test sending POST requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams The path parameters of every request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult post(String path, Object... pathParams);
+
+    /**
+     * Run a load test sending POST requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams Supplies the path parameters of each request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult post(String path, PathParamsSupplier pathParams);
+
+    /**
+     * Run a load test sending PUT requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams The path parameters of every request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult put(String path, Object... pathParams);
+
+    /**
+     * Run a load test sending PUT requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams Supplies the path parameters of each request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult put(String path, PathParamsSupplier pathParams);
+
+    /**
+     * Run a load test sending DELETE requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams The path parameters of every request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult delete(String path, Object... pathParams);
+
+    /**
+     * Run a load test sending DELETE requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams Supplies the path parameters of each request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult delete(String path, PathParamsSupplier pathParams);
+
+    /**
+     * Run a load test sending HEAD requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams The path parameters of every request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult head(String path, Object... pathParams);
+
+    /**
+     * Run a load test sending HEAD requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams Supplies the path parameters of each request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult head(String path, PathParamsSupplier pathParams);
+
+    /**
+     * Run a load test sending PATCH requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams The path parameters of every request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult patch(String path, Object... pathParams);
+
+    /**
+     * Run a load test sending PATCH requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams Supplies the path parameters of each request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult patch(String path, PathParamsSupplier pathParams);
+
+    /**
+     * Run a load test sending OPTIONS requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams The path parameters of every request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult options(String path, Object... pathParams);
+
+    /**
+     * Run a load test sending OPTIONS requests to a <code>path</code>.
+     *
+     * @param path The path to send the requests to.
+     * @param pathParams Supplies the path parameters of each request.
+     * @return The result of the load test.
+     * @throws AssertionError If a threshold was exceeded.
+     */
+    LoadResult options(String path, PathParamsSupplier pathParams);
+}
@@ -16,6 +16,8 @@
 
 package com.jayway.restassured.specification;
 
+import com.jayway.restassured.filter.log.LogDetail;
+
 /**
  * Base interface for request- and response log specifications.
  */
@@ -82,4 +84,20 @@ public interface LogSpecification<T extends RequestSender> {
      * @return The specification
      */
     T cookies();
+
+    /**
+     * Logs everything in the specification only if the validation of the response fails. Nothing is formatted unless the
+     * validation fails so this is considerably cheaper than logging everything for each request.
+     *
+     * @return The specification
+     */
+    T ifValidationFails();
+
+    /**
+     * Logs the specified details of the specification only if the validation of the response fails.
+     *
+     * @param logDetail The log detail
+     * @return The specification
+     */
+    T ifValidationFails(LogDetail logDetail);
 }
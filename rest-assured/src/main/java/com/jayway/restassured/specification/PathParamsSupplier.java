@@ -0,0 +1,37 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.specification;
+
+/**
+ * Supplies the path parameters of each request sent by a load test, see {@link LoadSpecification}. E.g.
+ * <pre>
+ * final AtomicInteger id = new AtomicInteger();
+ * given().load().rate(100).duration(1, MINUTES).get("/orders/{id}", new PathParamsSupplier() {
+ *     public Object[] next() {
+ *         return new Object[] { id.incrementAndGet() };
+ *     }
+ * });
+ * </pre>
+ * The supplier is only invoked by the thread scheduling the requests so it doesn't need to be thread-safe.
+ */
+public interface PathParamsSupplier {
+
+    /**
+     * @return The unnamed path parameters of the next request.
+     */
+    Object[] next();
+}
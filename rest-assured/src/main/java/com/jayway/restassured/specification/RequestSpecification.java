@@ -1272,6 +1272,31 @@ public interface RequestSpecification extends RequestSender {
      */
     RequestSpecification spec(RequestSpecification requestSpecificationToMerge);
 
+    /**
+     * Add a compiled request template to the request. The template is merged with the current specification in the same
+     * way as {@link #spec(RequestSpecification)} but its headers, cookies and filters are shared instead of copied. The
+     * header values, the Cookie header, the HTTP client parameters and the target URI that were resolved when the template
+     * was compiled are reused and only headers and cookies added to the request afterwards are resolved per request. A request
+     * that changes the configuration, the base URI, port or base path, or replaces a cookie of the template resolves these
+     * values itself. E.g.
+     * <pre>
+     * RequestTemplate template = new RequestSpecBuilder().addHeader("Accept-Language", "en").compile();
+     *
+     * given().
+     *         spec(template).
+     *         pathParam("id", 1).
+     * expect().
+     *         statusCode(200).
+     * when().
+     *        get("/users/{id}");
+     * </pre>
+     *
+     * @param requestTemplateToMerge The template to merge with.
+     * @return the request specification
+     * @see com.jayway.restassured.builder.RequestSpecBuilder#compile()
+     */
+    RequestSpecification spec(RequestTemplate requestTemplateToMerge);
+
     /**
      * Add request data from a pre-defined specification. E.g.
      * <pre>
@@ -1393,6 +1418,30 @@ public interface RequestSpecification extends RequestSender {
      */
     RequestLogSpecification log();
 
+    /**
+     * Send the request asynchronously, e.g.
+     * <pre>
+     * Future&lt;Response&gt; response = given().param("name", "value").expect().statusCode(200).when().async().get("/something");
+     * </pre>
+     * The request is executed by a bounded thread pool configured by the {@link com.jayway.restassured.config.AsyncConfig}
+     * and the response specification is validated when the response has been received.
+     *
+     * @return The async request sender
+     */
+    AsyncRequestSender async();
+
+    /**
+     * Reuse this specification, and the response specification, as a load test, e.g.
+     * <pre>
+     * LoadResult result = given().param("name", "value").expect().statusCode(200).when().load().users(50).rate(500).duration(1, MINUTES).get("/something");
+     * </pre>
+     * Requests are started at a constant rate and a copy of the specifications is used for each request.
+     *
+     * @return The load specification
+     * @see LoadSpecification
+     */
+    LoadSpecification load();
+
     /**
      * Returns the response specification so that you can setup the expectations on the response. E.g.
      * <pre>
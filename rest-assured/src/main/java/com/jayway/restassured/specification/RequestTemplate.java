@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.specification;
+
+import com.jayway.restassured.config.RestAssuredConfig;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.response.Cookies;
+import com.jayway.restassured.response.Headers;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable request specification created by {@link com.jayway.restassured.builder.RequestSpecBuilder#compile()}.
+ * The header values and the Cookie header sent to the server, the HTTP client parameters derived from the configuration
+ * and the target URI are resolved once when the template is compiled. A request using the template shares its headers,
+ * cookies and filters and only resolves the headers and cookies that are added to it. A template is never modified by
+ * the requests using it so it's thread-safe and can be shared between tests. Usage example:
+ * <pre>
+ * RequestTemplate template = new RequestSpecBuilder().addHeader("Accept-Language", "en").compile();
+ *
+ * given().
+ *         spec(template).
+ *         pathParam("id", 1).
+ * expect().
+ *         statusCode(200).
+ * when().
+ *        get("/users/{id}");
+ * </pre>
+ */
+public interface RequestTemplate {
+
+    /**
+     * @return The port defined in the template
+     */
+    int getPort();
+
+    /**
+     * @return The request content type defined in the template
+     */
+    String getRequestContentType();
+
+    /**
+     * @return The request parameters defined in the template
+     */
+    Map<String, ?> getRequestParams();
+
+    /**
+     * @return The form parameters defined in the template
+     */
+    Map<String, ?> getFormParams();
+
+    /**
+     * @return The path parameters defined in the template
+     */
+    Map<String, ?> getPathParams();
+
+    /**
+     * @return The query parameters defined in the template
+     */
+    Map<String, ?> getQueryParams();
+
+    /**
+     * @return The headers defined in the template
+     */
+    Headers getHeaders();
+
+    /**
+     * @return The cookies defined in the template
+     */
+    Cookies getCookies();
+
+    /**
+     * @return The filters defined in the template
+     */
+    List<Filter> getDefinedFilters();
+
+    /**
+     * @return The REST Assured configuration defined in the template or <code>null</code> if not defined
+     */
+    RestAssuredConfig getConfig();
+}
@@ -20,8 +20,10 @@ import com.jayway.restassured.http.ContentType;
 import com.jayway.restassured.parsing.Parser;
 import org.hamcrest.Matcher;
 
+import java.io.File;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Allows you to specify how the expected response must look like in order for a test to pass.
@@ -207,6 +209,77 @@ public interface ResponseSpecification extends RequestSender {
      */
     ResponseSpecification statusLine(String expectedStatusLine);
 
+    /**
+     * Expect that the size of the response body in bytes matches the given Hamcrest matcher. E.g.
+     * <pre>
+     * expect().bodySize(greaterThan(1024L)).when().get("/download");
+     * </pre>
+     * Unlike body expectations this doesn't require the body to be read into memory. The size is computed while the body is
+     * being received, see {@link #writeBodyTo(File)}.
+     *
+     * @param expectedSize The expected body size matcher.
+     * @return the response specification
+     */
+    ResponseSpecification bodySize(Matcher<? super Long> expectedSize);
+
+    /**
+     * Expect that the digest of the response body matches the given Hamcrest matcher. The digest is a lower-case hex string. E.g.
+     * <pre>
+     * expect().bodyDigest("SHA-1", equalTo("2fd4e1c67a2d28fced849ee1bb76e7391b93eb12")).when().get("/download");
+     * </pre>
+     * Unlike body expectations this doesn't require the body to be read into memory. The digest is computed while the body is
+     * being received, see {@link #writeBodyTo(File)}.
+     *
+     * @param algorithm      The digest algorithm, e.g. <code>MD5</code>, <code>SHA-1</code> or <code>SHA-256</code>.
+     * @param expectedDigest The expected digest matcher.
+     * @return the response specification
+     */
+    ResponseSpecification bodyDigest(String algorithm, Matcher<? super String> expectedDigest);
+
+    /**
+     * Write the response body straight to the given file while it's being received instead of keeping it in memory. E.g.
+     * <pre>
+     * expect().bodySize(equalTo(1073741824L)).and().writeBodyTo(new File("/tmp/large.bin")).when().get("/download");
+     * </pre>
+     * Memory usage stays constant regardless of the size of the body as long as no other body expectations are defined.
+     * Note that the body is consumed when it's written to the file (or when verifying {@link #bodySize(org.hamcrest.Matcher)} or
+     * {@link #bodyDigest(String, org.hamcrest.Matcher)}) so it must be read from the file afterwards. Trying to get the body
+     * from the response (e.g. using {@link com.jayway.restassured.response.Response#asString()}) throws an {@link IllegalStateException}.
+     *
+     * @param file The file to write the body to. An existing file is overwritten.
+     * @return the response specification
+     */
+    ResponseSpecification writeBodyTo(File file);
+
+    /**
+     * Expect that the response time in milliseconds matches the given Hamcrest matcher. E.g.
+     * <pre>
+     * expect().time(lessThan(200L)).when().get("/lotto");
+     * </pre>
+     * The response time is measured from when the request is sent until the response has been received, including the body
+     * unless it's streamed to you (see {@link com.jayway.restassured.response.Timings#getTotalTime()}). Time spent in filters,
+     * logging and validation is not included.
+     * The expectation fails if the response time wasn't measured, e.g. if the response was created by a filter instead of being
+     * received from a server.
+     *
+     * @param expectedTime The expected response time matcher.
+     * @return the response specification
+     */
+    ResponseSpecification time(Matcher<? super Long> expectedTime);
+
+    /**
+     * Expect that the response time in the given time unit matches the given Hamcrest matcher. E.g.
+     * <pre>
+     * expect().time(lessThan(2L), SECONDS).when().get("/lotto");
+     * </pre>
+     *
+     * @param expectedTime The expected response time matcher.
+     * @param timeUnit     The time unit of the response time that is matched.
+     * @return the response specification
+     * @see #time(org.hamcrest.Matcher)
+     */
+    ResponseSpecification time(Matcher<? super Long> expectedTime, TimeUnit timeUnit);
+
     /**
      * Expect that response headers matches those specified in a Map.
      * <p>
@@ -695,6 +768,28 @@ public interface ResponseSpecification extends RequestSender {
      */
     ResponseSpecification when();
 
+    /**
+     * Send the request asynchronously and validate the response using this response specification, e.g.
+     * <pre>
+     * Future&lt;Response&gt; response = expect().body(containsString("OK")).when().async().get("/something");
+     * </pre>
+     *
+     * @return The async request sender
+     * @see RequestSpecification#async()
+     */
+    AsyncRequestSender async();
+
+    /**
+     * Reuse the request specification and this response specification as a load test, e.g.
+     * <pre>
+     * LoadResult result = expect().statusCode(200).when().load().rate(500).duration(1, MINUTES).get("/something");
+     * </pre>
+     *
+     * @return The load specification
+     * @see RequestSpecification#load()
+     */
+    LoadSpecification load();
+
     /**
      * Returns the request com.jayway.restassured.specification so that you can define the properties of the request.
      * <pre>
@@ -31,6 +31,8 @@ import com.jayway.restassured.specification.FilterableRequestSpecification
 import com.jayway.restassured.specification.FilterableResponseSpecification
 import org.junit.Test
 
+import java.util.concurrent.TimeUnit
+
 import static com.jayway.restassured.config.RedirectConfig.redirectConfig
 import static com.jayway.restassured.config.RestAssuredConfig.newConfig
 import static com.jayway.restassured.config.SessionConfig.DEFAULT_SESSION_ID_NAME
@@ -38,7 +40,9 @@ import static com.jayway.restassured.config.SessionConfig.sessionConfig
 import static groovy.util.GroovyTestCase.assertEquals
 import static java.util.Arrays.asList
 import static org.hamcrest.Matchers.equalTo
+import static org.hamcrest.Matchers.lessThan
 import static org.junit.Assert.assertFalse
+import static org.junit.Assert.assertSame
 import static org.junit.Assert.assertTrue
 
 class SpecificationMergerTest {
@@ -115,6 +119,19 @@ class SpecificationMergerTest {
         assertEquals merge.bodyRootPath, "new."
     }
 
+    @Test
+    public void overwritesTimeWhenDefined() throws Exception {
+        def merge = new ResponseSpecBuilder().expectTime(lessThan(200L)).build();
+        def with = new ResponseSpecBuilder().expectTime(lessThan(2L), TimeUnit.SECONDS).build();
+        def withoutTime = new ResponseSpecBuilder().build();
+
+        SpecificationMerger.merge(merge, with)
+        SpecificationMerger.merge(merge, withoutTime)
+
+        assertEquals merge.expectedTime.toString(), lessThan(2L).toString()
+        assertEquals merge.expectedTimeUnit, TimeUnit.SECONDS
+    }
+
     @Test
     public void overwritesStatusCode() throws Exception {
         def merge = new ResponseSpecBuilder().expectStatusCode(200).build();
@@ -238,6 +255,75 @@ class SpecificationMergerTest {
         assertEquals merge.cookies.get("ikk2").getValue(), "value2"
     }
 
+    @Test
+    def void mergesCompiledTemplate() throws Exception {
+        def merge = new RequestSpecBuilder().addHeader("first", "value1").build();
+        def builder = new RequestSpecBuilder().addHeader("second", "value2").addCookie("cookie", "value").addQueryParam("param", "value")
+        def template = builder.compile()
+        builder.addHeader("third", "value3")
+
+        SpecificationMerger.merge(merge, template)
+
+        assertEquals merge.headers.size(), 2
+        assertEquals merge.cookies.get("cookie").getValue(), "value"
+        assertEquals merge.queryParams.get("param"), "value"
+        assertEquals template.headers.size(), 1
+    }
+
+    @Test
+    def void changesToSpecificationMergedWithTemplateDoesntAffectTemplate() throws Exception {
+        def template = new RequestSpecBuilder().addHeader("first", "value1").addCookie("cookie", "value").compile()
+        def merge = new RequestSpecBuilder().build();
+
+        SpecificationMerger.merge(merge, template)
+        merge.header("second", "value2").cookie("cookie2", "value2").queryParam("param", "value")
+
+        assertEquals merge.headers.size(), 2
+        assertEquals template.headers.size(), 1
+        assertEquals template.cookies.size(), 1
+        assertEquals template.queryParams.size(), 0
+        assertEquals template.headerValues, [first: "value1"]
+        assertEquals template.cookieHeader, "cookie=value"
+    }
+
+    @Test
+    def void mergingTemplateIntoEmptySpecificationSharesHeadersAndCookiesOfTheTemplate() throws Exception {
+        def template = new RequestSpecBuilder().addHeader("first", "value1").addCookie("cookie", "value").compile()
+        def merge = new RequestSpecBuilder().build();
+
+        SpecificationMerger.merge(merge, template)
+
+        assertSame merge.headers, template.headers
+        assertSame merge.cookies, template.cookies
+        assertEquals template.headerPrefixLength(merge.headers), 1
+        assertEquals merge.createCookieHeader(), "cookie=value"
+    }
+
+    @Test
+    def void onlyHeadersAndCookiesAddedAfterTheTemplateAreResolved() throws Exception {
+        def template = new RequestSpecBuilder().addHeader("first", "value1").addCookie("cookie", "value").compile()
+        def merge = new RequestSpecBuilder().build();
+
+        SpecificationMerger.merge(merge, template)
+        merge.header("second", "value2").cookie("cookie2", "value2")
+
+        assertEquals template.headerPrefixLength(merge.headers), 1
+        assertEquals template.cookiePrefixLength(merge.cookies), 1
+        assertEquals merge.createCookieHeader(), "cookie=value; cookie2=value2"
+    }
+
+    @Test
+    def void replacedTemplateCookieIsNotTakenFromTheTemplate() throws Exception {
+        def template = new RequestSpecBuilder().addCookie("JSESSIONID", "1234").addCookie("cookie", "value").compile()
+        def merge = new RequestSpecBuilder().build();
+
+        SpecificationMerger.merge(merge, template)
+        merge.sessionId("5678")
+
+        assertEquals template.cookiePrefixLength(merge.cookies), -1
+        assertEquals merge.createCookieHeader(), "cookie=value; JSESSIONID=5678"
+    }
+
 
     private Filter newFilter() {
         return new Filter() {
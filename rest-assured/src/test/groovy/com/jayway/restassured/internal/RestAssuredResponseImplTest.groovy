@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal
+
+import com.jayway.restassured.config.ResponseConfig
+import com.jayway.restassured.internal.path.JsonPathProjection
+import com.jayway.restassured.internal.support.BodyStreamer
+import groovy.json.JsonException
+import org.junit.Rule
+import org.junit.Test
+import org.junit.rules.ExpectedException
+
+import static org.hamcrest.Matchers.equalTo
+import static org.junit.Assert.assertThat
+import static org.junit.Assert.fail
+
+class RestAssuredResponseImplTest {
+    @Rule
+    public ExpectedException exception = ExpectedException.none()
+
+    @Test
+    def void bodyIsNotAvailableAfterItHasBeenStreamed() throws Exception {
+        def response = streamedResponse("body")
+
+        assertThat response.streamedBody.size, equalTo(4L)
+        assertThat response.bodySize(), equalTo(4L)
+        exception.expect(IllegalStateException.class)
+        exception.expectMessage("The response body has been streamed while it was received")
+
+        response.asString()
+    }
+
+    @Test
+    def void bodyCannotBeReadAsStreamAfterItHasBeenStreamed() throws Exception {
+        def response = streamedResponse("body")
+        exception.expect(IllegalStateException.class)
+
+        response.asInputStream()
+    }
+
+    @Test
+    def void jsonPathsAreEvaluatedWhileReceivingAndBodyIsKept() throws Exception {
+        def body = '{"meta":{"total":5},"items":[{"id":1},{"id":2}]}'
+        def response = jsonResponse(body, 1024, ".meta.total", ".items[1].id")
+
+        assertThat response.projectedBody().meta.total, equalTo(5)
+        assertThat response.projectedBody().items[1].id, equalTo(2)
+        assertThat response.asString(), equalTo(body)
+        assertThat response.bodySize(), equalTo((long) body.length())
+    }
+
+    @Test
+    def void bodyIsNotAvailableAfterJsonPathsHaveBeenEvaluatedWhenLargerThanMaxBufferedSize() throws Exception {
+        def body = '{"meta":{"total":5},"items":[{"id":1},{"id":2}]}'
+        def response = jsonResponse(body, 10, ".meta.total")
+
+        assertThat response.projectedBody().meta.total, equalTo(5)
+        assertThat response.isBodyStreamed(), equalTo(true)
+        assertThat response.bodySize(), equalTo((long) body.length())
+        exception.expect(IllegalStateException.class)
+        exception.expectMessage("The response body has been evaluated while it was received and it was larger than 10 bytes")
+
+        response.asString()
+    }
+
+    @Test
+    def void malformedBodyIsKeptAndReportedWhenJsonPathsAreEvaluated() throws Exception {
+        def body = '{"meta":{"total":5},"items":[{"id":1},'
+        def response = jsonResponse(body, 1024, ".meta.total")
+
+        assertThat response.asString(), equalTo(body)
+        exception.expect(JsonException.class)
+
+        response.projectedBody()
+    }
+
+    @Test
+    def void parsedJsonBodyCannotBeModifiedByPathsThatShareIt() throws Exception {
+        def response = jsonResponse('{"meta":{"total":5},"items":[{"id":1},{"id":2}]}')
+
+        try {
+            response.jsonPath().getList("items").add([id: 3])
+            fail("Expected UnsupportedOperationException")
+        } catch(UnsupportedOperationException e) {
+            // Expected
+        }
+        try {
+            response.path("items[0]").put("id", 3)
+            fail("Expected UnsupportedOperationException")
+        } catch(UnsupportedOperationException e) {
+            // Expected
+        }
+
+        assertThat response.path("items.id"), equalTo([1, 2])
+        assertThat response.jsonPath().getInt("meta.total"), equalTo(5)
+    }
+
+    private static RestAssuredResponseImpl jsonResponse(String body) {
+        def response = new RestAssuredResponseImpl()
+        def httpResponse = [headers: [], contentType: "application/json; charset=UTF-8", statusLine: [statusCode: 200]]
+        response.parseResponse(httpResponse, new ByteArrayInputStream(body.getBytes("UTF-8")), true, new ResponseParserRegistrar())
+        response
+    }
+
+    private static RestAssuredResponseImpl jsonResponse(String body, long maxBufferedBodySize, String... paths) {
+        def response = new RestAssuredResponseImpl()
+        response.responseConfig = ResponseConfig.responseConfig().evaluateJsonPathsWhileReceiving(maxBufferedBodySize)
+        def httpResponse = [headers: [], contentType: "application/json; charset=UTF-8", statusLine: [statusCode: 200]]
+        response.parseResponse(httpResponse, new ByteArrayInputStream(body.getBytes("UTF-8")), true, new ResponseParserRegistrar(),
+                null, JsonPathProjection.create(paths as List))
+        response
+    }
+
+    private static RestAssuredResponseImpl streamedResponse(String body) {
+        def response = new RestAssuredResponseImpl()
+        def httpResponse = [headers: [], contentType: "application/octet-stream", statusLine: [statusCode: 200]]
+        response.parseResponse(httpResponse, new ByteArrayInputStream(body.getBytes("UTF-8")), false, new ResponseParserRegistrar(),
+                new BodyStreamer(["MD5"], null))
+        response
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured;
+
+import com.jayway.restassured.builder.RequestSpecBuilder;
+import com.jayway.restassured.config.AsyncConfig;
+import com.jayway.restassured.config.ConnectionConfig.ConnectionPoolConfig;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.log.RequestLoggingFilter;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.RequestSpecification;
+import org.junit.After;
+import org.junit.Test;
+
+import static com.jayway.restassured.config.ConnectionConfig.connectionConfig;
+import static com.jayway.restassured.config.RestAssuredConfig.config;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class RestAssuredClientTest {
+
+    @After
+    public void resetRestAssured() throws Exception {
+        RestAssured.reset();
+    }
+
+    @Test
+    public void changingASettingReturnsANewClientAndLeavesTheOriginalUntouched() throws Exception {
+        final RestAssuredClient client = new RestAssuredClient();
+
+        final RestAssuredClient changed = client.baseURI("http://example.com").and().port(8081).and().basePath("/api");
+
+        assertThat(changed, not(sameInstance(client)));
+        assertThat(client.baseURI(), equalTo(RestAssured.DEFAULT_URI));
+        assertThat(client.port(), equalTo(RestAssured.DEFAULT_PORT));
+        assertThat(changed.baseURI(), equalTo("http://example.com"));
+        assertThat(changed.port(), equalTo(8081));
+        assertThat(changed.basePath(), equalTo("/api"));
+    }
+
+    @Test
+    public void clientIsNotAffectedByChangesToTheDefaultRequestSpecificationItWasGiven() throws Exception {
+        final RequestSpecification specification = new RequestSpecBuilder().addHeader("X-Original", "1").build();
+        final RestAssuredClient client = new RestAssuredClient().requestSpecification(specification);
+        try {
+            specification.header("X-Added", "2").param("added", "3");
+
+            final FilterableRequestSpecification request = (FilterableRequestSpecification) client.given();
+            assertThat(request.getHeaders().getValue("X-Original"), equalTo("1"));
+            assertThat(request.getHeaders().hasHeaderWithName("X-Added"), is(false));
+            assertThat(request.getRequestParams().containsKey("added"), is(false));
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void newClientOwnsAConnectionPoolThatIsSharedWithDerivedClients() throws Exception {
+        final RestAssuredClient client = new RestAssuredClient();
+        try {
+            assertThat(client.config().getConnectionConfig().shouldReuseConnections(), is(true));
+            assertThat(client.port(1234).config().getConnectionConfig().connectionPoolConfig(),
+                    sameInstance(client.config().getConnectionConfig().connectionPoolConfig()));
+            assertThat(new RestAssuredClient().config().getConnectionConfig().connectionPoolConfig(),
+                    not(sameInstance(client.config().getConnectionConfig().connectionPoolConfig())));
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void snapshotOfStaticDefaultsIsNotAffectedByLaterChanges() throws Exception {
+        final Filter filter = new RequestLoggingFilter();
+        RestAssured.baseURI = "http://example.com";
+        RestAssured.port = 8081;
+        RestAssured.filters(filter);
+        RestAssured.sessionId = "1234";
+
+        final RestAssuredClient client = RestAssured.newClient();
+        RestAssured.reset();
+
+        assertThat(client.baseURI(), equalTo("http://example.com"));
+        assertThat(client.port(), equalTo(8081));
+        assertThat(client.filters(), contains(filter));
+        assertThat(client.config().getSessionConfig().sessionIdValue(), equalTo("1234"));
+    }
+
+    @Test
+    public void snapshotOfStaticDefaultsOwnsItsConnectionPoolAndThreads() throws Exception {
+        RestAssured.config = config().connectionConfig(connectionConfig().reuseConnections(5, 10)).asyncConfig(new AsyncConfig(2, 4));
+
+        final RestAssuredClient client = RestAssured.newClient();
+        try {
+            final ConnectionPoolConfig clientPool = client.config().getConnectionConfig().connectionPoolConfig();
+            assertThat(clientPool, not(sameInstance(RestAssured.config.getConnectionConfig().connectionPoolConfig())));
+            assertThat(clientPool.getMaxConnectionsPerRoute(), equalTo(5));
+            assertThat(clientPool.getMaxTotalConnections(), equalTo(10));
+            assertThat(client.config().getAsyncConfig(), not(sameInstance(RestAssured.config.getAsyncConfig())));
+            assertThat(client.config().getAsyncConfig().maxConcurrentRequests(), equalTo(2));
+        } finally {
+            client.shutdown();
+        }
+    }
+}
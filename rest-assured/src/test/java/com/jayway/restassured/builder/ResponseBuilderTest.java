@@ -0,0 +1,64 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.builder;
+
+import com.jayway.restassured.internal.RestAssuredResponseImpl;
+import com.jayway.restassured.parsing.Parser;
+import com.jayway.restassured.response.Response;
+import org.junit.Test;
+
+import static com.jayway.restassured.config.ResponseConfig.responseConfig;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ResponseBuilderTest {
+    private static final String JSON = "{ \"store\" : { \"book\" : [ { \"title\" : \"Moby Dick\" }, { \"title\" : \"The Lord of the Rings\" } ] } }";
+
+    @Test public void
+    body_is_parsed_once_and_shared_between_json_path_invocations() {
+        final RestAssuredResponseImpl response = (RestAssuredResponseImpl) jsonResponse();
+
+        final Object parsedBody = response.parsedBody(Parser.JSON);
+
+        assertThat(response.jsonPath().getString("store.book[0].title"), equalTo("Moby Dick"));
+        assertThat(response.jsonPath().getList("store.book.title"), hasItems((Object) "Moby Dick", "The Lord of the Rings"));
+        assertThat(response.parsedBody(Parser.JSON), sameInstance(parsedBody));
+    }
+
+    @Test public void
+    body_is_parsed_again_when_parsed_body_caching_is_disabled() {
+        final RestAssuredResponseImpl response = (RestAssuredResponseImpl) jsonResponse();
+        response.setResponseConfig(responseConfig().dontCacheParsedBodies());
+
+        final Object parsedBody = response.parsedBody(Parser.JSON);
+
+        assertThat(response.jsonPath().getString("store.book[1].title"), equalTo("The Lord of the Rings"));
+        assertThat(response.parsedBody(Parser.JSON), allOf(equalTo(parsedBody), not(sameInstance(parsedBody))));
+    }
+
+    @Test public void
+    body_larger_than_max_cached_body_size_is_not_cached() {
+        final RestAssuredResponseImpl response = (RestAssuredResponseImpl) jsonResponse();
+        response.setResponseConfig(responseConfig().cacheParsedBodiesUpTo(JSON.length() - 1));
+
+        assertThat(response.parsedBody(Parser.JSON), not(sameInstance(response.parsedBody(Parser.JSON))));
+    }
+
+    private Response jsonResponse() {
+        return new ResponseBuilder().setBody(JSON).setContentType("application/json").setStatusCode(200).build();
+    }
+}
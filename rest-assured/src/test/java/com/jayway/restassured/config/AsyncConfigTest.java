@@ -0,0 +1,243 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.config;
+
+import com.jayway.restassured.RestAssured;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jayway.restassured.config.AsyncConfig.asyncConfig;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class AsyncConfigTest {
+
+    @Test
+    public void maxPendingRequestsIsIncreasedWhenLessThanMaxConcurrentRequests() throws Exception {
+        final AsyncConfig config = asyncConfig().maxConcurrentRequests(10).and().maxPendingRequests(10).and().maxConcurrentRequests(50);
+
+        assertThat(config.maxConcurrentRequests(), equalTo(50));
+        assertThat(config.maxPendingRequests(), equalTo(50));
+    }
+
+    @Test
+    public void executesAtMostMaxConcurrentRequestsAtTheSameTime() throws Exception {
+        final AsyncConfig config = asyncConfig().maxConcurrentRequests(2);
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final Callable<Integer> request = new Callable<Integer>() {
+            public Integer call() throws Exception {
+                final int current = running.incrementAndGet();
+                synchronized (maxRunning) {
+                    maxRunning.set(Math.max(maxRunning.get(), current));
+                }
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                running.decrementAndGet();
+                return current;
+            }
+        };
+
+        try {
+            final Future<Integer> first = config.submit(request);
+            final Future<Integer> second = config.submit(request);
+            final Future<Integer> third = config.submit(request);
+            started.await(5, TimeUnit.SECONDS);
+            assertThat(running.get(), equalTo(2));
+            assertThat(third.isDone(), is(false));
+            release.countDown();
+
+            first.get();
+            second.get();
+            third.get();
+            assertThat(maxRunning.get(), equalTo(2));
+        } finally {
+            config.shutdown();
+        }
+    }
+
+    @Test
+    public void futureFailsWithTheExceptionThrownByTheRequest() throws Exception {
+        final AsyncConfig config = new AsyncConfig(1, 1);
+        try {
+            config.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    throw new AssertionError("expected");
+                }
+            }).get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(AssertionError.class));
+        } finally {
+            config.shutdown();
+        }
+    }
+
+    @Test
+    public void listenerIsNotifiedWithTheCompletedFuture() throws Exception {
+        final AsyncConfig config = new AsyncConfig(1, 1);
+        final CountDownLatch notified = new CountDownLatch(1);
+        final AtomicInteger result = new AtomicInteger();
+        try {
+            config.submit(new Callable<Integer>() {
+                public Integer call() throws Exception {
+                    return 42;
+                }
+            }, new AsyncConfig.CompletionListener<Integer>() {
+                public void completed(Future<Integer> future) {
+                    try {
+                        result.set(future.get());
+                    } catch (Exception e) {
+                        result.set(-1);
+                    }
+                    notified.countDown();
+                }
+            });
+
+            assertThat(notified.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(result.get(), equalTo(42));
+        } finally {
+            config.shutdown();
+        }
+    }
+
+    @Test
+    public void configurationsWithTheSameSettingsShareTheirThreads() throws Exception {
+        final Callable<Thread> currentThread = new Callable<Thread>() {
+            public Thread call() throws Exception {
+                return Thread.currentThread();
+            }
+        };
+        final AsyncConfig config = new AsyncConfig(1, 3);
+        try {
+            final Thread thread = config.submit(currentThread).get();
+
+            assertThat(thread.isDaemon(), is(true));
+            assertThat(new AsyncConfig(1, 3).submit(currentThread).get(), sameInstance(thread));
+            assertThat(asyncConfig().maxConcurrentRequests(1).and().maxPendingRequests(3).submit(currentThread).get(), sameInstance(thread));
+        } finally {
+            config.shutdown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void cancellingQueuedRequestsFreesTheirPendingSlots() throws Exception {
+        final AsyncConfig config = new AsyncConfig(1, 2);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger executed = new AtomicInteger();
+        final Callable<Integer> request = new Callable<Integer>() {
+            public Integer call() throws Exception {
+                return executed.incrementAndGet();
+            }
+        };
+
+        try {
+            final Future<Object> blocking = config.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    started.countDown();
+                    release.await();
+                    return null;
+                }
+            });
+            started.await();
+            // Each queued request takes the last pending slot, which would block the next submit unless cancelling frees it
+            for (int i = 0; i < 5; i++) {
+                assertThat(config.submit(request).cancel(false), is(true));
+            }
+            release.countDown();
+            blocking.get();
+
+            assertThat(config.submit(request).get(), equalTo(1));
+            assertThat(config.submit(request).get(), equalTo(2));
+        } finally {
+            config.shutdown();
+        }
+    }
+
+    @Test
+    public void requestsCanBeSubmittedAfterShutdown() throws Exception {
+        final AsyncConfig config = new AsyncConfig(1, 4);
+        final Callable<String> request = new Callable<String>() {
+            public String call() throws Exception {
+                return "done";
+            }
+        };
+
+        config.submit(request).get();
+        config.shutdown();
+
+        try {
+            assertThat(config.submit(request).get(), equalTo("done"));
+        } finally {
+            config.shutdown();
+        }
+    }
+
+    @Test
+    public void resetDoesNotShutdownTheThreadsOfOtherConfigurations() throws Exception {
+        final Callable<Thread> currentThread = new Callable<Thread>() {
+            public Thread call() throws Exception {
+                return Thread.currentThread();
+            }
+        };
+        final AsyncConfig config = new AsyncConfig(1, 5);
+        try {
+            final Thread thread = config.submit(currentThread).get();
+            RestAssured.reset();
+
+            assertThat(config.submit(currentThread).get(), sameInstance(thread));
+        } finally {
+            config.shutdown();
+        }
+    }
+
+    @Test
+    public void configurationWithOwnThreadsDoesNotShareThemWithOtherConfigurations() throws Exception {
+        final Callable<Thread> currentThread = new Callable<Thread>() {
+            public Thread call() throws Exception {
+                return Thread.currentThread();
+            }
+        };
+        final AsyncConfig shared = new AsyncConfig(1, 6);
+        final AsyncConfig own = shared.withOwnThreads();
+        try {
+            final Thread thread = own.submit(currentThread).get();
+
+            assertThat(shared.submit(currentThread).get(), not(sameInstance(thread)));
+            shared.shutdown();
+            assertThat(own.submit(currentThread).get(), sameInstance(thread));
+        } finally {
+            own.shutdown();
+            shared.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxPendingRequestsCannotBeLessThanMaxConcurrentRequests() throws Exception {
+        new AsyncConfig(10, 5);
+    }
+}
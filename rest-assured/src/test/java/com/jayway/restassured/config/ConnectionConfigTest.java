@@ -0,0 +1,190 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.config;
+
+import com.jayway.restassured.internal.http.ConnectionPoolMBeanImpl;
+import com.jayway.restassured.internal.http.TlsHandshakeTimingSocketFactory;
+import org.apache.http.HttpVersion;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.security.KeyStore;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static com.jayway.restassured.RestAssured.given;
+import static com.jayway.restassured.config.ConnectionConfig.connectionConfig;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ConnectionConfigTest {
+
+    @Test
+    public void connectionsAreNotReusedByDefault() throws Exception {
+        assertThat(connectionConfig().shouldReuseConnections(), is(false));
+    }
+
+    @Test
+    public void reusingConnectionsKeepsCloseIdleConnectionConfig() throws Exception {
+        final ConnectionConfig config = connectionConfig().closeIdleConnectionsAfterEachResponseAfter(10, TimeUnit.SECONDS).and().reuseConnections(5, 10);
+
+        assertThat(config.shouldReuseConnections(), is(true));
+        assertThat(config.closeIdleConnectionConfig().getIdleTime(), equalTo(10L));
+        assertThat(config.dontCloseIdleConnectionsAfterEachResponse().shouldReuseConnections(), is(true));
+    }
+
+    @Test
+    public void connectionPoolIsSharedAndConfiguredWithTheSuppliedLimits() throws Exception {
+        final ConnectionConfig.ConnectionPoolConfig poolConfig = connectionConfig().reuseConnections(5, 10).connectionPoolConfig();
+
+        final ClientConnectionManager connectionManager = poolConfig.getConnectionManager();
+        try {
+            assertThat(connectionManager, sameInstance(poolConfig.getConnectionManager()));
+            assertThat(((PoolingClientConnectionManager) connectionManager).getDefaultMaxPerRoute(), equalTo(5));
+            assertThat(((PoolingClientConnectionManager) connectionManager).getMaxTotal(), equalTo(10));
+        } finally {
+            poolConfig.shutdown();
+        }
+    }
+
+    @Test
+    public void tlsHandshakeTimingIsRegisteredWhenConnectionPoolIsCreated() throws Exception {
+        final ConnectionConfig.ConnectionPoolConfig poolConfig = new ConnectionConfig.ConnectionPoolConfig();
+        try {
+            final Scheme https = poolConfig.getConnectionManager().getSchemeRegistry().get("https");
+            assertThat(https.getSchemeSocketFactory(), instanceOf(TlsHandshakeTimingSocketFactory.class));
+        } finally {
+            poolConfig.shutdown();
+        }
+    }
+
+    @Test
+    public void requestsWithKeystoreDontModifyTheSchemeRegistryOfTheConnectionPool() throws Exception {
+        final ConnectionConfig connectionConfig = connectionConfig().reuseConnections();
+        final SchemeRegistry schemeRegistry = connectionConfig.connectionPoolConfig().getConnectionManager().getSchemeRegistry();
+        final Scheme https = schemeRegistry.get("https");
+        final File keystore = File.createTempFile("keystore", ".jks");
+        try {
+            final KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+            keyStore.load(null, null);
+            final FileOutputStream stream = new FileOutputStream(keystore);
+            try {
+                keyStore.store(stream, "password".toCharArray());
+            } finally {
+                stream.close();
+            }
+
+            try {
+                given().config(RestAssuredConfig.config().connectionConfig(connectionConfig)).keystore(keystore, "password").get("https://localhost:" + unusedPort() + "/");
+            } catch (Exception e) {
+                // Nothing is listening on the port
+            }
+
+            assertThat(schemeRegistry.get("https"), sameInstance(https));
+        } finally {
+            keystore.delete();
+            connectionConfig.connectionPoolConfig().shutdown();
+        }
+    }
+
+    @Test
+    public void newConnectionPoolIsCreatedAfterShutdown() throws Exception {
+        final ConnectionConfig.ConnectionPoolConfig poolConfig = new ConnectionConfig.ConnectionPoolConfig();
+        final ClientConnectionManager first = poolConfig.getConnectionManager();
+
+        poolConfig.shutdown();
+
+        try {
+            assertThat(poolConfig.getConnectionManager(), not(sameInstance(first)));
+        } finally {
+            poolConfig.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxTotalConnectionsCannotBeLessThanMaxConnectionsPerRoute() throws Exception {
+        connectionConfig().reuseConnections(10, 5);
+    }
+
+    @Test
+    public void statisticsAreEmptyBeforeConnectionPoolIsCreated() throws Exception {
+        final ConnectionPoolStatistics statistics = new ConnectionConfig.ConnectionPoolConfig(5, 10).getStatistics();
+
+        assertThat(statistics.getMaxConnections(), equalTo(10));
+        assertThat(statistics.getLeased(), equalTo(0));
+        assertThat(statistics.getRequests(), equalTo(0L));
+        assertThat(statistics.getRoutes().isEmpty(), is(true));
+    }
+
+    @Test
+    public void connectionPoolIsExposedAsMBeanUntilItIsShutdown() throws Exception {
+        final ConnectionConfig.ConnectionPoolConfig poolConfig = new ConnectionConfig.ConnectionPoolConfig(5, 10).exposeAsMBean("connection-config-test");
+        final ObjectName objectName = ConnectionPoolMBeanImpl.objectName("connection-config-test");
+
+        poolConfig.getConnectionManager();
+        try {
+            assertThat(ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "MaxTotalConnections"), equalTo((Object) 10));
+        } finally {
+            poolConfig.shutdown();
+        }
+        assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName), is(false));
+    }
+
+    @Test
+    public void idleConnectionsAreNotClosedAfterEachResponseWhenEvictedInBackground() throws Exception {
+        final ConnectionConfig config = connectionConfig().closeIdleConnectionsAfterEachResponse().and().evictIdleConnectionsInBackground(30, SECONDS);
+
+        assertThat(config.shouldReuseConnections(), is(true));
+        assertThat(config.connectionPoolConfig().shouldEvictIdleConnectionsInBackground(), is(true));
+        assertThat(config.closeIdleConnectionsAfterEachResponse().shouldCloseIdleConnectionsAfterEachResponse(), is(false));
+    }
+
+    @Test
+    public void keepAliveTimeoutOfServerIsHonouredButNeverExceedsIdleTime() throws Exception {
+        final ConnectionKeepAliveStrategy strategy = new ConnectionConfig.ConnectionPoolConfig().evictIdleConnectionsInBackground(30, SECONDS).getKeepAliveStrategy();
+        final BasicHttpResponse withoutTimeout = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        final BasicHttpResponse withShortTimeout = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        withShortTimeout.addHeader("Keep-Alive", "timeout=5");
+        final BasicHttpResponse withLongTimeout = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        withLongTimeout.addHeader("Keep-Alive", "timeout=60");
+
+        assertThat(strategy.getKeepAliveDuration(withoutTimeout, null), equalTo(30000L));
+        assertThat(strategy.getKeepAliveDuration(withShortTimeout, null), equalTo(5000L));
+        assertThat(strategy.getKeepAliveDuration(withLongTimeout, null), equalTo(30000L));
+    }
+
+    private static int unusedPort() throws IOException {
+        final ServerSocket socket = new ServerSocket(0);
+        try {
+            return socket.getLocalPort();
+        } finally {
+            socket.close();
+        }
+    }
+}
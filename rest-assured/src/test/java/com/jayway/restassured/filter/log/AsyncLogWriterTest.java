@@ -0,0 +1,183 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.log;
+
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.parsing.Parser;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+
+import static com.jayway.restassured.config.LogConfig.logConfig;
+import static com.jayway.restassured.config.RestAssuredConfig.config;
+import static com.jayway.restassured.filter.log.AsyncLogWriter.OverflowPolicy.DROP;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AsyncLogWriterTest {
+    private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+
+    @Test
+    public void writesMessagesInOrderAndPrettyPrintsBodies() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(output, true));
+
+        writer.write(new LogMessage("Request method:\tGET", null, null));
+        writer.write(new LogMessage("Body:\n", "{\"a\":1}", Parser.JSON));
+        writer.flush();
+
+        assertThat(output.toString(), equalTo("Request method:\tGET" + LINE_SEPARATOR + "Body:\n{\n    \"a\": 1\n}" + LINE_SEPARATOR));
+    }
+
+    @Test
+    public void truncatesBodiesLongerThanMaxBodyLength() throws Exception {
+        final AsyncLogWriter writer = new AsyncLogWriter(System.out, 10, DROP, 5);
+
+        assertThat(writer.truncateBody("12345"), equalTo("12345"));
+        assertThat(writer.truncateBody("123456789"), equalTo("12345" + String.format("%n") + "... (4 more characters)"));
+    }
+
+    @Test
+    public void dropsMessagesWhenQueueIsFullAndOverflowPolicyIsDrop() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(output, true), 1, DROP);
+        final CountDownLatch rendering = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        writer.write(new LogMessage(null, null, null) {
+            @Override
+            String render() {
+                rendering.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "first";
+            }
+        });
+        rendering.await();
+        writer.write(new LogMessage("second", null, null));
+        writer.write(new LogMessage("third", null, null));
+        release.countDown();
+        writer.flush();
+
+        assertThat(writer.getDroppedMessages(), equalTo(1L));
+        assertThat(output.toString(), containsString("(1 log messages were dropped since the log queue was full)"));
+        assertThat(output.toString(), containsString("second"));
+    }
+
+    @Test
+    public void closeWritesQueuedMessagesAndStopsTheWriterThread() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(output, true));
+        final Thread[] writerThread = new Thread[1];
+
+        writer.write(new LogMessage(null, null, null) {
+            @Override
+            String render() {
+                writerThread[0] = Thread.currentThread();
+                return "first";
+            }
+        });
+        writer.write(new LogMessage("second", null, null));
+        writer.close();
+
+        assertThat(output.toString(), equalTo("first" + LINE_SEPARATOR + "second" + LINE_SEPARATOR));
+        assertThat(writerThread[0].isDaemon(), is(true));
+        assertThat(writerThread[0].isAlive(), is(false));
+    }
+
+    @Test
+    public void writerCanBeUsedAfterItHasBeenClosed() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(output, true));
+
+        writer.write(new LogMessage("first", null, null));
+        writer.close();
+        writer.close();
+        writer.write(new LogMessage("second", null, null));
+        writer.flush();
+
+        assertThat(output.toString(), equalTo("first" + LINE_SEPARATOR + "second" + LINE_SEPARATOR));
+    }
+
+    @Test(timeout = 30000)
+    public void noMessagesAreLostWhenClosedWhileMessagesAreWritten() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(output, true), 1, AsyncLogWriter.OverflowPolicy.BLOCK);
+        final int writers = 4;
+        final int messagesPerWriter = 500;
+        final CountDownLatch done = new CountDownLatch(writers);
+
+        for (int i = 0; i < writers; i++) {
+            new Thread() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < messagesPerWriter; j++) {
+                        writer.write(new LogMessage("message", null, null));
+                    }
+                    done.countDown();
+                }
+            }.start();
+        }
+        while (done.getCount() > 0) {
+            writer.close();
+        }
+        writer.close();
+
+        assertThat(output.toString().split(LINE_SEPARATOR).length, equalTo(writers * messagesPerWriter));
+    }
+
+    @Test
+    public void resetClosesTheWriterOfTheStaticConfiguration() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(output, true));
+        RestAssured.config = config().logConfig(logConfig().asyncLogWriter(writer));
+
+        writer.write(new LogMessage("message", null, null));
+        RestAssured.reset();
+
+        assertThat(output.toString(), equalTo("message" + LINE_SEPARATOR));
+    }
+
+    @Test
+    public void resetDoesNotCloseOtherWriters() throws Exception {
+        final AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(new ByteArrayOutputStream(), true));
+        final Thread[] writerThread = new Thread[1];
+
+        try {
+            writer.write(new LogMessage(null, null, null) {
+                @Override
+                String render() {
+                    writerThread[0] = Thread.currentThread();
+                    return "message";
+                }
+            });
+            writer.flush();
+            RestAssured.reset();
+
+            assertThat(writerThread[0].isAlive(), is(true));
+        } finally {
+            writer.close();
+        }
+    }
+}
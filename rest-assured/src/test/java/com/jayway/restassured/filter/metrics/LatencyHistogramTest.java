@@ -0,0 +1,77 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.filter.metrics;
+
+import org.junit.Test;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void smallLatenciesAreRecordedExactly() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 100; micros++) {
+            histogram.record(micros, MICROSECONDS);
+        }
+
+        assertThat(histogram.getCount(), equalTo(100L));
+        assertThat(histogram.getValueAtPercentile(50, MICROSECONDS), equalTo(50d));
+        assertThat(histogram.getValueAtPercentile(99, MICROSECONDS), equalTo(99d));
+        assertThat(histogram.getMax(MICROSECONDS), equalTo(100L));
+        assertThat(histogram.getMean(MICROSECONDS), equalTo(50.5d));
+    }
+
+    @Test
+    public void largeLatenciesAreRecordedWithinTwoPercent() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis, MILLISECONDS);
+        }
+
+        assertThat(histogram.getValueAtPercentile(50, MILLISECONDS), closeTo(500, 10));
+        assertThat(histogram.getValueAtPercentile(90, MILLISECONDS), closeTo(900, 18));
+        assertThat(histogram.getValueAtPercentile(100, MILLISECONDS), equalTo(1000d));
+    }
+
+    @Test
+    public void resetRemovesAllRecordedLatencies() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10, MILLISECONDS);
+        histogram.reset();
+
+        assertThat(histogram.getCount(), equalTo(0L));
+        assertThat(histogram.getValueAtPercentile(99, MILLISECONDS), equalTo(0d));
+    }
+
+    @Test
+    public void copyIsNotAffectedByLaterLatencies() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10, MILLISECONDS);
+
+        final LatencyHistogram copy = histogram.copy();
+        histogram.record(20, MILLISECONDS);
+
+        assertThat(copy.getCount(), equalTo(1L));
+        assertThat(copy.getMax(MILLISECONDS), equalTo(10L));
+        assertThat(histogram.getCount(), equalTo(2L));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.filter.metrics;
+
+import com.jayway.restassured.RestAssured;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.internal.http.Method;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import com.jayway.restassured.specification.RequestSender;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+
+public class MetricsFilterTest {
+
+    @After
+    public void tearDown() {
+        RestAssured.reset();
+    }
+
+    @Test
+    public void groupsRequestsByThePathTemplateOfTheFilterContext() {
+        final MetricsFilter filter = new MetricsFilter();
+
+        filter.filter(null, null, new StubFilterContext("/users/1", "/users/{id}"));
+        filter.filter(null, null, new StubFilterContext("/users/2", "/users/{id}"));
+
+        final List<EndpointMetrics> metrics = filter.getEndpointMetrics();
+        assertThat(metrics, hasSize(1));
+        assertThat(metrics.get(0).getPathTemplate(), equalTo("/users/{id}"));
+        assertThat(metrics.get(0).getCount(), equalTo(2L));
+    }
+
+    @Test
+    public void groupsRequestsByTheRequestPathWithoutQueryWhenTheFilterContextHasNoPathTemplate() {
+        final MetricsFilter filter = new MetricsFilter();
+
+        filter.filter(null, null, new StubFilterContext("/users?id=1", null));
+
+        assertThat(filter.getEndpointMetrics().get(0).getPathTemplate(), equalTo("/users"));
+    }
+
+    @Test
+    public void noSummaryIsPrintedOnResetByDefault() {
+        final MetricsFilter filter = new MetricsFilter();
+        filter.filter(null, null, new StubFilterContext("/users", null));
+
+        final String output = systemOutOf(new Runnable() {
+            public void run() {
+                RestAssured.reset();
+            }
+        });
+
+        assertThat(output, equalTo(""));
+        assertThat(filter.getEndpointMetrics(), hasSize(1));
+    }
+
+    @Test
+    public void summaryIsPrintedOnResetWhenAStreamIsSupplied() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final MetricsFilter filter = new MetricsFilter(new PrintStream(output, true));
+        filter.filter(null, null, new StubFilterContext("/users", null));
+
+        try {
+            RestAssured.reset();
+
+            assertThat(output.toString(), containsString("GET /users"));
+            assertThat(filter.getEndpointMetrics(), hasSize(0));
+        } finally {
+            filter.close();
+        }
+    }
+
+    @Test
+    public void closePrintsTheSummaryAndStopsPrintingSummaries() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final MetricsFilter filter = new MetricsFilter(new PrintStream(output, true));
+        filter.filter(null, null, new StubFilterContext("/users", null));
+
+        filter.close();
+        assertThat(output.toString(), containsString("GET /users"));
+
+        output.reset();
+        filter.filter(null, null, new StubFilterContext("/users", null));
+        RestAssured.reset();
+        filter.close();
+        assertThat(output.toString(), equalTo(""));
+    }
+
+    private static String systemOutOf(Runnable runnable) {
+        final PrintStream systemOut = System.out;
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output, true));
+        try {
+            runnable.run();
+        } finally {
+            System.setOut(systemOut);
+        }
+        return output.toString();
+    }
+
+    private static class StubFilterContext implements FilterContext {
+        private final String path;
+        private final Map<String, Object> values = new HashMap<String, Object>();
+
+        private StubFilterContext(String path, String pathTemplate) {
+            this.path = path;
+            if (pathTemplate != null) {
+                values.put(REQUEST_PATH_TEMPLATE, pathTemplate);
+            }
+        }
+
+        public void setValue(String name, Object value) {
+            values.put(name, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T getValue(String name) {
+            return (T) values.get(name);
+        }
+
+        public Response send(RequestSender requestSender) {
+            throw new UnsupportedOperationException();
+        }
+
+        public Method getRequestMethod() {
+            return Method.GET;
+        }
+
+        public String getRequestPath() {
+            return path;
+        }
+
+        public String getCompleteRequestPath() {
+            return "http://localhost:8080" + path;
+        }
+
+        public Response next(FilterableRequestSpecification request, FilterableResponseSpecification response) {
+            // No response was received
+            return null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal;
+
+import com.jayway.restassured.response.LoadResult;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class LoadRunnerTest {
+
+    @Test
+    public void startsRequestsAtConstantRateAndCountsFailures() throws Exception {
+        final AtomicInteger requestNumber = new AtomicInteger();
+
+        final LoadResult result = new LoadRunner(5, 100, MILLISECONDS.toNanos(500)).run(requests(new Callable<Object>() {
+            public Object call() throws Exception {
+                if (requestNumber.incrementAndGet() % 10 == 0) {
+                    throw new AssertionError("Failed");
+                }
+                return null;
+            }
+        }));
+
+        assertThat(result.getRequests(), equalTo(50L));
+        assertThat(result.getFailedRequests(), equalTo(5L));
+        assertThat(result.getMissedRequests(), equalTo(0L));
+        assertThat(result.getErrorRate(), closeTo(0.1, 0.001));
+        assertThat(result.getFailures(), hasItem("java.lang.AssertionError: Failed"));
+    }
+
+    @Test
+    public void skipsRequestsWhenAllUsersAreBusy() throws Exception {
+        final LoadResult result = new LoadRunner(1, 100, MILLISECONDS.toNanos(200)).run(requests(new Callable<Object>() {
+            public Object call() throws Exception {
+                // Keep the only user busy for longer than the load test
+                Thread.sleep(300);
+                return null;
+            }
+        }));
+
+        assertThat(result.getRequests(), equalTo(1L));
+        assertThat(result.getMissedRequests(), equalTo(19L));
+    }
+
+    private static Iterator<Callable<?>> requests(final Callable<?> request) {
+        return new Iterator<Callable<?>>() {
+            public boolean hasNext() {
+                return true;
+            }
+
+            public Callable<?> next() {
+                return request;
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
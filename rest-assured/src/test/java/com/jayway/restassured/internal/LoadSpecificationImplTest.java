@@ -0,0 +1,110 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.internal;
+
+import com.jayway.restassured.filter.metrics.LatencyHistogram;
+import com.jayway.restassured.response.LoadResult;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.jayway.restassured.RestAssured.given;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+public class LoadSpecificationImplTest {
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void resultWithinAllThresholdsPasses() throws Exception {
+        ((LoadSpecificationImpl) load(0.1, 5, 1).maxLatency(99, 200, MILLISECONDS)).verifyThresholds(result(100, 10, 1, 100));
+    }
+
+    @Test
+    public void missedRequestsFailTheLoadTestByDefault() throws Exception {
+        exception.expect(AssertionError.class);
+        exception.expectMessage("1 load test threshold exceeded.\n1 requests were missed since all users were busy, at most 0 are allowed.");
+
+        load().verifyThresholds(result(100, 0, 1, 100));
+    }
+
+    @Test
+    public void missedRequestsExceedingMaxMissedRequestsFailTheLoadTest() throws Exception {
+        exception.expect(AssertionError.class);
+        exception.expectMessage("3 requests were missed since all users were busy, at most 2 are allowed.");
+
+        ((LoadSpecificationImpl) load().maxMissedRequests(2)).verifyThresholds(result(100, 0, 3, 100));
+    }
+
+    @Test
+    public void errorRateExceedingMaxErrorRateFailsTheLoadTest() throws Exception {
+        exception.expect(AssertionError.class);
+        exception.expectMessage("Error rate 20.00% exceeds 10.00%.");
+
+        load(0.1, 0, 0).verifyThresholds(result(100, 20, 0, 100));
+    }
+
+    @Test
+    public void latencyExceedingMaxLatencyFailsTheLoadTest() throws Exception {
+        exception.expect(AssertionError.class);
+        exception.expectMessage("Latency at percentile 99.0 is ");
+        exception.expectMessage("which exceeds 50 milliseconds.");
+
+        ((LoadSpecificationImpl) load().maxLatency(99, 50, MILLISECONDS)).verifyThresholds(result(100, 0, 0, 100));
+    }
+
+    @Test
+    public void throughputLessThanMinThroughputFailsTheLoadTest() throws Exception {
+        exception.expect(AssertionError.class);
+        exception.expectMessage("Throughput 10.0 requests/s is less than 20.0 requests/s.");
+
+        load(1, 20, 0).verifyThresholds(result(100, 0, 0, 100));
+    }
+
+    @Test
+    public void allExceededThresholdsAreReported() throws Exception {
+        exception.expect(AssertionError.class);
+        exception.expectMessage("3 load test thresholds exceeded.");
+
+        load(0.1, 20, 0).verifyThresholds(result(100, 20, 1, 100));
+    }
+
+    private static LoadSpecificationImpl load() {
+        return (LoadSpecificationImpl) given().load();
+    }
+
+    private static LoadSpecificationImpl load(double maxErrorRate, double minThroughput, long maxMissedRequests) {
+        return (LoadSpecificationImpl) load().maxErrorRate(maxErrorRate).minThroughput(minThroughput).maxMissedRequests(maxMissedRequests);
+    }
+
+    /**
+     * A result of a load test that lasted 10 seconds where each request took the supplied latency.
+     */
+    private static LoadResult result(long requests, long failedRequests, long missedRequests, long latencyInMillis) {
+        final LatencyHistogram latencies = new LatencyHistogram();
+        for (int i = 0; i < requests; i++) {
+            latencies.record(latencyInMillis, MILLISECONDS);
+        }
+        return new LoadResult(requests, failedRequests, missedRequests, SECONDS.toNanos(10), latencies,
+                failedRequests == 0 ? Collections.<String>emptyList() : Arrays.asList("java.lang.AssertionError: Failed"));
+    }
+}
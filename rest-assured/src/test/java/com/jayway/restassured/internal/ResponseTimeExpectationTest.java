@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.internal;
+
+import com.jayway.restassured.builder.ResponseBuilder;
+import com.jayway.restassured.filter.Filter;
+import com.jayway.restassured.filter.FilterContext;
+import com.jayway.restassured.response.Response;
+import com.jayway.restassured.specification.FilterableRequestSpecification;
+import com.jayway.restassured.specification.FilterableResponseSpecification;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static com.jayway.restassured.RestAssured.given;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class ResponseTimeExpectationTest {
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void matchingResponseTimeExpectationPasses() throws Exception {
+        given().filter(new ResponseFilter(true)).
+                expect().time(greaterThanOrEqualTo(0L)).and().time(lessThan(1L), MINUTES).when().get("/hello");
+    }
+
+    @Test
+    public void nonMatchingResponseTimeExpectationFailsWithTheActualResponseTime() throws Exception {
+        exception.expect(AssertionError.class);
+        exception.expectMessage("1 expectation failed.\nExpected response time a value less than <0L> milliseconds doesn't match actual response time <");
+
+        given().filter(new ResponseFilter(true)).expect().time(lessThan(0L)).when().get("/hello");
+    }
+
+    @Test
+    public void responseTimeExpectationFailsWhenTheResponseTimeWasNotMeasured() throws Exception {
+        exception.expect(AssertionError.class);
+        exception.expectMessage(containsString("Expected response time a value less than <1L> seconds but the response time wasn't measured " +
+                "since the response wasn't received from a server."));
+
+        given().filter(new ResponseFilter(false)).expect().time(lessThan(1L), SECONDS).when().get("/hello");
+    }
+
+    /**
+     * Returns a response built by the {@link ResponseBuilder} without sending the request.
+     */
+    private static class ResponseFilter implements Filter {
+        private final boolean measured;
+
+        private ResponseFilter(boolean measured) {
+            this.measured = measured;
+        }
+
+        public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            final Response response = new ResponseBuilder().setBody("Hello").setContentType("text/plain").setStatusCode(200).build();
+            if (measured) {
+                final RestAssuredResponseImpl restAssuredResponse = (RestAssuredResponseImpl) response;
+                restAssuredResponse.getTimer().requestStarted();
+                restAssuredResponse.getTimer().responseBodyRead();
+            }
+            return response;
+        }
+    }
+}
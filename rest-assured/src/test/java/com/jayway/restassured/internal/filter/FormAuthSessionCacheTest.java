@@ -0,0 +1,146 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.filter;
+
+import com.jayway.restassured.internal.filter.FormAuthSessionCache.Session;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class FormAuthSessionCacheTest {
+    private static final String KEY = "localhost:8080";
+
+    private final FormAuthSessionCache cache = new FormAuthSessionCache();
+    private final AtomicInteger logins = new AtomicInteger();
+
+    @Test
+    public void reusesSessionUntilInvalidated() throws Exception {
+        final Session first = cache.get(KEY, login(null));
+        final Session second = cache.get(KEY, login(null));
+
+        cache.invalidate(KEY, second);
+        final Session third = cache.get(KEY, login(null));
+
+        assertThat(first.isFromLogin(), is(true));
+        assertThat(second.isFromLogin(), is(false));
+        assertThat(third.isFromLogin(), is(true));
+        assertThat(logins.get(), equalTo(2));
+    }
+
+    @Test
+    public void logsInAgainWhenSessionHasExpired() throws Exception {
+        cache.get(KEY, login(new Date(System.currentTimeMillis() - 1000)));
+        cache.get(KEY, login(new Date(System.currentTimeMillis() + 60000)));
+        cache.get(KEY, login(null));
+
+        assertThat(logins.get(), equalTo(2));
+    }
+
+    @Test
+    public void concurrentRequestsLogInOnce() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Session>> sessions = new ArrayList<Future<Session>>();
+            for (int i = 0; i < 8; i++) {
+                sessions.add(executor.submit(new Callable<Session>() {
+                    public Session call() throws Exception {
+                        start.await();
+                        return cache.get(KEY, slowLogin());
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Session> session : sessions) {
+                assertThat(session.get().getCookies().get("JSESSIONID"), equalTo("1"));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(logins.get(), equalTo(1));
+    }
+
+    @Test
+    public void failedLoginIsNotCached() throws Exception {
+        try {
+            cache.get(KEY, new Callable<Session>() {
+                public Session call() throws Exception {
+                    throw new IllegalArgumentException("Failed to parse login page");
+                }
+            });
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), equalTo("Failed to parse login page"));
+        }
+
+        cache.get(KEY, login(null));
+        assertThat(logins.get(), equalTo(1));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedSessionsWhenFull() throws Exception {
+        final FormAuthSessionCache cache = new FormAuthSessionCache(10);
+        for (int i = 0; i < 20; i++) {
+            cache.get("localhost:" + i, login(null));
+        }
+
+        assertThat(cache.size(), lessThanOrEqualTo(10));
+        cache.get("localhost:19", login(null));
+        assertThat(logins.get(), equalTo(20));
+    }
+
+    @Test
+    public void logsInAgainWhenCleared() throws Exception {
+        cache.get(KEY, login(null));
+        cache.clear();
+        final Session session = cache.get(KEY, login(null));
+
+        assertThat(session.isFromLogin(), is(true));
+        assertThat(logins.get(), equalTo(2));
+    }
+
+    private Callable<Session> login(final Date expiryDate) {
+        return new Callable<Session>() {
+            public Session call() throws Exception {
+                final String sessionId = String.valueOf(logins.incrementAndGet());
+                return new Session("/j_spring_security_check", Collections.singletonMap("JSESSIONID", sessionId), expiryDate);
+            }
+        };
+    }
+
+    private Callable<Session> slowLogin() {
+        final Callable<Session> login = login(null);
+        return new Callable<Session>() {
+            public Session call() throws Exception {
+                Thread.sleep(200);
+                return login.call();
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class PathTemplateTest {
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void expandsUnnamedPathParamsInOrder() throws Exception {
+        final PathTemplate template = PathTemplate.compile("/users/{userId}/orders/{orderId}");
+
+        assertThat(template.expand(1, "abc"), equalTo("/users/1/orders/abc"));
+    }
+
+    @Test
+    public void expandsAllPlaceholdersWithTheSameNameUsingNamedPathParams() throws Exception {
+        final Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("id", 2);
+        values.put("other-id", 3);
+
+        assertThat(PathTemplate.compile("/{id}/{other-id}/{id}").expand(values), equalTo("/2/3/2"));
+    }
+
+    @Test
+    public void valuesAreInsertedAsIs() throws Exception {
+        assertThat(PathTemplate.compile("/{first}/{second}").expand("$1\\", "{second}"), equalTo("/$1\\/{second}"));
+    }
+
+    @Test
+    public void onlyPlaceholdersWithWordCharactersAreReplacedByUnnamedPathParams() throws Exception {
+        assertThat(PathTemplate.compile("/{}/{a-b}/{{id}}").expand(1), equalTo("/{}/{a-b}/{1}"));
+    }
+
+    @Test
+    public void templatesAreCached() throws Exception {
+        assertThat(PathTemplate.compile("/cached/{id}"), sameInstance(PathTemplate.compile("/cached/{id}")));
+    }
+
+    @Test
+    public void throwsIllegalArgumentExceptionWhenTooManyUnnamedPathParamsAreSpecified() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Illegal number of path parameters. Expected 1, was 2.");
+
+        PathTemplate.compile("/users/{id}").expand(1, 2);
+    }
+
+    @Test
+    public void throwsIllegalArgumentExceptionWhenTooManyNamedPathParamsAreSpecified() throws Exception {
+        final Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("id", 1);
+        values.put("other", 2);
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("You specified too many path parameters (2).");
+
+        PathTemplate.compile("/users/{id}").expand(values);
+    }
+
+    @Test
+    public void throwsIllegalArgumentExceptionWhenTooFewNamedPathParamsAreSpecified() throws Exception {
+        final Map<String, Object> values = new LinkedHashMap<String, Object>();
+        values.put("id", 1);
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("You specified too few path parameters to the request.");
+
+        PathTemplate.compile("/users/{id}/orders/{orderId}").expand(values);
+    }
+}
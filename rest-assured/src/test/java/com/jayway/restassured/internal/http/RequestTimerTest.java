@@ -0,0 +1,74 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class RequestTimerTest {
+
+    @Test
+    public void timingsAreNotMeasuredWhenRequestHasNotBeenSent() throws Exception {
+        final RequestTimer timer = new RequestTimer();
+        timer.responseBodyRead();
+
+        assertThat(timer.getTotalTime(), equalTo(-1L));
+        assertThat(timer.getConnectionTime(), equalTo(-1L));
+        assertThat(timer.getTlsHandshakeTime(), equalTo(-1L));
+        assertThat(timer.getTimeToFirstByte(), equalTo(-1L));
+        assertThat(timer.getDownloadTime(), equalTo(-1L));
+    }
+
+    @Test
+    public void phasesAddUpToTotalTime() throws Exception {
+        final RequestTimer timer = new RequestTimer();
+        timer.requestStarted();
+        timer.tlsHandshakeCompleted(TimeUnit.MILLISECONDS.toNanos(5));
+        Thread.sleep(10);
+        timer.requestWriteStarted();
+        timer.requestWritten(100);
+        Thread.sleep(10);
+        timer.responseHeadersReceived();
+        timer.responseBodyRead();
+
+        final long total = timer.getTotalTimeIn(TimeUnit.NANOSECONDS);
+        assertThat(total, equalTo(timer.getConnectionTimeIn(TimeUnit.NANOSECONDS) + timer.getRequestWriteTimeIn(TimeUnit.NANOSECONDS)
+                + timer.getTimeToFirstByteIn(TimeUnit.NANOSECONDS) + timer.getDownloadTimeIn(TimeUnit.NANOSECONDS)));
+        assertThat(timer.getConnectionTime(), greaterThanOrEqualTo(10L));
+        assertThat(timer.getTimeToFirstByte(), greaterThanOrEqualTo(10L));
+        assertThat(timer.getTlsHandshakeTime(), equalTo(5L));
+        assertThat(timer.getBytesSent(), equalTo(100L));
+    }
+
+    @Test
+    public void totalTimeExcludesDownloadWhenBodyIsNotRead() throws Exception {
+        final RequestTimer timer = new RequestTimer();
+        timer.requestStarted();
+        timer.requestWriteStarted();
+        timer.requestWritten(100);
+        timer.responseHeadersReceived();
+
+        assertThat(timer.getDownloadTime(), equalTo(-1L));
+        assertThat(timer.getTotalTimeIn(TimeUnit.NANOSECONDS), equalTo(timer.getConnectionTimeIn(TimeUnit.NANOSECONDS)
+                + timer.getRequestWriteTimeIn(TimeUnit.NANOSECONDS) + timer.getTimeToFirstByteIn(TimeUnit.NANOSECONDS)));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.http;
+
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.security.KeyStore;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class SSLSocketFactoryCacheTest {
+    private static final String PASSWORD = "test1234";
+
+    private File keystore;
+
+    @Before
+    public void createKeystore() throws Exception {
+        keystore = File.createTempFile("rest-assured", ".jks");
+        final KeyStore keyStore = KeyStore.getInstance(KeyStore.getDefaultType());
+        keyStore.load(null, PASSWORD.toCharArray());
+        final FileOutputStream stream = new FileOutputStream(keystore);
+        try {
+            keyStore.store(stream, PASSWORD.toCharArray());
+        } finally {
+            stream.close();
+        }
+    }
+
+    @After
+    public void deleteKeystore() {
+        SSLSocketFactoryCache.clear();
+        keystore.delete();
+    }
+
+    @Test
+    public void sameKeystoreReturnsSameFactory() throws Exception {
+        final URL url = keystore.toURI().toURL();
+
+        final SSLSocketFactory first = SSLSocketFactoryCache.trustStoreFactory(url, PASSWORD, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+        final SSLSocketFactory second = SSLSocketFactoryCache.trustStoreFactory(url, PASSWORD, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void trustStoreAndKeyStoreFactoriesAreNotShared() throws Exception {
+        final URL url = keystore.toURI().toURL();
+
+        final SSLSocketFactory trustStoreFactory = SSLSocketFactoryCache.trustStoreFactory(url, PASSWORD, SSLSocketFactory.STRICT_HOSTNAME_VERIFIER);
+        final SSLSocketFactory keyStoreFactory = SSLSocketFactoryCache.keyStoreFactory(url, PASSWORD, SSLSocketFactory.STRICT_HOSTNAME_VERIFIER);
+
+        assertThat(keyStoreFactory, not(sameInstance(trustStoreFactory)));
+    }
+
+    @Test
+    public void modifiedKeystoreIsLoadedAgain() throws Exception {
+        final URL url = keystore.toURI().toURL();
+
+        final SSLSocketFactory first = SSLSocketFactoryCache.trustStoreFactory(url, PASSWORD, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+        keystore.setLastModified(keystore.lastModified() - 10000);
+        final SSLSocketFactory second = SSLSocketFactoryCache.trustStoreFactory(url, PASSWORD, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+
+        assertThat(second, not(sameInstance(first)));
+    }
+
+    @Test
+    public void factoryOfAModifiedKeystoreReplacesThePreviousFactory() throws Exception {
+        final URL url = keystore.toURI().toURL();
+
+        SSLSocketFactoryCache.trustStoreFactory(url, PASSWORD, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+        keystore.setLastModified(keystore.lastModified() - 10000);
+        final SSLSocketFactory second = SSLSocketFactoryCache.trustStoreFactory(url, PASSWORD, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+
+        assertThat(SSLSocketFactoryCache.size(), equalTo(1));
+        assertThat(SSLSocketFactoryCache.trustStoreFactory(url, PASSWORD, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER), sameInstance(second));
+    }
+
+    @Test(expected = IOException.class)
+    public void factoryIsNotReturnedForAnotherPassword() throws Exception {
+        final URL url = keystore.toURI().toURL();
+
+        SSLSocketFactoryCache.trustStoreFactory(url, PASSWORD, SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+        SSLSocketFactoryCache.trustStoreFactory(url, "wrong", SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+    }
+}
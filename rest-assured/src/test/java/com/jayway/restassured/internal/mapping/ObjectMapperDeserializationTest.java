@@ -0,0 +1,120 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.jayway.restassured.internal.mapping;
+
+import com.jayway.restassured.mapper.ObjectMapper;
+import com.jayway.restassured.mapper.factory.DefaultGsonObjectMapperFactory;
+import com.jayway.restassured.mapper.factory.DefaultJAXBObjectMapperFactory;
+import com.jayway.restassured.mapper.factory.DefaultJackson1ObjectMapperFactory;
+import com.jayway.restassured.mapper.factory.DefaultJackson2ObjectMapperFactory;
+import com.jayway.restassured.path.json.support.Book;
+import com.jayway.restassured.response.ResponseBodyData;
+import org.junit.Test;
+
+import javax.xml.bind.annotation.XmlRootElement;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ObjectMapperDeserializationTest {
+    private static final String CHARSET = "ISO-8859-1";
+    private static final String AUTHOR = "Maj Sj\u00f6wall";
+    private static final String JSON = "{\"author\":\"" + AUTHOR + "\",\"title\":\"Roseanna\"}";
+    private static final String XML = "<book><author>" + AUTHOR + "</author><title>Roseanna</title></book>";
+
+    @Test
+    public void jackson2MapperDeserializesTheBodyFromTheStreamUsingTheCharsetOfTheContext() throws Exception {
+        assertThat(deserialize(new Jackson2Mapper(new DefaultJackson2ObjectMapperFactory()), streamedBody(JSON), Book.class).getAuthor(), equalTo(AUTHOR));
+    }
+
+    @Test
+    public void jackson1MapperDeserializesTheBodyFromTheStreamUsingTheCharsetOfTheContext() throws Exception {
+        assertThat(deserialize(new Jackson1Mapper(new DefaultJackson1ObjectMapperFactory()), streamedBody(JSON), Book.class).getAuthor(), equalTo(AUTHOR));
+    }
+
+    @Test
+    public void gsonMapperDeserializesTheBodyFromTheStreamUsingTheCharsetOfTheContext() throws Exception {
+        assertThat(deserialize(new GsonMapper(new DefaultGsonObjectMapperFactory()), streamedBody(JSON), Book.class).getAuthor(), equalTo(AUTHOR));
+    }
+
+    @Test
+    public void jaxbMapperDeserializesXmlRootElementsFromTheStream() throws Exception {
+        assertThat(deserialize(new JaxbMapper(new DefaultJAXBObjectMapperFactory()), streamedBody(XML), RootBook.class).author, equalTo(AUTHOR));
+    }
+
+    @Test
+    public void jaxbMapperDeserializesClassesWithoutXmlRootElementFromTheStream() throws Exception {
+        assertThat(deserialize(new JaxbMapper(new DefaultJAXBObjectMapperFactory()), streamedBody(XML), Book.class).getAuthor(), equalTo(AUTHOR));
+    }
+
+    @Test
+    public void bodyIsReadAsStringWhenThereIsNoStream() throws Exception {
+        final ResponseBodyData body = new StubResponseBodyData() {
+            @Override
+            public String asString() {
+                return JSON;
+            }
+        };
+
+        assertThat(deserialize(new Jackson2Mapper(new DefaultJackson2ObjectMapperFactory()), body, Book.class).getAuthor(), equalTo(AUTHOR));
+    }
+
+    private static <T> T deserialize(ObjectMapper mapper, ResponseBodyData body, Class<T> type) {
+        final ObjectMapperDeserializationContextImpl context = new ObjectMapperDeserializationContextImpl();
+        context.setResponseData(body);
+        context.setType(type);
+        context.setCharset(CHARSET);
+        return type.cast(mapper.deserialize(context));
+    }
+
+    private static ResponseBodyData streamedBody(String body) throws UnsupportedEncodingException {
+        final byte[] bytes = body.getBytes(CHARSET);
+        return new StubResponseBodyData() {
+            @Override
+            public InputStream asInputStream() {
+                return new ByteArrayInputStream(bytes);
+            }
+        };
+    }
+
+    /**
+     * Fails if the body is read in any other way than the one overridden by the test.
+     */
+    private static class StubResponseBodyData implements ResponseBodyData {
+        public String asString() {
+            throw new AssertionError("The body should be read as a stream");
+        }
+
+        public byte[] asByteArray() {
+            throw new AssertionError("The body should be read as a stream");
+        }
+
+        public InputStream asInputStream() {
+            return null;
+        }
+    }
+
+    @XmlRootElement(name = "book")
+    public static class RootBook {
+        public String author;
+        public String title;
+    }
+}
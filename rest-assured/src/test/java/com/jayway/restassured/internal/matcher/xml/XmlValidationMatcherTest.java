@@ -0,0 +1,87 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.matcher.xml;
+
+import org.hamcrest.Matcher;
+import org.junit.Test;
+import org.xml.sax.SAXParseException;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertTrue;
+
+public class XmlValidationMatcherTest {
+    private static final String DTD = "<!ELEMENT videos (music+)>\n<!ELEMENT music (title)>\n<!ELEMENT title (#PCDATA)>";
+    private static final String XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">" +
+            "<xs:element name=\"videos\"><xs:complexType><xs:sequence>" +
+            "<xs:element name=\"music\" maxOccurs=\"unbounded\"><xs:complexType><xs:sequence><xs:element name=\"title\" type=\"xs:string\"/></xs:sequence></xs:complexType></xs:element>" +
+            "</xs:sequence></xs:complexType></xs:element></xs:schema>";
+    private static final String VIDEOS = "<videos><music><title>Title</title></music></videos>";
+
+    @Test
+    public void dtdMatcherSuppliedAsStreamCanBeReused() throws Exception {
+        final Matcher<String> matcher = XmlDtdMatcher.matchesDtd(new ByteArrayInputStream(DTD.getBytes("UTF-8")));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(matcher.matches(VIDEOS));
+        }
+    }
+
+    @Test
+    public void dtdMatcherReplacesDocumentTypeDeclarationOfDocument() throws Exception {
+        final String document = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n<!-- comment with <videos> -->\n" +
+                "<!DOCTYPE videos SYSTEM \"missing.dtd\" [ <!ENTITY x \"]>\"> ]>\n<?pi data?>\n" + VIDEOS;
+        final Matcher<String> matcher = XmlDtdMatcher.matchesDtd(DTD);
+
+        assertTrue(matcher.matches(document));
+        assertTrue(matcher.matches(new StringReader(document)));
+        assertTrue(matcher.matches(new ByteArrayInputStream(document.getBytes("ISO-8859-1"))));
+    }
+
+    @Test
+    public void dtdMatcherKeepsTheInternalSubsetOfTheDocumentTypeDeclaration() throws Exception {
+        final String document = "<?xml version=\"1.0\"?>\n<!DOCTYPE videos PUBLIC \"-//Videos//EN\" \"missing.dtd\" [\n" +
+                "  <!-- the title isn't [declared] here -->\n  <?pi data?>\n  <!ENTITY x \"Title\">\n]>\n" +
+                "<videos><music><title>&x;</title></music></videos>";
+        final Matcher<String> matcher = XmlDtdMatcher.matchesDtd(DTD);
+
+        assertTrue(matcher.matches(document));
+        assertTrue(matcher.matches(new ByteArrayInputStream(document.getBytes("UTF-8"))));
+        assertTrue(matcher.matches("<!DOCTYPE videos [<!ENTITY x 'Title'>]><videos><music><title>&x;</title></music></videos>"));
+    }
+
+    @Test(expected = SAXParseException.class)
+    public void dtdMatcherThrowsExceptionWhenDocumentIsInvalid() throws Exception {
+        XmlDtdMatcher.matchesDtd(DTD).matches("<videos><music/></videos>");
+    }
+
+    @Test
+    public void xsdMatcherSuppliedAsStreamCanBeReused() throws Exception {
+        final Matcher<String> matcher = XmlXsdMatcher.matchesXsd(new ByteArrayInputStream(XSD.getBytes("UTF-8")));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(matcher.matches(VIDEOS));
+            assertTrue(matcher.matches(new ByteArrayInputStream(VIDEOS.getBytes("UTF-8"))));
+        }
+    }
+
+    @Test(expected = SAXParseException.class)
+    public void xsdMatcherThrowsExceptionWhenDocumentIsInvalid() throws Exception {
+        XmlXsdMatcher.matchesXsd(XSD).matches("<videos><music/></videos>");
+    }
+}
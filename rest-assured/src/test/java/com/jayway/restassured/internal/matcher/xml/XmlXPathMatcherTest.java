@@ -0,0 +1,58 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.matcher.xml;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.xml.HasXPath;
+import org.junit.Test;
+import org.w3c.dom.Node;
+
+import java.io.ByteArrayInputStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class XmlXPathMatcherTest {
+    private static final String GREETING = "<greeting><firstName>John</firstName><lastName>Doe</lastName></greeting>";
+
+    @Test
+    public void matchesLikeHamcrestHasXPath() throws Exception {
+        final Node greeting = DomParser.parse(new ByteArrayInputStream(GREETING.getBytes("UTF-8"))).getDocumentElement();
+
+        assertSameResult(greeting, XmlXPathMatcher.hasXPath("/greeting/firstName"), HasXPath.hasXPath("/greeting/firstName"));
+        assertSameResult(greeting, XmlXPathMatcher.hasXPath("/greeting/middleName"), HasXPath.hasXPath("/greeting/middleName"));
+        assertSameResult(greeting, XmlXPathMatcher.hasXPath("/greeting/firstName[text()='John']"), HasXPath.hasXPath("/greeting/firstName[text()='John']"));
+        assertSameResult(greeting, XmlXPathMatcher.hasXPath("/greeting/lastName", containsString("Do")), HasXPath.hasXPath("/greeting/lastName", containsString("Do")));
+        assertSameResult(greeting, XmlXPathMatcher.hasXPath("/greeting/lastName", containsString("Jo")), HasXPath.hasXPath("/greeting/lastName", containsString("Jo")));
+    }
+
+    @Test
+    public void describesItselfLikeHamcrestHasXPath() throws Exception {
+        assertThat(XmlXPathMatcher.hasXPath("/greeting/lastName", containsString("Do")).toString(),
+                equalTo(HasXPath.hasXPath("/greeting/lastName", containsString("Do")).toString()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsIllegalArgumentExceptionWhenXPathIsInvalid() throws Exception {
+        XmlXPathMatcher.hasXPath("/greeting/[");
+    }
+
+    private static void assertSameResult(Node node, Matcher<Node> actual, Matcher<Node> expected) {
+        assertThat(actual.toString(), actual.matches(node), equalTo(expected.matches(node)));
+    }
+}
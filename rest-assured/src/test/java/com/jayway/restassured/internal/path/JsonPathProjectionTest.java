@@ -0,0 +1,127 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path;
+
+import groovy.json.JsonException;
+import groovy.json.JsonSlurper;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class JsonPathProjectionTest {
+    private static final String ROOT = "root";
+
+    private static final String JSON = "{ \"meta\": { \"total\": 3, \"page\": { \"number\": 1, \"size\": 10 } },\n" +
+            "  \"items\": [\n" +
+            "    { \"id\": 1, \"name\": \"one\", \"tags\": [\"a\", \"b\"], \"nested\": [[{\"x\": 1}], [{\"x\": 2}, {\"y\": 3}]] },\n" +
+            "    { \"id\": 2, \"name\": \"two\", \"tags\": [], \"price\": 12.5, \"flag\": true },\n" +
+            "    { \"id\": 3, \"name\": null, \"tags\": [\"c\"], \"big\": 12345678901234567890 }\n" +
+            "  ],\n" +
+            "  \"matrix\": [[1, 2], [3, 4]],\n" +
+            "  \"some-key\": { \"value\": \"dash\" }\n" +
+            "}";
+
+    private static final String[] PATHS = {
+            ".meta",
+            ".meta.total",
+            ".meta.page.size",
+            ".meta.missing",
+            ".items.id",
+            ".items.name",
+            ".items[0]",
+            ".items[1].price",
+            ".items[-1].big",
+            ".items[7]",
+            ".items.tags",
+            ".items.tags.size()",
+            ".items.size()",
+            ".items[0].tags[1]",
+            ".items.nested.x",
+            ".items*.id",
+            ".items?.flag",
+            ".matrix[1][0]",
+            ".matrix.size()",
+            ".'some-key'.value",
+            ".meta.page?.number"
+    };
+
+    @Test
+    public void eachPathEvaluatesToTheSameValueAsOnTheWholeDocument() throws Exception {
+        final Object document = new JsonSlurper().parseText(JSON);
+        for (String path : PATHS) {
+            final Object projected = JsonPathProjection.create(Collections.singletonList(path)).parse(new StringReader(JSON));
+            assertThat(path, evaluate(path, projected), equalTo(evaluate(path, document)));
+        }
+    }
+
+    @Test
+    public void allPathsEvaluateToTheSameValuesOnACombinedProjection() throws Exception {
+        final Object document = new JsonSlurper().parseText(JSON);
+        final Object projected = JsonPathProjection.create(Arrays.asList(PATHS)).parse(new StringReader(JSON));
+        for (String path : PATHS) {
+            assertThat(path, evaluate(path, projected), equalTo(evaluate(path, document)));
+        }
+    }
+
+    @Test(expected = JsonException.class)
+    public void rejectsAMalformedDocumentAfterTheReferencedValues() throws Exception {
+        final String json = "{ \"meta\": { \"total\": 5 }, \"items\": [ {\"id\": 1}, {\"id\": 2} ], \"rest\": [ 1 2 ] }";
+
+        JsonPathProjection.create(Arrays.asList(".meta.total", ".items[0].id")).parse(new StringReader(json));
+    }
+
+    @Test(expected = JsonException.class)
+    public void rejectsAnUnterminatedDocument() throws Exception {
+        JsonPathProjection.create(Arrays.asList(".meta.total")).parse(new StringReader("{ \"meta\": { \"total\": 5 }, \"rest\": ["));
+    }
+
+    @Test
+    public void usesTheLastOccurrenceOfADuplicateMemberLikeTheJsonSlurper() throws Exception {
+        final String json = "{ \"id\": 1, \"meta\": { \"total\": 5 }, \"id\": 2 }";
+
+        final Object projected = JsonPathProjection.create(Arrays.asList(".id")).parse(new StringReader(json));
+
+        assertThat(evaluate(".id", projected), equalTo(evaluate(".id", new JsonSlurper().parseText(json))));
+        assertThat(evaluate(".id", projected), equalTo((Object) 2));
+    }
+
+    @Test
+    public void membersThatAreNotReferencedAreNotMaterialized() throws Exception {
+        final Object projected = JsonPathProjection.create(Arrays.asList(".items[1].id")).parse(new StringReader(JSON));
+
+        assertThat(projected.toString(), equalTo("{items=[null, {id=2}, null]}"));
+    }
+
+    @Test
+    public void pathsThatRequireTheWholeDocumentAreNotProjected() throws Exception {
+        final List<String> paths = Arrays.asList(".meta.total", ".items.findAll { it.id > 1 }");
+
+        assertThat(JsonPathProjection.create(paths), nullValue());
+        assertThat(JsonPathProjection.create(Arrays.asList(".meta", "")), nullValue());
+        assertThat(JsonPathProjection.create(Arrays.asList(".meta", null)), nullValue());
+    }
+
+    private static Object evaluate(String path, Object document) {
+        return PathExpression.compile(ROOT, path).evaluate(document);
+    }
+}
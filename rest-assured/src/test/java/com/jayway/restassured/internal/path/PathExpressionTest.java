@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.path;
+
+import groovy.json.JsonSlurper;
+import groovy.util.Eval;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class PathExpressionTest {
+    private static final String ROOT = "root";
+
+    private static final String JSON = "{ \"store\": {\n" +
+            "    \"book\": [ \n" +
+            "      { \"category\": \"reference\", \"author\": \"Nigel Rees\", \"title\": \"Sayings of the Century\", \"price\": 8.95 },\n" +
+            "      { \"category\": \"fiction\", \"author\": \"Evelyn Waugh\", \"title\": \"Sword of Honour\", \"price\": 12 },\n" +
+            "      { \"category\": \"fiction\", \"author\": \"Herman Melville\", \"title\": \"Moby Dick\", \"isbn\": \"0-553-21311-3\", \"price\": 8.99 }\n" +
+            "    ],\n" +
+            "    \"bicycle\": { \"color\": \"red\", \"price\": 19.95, \"some-key\": \"dash\" }\n" +
+            "  }\n" +
+            "}";
+
+    private static final String[] PATHS = {
+            "",
+            ".store",
+            ".store.book",
+            ".store.book[0]",
+            ".store.book[-1].author",
+            ".store.book.author",
+            ".store.book*.title",
+            ".store.book.size()",
+            ".store.book.author.size()",
+            ".store.bicycle.'some-key'",
+            ".store.bicycle.\"some-key\"",
+            ".store.bicycle?.color",
+            ".store.nothing?.color",
+            ".store.book.isbn",
+            ".store.book.findAll { it.price < 10 }.title",
+            ".store.book.find { it.author == 'Evelyn Waugh' }.price",
+            ".store.book.collect { it.price }.sum()",
+            ".store.book[1..2].title",
+            ".store.book.price.max()"
+    };
+
+    @Test
+    public void evaluatesPathsLikeGroovy() throws Exception {
+        final Object json = new JsonSlurper().parseText(JSON);
+        for (String path : PATHS) {
+            final Object expected = Eval.me(ROOT, json, ROOT + path);
+            final Object actual = PathExpression.compile(ROOT, path).evaluate(json);
+            assertThat(path, actual, equalTo(expected));
+        }
+    }
+
+    @Test
+    public void plainPropertyPathsAreNotCompiled() throws Exception {
+        assertThat(PathExpression.compile(ROOT, ".store.book[0].'some-key'.size()"), instanceOf(PropertyPathExpression.class));
+        assertThat(PathExpression.compile(ROOT, "[0]*.name?.value"), instanceOf(PropertyPathExpression.class));
+    }
+
+    @Test
+    public void pathsWithClosuresAreCompiledToGroovy() throws Exception {
+        assertThat(PathExpression.compile(ROOT, ".store.book.findAll { it.price < 10 }"), instanceOf(GroovyPathExpression.class));
+        assertThat(PathExpression.compile(ROOT, ".store.book[010]"), instanceOf(GroovyPathExpression.class));
+    }
+
+    @Test
+    public void rootIndexPathsAreEvaluated() throws Exception {
+        final Object json = new JsonSlurper().parseText("[{\"name\":\"one\"},{\"name\":\"two\"}]");
+
+        assertThat(PathExpression.compile(ROOT, "[1].name").evaluate(json), equalTo((Object) "two"));
+        assertThat(PathExpression.compile(ROOT, "[5]").evaluate(json), nullValue());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void throwsSameExceptionAsGroovyWhenNavigatingNull() throws Exception {
+        final Object json = new JsonSlurper().parseText(JSON);
+        PathExpression.compile(ROOT, ".store.nothing.color").evaluate(json);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class BodyStreamerTest {
+
+    @Test
+    public void computesSizeAndDigestsOfTheBody() throws Exception {
+        final StreamedBody body = new BodyStreamer(Arrays.asList("MD5", "SHA-1"), null).stream(new ByteArrayInputStream("abc".getBytes("UTF-8")));
+
+        assertThat(body.getSize(), equalTo(3L));
+        assertThat(body.getDigest("MD5"), equalTo("900150983cd24fb0d6963f7d28e17f72"));
+        assertThat(body.getDigest("SHA-1"), equalTo("a9993e364706816aba3e25717850c26c9cd0d89d"));
+        assertThat(body.getDigest("SHA-256"), nullValue());
+    }
+
+    @Test
+    public void writesTheBodyToTheFile() throws Exception {
+        final File file = File.createTempFile("body", ".txt");
+        try {
+            final StreamedBody body = new BodyStreamer(Collections.<String>emptyList(), file).stream(new ByteArrayInputStream("hello world".getBytes("UTF-8")));
+
+            assertThat(body.getSize(), equalTo(11L));
+            final byte[] written = new byte[(int) file.length()];
+            final DataInputStream in = new DataInputStream(new FileInputStream(file));
+            try {
+                in.readFully(written);
+            } finally {
+                in.close();
+            }
+            assertThat(new String(written, "UTF-8"), equalTo("hello world"));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void missingBodyIsTreatedAsEmpty() throws Exception {
+        final StreamedBody body = new BodyStreamer(Arrays.asList("MD5"), null).stream(null);
+
+        assertThat(body.getSize(), equalTo(0L));
+        assertThat(body.getDigest("MD5"), equalTo("d41d8cd98f00b204e9800998ecf8427e"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsIllegalArgumentExceptionForUnknownAlgorithm() throws Exception {
+        new BodyStreamer(Arrays.asList("NOPE"), null).stream(null);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class LruCacheTest {
+
+    @Test
+    public void evictsTheLeastRecentlyUsedEntriesWhenFull() throws Exception {
+        final LruCache<Integer, String> cache = new LruCache<Integer, String>(10);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, "value" + i);
+        }
+        // Entry 0 was added first but has been used after the others
+        cache.get(0);
+
+        cache.put(10, "value10");
+
+        assertThat(cache.size(), equalTo(9));
+        assertThat(cache.get(0), equalTo("value0"));
+        assertThat(cache.get(10), equalTo("value10"));
+        assertThat(cache.get(1), nullValue());
+        assertThat(cache.get(2), nullValue());
+        assertThat(cache.get(3), equalTo("value3"));
+    }
+
+    @Test
+    public void putIfAbsentKeepsTheCachedValue() throws Exception {
+        final LruCache<String, String> cache = new LruCache<String, String>(10);
+
+        assertThat(cache.putIfAbsent("a", "1"), nullValue());
+        assertThat(cache.putIfAbsent("a", "2"), equalTo("1"));
+        assertThat(cache.get("a"), equalTo("1"));
+    }
+
+    @Test
+    public void removeOnlyRemovesTheEntryIfItHasTheExpectedValue() throws Exception {
+        final LruCache<String, String> cache = new LruCache<String, String>(10);
+        final String value = "1";
+        cache.put("a", value);
+
+        assertThat(cache.remove("a", new String("1")), is(false));
+        assertThat(cache.remove("a", value), is(true));
+        assertThat(cache.get("a"), nullValue());
+    }
+
+    @Test
+    public void cacheWithMaxSizeOneKeepsTheLastEntry() throws Exception {
+        final LruCache<String, String> cache = new LruCache<String, String>(1);
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        assertThat(cache.size(), equalTo(1));
+        assertThat(cache.get("b"), equalTo("2"));
+    }
+
+    @Test
+    public void sizeStaysBoundedWhenUsedConcurrently() throws Exception {
+        final LruCache<Integer, Integer> cache = new LruCache<Integer, Integer>(100);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int thread = 0; thread < 8; thread++) {
+                final int offset = thread * 10000;
+                futures.add(executor.submit(new Callable<Object>() {
+                    public Object call() throws Exception {
+                        for (int i = 0; i < 10000; i++) {
+                            final int key = offset + i;
+                            cache.put(key, key);
+                            final Integer value = cache.get(key);
+                            if (value != null && value != key) {
+                                throw new AssertionError("Expected " + key + " but was " + value);
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        cache.put(-1, -1);
+        assertThat(cache.size(), lessThanOrEqualTo(100));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.internal.support;
+
+import com.jayway.restassured.config.ConnectionConfig;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+
+import static com.jayway.restassured.config.ConnectionConfig.connectionConfig;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ResponseStreamLeakDetectorTest {
+
+    @Test
+    public void reportsStreamThatIsGarbageCollectedWithoutBeingClosed() throws Exception {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        final CloseTrackingInputStream connectionStream = new CloseTrackingInputStream();
+        final ConnectionConfig config = connectionConfig().detectLeakedResponseStreams(new PrintStream(report, true));
+
+        createUnclosedStream(config, connectionStream);
+
+        assertThat(awaitLeaks(), equalTo(1));
+        assertThat(report.toString(), containsString("createUnclosedStream"));
+        assertThat(connectionStream.closed, is(true));
+    }
+
+    @Test
+    public void doesntReportStreamThatIsReadToTheEnd() throws Exception {
+        final ByteArrayOutputStream report = new ByteArrayOutputStream();
+        final ConnectionConfig config = connectionConfig().detectLeakedResponseStreams(new PrintStream(report, true));
+
+        readStreamToTheEnd(config, new CloseTrackingInputStream());
+
+        assertThat(awaitLeaks(), equalTo(0));
+        assertThat(report.toString(), equalTo(""));
+    }
+
+    private static void createUnclosedStream(ConnectionConfig config, InputStream connectionStream) {
+        new CloseHTTPClientConnectionInputStreamWrapper(config, null, connectionStream);
+    }
+
+    private static void readStreamToTheEnd(ConnectionConfig config, InputStream connectionStream) throws IOException {
+        final InputStream stream = new CloseHTTPClientConnectionInputStreamWrapper(config, null, connectionStream);
+        while (stream.read() != -1) {
+            // Read the whole stream without closing it
+        }
+    }
+
+    private static int awaitLeaks() throws InterruptedException {
+        int leaks = 0;
+        for (int attempt = 0; attempt < 10 && leaks == 0; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+            leaks = ResponseStreamLeakDetector.reportLeaks();
+        }
+        return leaks;
+    }
+
+    private static class CloseTrackingInputStream extends ByteArrayInputStream {
+        private volatile boolean closed;
+
+        CloseTrackingInputStream() {
+            super("body".getBytes());
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
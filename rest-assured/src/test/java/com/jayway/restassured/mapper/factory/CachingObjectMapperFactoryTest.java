@@ -0,0 +1,52 @@
+/*
+ * Copyright 2012 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jayway.restassured.mapper.factory;
+
+import com.jayway.restassured.config.ObjectMapperConfig;
+import com.jayway.restassured.path.json.support.Book;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class CachingObjectMapperFactoryTest {
+
+    @Test public void
+    jackson_and_gson_object_mappers_are_reused_between_factory_instances() {
+        assertThat(new CachingJackson2ObjectMapperFactory().create(Book.class, "UTF-8"), sameInstance(new CachingJackson2ObjectMapperFactory().create(String.class, null)));
+        assertThat(new CachingJackson1ObjectMapperFactory().create(Book.class, "UTF-8"), sameInstance(new CachingJackson1ObjectMapperFactory().create(String.class, null)));
+        assertThat(new CachingGsonObjectMapperFactory().create(Book.class, "UTF-8"), sameInstance(new CachingGsonObjectMapperFactory().create(String.class, null)));
+    }
+
+    @Test public void
+    jaxb_contexts_are_reused_per_class() {
+        final CachingJAXBObjectMapperFactory factory = new CachingJAXBObjectMapperFactory();
+
+        assertThat(factory.create(Book.class, "UTF-8"), sameInstance(new CachingJAXBObjectMapperFactory().create(Book.class, "ISO-8859-1")));
+        assertThat(factory.create(Book.class, "UTF-8"), not(sameInstance(factory.create(CachingObjectMapperFactoryTest.class, "UTF-8"))));
+    }
+
+    @Test public void
+    caching_factories_are_used_by_default() {
+        final ObjectMapperConfig config = new ObjectMapperConfig();
+
+        assertThat(config.jackson2ObjectMapperFactory(), instanceOf(CachingJackson2ObjectMapperFactory.class));
+        assertThat(config.jackson1ObjectMapperFactory(), instanceOf(CachingJackson1ObjectMapperFactory.class));
+        assertThat(config.gsonObjectMapperFactory(), instanceOf(CachingGsonObjectMapperFactory.class));
+        assertThat(config.jaxbObjectMapperFactory(), instanceOf(CachingJAXBObjectMapperFactory.class));
+    }
+}
@@ -439,4 +439,12 @@ public class XmlPathTest {
 
         assertThat(list.size(), is(171));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void evaluatesTheSamePathRepeatedlyOnDifferentDocuments() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(from(XML).getInt("shopping.category.item.size()"), equalTo(5));
+            assertThat(from(LIST_WITH_INTS).getInt("shopping.category.item.size()"), equalTo(0));
+        }
+    }
+}